@@ -27,6 +27,9 @@ CREATE TABLE IF NOT EXISTS coupon (
     remaining_quantity INT NOT NULL,
     valid_from DATETIME NOT NULL,
     valid_to DATETIME NOT NULL,
+    stock_shards INT NOT NULL DEFAULT 1,
+    claim_window VARCHAR(20) NOT NULL DEFAULT 'NONE',
+    claim_limit INT NOT NULL DEFAULT 1,
     status VARCHAR(20) NOT NULL DEFAULT 'ACTIVE',
     created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
     updated_at DATETIME(6) NULL ON UPDATE CURRENT_TIMESTAMP(6)
@@ -37,10 +40,12 @@ CREATE TABLE IF NOT EXISTS coupon_issue (
     user_id BIGINT NOT NULL,
     coupon_id BIGINT NOT NULL,
     issued_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    -- 기간 제한이 없는 쿠폰은 0, 기간 제한이 있는 쿠폰은 발급 시각(마이크로초)
+    claim_bucket BIGINT NOT NULL DEFAULT 0,
     used_at DATETIME(6) NULL,
     FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
     FOREIGN KEY (coupon_id) REFERENCES coupon(id) ON DELETE CASCADE,
-    UNIQUE KEY uk_user_coupon (user_id, coupon_id)
+    UNIQUE KEY uk_user_coupon_claim_bucket (user_id, coupon_id, claim_bucket)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 -- Insert initial admin user (password: admin123)
@@ -0,0 +1,21 @@
+-- 기간별 발급 제한(claim_window, claim_limit)과 발급 이력의 claim_bucket을 기존 DB에 반영합니다.
+-- init.sql은 빈 DB에서만 실행되므로 이미 만들어진 DB에는 이 스크립트를 한 번 실행합니다.
+--   (README-DOCKER.md 1.2 참고)
+--
+-- 기존 발급 이력은 모두 기간 제한이 없는 쿠폰의 것이므로 claim_bucket 0으로 채워지고,
+-- 사용자당 한 번 발급 보장은 (user_id, coupon_id, claim_bucket) 유니크 키가 이어받습니다.
+
+ALTER TABLE coupon
+    ADD COLUMN stock_shards INT NOT NULL DEFAULT 1 AFTER valid_to,
+    ADD COLUMN claim_window VARCHAR(20) NOT NULL DEFAULT 'NONE' AFTER stock_shards,
+    ADD COLUMN claim_limit INT NOT NULL DEFAULT 1 AFTER claim_window;
+
+ALTER TABLE coupon_issue
+    ADD COLUMN claim_bucket BIGINT NOT NULL DEFAULT 0 AFTER issued_at;
+
+-- user_id 외래 키가 쓸 인덱스가 남아 있도록 새 키를 먼저 만든 뒤 기존 키를 지웁니다.
+ALTER TABLE coupon_issue
+    ADD UNIQUE KEY uk_user_coupon_claim_bucket (user_id, coupon_id, claim_bucket);
+
+ALTER TABLE coupon_issue
+    DROP INDEX uk_user_coupon;
@@ -0,0 +1,42 @@
+package com.coupon.loadtest;
+
+/**
+ * 사용자 도착 곡선입니다. 시작 후 경과 시간까지 도착해야 하는 누적 사용자 수를 계산합니다.
+ * 스케줄러는 응답을 기다리지 않고 이 곡선대로 요청을 보냅니다 (open model).
+ */
+public enum ArrivalCurve {
+
+    /** 처음부터 끝까지 일정한 속도로 도착 */
+    CONSTANT,
+
+    /** 0에서 시작해 rampSeconds 동안 목표 속도까지 선형으로 증가한 뒤 유지 */
+    RAMP,
+
+    /** 오픈 순간 spikeRatio 만큼의 사용자가 한꺼번에 몰리고, 나머지는 일정한 속도로 도착 (선착순 오픈) */
+    SPIKE;
+
+    /**
+     * 경과 시간까지 도착해야 하는 누적 사용자 수를 계산합니다.
+     *
+     * @param elapsedSeconds 시작 후 경과 시간 (초)
+     * @param config 부하 테스트 설정
+     * @return 누적 도착 사용자 수 (전체 사용자 수를 넘지 않음)
+     */
+    public long arrivalsUntil(double elapsedSeconds, LoadTestConfig config) {
+        double rate = config.rate();
+        double arrivals = switch (this) {
+            case CONSTANT -> rate * elapsedSeconds;
+            case RAMP -> {
+                double ramp = config.rampDuration().toMillis() / 1000.0;
+                if (ramp <= 0) {
+                    yield rate * elapsedSeconds;
+                }
+                yield elapsedSeconds < ramp
+                        ? rate * elapsedSeconds * elapsedSeconds / (2 * ramp)
+                        : rate * ramp / 2 + rate * (elapsedSeconds - ramp);
+            }
+            case SPIKE -> Math.floor(config.users() * config.spikeRatio()) + rate * elapsedSeconds;
+        };
+        return Math.min(config.users(), (long) arrivals);
+    }
+}
@@ -0,0 +1,150 @@
+package com.coupon.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 쿠폰 API를 호출하는 비동기 HTTP 클라이언트입니다.
+ * JDK HttpClient의 콜백은 가상 스레드에서 실행되므로 동시 요청 수만큼 플랫폼 스레드를 만들지 않습니다.
+ */
+public class CouponApiClient {
+
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    private final LoadTestConfig config;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public CouponApiClient(LoadTestConfig config, ExecutorService executor) {
+        this.config = config;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(config.requestTimeout())
+                .executor(executor)
+                .build();
+    }
+
+    /**
+     * 사용자를 가입시키고 액세스 토큰을 반환합니다. 이미 가입된 이메일이면 로그인합니다.
+     */
+    public CompletableFuture<String> signup(String email, String password, String name) {
+        Map<String, Object> body = Map.of("email", email, "password", password, "name", name);
+        return send(post("/api/auth/signup", null, body))
+                .thenCompose(response -> response.statusCode() == 200
+                        ? CompletableFuture.completedFuture(response)
+                        : send(post("/api/auth/login", null, Map.of("email", email, "password", password))))
+                .thenApply(response -> {
+                    requireOk(response, "가입/로그인");
+                    return readTree(response.body()).path("accessToken").asText();
+                });
+    }
+
+    /**
+     * 테스트용 쿠폰을 만들고 쿠폰 ID를 반환합니다. 유효 기간은 서버 시간대 기준 지금부터 하루입니다.
+     */
+    public long createCoupon(String token, String title, int quantity) throws IOException, InterruptedException {
+        LocalDateTime now = LocalDateTime.now(config.serverZone());
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("title", title);
+        body.put("totalQuantity", quantity);
+        body.put("validFrom", now.minusMinutes(1).format(DATE_TIME_FORMAT));
+        body.put("validTo", now.plusDays(1).format(DATE_TIME_FORMAT));
+
+        HttpResponse<String> response = httpClient.send(post("/api/coupons", token, body),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 201) {
+            throw new IllegalStateException("쿠폰 생성 실패: status=" + response.statusCode() + ", body=" + response.body());
+        }
+        return readTree(response.body()).path("data").path("id").asLong();
+    }
+
+    /**
+     * 쿠폰 발급을 요청합니다 ({@code POST /api/coupons/{couponId}/issue}).
+     */
+    public CompletableFuture<HttpResponse<String>> issue(String token, long couponId) {
+        HttpRequest request = authorized("/api/coupons/" + couponId + "/issue", token)
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+        return send(request);
+    }
+
+    /**
+     * 내 쿠폰 목록을 조회합니다 ({@code GET /api/coupons/my}).
+     */
+    public CompletableFuture<HttpResponse<String>> myCoupons(String token) {
+        HttpRequest request = authorized("/api/coupons/my", token)
+                .GET()
+                .build();
+        return send(request);
+    }
+
+    /**
+     * 에러 응답 본문에서 에러 코드를 꺼냅니다. 코드가 없으면 null을 반환합니다.
+     */
+    public String errorCode(String body) {
+        if (body == null || body.isBlank()) {
+            return null;
+        }
+        try {
+            JsonNode code = objectMapper.readTree(body).get("code");
+            return code == null ? null : code.asText();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private CompletableFuture<HttpResponse<String>> send(HttpRequest request) {
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest.Builder authorized(String path, String token) {
+        return HttpRequest.newBuilder(URI.create(config.baseUrl() + path))
+                .timeout(config.requestTimeout())
+                .header("Authorization", "Bearer " + token);
+    }
+
+    private HttpRequest post(String path, String token, Map<String, Object> body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(config.baseUrl() + path))
+                .timeout(config.requestTimeout())
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(writeJson(body)));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+
+    private void requireOk(HttpResponse<String> response, String action) {
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(action + " 실패: status=" + response.statusCode() + ", body=" + response.body());
+        }
+    }
+
+    private JsonNode readTree(String body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException e) {
+            throw new IllegalStateException("응답 본문을 읽을 수 없습니다: " + body, e);
+        }
+    }
+
+    private String writeJson(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (IOException e) {
+            throw new IllegalStateException("요청 본문을 만들 수 없습니다.", e);
+        }
+    }
+}
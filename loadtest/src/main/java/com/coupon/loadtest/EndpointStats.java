@@ -0,0 +1,61 @@
+package com.coupon.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 지연 시간 히스토그램과 응답 결과 집계입니다.
+ * 지연 시간은 예정된 도착 시각부터 측정하므로 클라이언트가 밀려 늦게 보낸 시간도 포함됩니다 (coordinated omission 보정).
+ */
+public class EndpointStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final String name;
+    private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+
+    public EndpointStats(String name) {
+        this.name = name;
+    }
+
+    /**
+     * 응답 하나를 기록합니다.
+     *
+     * @param latencyNanos 예정된 도착 시각부터 응답까지 걸린 시간
+     * @param outcome 결과 구분 (예: "200", "400 P003", "TIMEOUT")
+     */
+    public void record(long latencyNanos, String outcome) {
+        long micros = Math.min(HIGHEST_TRACKABLE_MICROS, Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+        recorder.recordValue(micros);
+        outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * 지금까지 기록된 지연 시간 히스토그램을 가져옵니다. 호출 후 기록은 새 구간부터 다시 쌓입니다.
+     */
+    public Histogram takeHistogram() {
+        return recorder.getIntervalHistogram();
+    }
+
+    public long countOf(String outcome) {
+        LongAdder adder = outcomes.get(outcome);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    public Map<String, Long> outcomes() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        outcomes.forEach((outcome, count) -> snapshot.put(outcome, count.sum()));
+        return snapshot;
+    }
+
+    public String name() {
+        return name;
+    }
+}
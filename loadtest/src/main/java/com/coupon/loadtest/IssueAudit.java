@@ -0,0 +1,160 @@
+package com.coupon.loadtest;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MySQL에 직접 접속해 사용자 ID를 찾고, 실행 후 coupon_issue를 감사합니다.
+ * 발급 저장은 비동기(write-behind)일 수 있으므로 발급 건수가 더 이상 변하지 않을 때까지 기다린 뒤 비교합니다.
+ */
+public class IssueAudit {
+
+    private static final long POLL_INTERVAL_MILLIS = 500;
+
+    private final LoadTestConfig config;
+
+    public IssueAudit(LoadTestConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * 이메일 접두사로 가입한 사용자의 ID를 조회합니다. 가입 API는 토큰만 돌려주기 때문에 DB에서 찾습니다.
+     *
+     * @return 이메일별 사용자 ID
+     */
+    public Map<String, Long> findUserIds(String emailPrefix) throws SQLException {
+        Map<String, Long> userIds = new HashMap<>();
+        try (Connection connection = connect();
+             PreparedStatement statement = connection.prepareStatement(
+                     "select id, email from users where email like ?")) {
+            statement.setString(1, emailPrefix + "%");
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    userIds.put(resultSet.getString("email"), resultSet.getLong("id"));
+                }
+            }
+        }
+        return userIds;
+    }
+
+    /**
+     * 발급 건수가 안정될 때까지 기다린 뒤 수량, 중복, 응답과 저장 결과를 비교합니다.
+     *
+     * @param couponId 쿠폰 ID
+     * @param attemptedUserIds 이번 실행에서 발급을 요청한 사용자 ID
+     * @param acknowledgedUserIds 발급 성공 응답을 받은 사용자 ID
+     */
+    public AuditResult audit(long couponId, Set<Long> attemptedUserIds, Set<Long> acknowledgedUserIds)
+            throws SQLException, InterruptedException {
+        try (Connection connection = connect()) {
+            long issued = waitForSettle(connection, couponId, acknowledgedUserIds.size());
+
+            int totalQuantity;
+            int remainingQuantity;
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "select total_quantity, remaining_quantity from coupon where id = ?")) {
+                statement.setLong(1, couponId);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    if (!resultSet.next()) {
+                        throw new IllegalStateException("쿠폰을 찾을 수 없습니다. id=" + couponId);
+                    }
+                    totalQuantity = resultSet.getInt("total_quantity");
+                    remainingQuantity = resultSet.getInt("remaining_quantity");
+                }
+            }
+
+            Map<Long, Integer> issuesPerUser = new HashMap<>();
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "select user_id, count(*) as issues from coupon_issue where coupon_id = ? group by user_id")) {
+                statement.setLong(1, couponId);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        issuesPerUser.put(resultSet.getLong("user_id"), resultSet.getInt("issues"));
+                    }
+                }
+            }
+
+            long duplicates = issued - issuesPerUser.size();
+
+            // 성공 응답을 받았지만 저장되지 않은 사용자
+            Set<Long> lost = new HashSet<>(acknowledgedUserIds);
+            lost.removeAll(issuesPerUser.keySet());
+
+            // 저장되었지만 실패/타임아웃 응답을 받은 사용자 (이번 실행 사용자만)
+            Set<Long> unacknowledged = new HashSet<>(issuesPerUser.keySet());
+            unacknowledged.retainAll(attemptedUserIds);
+            unacknowledged.removeAll(acknowledgedUserIds);
+
+            long oversold = Math.max(0, issued - totalQuantity);
+            // 수요가 수량 이상이었는데 재고가 남았다면 덜 판 것
+            long undersold = attemptedUserIds.size() >= totalQuantity ? Math.max(0, totalQuantity - issued) : 0;
+
+            return new AuditResult(couponId, totalQuantity, remainingQuantity, issued, duplicates,
+                    oversold, undersold, lost.size(), unacknowledged.size());
+        }
+    }
+
+    private long waitForSettle(Connection connection, long couponId, long acknowledged)
+            throws SQLException, InterruptedException {
+        long deadline = System.nanoTime() + config.settleTimeout().toNanos();
+        long previous = -1;
+        while (true) {
+            long current = countIssues(connection, couponId);
+            boolean stable = current == previous && current >= acknowledged;
+            if (stable || System.nanoTime() >= deadline) {
+                return current;
+            }
+            previous = current;
+            TimeUnit.MILLISECONDS.sleep(POLL_INTERVAL_MILLIS);
+        }
+    }
+
+    private long countIssues(Connection connection, long couponId) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "select count(*) from coupon_issue where coupon_id = ?")) {
+            statement.setLong(1, couponId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        }
+    }
+
+    private Connection connect() throws SQLException {
+        return DriverManager.getConnection(config.jdbcUrl(), config.dbUser(), config.dbPassword());
+    }
+
+    /**
+     * 감사 결과입니다.
+     *
+     * @param issued coupon_issue에 저장된 발급 건수
+     * @param duplicates 같은 사용자에게 두 번 이상 저장된 건수
+     * @param oversold 총 수량을 넘어 발급된 건수
+     * @param undersold 수요가 충분했는데 발급되지 않고 남은 수량
+     * @param lost 성공 응답을 받았지만 저장되지 않은 사용자 수
+     * @param unacknowledged 저장되었지만 실패 또는 타임아웃 응답을 받은 사용자 수
+     */
+    public record AuditResult(
+            long couponId,
+            int totalQuantity,
+            int remainingQuantity,
+            long issued,
+            long duplicates,
+            long oversold,
+            long undersold,
+            long lost,
+            long unacknowledged) {
+
+        public boolean passed() {
+            return duplicates == 0 && oversold == 0 && undersold == 0 && lost == 0;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.coupon.loadtest;
+
+import com.coupon.loadtest.IssueAudit.AuditResult;
+import com.coupon.loadtest.ScenarioRunner.ScenarioResult;
+import com.coupon.loadtest.ScenarioRunner.VirtualUser;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 선착순 쿠폰 발급 부하 테스트를 실행합니다.
+ *
+ * <ol>
+ *     <li>실행마다 새 이메일 접두사로 사용자를 가입시키고 토큰을 받습니다.</li>
+ *     <li>쿠폰을 만들거나 지정한 쿠폰을 사용합니다.</li>
+ *     <li>도착 곡선에 맞춰 발급과 내 쿠폰 조회를 보내고 지연 시간을 기록합니다.</li>
+ *     <li>coupon_issue를 감사해 초과/미발급, 중복, 응답과 저장 결과의 차이를 확인합니다.</li>
+ * </ol>
+ *
+ * 감사에 실패하면 종료 코드 1로 끝납니다.
+ */
+public class LoadTestApplication {
+
+    private static final String PASSWORD = "loadtest1234!";
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromArgs(args);
+        String runId = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
+        String emailPrefix = "loadtest-" + runId + "-";
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CouponApiClient client = new CouponApiClient(config, executor);
+            IssueAudit audit = new IssueAudit(config);
+
+            System.out.printf("사용자 %d명 가입 중 (%s*)...%n", config.users(), emailPrefix);
+            Map<String, String> tokens = signupUsers(config, client, emailPrefix);
+            Map<String, Long> userIds = audit.findUserIds(emailPrefix);
+
+            List<VirtualUser> users = new ArrayList<>(tokens.size());
+            tokens.forEach((email, token) -> {
+                Long userId = userIds.get(email);
+                if (userId == null) {
+                    throw new IllegalStateException("가입한 사용자를 DB에서 찾을 수 없습니다: " + email);
+                }
+                users.add(new VirtualUser(userId, email, token));
+            });
+
+            long couponId = config.couponId() != null
+                    ? config.couponId()
+                    : client.createCoupon(users.get(0).token(), "loadtest-" + runId, config.quantity());
+            System.out.printf("쿠폰 %d에 대해 %s 곡선으로 시작합니다.%n", couponId, config.curve());
+
+            ScenarioResult result = new ScenarioRunner(config, client).run(couponId, users);
+
+            Set<Long> attemptedUserIds = new HashSet<>();
+            users.forEach(user -> attemptedUserIds.add(user.id()));
+            AuditResult auditResult = audit.audit(couponId, attemptedUserIds, result.acknowledgedUserIds());
+
+            LoadTestReport report = new LoadTestReport(config, result, auditResult);
+            report.print(System.out);
+            report.writeJson();
+
+            if (!auditResult.passed()) {
+                System.exit(1);
+            }
+        }
+    }
+
+    private static Map<String, String> signupUsers(LoadTestConfig config, CouponApiClient client, String emailPrefix)
+            throws InterruptedException {
+        Map<String, String> tokens = new ConcurrentHashMap<>();
+        Semaphore permits = new Semaphore(config.setupConcurrency());
+        List<CompletableFuture<Void>> signups = new ArrayList<>(config.users());
+
+        for (int i = 0; i < config.users(); i++) {
+            String email = emailPrefix + i + "@loadtest.local";
+            permits.acquire();
+            signups.add(client.signup(email, PASSWORD, "loadtest-" + i)
+                    .thenAccept(token -> tokens.put(email, token))
+                    .whenComplete((ignored, error) -> permits.release()));
+        }
+        CompletableFuture.allOf(signups.toArray(CompletableFuture[]::new)).join();
+        return tokens;
+    }
+}
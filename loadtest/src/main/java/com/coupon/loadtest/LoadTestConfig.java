@@ -0,0 +1,95 @@
+package com.coupon.loadtest;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정입니다. {@code --key=value} 형식의 인자로 기본값을 덮어씁니다.
+ *
+ * <pre>
+ * --base-url=http://localhost:8080   애플리케이션 주소
+ * --users=10000                      발급을 시도할 사용자 수 (사용자마다 한 번 발급 요청)
+ * --quantity=1000                    새로 만들 쿠폰의 수량
+ * --coupon-id=                       지정하면 쿠폰을 만들지 않고 기존 쿠폰을 사용
+ * --curve=SPIKE                      도착 곡선 (CONSTANT, RAMP, SPIKE)
+ * --rate=1000                        초당 도착 사용자 수
+ * --ramp-seconds=10                  RAMP 곡선에서 목표 속도까지 걸리는 시간
+ * --spike-ratio=0.5                  SPIKE 곡선에서 시작 순간에 몰리는 사용자 비율
+ * --my-coupons-ratio=0.3             발급 후 내 쿠폰 목록을 조회하는 사용자 비율
+ * --setup-concurrency=200            사용자 가입 동시 요청 수
+ * --request-timeout-ms=5000          요청 타임아웃
+ * --settle-seconds=30                감사 전에 비동기 저장(write-behind)이 끝나기를 기다리는 최대 시간
+ * --jdbc-url / --db-user / --db-password   감사용 MySQL 접속 정보
+ * --report-file=build/loadtest/result.json  결과 JSON 파일 (비워두면 저장하지 않음)
+ * </pre>
+ */
+public record LoadTestConfig(
+        String baseUrl,
+        int users,
+        int quantity,
+        Long couponId,
+        ArrivalCurve curve,
+        double rate,
+        Duration rampDuration,
+        double spikeRatio,
+        double myCouponsRatio,
+        int setupConcurrency,
+        Duration requestTimeout,
+        Duration settleTimeout,
+        String jdbcUrl,
+        String dbUser,
+        String dbPassword,
+        ZoneId serverZone,
+        String reportFile) {
+
+    public static LoadTestConfig fromArgs(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("인자는 --key=value 형식이어야 합니다: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        String couponId = options.getOrDefault("coupon-id", "");
+        LoadTestConfig config = new LoadTestConfig(
+                options.getOrDefault("base-url", "http://localhost:8080"),
+                Integer.parseInt(options.getOrDefault("users", "10000")),
+                Integer.parseInt(options.getOrDefault("quantity", "1000")),
+                couponId.isBlank() ? null : Long.parseLong(couponId),
+                ArrivalCurve.valueOf(options.getOrDefault("curve", "SPIKE").toUpperCase()),
+                Double.parseDouble(options.getOrDefault("rate", "1000")),
+                Duration.ofSeconds(Long.parseLong(options.getOrDefault("ramp-seconds", "10"))),
+                Double.parseDouble(options.getOrDefault("spike-ratio", "0.5")),
+                Double.parseDouble(options.getOrDefault("my-coupons-ratio", "0.3")),
+                Integer.parseInt(options.getOrDefault("setup-concurrency", "200")),
+                Duration.ofMillis(Long.parseLong(options.getOrDefault("request-timeout-ms", "5000"))),
+                Duration.ofSeconds(Long.parseLong(options.getOrDefault("settle-seconds", "30"))),
+                options.getOrDefault("jdbc-url",
+                        "jdbc:mysql://localhost:3306/coupon_db?useSSL=false&serverTimezone=Asia/Seoul&allowPublicKeyRetrieval=true"),
+                options.getOrDefault("db-user", "coupon_user"),
+                options.getOrDefault("db-password", "coupon_pass"),
+                ZoneId.of(options.getOrDefault("server-zone", "Asia/Seoul")),
+                options.getOrDefault("report-file", "build/loadtest/result.json"));
+        config.validate();
+        return config;
+    }
+
+    private void validate() {
+        if (users < 1) {
+            throw new IllegalArgumentException("users는 1 이상이어야 합니다.");
+        }
+        if (couponId == null && quantity < 1) {
+            throw new IllegalArgumentException("quantity는 1 이상이어야 합니다.");
+        }
+        if (rate <= 0) {
+            throw new IllegalArgumentException("rate는 0보다 커야 합니다.");
+        }
+        if (spikeRatio < 0 || spikeRatio > 1 || myCouponsRatio < 0 || myCouponsRatio > 1) {
+            throw new IllegalArgumentException("spike-ratio와 my-coupons-ratio는 0과 1 사이여야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.coupon.loadtest;
+
+import com.coupon.loadtest.IssueAudit.AuditResult;
+import com.coupon.loadtest.ScenarioRunner.ScenarioResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 지연 시간 백분위수, 처리량, 감사 결과를 콘솔에 출력하고 JSON 파일로 남깁니다.
+ */
+public class LoadTestReport {
+
+    private static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9};
+
+    private final LoadTestConfig config;
+    private final ScenarioResult scenario;
+    private final AuditResult audit;
+    private final Map<String, Histogram> histograms = new LinkedHashMap<>();
+
+    public LoadTestReport(LoadTestConfig config, ScenarioResult scenario, AuditResult audit) {
+        this.config = config;
+        this.scenario = scenario;
+        this.audit = audit;
+        for (EndpointStats stats : List.of(scenario.issueStats(), scenario.myCouponsStats())) {
+            histograms.put(stats.name(), stats.takeHistogram());
+        }
+    }
+
+    public void print(PrintStream out) {
+        double seconds = scenario.totalNanos() / 1_000_000_000.0;
+        out.printf("%n=== 부하 테스트 결과 (curve=%s, users=%d, rate=%.0f/s) ===%n",
+                config.curve(), config.users(), config.rate());
+        out.printf("도착 완료 %.2fs, 전체 완료 %.2fs%n", scenario.arrivalNanos() / 1_000_000_000.0, seconds);
+
+        for (EndpointStats stats : List.of(scenario.issueStats(), scenario.myCouponsStats())) {
+            Histogram histogram = histograms.get(stats.name());
+            out.printf("%n%s%n", stats.name());
+            out.printf("  요청 %d건, 처리량 %.1f req/s%n", histogram.getTotalCount(), histogram.getTotalCount() / seconds);
+            StringBuilder line = new StringBuilder("  지연(ms)");
+            for (double percentile : PERCENTILES) {
+                line.append(String.format(" p%s=%.2f", formatPercentile(percentile),
+                        histogram.getValueAtPercentile(percentile) / 1000.0));
+            }
+            line.append(String.format(" max=%.2f", histogram.getMaxValue() / 1000.0));
+            out.println(line);
+            stats.outcomes().forEach((outcome, count) -> out.printf("  %-16s %d%n", outcome, count));
+        }
+
+        out.printf("%n감사 (coupon_issue, couponId=%d)%n", audit.couponId());
+        out.printf("  총 수량 %d, 남은 수량(DB) %d, 발급 저장 %d%n",
+                audit.totalQuantity(), audit.remainingQuantity(), audit.issued());
+        out.printf("  초과 발급 %d, 미발급 재고 %d, 중복 발급 %d%n",
+                audit.oversold(), audit.undersold(), audit.duplicates());
+        out.printf("  성공 응답 후 미저장 %d, 저장 후 실패 응답 %d%n", audit.lost(), audit.unacknowledged());
+        out.println(audit.passed() ? "  => 통과" : "  => 실패");
+    }
+
+    /**
+     * 결과를 JSON 파일로 저장합니다. 파일 경로가 비어 있으면 저장하지 않습니다.
+     */
+    public void writeJson() throws IOException {
+        if (config.reportFile() == null || config.reportFile().isBlank()) {
+            return;
+        }
+        double seconds = scenario.totalNanos() / 1_000_000_000.0;
+
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        for (EndpointStats stats : List.of(scenario.issueStats(), scenario.myCouponsStats())) {
+            Histogram histogram = histograms.get(stats.name());
+            Map<String, Object> latency = new LinkedHashMap<>();
+            for (double percentile : PERCENTILES) {
+                latency.put("p" + formatPercentile(percentile), histogram.getValueAtPercentile(percentile) / 1000.0);
+            }
+            latency.put("max", histogram.getMaxValue() / 1000.0);
+
+            Map<String, Object> endpoint = new LinkedHashMap<>();
+            endpoint.put("requests", histogram.getTotalCount());
+            endpoint.put("throughputPerSecond", histogram.getTotalCount() / seconds);
+            endpoint.put("latencyMillis", latency);
+            endpoint.put("outcomes", stats.outcomes());
+            endpoints.put(stats.name(), endpoint);
+        }
+
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("baseUrl", config.baseUrl());
+        settings.put("users", config.users());
+        settings.put("curve", config.curve());
+        settings.put("rate", config.rate());
+        settings.put("rampSeconds", config.rampDuration().toSeconds());
+        settings.put("spikeRatio", config.spikeRatio());
+        settings.put("myCouponsRatio", config.myCouponsRatio());
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("config", settings);
+        report.put("arrivalSeconds", scenario.arrivalNanos() / 1_000_000_000.0);
+        report.put("totalSeconds", seconds);
+        report.put("endpoints", endpoints);
+        report.put("audit", audit);
+        report.put("passed", audit.passed());
+
+        Path path = Path.of(config.reportFile());
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(path.toFile(), report);
+    }
+
+    private String formatPercentile(double percentile) {
+        return percentile == Math.floor(percentile) ? String.valueOf((int) percentile) : String.valueOf(percentile);
+    }
+}
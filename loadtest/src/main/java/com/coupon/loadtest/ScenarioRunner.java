@@ -0,0 +1,121 @@
+package com.coupon.loadtest;
+
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 선착순 발급 시나리오를 실행합니다.
+ * 사용자는 도착 곡선에 맞춰 한 번씩 발급을 요청하고, 일부는 이어서 내 쿠폰 목록을 조회합니다.
+ * 응답을 기다리지 않고 다음 사용자를 보내므로 서버가 느려져도 도착 속도는 유지됩니다.
+ */
+public class ScenarioRunner {
+
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final LoadTestConfig config;
+    private final CouponApiClient client;
+
+    public ScenarioRunner(LoadTestConfig config, CouponApiClient client) {
+        this.config = config;
+        this.client = client;
+    }
+
+    public ScenarioResult run(long couponId, List<VirtualUser> users) {
+        List<VirtualUser> arrivalOrder = new ArrayList<>(users);
+        Collections.shuffle(arrivalOrder);
+
+        EndpointStats issueStats = new EndpointStats("POST /api/coupons/{id}/issue");
+        EndpointStats myCouponsStats = new EndpointStats("GET /api/coupons/my");
+        Set<Long> acknowledgedUserIds = ConcurrentHashMap.newKeySet();
+        List<CompletableFuture<Void>> inFlight = new ArrayList<>(arrivalOrder.size());
+
+        long start = System.nanoTime();
+        int sent = 0;
+        while (sent < arrivalOrder.size()) {
+            long now = System.nanoTime();
+            long due = config.curve().arrivalsUntil((now - start) / 1_000_000_000.0, config);
+            for (; sent < due; sent++) {
+                VirtualUser user = arrivalOrder.get(sent);
+                inFlight.add(issue(couponId, user, now, issueStats, myCouponsStats, acknowledgedUserIds));
+            }
+            LockSupport.parkNanos(TICK_NANOS);
+        }
+        long arrivalNanos = System.nanoTime() - start;
+
+        CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new)).join();
+        long totalNanos = System.nanoTime() - start;
+
+        return new ScenarioResult(issueStats, myCouponsStats, acknowledgedUserIds, arrivalOrder.size(),
+                arrivalNanos, totalNanos);
+    }
+
+    private CompletableFuture<Void> issue(long couponId, VirtualUser user, long scheduledAt,
+                                          EndpointStats issueStats, EndpointStats myCouponsStats,
+                                          Set<Long> acknowledgedUserIds) {
+        return client.issue(user.token(), couponId)
+                .handle((response, error) -> {
+                    String outcome = outcomeOf(response, error);
+                    issueStats.record(System.nanoTime() - scheduledAt, outcome);
+                    if (response != null && response.statusCode() == 200) {
+                        acknowledgedUserIds.add(user.id());
+                    }
+                    return outcome;
+                })
+                .thenCompose(outcome -> {
+                    if (ThreadLocalRandom.current().nextDouble() >= config.myCouponsRatio()) {
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    long myCouponsAt = System.nanoTime();
+                    return client.myCoupons(user.token())
+                            .handle((response, error) -> {
+                                myCouponsStats.record(System.nanoTime() - myCouponsAt, outcomeOf(response, error));
+                                return null;
+                            });
+                });
+    }
+
+    private String outcomeOf(HttpResponse<String> response, Throwable error) {
+        if (error != null) {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            return cause instanceof HttpTimeoutException ? "TIMEOUT" : "ERROR " + cause.getClass().getSimpleName();
+        }
+        int status = response.statusCode();
+        if (status >= 200 && status < 300) {
+            return String.valueOf(status);
+        }
+        String code = client.errorCode(response.body());
+        return code == null ? String.valueOf(status) : status + " " + code;
+    }
+
+    /**
+     * 가입을 마친 가상 사용자입니다.
+     */
+    public record VirtualUser(long id, String email, String token) {
+    }
+
+    /**
+     * 시나리오 실행 결과입니다.
+     *
+     * @param acknowledgedUserIds 발급 성공(200) 응답을 받은 사용자 ID
+     * @param arrivalNanos 마지막 사용자가 도착할 때까지 걸린 시간
+     * @param totalNanos 모든 응답을 받을 때까지 걸린 시간
+     */
+    public record ScenarioResult(
+            EndpointStats issueStats,
+            EndpointStats myCouponsStats,
+            Set<Long> acknowledgedUserIds,
+            int arrivals,
+            long arrivalNanos,
+            long totalNanos) {
+    }
+}
@@ -0,0 +1,58 @@
+package com.coupon.config.security;
+
+import com.coupon.domain.user.User;
+import com.coupon.domain.user.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 JwtAuthenticationFilter가 거치는 토큰 검증과 인증 객체 생성 비용을 측정합니다.
+ * 인증 객체는 토큰 클레임으로 만들므로 사용자 조회 없이 토큰 처리 비용만 나옵니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JwtTokenProviderBenchmark {
+
+    private static final String EMAIL = "bench@example.com";
+
+    private JwtTokenProvider tokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        User user = new User(EMAIL, "벤치마크", "encoded", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+
+        tokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(tokenProvider, "secretKey", "your-secret-key-12345678901234567890123456789012");
+        ReflectionTestUtils.setField(tokenProvider, "tokenValidityInMilliseconds", 86400L);
+        tokenProvider.init();
+        token = tokenProvider.createToken(user);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public Optional<Authentication> authenticate() {
+        // 필터가 호출하는 경로: 토큰을 한 번 파싱해 검증과 인증 객체 생성을 함께 처리합니다.
+        return tokenProvider.authenticate(token);
+    }
+}
@@ -0,0 +1,72 @@
+package com.coupon.dto;
+
+import com.coupon.domain.coupon.ClaimWindow;
+import com.coupon.domain.coupon.CouponMetadata;
+import com.coupon.domain.coupon.CouponStatus;
+import com.coupon.dto.coupon.CouponResponse;
+import com.coupon.dto.coupon.CouponStatisticsResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쿠폰 목록과 통계 응답의 JSON 직렬화 비용을 측정합니다.
+ * ObjectMapper는 Spring MVC가 만드는 것과 같은 설정(Jackson2ObjectMapperBuilder)으로 만듭니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ResponseSerializationBenchmark {
+
+    @Param({"10", "100"})
+    public int coupons;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<List<CouponResponse>> couponList;
+    private ApiResponse<CouponStatisticsResponse> statistics;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<CouponResponse> responses = new ArrayList<>(coupons);
+        for (long id = 1; id <= coupons; id++) {
+            CouponMetadata metadata = new CouponMetadata(id, "쿠폰 " + id, 1000,
+                    now.minusDays(1), now.plusDays(30), CouponStatus.ACTIVE, 1, now.minusDays(2), ClaimWindow.NONE);
+            responses.add(new CouponResponse(metadata, 500));
+        }
+        couponList = ApiResponse.success(responses);
+
+        CouponMetadata metadata = new CouponMetadata(1L, "쿠폰 1", 1000,
+                now.minusDays(1), now.plusDays(30), CouponStatus.ACTIVE, 1, now.minusDays(2), ClaimWindow.NONE);
+        statistics = ApiResponse.success(CouponStatisticsResponse.from(metadata, 500, 120L, 340L, 500L));
+    }
+
+    @Benchmark
+    public byte[] serializeCouponList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(couponList);
+    }
+
+    @Benchmark
+    public byte[] serializeStatistics() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(statistics);
+    }
+}
@@ -0,0 +1,48 @@
+package com.coupon.service;
+
+import com.coupon.domain.coupon.ClaimWindow;
+import com.coupon.domain.coupon.CouponMetadata;
+import com.coupon.domain.coupon.CouponStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 발급 스크립트 전에 거치는 쿠폰 기간 검사(validateCouponPeriod)의 비용을 측정합니다.
+ * 중복 발급 확인은 발급 스크립트가 담당하므로 검사는 캐시된 메타데이터만 사용합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CouponValidationBenchmark {
+
+    private CouponService couponService;
+    private CouponMetadata coupon;
+
+    @Setup
+    public void setUp() {
+        // validateCouponPeriod는 의존 객체를 사용하지 않습니다.
+        couponService = new CouponService(
+                null, null, null, null, null, null, null, null, null, null, null, null);
+
+        LocalDateTime now = LocalDateTime.now();
+        coupon = new CouponMetadata(1L, "벤치마크 쿠폰", 1000,
+                now.minusDays(1), now.plusDays(30), CouponStatus.ACTIVE, 1, now.minusDays(2), ClaimWindow.NONE);
+    }
+
+    @Benchmark
+    public void validateCouponPeriod() {
+        couponService.validateCouponPeriod(coupon);
+    }
+}
@@ -0,0 +1,90 @@
+package com.coupon.service;
+
+import com.coupon.config.RedisConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 발급 스크립트 한 번의 왕복 비용을 측정합니다. Redis는 Testcontainers로 띄운 로컬 컨테이너를 사용합니다.
+ * 신규 사용자 발급(재고 차감 경로)과 이미 발급받은 사용자의 재시도(중복 확인에서 끝나는 경로)를 나누어 봅니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RedisServiceBenchmark {
+
+    private static final long COUPON_ID = 1L;
+    private static final long ISSUED_USER_ID = 1L;
+
+    @Param({"SET", "BITMAP"})
+    public CouponMembershipLayout membershipLayout;
+
+    @Param({"1", "4"})
+    public int stockShards;
+
+    private GenericContainer<?> redisContainer;
+    private LettuceConnectionFactory connectionFactory;
+    private RedisService redisService;
+    private final AtomicLong nextUserId = new AtomicLong(ISSUED_USER_ID);
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("resource")
+    public void setUp() {
+        redisContainer = new GenericContainer<>(DockerImageName.parse("redis:7.0.0")).withExposedPorts(6379);
+        redisContainer.start();
+        connectionFactory = new LettuceConnectionFactory(redisContainer.getHost(), redisContainer.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        RedisTemplate<String, String> redisTemplate = new RedisConfig().redisTemplate(connectionFactory);
+
+        redisService = new RedisService(redisTemplate, new CouponSoldOutRegistry(redisTemplate));
+        ReflectionTestUtils.setField(redisService, "persistenceMode", CouponIssuePersistenceMode.SYNC);
+        ReflectionTestUtils.setField(redisService, "issueStreamShards", 4);
+        ReflectionTestUtils.setField(redisService, "membershipLayout", membershipLayout);
+        ReflectionTestUtils.setField(redisService, "claimWindowZone", "Asia/Seoul");
+        redisService.loadScripts();
+
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+        redisService.initializeCouponStock(COUPON_ID, Integer.MAX_VALUE, stockShards);
+        redisService.tryIssueCoupon(COUPON_ID, ISSUED_USER_ID);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        connectionFactory.destroy();
+        redisContainer.stop();
+    }
+
+    @Benchmark
+    public Long issueNewUser() {
+        return redisService.tryIssueCoupon(COUPON_ID, nextUserId.incrementAndGet());
+    }
+
+    @Benchmark
+    public Long issueDuplicateUser() {
+        return redisService.tryIssueCoupon(COUPON_ID, ISSUED_USER_ID);
+    }
+}
@@ -0,0 +1,169 @@
+package com.coupon.config;
+
+import com.coupon.config.security.AuthenticatedUser;
+import com.coupon.exception.ErrorCode;
+import com.coupon.exception.ErrorResponse;
+import com.coupon.service.IdempotencyStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Pattern;
+
+/**
+ * 쿠폰 발급 요청의 Idempotency-Key 헤더를 처리하는 필터입니다.
+ * 같은 키로 다시 들어온 요청은 발급 로직을 실행하지 않고 처음 응답(성공 또는 비즈니스 오류)을 그대로 돌려줍니다.
+ * 처음 요청이 아직 처리 중이면 결과가 저장될 때까지 기다렸다가 같은 응답을 돌려줍니다.
+ * 보안 필터 체인 바로 뒤에서 실행되어 키를 인증된 사용자 ID로 구분합니다.
+ * 속도 제한보다 먼저 실행되므로 재시도는 발급 토큰을 쓰지 않고 Redis 조회 한 번으로 끝납니다.
+ */
+@Slf4j
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER + 1)
+public class IdempotencyKeyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final Pattern ISSUE_PATH = Pattern.compile("^/api/coupons/\\d+/(issue|claims)$");
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+    private final long waitTimeoutMillis;
+    private final long pollIntervalMillis;
+
+    public IdempotencyKeyFilter(
+            IdempotencyStore idempotencyStore,
+            ObjectMapper objectMapper,
+            @Value("${coupon.idempotency.wait-timeout-ms:5000}") long waitTimeoutMillis,
+            @Value("${coupon.idempotency.poll-interval-ms:50}") long pollIntervalMillis) {
+        this.idempotencyStore = idempotencyStore;
+        this.objectMapper = objectMapper;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        this.pollIntervalMillis = pollIntervalMillis;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        return !idempotencyStore.isEnabled()
+                || !"POST".equals(request.getMethod())
+                || idempotencyKey == null || idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH
+                || !ISSUE_PATH.matcher(request.getRequestURI()).matches();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        AuthenticatedUser user = AuthenticatedUser.current();
+        if (user == null) {
+            // 인증되지 않은 요청은 보안 필터 체인에서 거절되므로 그대로 넘깁니다.
+            filterChain.doFilter(request, response);
+            return;
+        }
+        String key = IdempotencyStore.getKey(
+                String.valueOf(user.getId()), request.getMethod(), request.getRequestURI(),
+                request.getHeader(IDEMPOTENCY_KEY_HEADER));
+
+        long deadline = System.nanoTime() + waitTimeoutMillis * 1_000_000;
+        String owner;
+        while (true) {
+            IdempotencyStore.Entry entry;
+            try {
+                entry = idempotencyStore.find(key);
+                owner = entry == null ? idempotencyStore.tryAcquire(key) : null;
+                if (owner != null) {
+                    break;
+                }
+            } catch (Exception e) {
+                // Redis를 쓸 수 없으면 중복 방지 없이 처리합니다. 중복 발급은 발급 스크립트가 막습니다.
+                log.warn("Idempotency store unavailable, processing without replay - key: {}", key, e);
+                filterChain.doFilter(request, response);
+                return;
+            }
+
+            if (entry != null && entry.isCompleted()) {
+                replay(response, entry);
+                return;
+            }
+            if (System.nanoTime() >= deadline) {
+                writeInProgress(response);
+                return;
+            }
+            // 처음 요청이 처리 중이면 결과가 저장될 때까지 기다립니다.
+            try {
+                Thread.sleep(pollIntervalMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                writeInProgress(response);
+                return;
+            }
+        }
+
+        ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, cachingResponse);
+        } catch (IOException | ServletException | RuntimeException e) {
+            releaseQuietly(key, owner);
+            throw e;
+        }
+        store(key, owner, cachingResponse);
+        cachingResponse.copyBodyToResponse();
+    }
+
+    /**
+     * 다시 시도해도 결과가 같은 응답만 저장합니다. 429와 5xx는 재시도로 결과가 달라질 수 있으므로 저장하지 않습니다.
+     */
+    private void store(String key, String owner, ContentCachingResponseWrapper response) {
+        int status = response.getStatus();
+        try {
+            if (status >= 500 || status == ErrorCode.TOO_MANY_REQUESTS.getStatus().value()) {
+                idempotencyStore.release(key, owner);
+            } else if (!idempotencyStore.complete(
+                    key, owner, status, response.getContentType(), response.getContentAsByteArray())) {
+                // 처리 중 표시가 만료되어 다른 재시도가 잡았으므로 그 요청의 결과를 덮어쓰지 않습니다.
+                log.warn("Idempotency lock expired before response was stored - key: {}", key);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to store idempotent response - key: {}", key, e);
+        }
+    }
+
+    private void releaseQuietly(String key, String owner) {
+        try {
+            idempotencyStore.release(key, owner);
+        } catch (Exception e) {
+            log.warn("Failed to release idempotency key - key: {}", key, e);
+        }
+    }
+
+    private void replay(HttpServletResponse response, IdempotencyStore.Entry entry) throws IOException {
+        response.setStatus(entry.getStatus());
+        if (entry.getContentType() != null) {
+            response.setContentType(entry.getContentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(entry.getBody().length);
+        response.getOutputStream().write(entry.getBody());
+    }
+
+    private void writeInProgress(HttpServletResponse response) throws IOException {
+        response.setStatus(ErrorCode.IDEMPOTENCY_IN_PROGRESS.getStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getWriter(), ErrorResponse.of(ErrorCode.IDEMPOTENCY_IN_PROGRESS));
+    }
+}
@@ -0,0 +1,72 @@
+package com.coupon.config;
+
+import com.coupon.config.security.AuthenticatedUser;
+import com.coupon.exception.ErrorCode;
+import com.coupon.exception.ErrorResponseBodies;
+import com.coupon.service.CouponIssueRateLimiter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 쿠폰 발급 요청의 처리 속도를 제한하는 필터입니다.
+ * 보안 필터 체인 뒤, 서비스 계층보다 먼저 실행되므로 제한된 요청은 DB 커넥션이나 Redis 발급 스크립트를 사용하지 않습니다.
+ * 사용자는 JWT 클레임으로 만든 인증 사용자로 구분하므로, 요청 헤더를 바꿔 제한을 피할 수 없습니다.
+ * 제한된 요청에는 429 상태와 다시 시도할 수 있는 시각(Retry-After, 초)을 응답합니다.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER + 2)
+@RequiredArgsConstructor
+public class IssueRateLimitFilter extends OncePerRequestFilter {
+
+    private static final Pattern ISSUE_PATH = Pattern.compile("^/api/coupons/(\\d+)/(issue|claims)$");
+
+    private final CouponIssueRateLimiter rateLimiter;
+    private final ErrorResponseBodies errorResponseBodies;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !rateLimiter.isEnabled() || !"POST".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Matcher matcher = ISSUE_PATH.matcher(request.getRequestURI());
+        AuthenticatedUser user = AuthenticatedUser.current();
+        if (!matcher.matches() || user == null) {
+            // 인증되지 않은 요청은 보안 필터 체인에서 거절됩니다.
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long waitMillis = rateLimiter.tryAcquire(Long.valueOf(matcher.group(1)), user.getId());
+        if (waitMillis > 0) {
+            writeTooManyRequests(response, waitMillis);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private void writeTooManyRequests(HttpServletResponse response, long waitMillis) throws IOException {
+        response.setStatus(ErrorCode.TOO_MANY_REQUESTS.getStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf((waitMillis + 999) / 1000));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        // 제한된 요청마다 직렬화하지 않도록 미리 만들어 둔 본문을 씁니다.
+        response.getOutputStream().write(errorResponseBodies.bodyOf(ErrorCode.TOO_MANY_REQUESTS));
+    }
+}
@@ -1,8 +1,11 @@
 package com.coupon.config;
 
+import com.coupon.service.CouponMetadataCache;
+import com.coupon.service.CouponSoldOutRegistry;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.lettuce.core.resource.ClientResources;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -13,6 +16,8 @@ import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
@@ -29,12 +34,17 @@ public class RedisConfig {
     @Value("${spring.data.redis.timeout:5000}")
     private int timeout;
 
+    /**
+     * Redis 연결 팩토리를 생성합니다. 스프링 부트가 만든 ClientResources를 사용해야
+     * Lettuce 명령 지연 시간 메트릭(lettuce.command.*)이 Micrometer에 기록됩니다.
+     */
     @Bean
     @Profile("!test")
-    public RedisConnectionFactory redisConnectionFactory() {
+    public RedisConnectionFactory redisConnectionFactory(ClientResources clientResources) {
         RedisStandaloneConfiguration config = new RedisStandaloneConfiguration(redisHost, redisPort);
         
         LettuceClientConfiguration clientConfig = LettuceClientConfiguration.builder()
+                .clientResources(clientResources)
                 .commandTimeout(Duration.ofMillis(timeout))
                 .build();
                 
@@ -68,6 +78,21 @@ public class RedisConfig {
         return template;
     }
     
+    /**
+     * 쿠폰 소진/복구 알림과 쿠폰 메타데이터 변경 알림을 받아 노드의 메모리 상태를 갱신하는 리스너 컨테이너
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory redisConnectionFactory,
+            CouponSoldOutRegistry couponSoldOutRegistry,
+            CouponMetadataCache couponMetadataCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(couponSoldOutRegistry, new ChannelTopic(CouponSoldOutRegistry.CHANNEL));
+        container.addMessageListener(couponMetadataCache, new ChannelTopic(CouponMetadataCache.CHANNEL));
+        return container;
+    }
+    
     @Bean
     public ObjectMapper objectMapper() {
         ObjectMapper objectMapper = new ObjectMapper();
@@ -0,0 +1,52 @@
+package com.coupon.config.security;
+
+import com.coupon.domain.user.UserRole;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.security.Principal;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JWT 클레임으로 만든 인증 사용자입니다.
+ * 요청마다 사용자 행을 읽지 않고 토큰에 담긴 사용자 ID, 이메일, 역할을 그대로 사용합니다.
+ * 컨트롤러에서는 {@code @AuthenticationPrincipal}로 받습니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class AuthenticatedUser implements Principal {
+
+    private final Long id;
+    private final String email;
+    private final UserRole role;
+
+    /**
+     * 인증 이름으로 이메일을 사용합니다. (기존 UserDetails의 username과 같음)
+     */
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
+    /**
+     * 현재 요청의 인증 사용자를 반환합니다. 보안 필터 체인 뒤에서 실행되는 필터가 사용합니다.
+     *
+     * @return 인증 사용자, 인증되지 않은 요청이면 null
+     */
+    public static AuthenticatedUser current() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user;
+        }
+        return null;
+    }
+}
@@ -1,26 +1,33 @@
 package com.coupon.config.security;
 
+import com.coupon.domain.user.User;
+import com.coupon.domain.user.UserRole;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
-import com.coupon.service.CustomUserDetailsService;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
 import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
 
+/**
+ * JWT를 발급하고 검증합니다.
+ * 토큰에는 이메일(subject)과 함께 사용자 ID와 역할 클레임을 담아, 검증할 때 DB 조회 없이 인증 객체를 만듭니다.
+ * 서명 검증용 파서는 시작할 때 한 번 만들어 재사용합니다. (JwtParser는 스레드 안전)
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtTokenProvider {
 
+    static final String USER_ID_CLAIM = "uid";
+    static final String ROLE_CLAIM = "role";
+
     @Value("${jwt.secret}")
     private String secretKey;
 
@@ -28,20 +35,25 @@ public class JwtTokenProvider {
     private long tokenValidityInMilliseconds;
 
     private Key key;
-    private final CustomUserDetailsService userDetailsService;
+    private JwtParser parser;
 
     @PostConstruct
     protected void init() {
         byte[] keyBytes = Base64.getEncoder().encode(secretKey.getBytes());
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
     }
 
-    public String createToken(String userPk) {
+    public String createToken(User user) {
         Date now = new Date();
         Date validity = new Date(now.getTime() + this.tokenValidityInMilliseconds * 1000);
 
         return Jwts.builder()
-                .setSubject(userPk)
+                .setSubject(user.getEmail())
+                .claim(USER_ID_CLAIM, user.getId())
+                .claim(ROLE_CLAIM, user.getRole().name())
                 .setIssuedAt(now)
                 .setExpiration(validity)
                 .signWith(key, SignatureAlgorithm.HS256)
@@ -49,21 +61,40 @@ public class JwtTokenProvider {
     }
 
     public String getUserEmail(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
+        return parser.parseClaimsJws(token)
                 .getBody()
                 .getSubject();
     }
 
     public boolean validateToken(String token) {
+        return parseClaims(token).isPresent();
+    }
+
+    /**
+     * 토큰을 한 번만 검증하고 클레임으로 인증 객체를 만듭니다.
+     * 사용자 ID나 역할 클레임이 없는 토큰(이전 형식)은 인증하지 않으므로 다시 로그인해야 합니다.
+     *
+     * @param token JWT
+     * @return 인증 객체, 토큰이 올바르지 않으면 빈 값
+     */
+    public Optional<Authentication> authenticate(String token) {
+        return parseClaims(token).flatMap(claims -> {
+            Number userId = claims.get(USER_ID_CLAIM, Number.class);
+            String role = claims.get(ROLE_CLAIM, String.class);
+            if (userId == null || role == null) {
+                log.info("JWT token without user claims.");
+                return Optional.empty();
+            }
+            AuthenticatedUser user = new AuthenticatedUser(
+                    userId.longValue(), claims.getSubject(), UserRole.valueOf(role));
+            return Optional.of(new UsernamePasswordAuthenticationToken(user, "", user.getAuthorities()));
+        });
+    }
+
+    private Optional<Claims> parseClaims(String token) {
         try {
-            Jws<Claims> claims = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
-            return !claims.getBody().getExpiration().before(new Date());
+            // 만료된 토큰은 파서가 ExpiredJwtException으로 거절합니다.
+            return Optional.of(parser.parseClaimsJws(token).getBody());
         } catch (SecurityException | MalformedJwtException e) {
             log.info("Invalid JWT token.");
             log.trace("Invalid JWT token trace: {}", e);
@@ -73,15 +104,14 @@ public class JwtTokenProvider {
         } catch (UnsupportedJwtException e) {
             log.info("Unsupported JWT token.");
             log.trace("Unsupported JWT token trace: {}", e);
+        } catch (JwtException e) {
+            // 서명 불일치 등
+            log.info("Invalid JWT signature.");
+            log.trace("Invalid JWT signature trace: {}", e);
         } catch (IllegalArgumentException e) {
             log.info("JWT token compact of handler are invalid.");
             log.trace("JWT token compact of handler are invalid trace: {}", e);
         }
-        return false;
-    }
-
-    public Authentication getAuthentication(String token) {
-        UserDetails userDetails = userDetailsService.loadUserByUsername(this.getUserEmail(token));
-        return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+        return Optional.empty();
     }
 }
@@ -1,11 +1,28 @@
 package com.coupon.controller;
 
 import com.coupon.dto.ApiResponse;
+import com.coupon.dto.coupon.CouponCampaignResponse;
 import com.coupon.dto.coupon.CouponStatisticsResponse;
+import com.coupon.dto.coupon.MembershipMigrationResponse;
+import com.coupon.dto.coupon.RateLimitStatusResponse;
+import com.coupon.dto.coupon.StockReconcilerStatusResponse;
+import com.coupon.dto.coupon.StockReconciliationResponse;
+import com.coupon.dto.coupon.WriteBehindStatusResponse;
+import com.coupon.service.CouponCampaignService;
+import com.coupon.service.CouponIssueRateLimiter;
+import com.coupon.service.CouponIssueWriteBehindWriter;
+import com.coupon.service.CouponMembershipMigrator;
 import com.coupon.service.CouponService;
+import com.coupon.service.CouponStockReconciler;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
 
 @RestController
 @RequestMapping("/api/admin/coupons")
@@ -14,6 +31,11 @@ import org.springframework.web.bind.annotation.*;
 public class AdminCouponController {
 
     private final CouponService couponService;
+    private final CouponIssueWriteBehindWriter couponIssueWriter;
+    private final CouponMembershipMigrator membershipMigrator;
+    private final CouponIssueRateLimiter rateLimiter;
+    private final CouponCampaignService campaignService;
+    private final CouponStockReconciler stockReconciler;
     
     /**
      * 특정 쿠폰의 발급 통계를 조회합니다.
@@ -37,4 +59,108 @@ public class AdminCouponController {
         CouponStatisticsResponse statistics = couponService.getAllCouponsStatistics();
         return ApiResponse.success(statistics);
     }
+    
+    /**
+     * 발급 이력 write-behind 저장기의 큐 적재량과 배치 크기를 조회합니다.
+     * 
+     * @return write-behind 저장기 상태 정보
+     */
+    @GetMapping("/write-behind")
+    public ApiResponse<WriteBehindStatusResponse> getWriteBehindStatus() {
+        return ApiResponse.success(WriteBehindStatusResponse.from(couponIssueWriter));
+    }
+    
+    /**
+     * 발급 요청 속도 제한의 허용/거절 건수를 조회합니다.
+     * 
+     * @return 속도 제한 상태 정보
+     */
+    @GetMapping("/rate-limit")
+    public ApiResponse<RateLimitStatusResponse> getRateLimitStatus() {
+        return ApiResponse.success(RateLimitStatusResponse.from(rateLimiter));
+    }
+    
+    /**
+     * 사용자별 발급 쿠폰 집합을 쿠폰별 발급 사용자 비트맵으로 옮깁니다.
+     * 
+     * @param deleteLegacy 이관한 사용자별 집합을 삭제할지 여부
+     * @return 이관 결과
+     */
+    @PostMapping("/membership/migrate")
+    public ApiResponse<MembershipMigrationResponse> migrateMembership(
+            @RequestParam(defaultValue = "false") boolean deleteLegacy) {
+        return ApiResponse.success(membershipMigrator.migrateSetsToBitmaps(deleteLegacy));
+    }
+    
+    /**
+     * 업로드한 사용자 ID 파일(한 줄에 하나)의 사용자들에게 쿠폰을 대량 발급하는 작업을 시작합니다.
+     * 
+     * @param couponId 쿠폰 ID
+     * @param file 사용자 ID 파일
+     * @return 시작된 작업의 진행 상황
+     */
+    @PostMapping(value = "/{couponId}/campaigns", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ApiResponse<CouponCampaignResponse> startCampaignFromFile(
+            @PathVariable Long couponId,
+            @RequestParam("file") MultipartFile file) throws IOException {
+        return ApiResponse.success(campaignService.start(couponId, file.getInputStream()), "대량 발급 작업이 시작되었습니다.");
+    }
+    
+    /**
+     * 요청 본문으로 받은 사용자 ID 목록(한 줄에 하나)의 사용자들에게 쿠폰을 대량 발급하는 작업을 시작합니다.
+     * 
+     * @param couponId 쿠폰 ID
+     * @param request 사용자 ID 목록을 본문으로 담은 요청
+     * @return 시작된 작업의 진행 상황
+     */
+    @PostMapping(value = "/{couponId}/campaigns", consumes = MediaType.TEXT_PLAIN_VALUE)
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ApiResponse<CouponCampaignResponse> startCampaignFromStream(
+            @PathVariable Long couponId,
+            HttpServletRequest request) throws IOException {
+        return ApiResponse.success(campaignService.start(couponId, request.getInputStream()), "대량 발급 작업이 시작되었습니다.");
+    }
+    
+    /**
+     * 대량 발급 작업의 진행 상황과 사유별 실패 건수를 조회합니다.
+     * 
+     * @param jobId 작업 ID
+     * @return 작업의 진행 상황
+     */
+    @GetMapping("/campaigns/{jobId}")
+    public ApiResponse<CouponCampaignResponse> getCampaign(@PathVariable String jobId) {
+        return ApiResponse.success(campaignService.getJob(jobId));
+    }
+    
+    /**
+     * Redis 재고 보정기의 누적 지표와 현재 차이가 있는 쿠폰을 조회합니다.
+     * 
+     * @return 보정기 상태 정보
+     */
+    @GetMapping("/stock/reconcile")
+    public ApiResponse<StockReconcilerStatusResponse> getStockReconcilerStatus() {
+        return ApiResponse.success(StockReconcilerStatusResponse.from(stockReconciler));
+    }
+    
+    /**
+     * 활성 쿠폰 전체의 Redis 재고를 DB 발급 이력 기준으로 바로 보정합니다.
+     * 
+     * @return 보정 결과
+     */
+    @PostMapping("/stock/reconcile")
+    public ApiResponse<StockReconciliationResponse> reconcileAllStock() {
+        return ApiResponse.success(stockReconciler.reconcileAll());
+    }
+    
+    /**
+     * 쿠폰 하나의 Redis 재고를 DB 발급 이력 기준으로 바로 보정합니다.
+     * 
+     * @param couponId 쿠폰 ID
+     * @return 보정 결과
+     */
+    @PostMapping("/{couponId}/stock/reconcile")
+    public ApiResponse<StockReconciliationResponse> reconcileStock(@PathVariable Long couponId) {
+        return ApiResponse.success(stockReconciler.reconcile(couponId));
+    }
 }
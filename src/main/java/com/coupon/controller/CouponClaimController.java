@@ -0,0 +1,53 @@
+package com.coupon.controller;
+
+import com.coupon.config.security.AuthenticatedUser;
+import com.coupon.dto.ApiResponse;
+import com.coupon.dto.coupon.CouponClaimResponse;
+import com.coupon.service.CouponClaimPipeline;
+import com.coupon.service.CouponWaitingRoomService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/coupons")
+@RequiredArgsConstructor
+public class CouponClaimController {
+
+    private final CouponClaimPipeline claimPipeline;
+    private final CouponWaitingRoomService waitingRoomService;
+
+    /**
+     * 쿠폰 발급을 비동기로 요청합니다. 요청이 접수되면 바로 202와 티켓을 응답하고,
+     * 발급 결과는 티켓으로 조회합니다. 대기실을 사용하면 대기열에서 받은 입장 토큰이 있어야 합니다.
+     * 
+     * @param user 인증 사용자 (JWT 클레임에서 추출)
+     * @param admissionToken 대기열 입장 토큰
+     * @param couponId 쿠폰 ID
+     * @return 접수된 티켓
+     */
+    @PostMapping("/{couponId}/claims")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ApiResponse<CouponClaimResponse> claimCoupon(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @RequestHeader(value = "X-ADMISSION-TOKEN", required = false) String admissionToken,
+            @PathVariable Long couponId) {
+        waitingRoomService.verifyAdmission(couponId, user.getId(), admissionToken);
+        return ApiResponse.success(claimPipeline.submit(couponId, user.getId()), "쿠폰 발급 요청이 접수되었습니다.");
+    }
+
+    /**
+     * 비동기 발급 요청의 처리 상태를 조회합니다. 본인이 요청한 티켓만 조회할 수 있습니다.
+     * 
+     * @param user 인증 사용자 (JWT 클레임에서 추출)
+     * @param ticketId 티켓 ID
+     * @return 티켓 처리 상태 (PENDING, ISSUED, EXHAUSTED, DUPLICATE, LIMIT_EXCEEDED, FAILED)
+     */
+    @GetMapping("/claims/{ticketId}")
+    public ApiResponse<CouponClaimResponse> getClaimStatus(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @PathVariable String ticketId) {
+        return ApiResponse.success(claimPipeline.getStatus(ticketId, user.getId()));
+    }
+}
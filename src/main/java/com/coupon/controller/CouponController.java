@@ -1,13 +1,16 @@
 package com.coupon.controller;
 
+import com.coupon.config.security.AuthenticatedUser;
 import com.coupon.dto.ApiResponse;
 import com.coupon.dto.coupon.CouponCreateRequest;
 import com.coupon.dto.coupon.CouponIssueResponse;
 import com.coupon.dto.coupon.CouponResponse;
 import com.coupon.service.CouponService;
+import com.coupon.service.CouponWaitingRoomService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -18,6 +21,7 @@ import java.util.List;
 public class CouponController {
 
     private final CouponService couponService;
+    private final CouponWaitingRoomService waitingRoomService;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -26,11 +30,20 @@ public class CouponController {
         return ApiResponse.success(response, "쿠폰이 생성되었습니다.");
     }
 
+    /**
+     * 쿠폰을 발급합니다. 대기실을 사용하면 대기열에서 받은 입장 토큰이 있어야 합니다.
+     * 
+     * @param user 인증 사용자 (JWT 클레임에서 추출)
+     * @param admissionToken 대기열 입장 토큰
+     * @param couponId 쿠폰 ID
+     */
     @PostMapping("/{couponId}/issue")
     public ApiResponse<Void> issueCoupon(
-            @RequestHeader("X-USER-ID") Long userId,
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @RequestHeader(value = "X-ADMISSION-TOKEN", required = false) String admissionToken,
             @PathVariable Long couponId) {
-        couponService.issueCoupon(userId, couponId);
+        waitingRoomService.verifyAdmission(couponId, user.getId(), admissionToken);
+        couponService.issueCoupon(user.getId(), couponId);
         return ApiResponse.success(null, "쿠폰이 발급되었습니다.");
     }
 
@@ -43,13 +56,13 @@ public class CouponController {
     /**
      * 사용자가 발급받은 쿠폰 목록을 조회합니다.
      * 
-     * @param userId 사용자 ID (헤더에서 추출)
+     * @param user 인증 사용자 (JWT 클레임에서 추출)
      * @return 발급받은 쿠폰 목록
      */
     @GetMapping("/my")
     public ApiResponse<List<CouponIssueResponse>> getMyIssuedCoupons(
-            @RequestHeader("X-USER-ID") Long userId) {
-        List<CouponIssueResponse> issuedCoupons = couponService.getIssuedCoupons(userId);
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        List<CouponIssueResponse> issuedCoupons = couponService.getIssuedCoupons(user.getId());
         return ApiResponse.success(issuedCoupons);
     }
 }
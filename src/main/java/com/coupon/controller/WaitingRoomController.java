@@ -0,0 +1,45 @@
+package com.coupon.controller;
+
+import com.coupon.config.security.AuthenticatedUser;
+import com.coupon.dto.ApiResponse;
+import com.coupon.dto.coupon.WaitingRoomStatusResponse;
+import com.coupon.service.CouponWaitingRoomService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/coupons/{couponId}/waiting-room")
+@RequiredArgsConstructor
+public class WaitingRoomController {
+
+    private final CouponWaitingRoomService waitingRoomService;
+
+    /**
+     * 쿠폰 발급 대기열에 들어갑니다.
+     * 
+     * @param user 인증 사용자 (JWT 클레임에서 추출)
+     * @param couponId 쿠폰 ID
+     * @return 대기 상태
+     */
+    @PostMapping
+    public ApiResponse<WaitingRoomStatusResponse> enter(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @PathVariable Long couponId) {
+        return ApiResponse.success(waitingRoomService.enter(couponId, user.getId()), "대기열에 등록되었습니다.");
+    }
+
+    /**
+     * 대기 순번을 조회합니다. 입장이 허용되면 발급 요청에 사용할 입장 토큰이 함께 내려갑니다.
+     * 
+     * @param user 인증 사용자 (JWT 클레임에서 추출)
+     * @param couponId 쿠폰 ID
+     * @return 대기 상태
+     */
+    @GetMapping
+    public ApiResponse<WaitingRoomStatusResponse> getStatus(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @PathVariable Long couponId) {
+        return ApiResponse.success(waitingRoomService.getStatus(couponId, user.getId()));
+    }
+}
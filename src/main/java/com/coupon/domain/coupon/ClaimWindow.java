@@ -0,0 +1,97 @@
+package com.coupon.domain.coupon;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.IsoFields;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * 사용자별 쿠폰 발급 횟수를 세는 기간입니다.
+ * 달력 기준 기간(DAY, WEEK)은 기간마다 카운터 키를 따로 두고 기간이 끝나는 시각에 만료시키며,
+ * ROLLING_24H는 발급 시각을 보관해 최근 24시간 안의 발급만 셉니다.
+ * NONE이 아닌 쿠폰은 사용자당 한 번 제한 대신 기간 안의 발급 횟수로만 제한합니다.
+ */
+public enum ClaimWindow {
+    /**
+     * 기간 제한 없음
+     */
+    NONE,
+
+    /**
+     * 하루 (자정 기준)
+     */
+    DAY,
+
+    /**
+     * 한 주 (월요일 0시 기준)
+     */
+    WEEK,
+
+    /**
+     * 발급 시각 기준 최근 24시간
+     */
+    ROLLING_24H;
+
+    private static final DateTimeFormatter DAY_BUCKET_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final Duration ROLLING_DURATION = Duration.ofHours(24);
+
+    /**
+     * 발급 시각이 속한 기간의 카운터 키 구분자를 반환합니다.
+     *
+     * @param now 발급 시각 (기간 기준 시간대)
+     * @return 기간 구분자 (예: d20240501, w2024W18, r)
+     */
+    public String getBucket(ZonedDateTime now) {
+        return switch (this) {
+            case NONE -> "n";
+            case DAY -> "d" + now.format(DAY_BUCKET_FORMAT);
+            case WEEK -> "w" + now.get(IsoFields.WEEK_BASED_YEAR) + "W" + now.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR);
+            case ROLLING_24H -> "r";
+        };
+    }
+
+    /**
+     * 발급 시각이 속한 달력 기간이 끝나는 시각을 반환합니다. 카운터 키의 만료 시각으로 사용합니다.
+     *
+     * @param now 발급 시각 (기간 기준 시간대)
+     * @return 기간 종료 시각 (epoch seconds), 달력 기간이 아니면 0
+     */
+    public long getWindowEnd(ZonedDateTime now) {
+        return switch (this) {
+            case DAY -> now.toLocalDate().plusDays(1).atStartOfDay(now.getZone()).toEpochSecond();
+            case WEEK -> now.toLocalDate().with(TemporalAdjusters.next(DayOfWeek.MONDAY))
+                    .atStartOfDay(now.getZone()).toEpochSecond();
+            default -> 0;
+        };
+    }
+
+    /**
+     * 발급 이력의 claim_bucket 값을 반환합니다. (user_id, coupon_id, claim_bucket) 유니크 키에 쓰입니다.
+     * 기간 제한이 없는 쿠폰은 항상 0이므로 DB도 사용자당 한 번만 저장합니다.
+     * 기간 제한이 있는 쿠폰은 기간 안에 여러 번 발급받을 수 있어 기간 시작 시각으로는 두 번째 발급부터 겹치므로,
+     * 발급 시각(마이크로초)을 그대로 씁니다. 같은 발급을 다시 저장하면 값이 같아 INSERT IGNORE로 걸러집니다.
+     *
+     * @param issuedAt 발급 시각
+     * @return claim_bucket 값
+     */
+    public long getClaimBucket(LocalDateTime issuedAt) {
+        if (this == NONE) {
+            return 0;
+        }
+        return ChronoUnit.MICROS.between(LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC), issuedAt);
+    }
+
+    /**
+     * 최근 기간으로 세는 경우 그 길이를 반환합니다.
+     *
+     * @return 기간 길이, 달력 기간이면 null
+     */
+    public Duration getRollingDuration() {
+        return this == ROLLING_24H ? ROLLING_DURATION : null;
+    }
+}
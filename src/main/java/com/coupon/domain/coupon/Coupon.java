@@ -33,6 +33,25 @@ public class Coupon {
     @Column(name = "valid_to", nullable = false)
     private LocalDateTime validTo;
 
+    /**
+     * Redis 재고 카운터를 나눌 샤드 수 (인기 쿠폰의 단일 키 집중을 분산)
+     */
+    @Column(name = "stock_shards", nullable = false)
+    private Integer stockShards = 1;
+
+    /**
+     * 사용자별 발급 횟수를 세는 기간 (컬럼 추가 전에 만든 쿠폰은 비어 있으며 제한 없음으로 봄)
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "claim_window", length = 20)
+    private ClaimWindow claimWindow = ClaimWindow.NONE;
+
+    /**
+     * 기간 안에 사용자 한 명이 발급받을 수 있는 횟수
+     */
+    @Column(name = "claim_limit")
+    private Integer claimLimit = 1;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt = LocalDateTime.now();
     
@@ -41,7 +60,8 @@ public class Coupon {
     private CouponStatus status = CouponStatus.ACTIVE;
 
     @Builder
-    public Coupon(String title, Integer totalQuantity, LocalDateTime validFrom, LocalDateTime validTo, CouponStatus status) {
+    public Coupon(String title, Integer totalQuantity, LocalDateTime validFrom, LocalDateTime validTo, CouponStatus status, Integer stockShards,
+                  ClaimWindow claimWindow, Integer claimLimit) {
         if (totalQuantity == null || totalQuantity <= 0) {
             throw new IllegalArgumentException("Total quantity must be greater than 0");
         }
@@ -51,6 +71,12 @@ public class Coupon {
         if (!validFrom.isBefore(validTo)) {
             throw new IllegalArgumentException("Valid from must be before valid to");
         }
+        if (stockShards != null && (stockShards < 1 || stockShards > totalQuantity)) {
+            throw new IllegalArgumentException("Stock shards must be between 1 and total quantity");
+        }
+        if (claimLimit != null && claimLimit < 1) {
+            throw new IllegalArgumentException("Claim limit must be at least 1");
+        }
         
         this.title = title;
         this.totalQuantity = totalQuantity;
@@ -58,6 +84,9 @@ public class Coupon {
         this.validFrom = validFrom;
         this.validTo = validTo;
         this.status = status != null ? status : CouponStatus.ACTIVE;
+        this.stockShards = stockShards != null ? stockShards : 1;
+        this.claimWindow = claimWindow != null ? claimWindow : ClaimWindow.NONE;
+        this.claimLimit = claimLimit != null ? claimLimit : 1;
     }
 
     @Builder
@@ -72,6 +101,14 @@ public class Coupon {
         this.id = id;
     }
 
+    public ClaimWindow getClaimWindow() {
+        return claimWindow != null ? claimWindow : ClaimWindow.NONE;
+    }
+
+    public int getClaimLimit() {
+        return claimLimit != null ? claimLimit : 1;
+    }
+
     public void decreaseRemainingQuantity() {
         if (this.remainingQuantity <= 0) {
             throw new IllegalStateException("No remaining coupons available");
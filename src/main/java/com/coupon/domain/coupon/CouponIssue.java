@@ -10,12 +10,17 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
+/**
+ * 쿠폰 발급 이력입니다. (user_id, coupon_id, claim_bucket)으로 유일하게 봅니다.
+ * 기간 제한이 없는 쿠폰은 claim_bucket이 항상 0이므로 Redis 발급 기록이 사라져도 DB가 사용자당 한 번만 저장하고,
+ * 기간 제한이 있는 쿠폰은 발급마다 다른 값을 가지므로 기간 안에 여러 번 저장할 수 있습니다.
+ */
 @Entity
 @Table(name = "coupon_issue",
        uniqueConstraints = {
            @UniqueConstraint(
-               name = "user_coupon_unique",
-               columnNames = {"user_id", "coupon_id"}
+               name = "uk_user_coupon_claim_bucket",
+               columnNames = {"user_id", "coupon_id", "claim_bucket"}
            )
        })
 @Getter
@@ -38,11 +43,15 @@ public class CouponIssue {
     @Column(name = "issued_at", nullable = false)
     private LocalDateTime issuedAt = LocalDateTime.now();
 
+    @Column(name = "claim_bucket", nullable = false)
+    private long claimBucket;
+
     @Builder
-    public CouponIssue(User user, Coupon coupon, LocalDateTime issuedAt) {
+    public CouponIssue(User user, Coupon coupon, LocalDateTime issuedAt, ClaimWindow claimWindow) {
         this.user = user;
         this.coupon = coupon;
         this.issuedAt = issuedAt != null ? issuedAt : LocalDateTime.now();
+        this.claimBucket = (claimWindow != null ? claimWindow : ClaimWindow.NONE).getClaimBucket(this.issuedAt);
     }
 
     public static CouponIssue issueCoupon(User user, Coupon coupon) {
@@ -51,6 +60,7 @@ public class CouponIssue {
                 .user(user)
                 .coupon(coupon)
                 .issuedAt(LocalDateTime.now())
+                .claimWindow(coupon.getClaimWindow())
                 .build();
     }
 }
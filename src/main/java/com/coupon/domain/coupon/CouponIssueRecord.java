@@ -0,0 +1,24 @@
+package com.coupon.domain.coupon;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Redis에서 발급이 확정된 쿠폰 발급 이력을 DB에 일괄 저장하기 위한 레코드입니다.
+ * 엔티티를 로딩하지 않고 식별자만으로 coupon_issue 행을 만들 때 사용합니다.
+ * claimBucket은 {@link ClaimWindow#getClaimBucket(LocalDateTime)}로 구한 값입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class CouponIssueRecord {
+    private final Long couponId;
+    private final Long userId;
+    private final LocalDateTime issuedAt;
+    private final long claimBucket;
+
+    public static CouponIssueRecord of(Long couponId, Long userId, LocalDateTime issuedAt, ClaimWindow claimWindow) {
+        return new CouponIssueRecord(couponId, userId, issuedAt, claimWindow.getClaimBucket(issuedAt));
+    }
+}
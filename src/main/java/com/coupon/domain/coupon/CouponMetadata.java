@@ -0,0 +1,37 @@
+package com.coupon.domain.coupon;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발급 요청마다 확인하는 쿠폰의 변하지 않는 정보입니다.
+ * 잔여 수량처럼 자주 바뀌는 값은 담지 않으므로 노드 메모리와 Redis에 캐시해 두고 사용할 수 있습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class CouponMetadata {
+    private final Long id;
+    private final String title;
+    private final Integer totalQuantity;
+    private final LocalDateTime validFrom;
+    private final LocalDateTime validTo;
+    private final CouponStatus status;
+    private final Integer stockShards;
+    private final LocalDateTime createdAt;
+    private final ClaimWindow claimWindow;
+
+    public static CouponMetadata from(Coupon coupon) {
+        return new CouponMetadata(
+                coupon.getId(),
+                coupon.getTitle(),
+                coupon.getTotalQuantity(),
+                coupon.getValidFrom(),
+                coupon.getValidTo(),
+                coupon.getStatus(),
+                coupon.getStockShards(),
+                coupon.getCreatedAt(),
+                coupon.getClaimWindow());
+    }
+}
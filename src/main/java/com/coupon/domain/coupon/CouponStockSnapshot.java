@@ -0,0 +1,50 @@
+package com.coupon.domain.coupon;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 한 시점에 읽은 쿠폰의 Redis 재고 상태입니다.
+ * 재고 보정 시 조회했던 값 그대로인지 비교하는 데 사용합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class CouponStockSnapshot {
+    private final Long couponId;
+
+    /**
+     * 재고 샤드별 값 (키가 없으면 null)
+     */
+    private final List<String> shardValues;
+
+    /**
+     * 만료되지 않은 임대 장부 항목 수 (재고를 임대 중인 노드 수)
+     */
+    private final long activeLeases;
+
+    /**
+     * 재고 키가 하나라도 있는지 확인합니다.
+     *
+     * @return 재고 키가 있으면 true
+     */
+    public boolean exists() {
+        return shardValues.stream().anyMatch(value -> value != null);
+    }
+
+    /**
+     * 샤드 재고의 합을 반환합니다.
+     *
+     * @return 남은 재고
+     */
+    public int getRemaining() {
+        int remaining = 0;
+        for (String value : shardValues) {
+            if (value != null) {
+                remaining += Integer.parseInt(value);
+            }
+        }
+        return remaining;
+    }
+}
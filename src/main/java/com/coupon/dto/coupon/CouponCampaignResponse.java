@@ -0,0 +1,27 @@
+package com.coupon.dto.coupon;
+
+import com.coupon.service.CouponCampaignFailureReason;
+import com.coupon.service.CouponCampaignStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 대량 발급 작업의 진행 상황을 담는 응답 클래스입니다.
+ * 처리한 사용자 수, 발급 수와 함께 발급하지 못한 사유별 건수를 제공합니다.
+ */
+@Getter
+@Builder
+public class CouponCampaignResponse {
+
+    private final String jobId;
+    private final Long couponId;
+    private final CouponCampaignStatus status;
+    private final long processedUsers;
+    private final long issuedCount;
+    private final Map<CouponCampaignFailureReason, Long> failureCounts;
+    private final LocalDateTime startedAt;
+    private final LocalDateTime finishedAt;
+}
@@ -0,0 +1,19 @@
+package com.coupon.dto.coupon;
+
+import com.coupon.service.CouponClaimStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 비동기 발급 요청의 티켓과 처리 상태를 담는 응답 클래스입니다.
+ * 접수 직후에는 PENDING이며, 처리가 끝나면 발급 결과 상태로 바뀝니다.
+ */
+@Getter
+@Builder
+public class CouponClaimResponse {
+
+    private final String ticketId;
+    private final Long couponId;
+    private final Long userId;
+    private final CouponClaimStatus status;
+}
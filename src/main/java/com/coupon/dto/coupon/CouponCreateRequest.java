@@ -1,7 +1,9 @@
 package com.coupon.dto.coupon;
 
+import com.coupon.domain.coupon.ClaimWindow;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -30,4 +32,22 @@ public class CouponCreateRequest {
     @Future(message = "유효 종료일은 현재 시간 이후여야 합니다.")
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
     private LocalDateTime validTo;
+
+    @Min(value = 1, message = "재고 샤드 수는 1개 이상이어야 합니다.")
+    @Max(value = 64, message = "재고 샤드 수는 64개 이하여야 합니다.")
+    private Integer stockShards;  // 비워두면 1개 (단일 재고 키)
+
+    private ClaimWindow claimWindow;  // 비워두면 기간 제한 없음 (DAY: 하루, WEEK: 한 주, ROLLING_24H: 최근 24시간)
+
+    @Min(value = 1, message = "기간 내 발급 횟수는 1회 이상이어야 합니다.")
+    private Integer claimLimit;  // 비워두면 1회
+
+    public CouponCreateRequest(String title, int totalQuantity, LocalDateTime validFrom, LocalDateTime validTo) {
+        this(title, totalQuantity, validFrom, validTo, null);
+    }
+
+    public CouponCreateRequest(String title, int totalQuantity, LocalDateTime validFrom, LocalDateTime validTo,
+                               Integer stockShards) {
+        this(title, totalQuantity, validFrom, validTo, stockShards, null, null);
+    }
 }
@@ -1,6 +1,7 @@
 package com.coupon.dto.coupon;
 
 import com.coupon.domain.coupon.Coupon;
+import com.coupon.domain.coupon.CouponMetadata;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.Getter;
 
@@ -12,6 +13,7 @@ public class CouponResponse {
     private final String title;
     private final int totalQuantity;
     private final int remainingQuantity;
+    private final int stockShards;
     
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
     private final LocalDateTime validFrom;
@@ -27,6 +29,18 @@ public class CouponResponse {
         this.title = coupon.getTitle();
         this.totalQuantity = coupon.getTotalQuantity();
         this.remainingQuantity = coupon.getRemainingQuantity();
+        this.stockShards = coupon.getStockShards();
+        this.validFrom = coupon.getValidFrom();
+        this.validTo = coupon.getValidTo();
+        this.createdAt = coupon.getCreatedAt();
+    }
+
+    public CouponResponse(CouponMetadata coupon, int remainingQuantity) {
+        this.id = coupon.getId();
+        this.title = coupon.getTitle();
+        this.totalQuantity = coupon.getTotalQuantity();
+        this.remainingQuantity = remainingQuantity;
+        this.stockShards = coupon.getStockShards();
         this.validFrom = coupon.getValidFrom();
         this.validTo = coupon.getValidTo();
         this.createdAt = coupon.getCreatedAt();
@@ -1,6 +1,7 @@
 package com.coupon.dto.coupon;
 
 import com.coupon.domain.coupon.Coupon;
+import com.coupon.domain.coupon.CouponMetadata;
 import com.coupon.domain.coupon.CouponStatus;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.Builder;
@@ -63,6 +64,38 @@ public class CouponStatisticsResponse {
                 .build();
     }
     
+    /**
+     * 캐시한 쿠폰 메타데이터와 Redis 잔여 재고로 단일 쿠폰 통계 정보를 생성합니다.
+     * 
+     * @param coupon 쿠폰 메타데이터
+     * @param remainingQuantity 남은 수량
+     * @param issuedToday 오늘 발급된 수량
+     * @param issuedThisWeek 이번 주 발급된 수량
+     * @param issuedThisMonth 이번 달 발급된 수량
+     * @return 쿠폰 통계 정보
+     */
+    public static CouponStatisticsResponse from(
+            CouponMetadata coupon,
+            int remainingQuantity,
+            Long issuedToday,
+            Long issuedThisWeek,
+            Long issuedThisMonth) {
+        
+        return CouponStatisticsResponse.builder()
+                .couponId(coupon.getId())
+                .couponTitle(coupon.getTitle())
+                .status(coupon.getStatus())
+                .totalQuantity(coupon.getTotalQuantity())
+                .remainingQuantity(remainingQuantity)
+                .issuedQuantity(coupon.getTotalQuantity() - remainingQuantity)
+                .validFrom(coupon.getValidFrom())
+                .validTo(coupon.getValidTo())
+                .issuedToday(issuedToday)
+                .issuedThisWeek(issuedThisWeek)
+                .issuedThisMonth(issuedThisMonth)
+                .build();
+    }
+    
     /**
      * 전체 쿠폰에 대한 통계 정보를 생성합니다.
      * 
@@ -0,0 +1,16 @@
+package com.coupon.dto.coupon;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 발급 사용자 집합을 비트맵으로 옮긴 결과를 담는 응답 클래스입니다.
+ */
+@Getter
+@Builder
+public class MembershipMigrationResponse {
+
+    private final long scannedKeys;
+    private final long migratedMemberships;
+    private final long deletedLegacyKeys;
+}
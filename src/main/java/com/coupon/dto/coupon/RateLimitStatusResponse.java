@@ -0,0 +1,37 @@
+package com.coupon.dto.coupon;
+
+import com.coupon.service.CouponIssueRateLimiter;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 쿠폰 발급 요청 속도 제한의 상태 정보를 담는 응답 클래스입니다.
+ */
+@Getter
+@Builder
+public class RateLimitStatusResponse {
+
+    private final boolean enabled;
+    private final int trackedUsers;
+    private final long allowedRequests;
+    private final long userLimitedRequests;
+    private final long couponLimitedRequests;
+    private final long redisFailures;
+
+    /**
+     * 리미터의 현재 상태로 응답을 생성합니다.
+     *
+     * @param rateLimiter 발급 요청 속도 제한기
+     * @return 속도 제한 상태 정보
+     */
+    public static RateLimitStatusResponse from(CouponIssueRateLimiter rateLimiter) {
+        return RateLimitStatusResponse.builder()
+                .enabled(rateLimiter.isEnabled())
+                .trackedUsers(rateLimiter.getTrackedUsers())
+                .allowedRequests(rateLimiter.getAllowedRequests())
+                .userLimitedRequests(rateLimiter.getUserLimitedRequests())
+                .couponLimitedRequests(rateLimiter.getCouponLimitedRequests())
+                .redisFailures(rateLimiter.getRedisFailures())
+                .build();
+    }
+}
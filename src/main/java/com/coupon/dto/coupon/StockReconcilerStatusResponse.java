@@ -0,0 +1,43 @@
+package com.coupon.dto.coupon;
+
+import com.coupon.service.CouponStockReconciler;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * Redis 재고 보정기의 누적 지표를 담는 응답 클래스입니다.
+ */
+@Getter
+@Builder
+public class StockReconcilerStatusResponse {
+
+    private final boolean enabled;
+    private final long totalRuns;
+    private final long checkedCoupons;
+    private final long driftedCoupons;
+    private final long repairedCoupons;
+    private final long skippedCoupons;
+    private final long repairedUnits;
+    private final Map<Long, Long> currentDrifts;
+
+    /**
+     * 보정기의 현재 상태로 응답을 생성합니다.
+     *
+     * @param reconciler Redis 재고 보정기
+     * @return 보정기 상태 정보
+     */
+    public static StockReconcilerStatusResponse from(CouponStockReconciler reconciler) {
+        return StockReconcilerStatusResponse.builder()
+                .enabled(reconciler.isEnabled())
+                .totalRuns(reconciler.getTotalRuns())
+                .checkedCoupons(reconciler.getCheckedCoupons())
+                .driftedCoupons(reconciler.getDriftedCoupons())
+                .repairedCoupons(reconciler.getRepairedCoupons())
+                .skippedCoupons(reconciler.getSkippedCoupons())
+                .repairedUnits(reconciler.getRepairedUnits())
+                .currentDrifts(reconciler.getCurrentDrifts())
+                .build();
+    }
+}
@@ -0,0 +1,41 @@
+package com.coupon.dto.coupon;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Redis 재고 보정 한 번의 결과를 담는 응답 클래스입니다.
+ */
+@Getter
+@Builder
+public class StockReconciliationResponse {
+
+    private final int checkedCoupons;
+    private final int driftedCoupons;
+    private final int repairedCoupons;
+    private final List<CouponDrift> drifts;
+
+    /**
+     * 쿠폰 하나의 재고 차이
+     */
+    @Getter
+    @Builder
+    public static class CouponDrift {
+
+        private final Long couponId;
+
+        /**
+         * DB 발급 이력 기준 잔여 재고 (총 수량 - 발급 수)
+         */
+        private final int expectedRemaining;
+        private final int redisRemaining;
+
+        /**
+         * Redis 재고 - 정답 재고 (양수면 초과 발급 위험, 음수면 발급 가능한 재고가 묶여 있음)
+         */
+        private final long drift;
+        private final boolean repaired;
+    }
+}
@@ -0,0 +1,21 @@
+package com.coupon.dto.coupon;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 쿠폰 대기열에서 사용자의 대기 상태를 담는 응답 클래스입니다.
+ * 입장이 허용되면 발급 요청에 사용할 입장 토큰이 함께 내려갑니다.
+ */
+@Getter
+@Builder
+public class WaitingRoomStatusResponse {
+
+    private final Long couponId;
+    private final Long userId;
+    private final boolean admitted;
+    private final String admissionToken;
+    private final Long position;
+    private final long waitingCount;
+    private final Long estimatedWaitSeconds;
+}
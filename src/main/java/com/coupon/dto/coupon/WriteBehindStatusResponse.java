@@ -0,0 +1,43 @@
+package com.coupon.dto.coupon;
+
+import com.coupon.service.CouponIssueWriteBehindWriter;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 쿠폰 발급 이력 write-behind 저장기의 상태 정보를 담는 응답 클래스입니다.
+ */
+@Getter
+@Builder
+public class WriteBehindStatusResponse {
+
+    private final boolean enabled;
+    private final int queueDepth;
+    private final int queueRemainingCapacity;
+    private final long totalWritten;
+    private final long totalBatches;
+    private final long lastBatchSize;
+    private final long maxBatchSize;
+    private final long callerRunsCount;
+    private final long failedRecords;
+
+    /**
+     * 저장기의 현재 상태로 응답을 생성합니다.
+     *
+     * @param writer write-behind 저장기
+     * @return 저장기 상태 정보
+     */
+    public static WriteBehindStatusResponse from(CouponIssueWriteBehindWriter writer) {
+        return WriteBehindStatusResponse.builder()
+                .enabled(writer.isEnabled())
+                .queueDepth(writer.getQueueDepth())
+                .queueRemainingCapacity(writer.getQueueRemainingCapacity())
+                .totalWritten(writer.getTotalWritten())
+                .totalBatches(writer.getTotalBatches())
+                .lastBatchSize(writer.getLastBatchSize())
+                .maxBatchSize(writer.getMaxBatchSize())
+                .callerRunsCount(writer.getCallerRunsCount())
+                .failedRecords(writer.getFailedRecords())
+                .build();
+    }
+}
@@ -0,0 +1,7 @@
+package com.coupon.exception;
+
+public class AdmissionRequiredException extends BusinessException {
+    public AdmissionRequiredException(String message) {
+        super(ErrorCode.ADMISSION_REQUIRED, message);
+    }
+}
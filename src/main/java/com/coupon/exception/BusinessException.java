@@ -2,17 +2,21 @@ package com.coupon.exception;
 
 import lombok.Getter;
 
+/**
+ * 예상된 비즈니스 거절(소진, 중복 발급 등)을 나타내는 예외입니다.
+ * 선착순 발급에서는 요청 대부분이 이 예외로 끝나므로 스택 트레이스를 만들지 않습니다.
+ * 발생 위치는 에러 코드와 메시지로 충분히 구분됩니다.
+ */
 @Getter
 public class BusinessException extends RuntimeException {
     private final ErrorCode errorCode;
 
     public BusinessException(ErrorCode errorCode) {
-        super(errorCode.getMessage());
-        this.errorCode = errorCode;
+        this(errorCode, errorCode.getMessage());
     }
 
     public BusinessException(ErrorCode errorCode, String message) {
-        super(message);
+        super(message, null, false, false);
         this.errorCode = errorCode;
     }
 }
@@ -0,0 +1,7 @@
+package com.coupon.exception;
+
+public class ClaimNotFoundException extends BusinessException {
+    public ClaimNotFoundException(String message) {
+        super(ErrorCode.CLAIM_NOT_FOUND, message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.coupon.exception;
+
+public class ClaimQueueFullException extends BusinessException {
+    public ClaimQueueFullException(String message) {
+        super(ErrorCode.CLAIM_QUEUE_FULL, message);
+    }
+}
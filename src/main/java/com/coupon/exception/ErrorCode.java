@@ -12,6 +12,8 @@ public enum ErrorCode {
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "C004", "Internal Server Error"),
     INVALID_TYPE_VALUE(HttpStatus.BAD_REQUEST, "C005", "Invalid Type Value"),
     HANDLE_ACCESS_DENIED(HttpStatus.FORBIDDEN, "C006", "Access is Denied"),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "C007", "Too Many Requests"),
+    IDEMPOTENCY_IN_PROGRESS(HttpStatus.CONFLICT, "C008", "Request With Same Idempotency Key In Progress"),
     
     // User
     DUPLICATE_EMAIL(HttpStatus.BAD_REQUEST, "U001", "Email is Duplicated"),
@@ -23,6 +25,11 @@ public enum ErrorCode {
     COUPON_EXHAUSTED(HttpStatus.BAD_REQUEST, "P003", "Coupon is Exhausted"),
     COUPON_EXPIRED(HttpStatus.BAD_REQUEST, "P004", "Coupon is Expired"),
     DAILY_LIMIT_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "P005", "Daily Limit Exceeded"),
+    CLAIM_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "P006", "Claim Queue is Full"),
+    CLAIM_NOT_FOUND(HttpStatus.NOT_FOUND, "P007", "Claim Ticket Not Found"),
+    
+    // Waiting Room
+    ADMISSION_REQUIRED(HttpStatus.FORBIDDEN, "W001", "Admission Token Required"),
     
     // Auth
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "A001", "Unauthorized");
@@ -0,0 +1,99 @@
+package com.coupon.exception;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 에러 코드별 {@link ErrorResponse} 본문을 미리 직렬화해 둔 저장소입니다.
+ * 필드 오류가 없는 에러 응답은 에러 코드와 시각만 다르므로, 시작할 때 한 번 직렬화해 두고
+ * 요청마다 시각 부분만 바꿔 끼웁니다. 시각 문자열은 초 단위로 캐시합니다.
+ */
+@Component
+public class ErrorResponseBodies {
+
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    private static final String TIMESTAMP_FIELD = "\"timestamp\":\"";
+    private static final int TIMESTAMP_LENGTH = "yyyy-MM-ddTHH:mm:ss".length();
+
+    private final Map<ErrorCode, Template> templates = new EnumMap<>(ErrorCode.class);
+    private final ZoneId zoneId = ZoneId.systemDefault();
+
+    private volatile CachedTimestamp cachedTimestamp = new CachedTimestamp(-1, "");
+
+    public ErrorResponseBodies(ObjectMapper objectMapper) {
+        for (ErrorCode code : ErrorCode.values()) {
+            templates.put(code, Template.of(serialize(objectMapper, code)));
+        }
+    }
+
+    /**
+     * 에러 코드의 응답 본문(JSON, UTF-8)을 만듭니다.
+     *
+     * @param code 에러 코드
+     * @return {@code ErrorResponse.of(code)}를 직렬화한 것과 같은 본문
+     */
+    public byte[] bodyOf(ErrorCode code) {
+        Template template = templates.get(code);
+        byte[] timestamp = currentTimestamp();
+        byte[] body = new byte[template.prefix.length + timestamp.length + template.suffix.length];
+        System.arraycopy(template.prefix, 0, body, 0, template.prefix.length);
+        System.arraycopy(timestamp, 0, body, template.prefix.length, timestamp.length);
+        System.arraycopy(template.suffix, 0, body, template.prefix.length + timestamp.length, template.suffix.length);
+        return body;
+    }
+
+    private byte[] currentTimestamp() {
+        long second = System.currentTimeMillis() / 1000;
+        CachedTimestamp cached = cachedTimestamp;
+        if (cached.second != second) {
+            String text = LocalDateTime.ofInstant(Instant.ofEpochSecond(second), zoneId).format(TIMESTAMP_FORMAT);
+            cached = new CachedTimestamp(second, text);
+            cachedTimestamp = cached;
+        }
+        return cached.bytes;
+    }
+
+    private static String serialize(ObjectMapper objectMapper, ErrorCode code) {
+        try {
+            return objectMapper.writeValueAsString(ErrorResponse.of(code));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("에러 응답을 직렬화할 수 없습니다. code=" + code, e);
+        }
+    }
+
+    /**
+     * 직렬화된 본문을 시각 앞뒤로 나눈 것
+     */
+    private record Template(byte[] prefix, byte[] suffix) {
+
+        static Template of(String json) {
+            int start = json.indexOf(TIMESTAMP_FIELD);
+            int end = start + TIMESTAMP_FIELD.length() + TIMESTAMP_LENGTH;
+            if (start < 0 || end >= json.length() || json.charAt(end) != '"') {
+                throw new IllegalStateException("에러 응답의 시각 형식을 찾을 수 없습니다: " + json);
+            }
+            return new Template(
+                    json.substring(0, start + TIMESTAMP_FIELD.length()).getBytes(StandardCharsets.UTF_8),
+                    json.substring(end).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static final class CachedTimestamp {
+        private final long second;
+        private final byte[] bytes;
+
+        private CachedTimestamp(long second, String text) {
+            this.second = second;
+            this.bytes = text.getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+}
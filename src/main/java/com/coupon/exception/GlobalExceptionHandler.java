@@ -1,17 +1,49 @@
 package com.coupon.exception;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
 @Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    public static final String REJECTION_COUNTER = "coupon.rejection";
+
+    private final ErrorResponseBodies errorResponseBodies;
+    private final long logSampleRate;
+    private final Map<ErrorCode, Counter> rejectionCounters = new EnumMap<>(ErrorCode.class);
+    private final Map<ErrorCode, AtomicLong> rejectionCounts = new EnumMap<>(ErrorCode.class);
+
+    public GlobalExceptionHandler(
+            ErrorResponseBodies errorResponseBodies,
+            MeterRegistry meterRegistry,
+            @Value("${coupon.rejection.log-sample-rate:1000}") long logSampleRate) {
+        this.errorResponseBodies = errorResponseBodies;
+        this.logSampleRate = Math.max(1, logSampleRate);
+        for (ErrorCode code : ErrorCode.values()) {
+            rejectionCounters.put(code, Counter.builder(REJECTION_COUNTER)
+                    .description("비즈니스 예외로 거절된 요청 수")
+                    .tag("code", code.getCode())
+                    .tag("status", String.valueOf(code.getStatus().value()))
+                    .register(meterRegistry));
+            rejectionCounts.put(code, new AtomicLong());
+        }
+    }
+
     /**
      * javax.validation.Valid 또는 @Validated binding error가 발생할 경우
      */
@@ -42,15 +74,28 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, ErrorCode.METHOD_NOT_ALLOWED.getStatus());
     }
 
+    /**
+     * {@code @PreAuthorize} 권한 검사에 실패할 경우 발생
+     */
+    @ExceptionHandler(AccessDeniedException.class)
+    protected ResponseEntity<ErrorResponse> handleAccessDeniedException(AccessDeniedException e) {
+        log.warn("handleAccessDeniedException: {}", e.getMessage());
+        final ErrorResponse response = ErrorResponse.of(ErrorCode.HANDLE_ACCESS_DENIED);
+        return new ResponseEntity<>(response, ErrorCode.HANDLE_ACCESS_DENIED.getStatus());
+    }
+
     /**
      * 비즈니스 로직 실행 중 오류 발생
+     * 소진, 중복 발급처럼 예상된 거절이므로 건수만 세고 로그는 에러 코드별로 샘플링해 남깁니다.
+     * 응답 본문은 미리 직렬화해 둔 것을 사용합니다.
      */
     @ExceptionHandler(BusinessException.class)
-    protected ResponseEntity<ErrorResponse> handleBusinessException(final BusinessException e) {
-        log.error("BusinessException: {}", e.getMessage(), e);
+    protected ResponseEntity<byte[]> handleBusinessException(final BusinessException e) {
         final ErrorCode errorCode = e.getErrorCode();
-        final ErrorResponse response = ErrorResponse.of(errorCode);
-        return new ResponseEntity<>(response, errorCode.getStatus());
+        recordRejection(errorCode, e);
+        return ResponseEntity.status(errorCode.getStatus())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(errorResponseBodies.bodyOf(errorCode));
     }
 
     /**
@@ -62,4 +107,16 @@ public class GlobalExceptionHandler {
         final ErrorResponse response = ErrorResponse.of(ErrorCode.INTERNAL_SERVER_ERROR);
         return new ResponseEntity<>(response, ErrorCode.INTERNAL_SERVER_ERROR.getStatus());
     }
+
+    /**
+     * 거절 건수를 세고, 에러 코드별로 처음 한 번과 그 뒤 logSampleRate 건마다 한 번씩 로그를 남깁니다.
+     */
+    private void recordRejection(ErrorCode errorCode, BusinessException e) {
+        rejectionCounters.get(errorCode).increment();
+        long count = rejectionCounts.get(errorCode).incrementAndGet();
+        if ((count - 1) % logSampleRate == 0) {
+            log.info("BusinessException [{}] {} (total: {}, logged 1 in {})",
+                    errorCode.getCode(), e.getMessage(), count, logSampleRate);
+        }
+    }
 }
@@ -7,6 +7,7 @@ import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 public interface CouponIssueRepository extends JpaRepository<CouponIssue, Long>, CouponIssueRepositoryCustom {
@@ -124,4 +125,14 @@ public interface CouponIssueRepository extends JpaRepository<CouponIssue, Long>,
             @Param("startOfMonth") LocalDateTime startOfMonth,
             @Param("endOfMonth") LocalDateTime endOfMonth
     );
+    
+    /**
+     * 여러 쿠폰의 전체 발급 수량을 한 번에 조회합니다.
+     *
+     * @param couponIds 쿠폰 ID 목록
+     * @return (쿠폰 ID, 발급 수량) 배열 목록. 발급 이력이 없는 쿠폰은 포함되지 않습니다.
+     */
+    @Query("SELECT ci.coupon.id, COUNT(ci) FROM CouponIssue ci " +
+           "WHERE ci.coupon.id IN :couponIds GROUP BY ci.coupon.id")
+    List<Object[]> countByCouponIds(@Param("couponIds") Collection<Long> couponIds);
 }
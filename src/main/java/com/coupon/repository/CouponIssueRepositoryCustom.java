@@ -1,5 +1,16 @@
 package com.coupon.repository;
 
+import com.coupon.domain.coupon.CouponIssueRecord;
+
+import java.util.List;
+
 public interface CouponIssueRepositoryCustom {
-    boolean existsByUserIdAndCouponIdToday(Long userId, Long couponId);
+    /**
+     * 발급 이력을 다중 행 INSERT로 저장합니다.
+     * (user_id, coupon_id, claim_bucket) 유니크 키에 걸리는 중복 행은 무시합니다.
+     *
+     * @param records 저장할 발급 이력 목록
+     * @return 실제로 저장된 행 수
+     */
+    int insertIgnoreAll(List<CouponIssueRecord> records);
 }
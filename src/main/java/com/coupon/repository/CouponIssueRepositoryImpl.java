@@ -1,35 +1,53 @@
 package com.coupon.repository;
 
+import com.coupon.domain.coupon.CouponIssueRecord;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDate;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 @Repository
+@RequiredArgsConstructor
 public class CouponIssueRepositoryImpl implements CouponIssueRepositoryCustom {
+    private static final String INSERT_IGNORE_PREFIX =
+            "INSERT IGNORE INTO coupon_issue (user_id, coupon_id, issued_at, claim_bucket) VALUES ";
+    private static final String INSERT_VALUES_ROW = "(?, ?, ?, ?)";
+    private static final int MAX_ROWS_PER_STATEMENT = 500;
+
     @PersistenceContext
     private EntityManager em;
 
+    private final JdbcTemplate jdbcTemplate;
+
     @Override
-    public boolean existsByUserIdAndCouponIdToday(Long userId, Long couponId) {
-        LocalDate today = LocalDate.now();
-        LocalDateTime startOfDay = today.atStartOfDay();
-        LocalDateTime endOfDay = today.plusDays(1).atStartOfDay();
-
-        Long count = em.createQuery(
-                "SELECT COUNT(ci) FROM CouponIssue ci " +
-                "WHERE ci.user.id = :userId " +
-                "AND ci.coupon.id = :couponId " +
-                "AND ci.issuedAt >= :startOfDay " +
-                "AND ci.issuedAt < :endOfDay", Long.class)
-                .setParameter("userId", userId)
-                .setParameter("couponId", couponId)
-                .setParameter("startOfDay", startOfDay)
-                .setParameter("endOfDay", endOfDay)
-                .getSingleResult();
-        
-        return count > 0;
+    public int insertIgnoreAll(List<CouponIssueRecord> records) {
+        int inserted = 0;
+        for (int from = 0; from < records.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<CouponIssueRecord> chunk = records.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, records.size()));
+
+            StringBuilder sql = new StringBuilder(INSERT_IGNORE_PREFIX);
+            List<Object> params = new ArrayList<>(chunk.size() * 4);
+            for (int i = 0; i < chunk.size(); i++) {
+                if (i > 0) {
+                    sql.append(", ");
+                }
+                sql.append(INSERT_VALUES_ROW);
+
+                CouponIssueRecord record = chunk.get(i);
+                params.add(record.getUserId());
+                params.add(record.getCouponId());
+                params.add(Timestamp.valueOf(record.getIssuedAt()));
+                params.add(record.getClaimBucket());
+            }
+
+            inserted += jdbcTemplate.update(sql.toString(), params.toArray());
+        }
+        return inserted;
     }
 }
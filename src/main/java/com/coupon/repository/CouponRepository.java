@@ -2,20 +2,45 @@ package com.coupon.repository;
 
 import com.coupon.domain.coupon.Coupon;
 import com.coupon.domain.coupon.CouponStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-import jakarta.persistence.LockModeType;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface CouponRepository extends JpaRepository<Coupon, Long> {
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("select c from Coupon c where c.id = :id")
-    Optional<Coupon> findByIdWithPessimisticLock(@Param("id") Long id);
+    /**
+     * 발급 가능한 쿠폰의 잔여 수량을 1 감소시킵니다.
+     * 행 잠금을 미리 잡지 않고 조건부 UPDATE 한 문장으로 처리하므로 잔여 수량이 없거나 활성 상태가 아니면 아무 행도 바뀌지 않습니다.
+     * 
+     * @param id 쿠폰 ID
+     * @return 변경된 행 수 (1: 차감 성공, 0: 재고 없음 또는 발급 불가 상태)
+     */
+    @Modifying
+    @Query("update Coupon c set c.remainingQuantity = c.remainingQuantity - 1 " +
+            "where c.id = :id and c.remainingQuantity > 0 and c.status = com.coupon.domain.coupon.CouponStatus.ACTIVE")
+    int decreaseRemainingQuantity(@Param("id") Long id);
+    
+    /**
+     * 여러 건의 발급으로 줄어든 잔여 수량을 한 번에 반영합니다. 잔여 수량은 0 아래로 내려가지 않습니다.
+     * 발급 허용 여부는 Redis가 판단하므로 재고 확인 조건 없이 차감합니다.
+     * 
+     * @param id 쿠폰 ID
+     * @param delta 차감할 수량
+     * @return 변경된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("update Coupon c set c.remainingQuantity = " +
+            "case when c.remainingQuantity > :delta then c.remainingQuantity - :delta else 0 end " +
+            "where c.id = :id")
+    int decreaseRemainingQuantityBy(@Param("id") Long id, @Param("delta") int delta);
     
     /**
      * 만료일이 지났지만 아직 잔여 수량이 남아 있는 쿠폰 조회
@@ -23,6 +48,30 @@ public interface CouponRepository extends JpaRepository<Coupon, Long> {
     List<Coupon> findByValidToBeforeAndRemainingQuantityGreaterThan(
             LocalDateTime validTo, int remainingQuantity);
             
+    /**
+     * 특정 상태의 쿠폰 조회
+     */
+    List<Coupon> findByStatus(CouponStatus status);
+    
+    /**
+     * 특정 상태의 쿠폰을 페이지 단위로 조회합니다. 전체 건수는 세지 않습니다.
+     * 
+     * @param status 쿠폰 상태
+     * @param pageable 페이지 정보
+     * @return 쿠폰 목록
+     */
+    Slice<Coupon> findByStatus(CouponStatus status, Pageable pageable);
+    
+    /**
+     * 특정 상태이면서 발급 시작 시각이 주어진 구간 안에 있는 쿠폰을 조회합니다.
+     * 
+     * @param status 쿠폰 상태
+     * @param from 구간 시작 (포함)
+     * @param to 구간 끝 (포함)
+     * @return 쿠폰 목록
+     */
+    List<Coupon> findByStatusAndValidFromBetween(CouponStatus status, LocalDateTime from, LocalDateTime to);
+    
     /**
      * 제목으로 쿠폰 조회
      */
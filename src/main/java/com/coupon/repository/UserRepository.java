@@ -1,11 +1,35 @@
 package com.coupon.repository;
 
 import com.coupon.domain.user.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    /**
+     * 주어진 ID보다 큰 사용자 ID를 ID 순서로 조회합니다. 사용자 행 전체를 읽지 않습니다.
+     *
+     * @param afterId 이 ID 다음부터 조회
+     * @param pageable 조회할 개수
+     * @return 사용자 ID 목록
+     */
+    @Query("select u.id from User u where u.id > :afterId order by u.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 주어진 ID 중 존재하는 사용자 ID만 조회합니다.
+     *
+     * @param ids 사용자 ID 목록
+     * @return 존재하는 사용자 ID 목록
+     */
+    @Query("select u.id from User u where u.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
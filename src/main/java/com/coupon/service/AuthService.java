@@ -26,6 +26,7 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider tokenProvider;
+    private final UserIdCache userIdCache;
 
     /**
      * 사용자 로그인을 처리합니다.
@@ -45,7 +46,7 @@ public class AuthService {
             );
 
             SecurityContextHolder.getContext().setAuthentication(authentication);
-            String jwt = tokenProvider.createToken(authentication.getName());
+            String jwt = tokenProvider.createToken((User) authentication.getPrincipal());
             return new TokenResponse(jwt, "Bearer");
         } catch (Exception e) {
             throw new LoginFailException("로그인에 실패했습니다. 이메일 또는 비밀번호를 확인해주세요.");
@@ -77,9 +78,10 @@ public class AuthService {
                 .build();
 
         User savedUser = userRepository.save(user);
+        userIdCache.register(savedUser.getId());
         
         // 가입 후 자동 로그인
-        String jwt = tokenProvider.createToken(savedUser.getEmail());
+        String jwt = tokenProvider.createToken(savedUser);
         return new TokenResponse(jwt, "Bearer");
     }
 }
@@ -0,0 +1,35 @@
+package com.coupon.service;
+
+/**
+ * 대량 발급 작업에서 사용자에게 발급하지 못한 사유
+ */
+public enum CouponCampaignFailureReason {
+    /**
+     * 사용자 ID로 읽을 수 없는 줄
+     */
+    INVALID_USER_ID,
+    /**
+     * 존재하지 않는 사용자
+     */
+    USER_NOT_FOUND,
+    /**
+     * 이미 발급받은 사용자
+     */
+    ALREADY_ISSUED,
+    /**
+     * 기간 내 발급 횟수 제한 초과
+     */
+    CLAIM_LIMIT_EXCEEDED,
+    /**
+     * 재고 소진
+     */
+    EXHAUSTED,
+    /**
+     * Redis 발급 스크립트 실행 실패
+     */
+    REDIS_ERROR,
+    /**
+     * 발급 이력 저장 실패
+     */
+    PERSIST_FAILED
+}
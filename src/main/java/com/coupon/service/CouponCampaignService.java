@@ -0,0 +1,368 @@
+package com.coupon.service;
+
+import com.coupon.domain.coupon.ClaimWindow;
+import com.coupon.domain.coupon.CouponIssueRecord;
+import com.coupon.domain.coupon.CouponMetadata;
+import com.coupon.dto.coupon.CouponCampaignResponse;
+import com.coupon.exception.CouponExpiredException;
+import com.coupon.repository.CouponIssueRepository;
+import com.coupon.repository.CouponRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 한 쿠폰을 대량의 사용자에게 발급하는 캠페인 작업을 실행합니다.
+ * 사용자 ID 목록(한 줄에 하나)을 임시 파일로 받아 둔 뒤 백그라운드 스레드에서 일정 크기씩 읽어 처리합니다.
+ * 묶음마다 사용자 존재 여부를 한 번에 조회하고, Redis 발급 스크립트를 파이프라인으로 한 번에 보내고,
+ * 발급 이력은 다중 행 INSERT로, DB 잔여 수량은 한 번의 UPDATE로 반영합니다.
+ */
+@Slf4j
+@Service
+public class CouponCampaignService {
+
+    private final RedisService redisService;
+    private final CouponMetadataCache couponMetadataCache;
+    private final CouponSoldOutRegistry soldOutRegistry;
+    private final UserIdCache userIdCache;
+    private final CouponIssueRepository couponIssueRepository;
+    private final CouponRepository couponRepository;
+    private final CouponStockFlusher stockFlusher;
+    private final int chunkSize;
+    private final Duration jobRetention;
+    private final ExecutorService executor;
+
+    /**
+     * 실행 중이거나 끝난 작업. 끝난 작업은 보관 시간이 지나면 지웁니다.
+     */
+    private final Map<String, CampaignJob> jobs = new ConcurrentHashMap<>();
+
+    public CouponCampaignService(
+            RedisService redisService,
+            CouponMetadataCache couponMetadataCache,
+            CouponSoldOutRegistry soldOutRegistry,
+            UserIdCache userIdCache,
+            CouponIssueRepository couponIssueRepository,
+            CouponRepository couponRepository,
+            CouponStockFlusher stockFlusher,
+            @Value("${coupon.campaign.chunk-size:1000}") int chunkSize,
+            @Value("${coupon.campaign.concurrent-jobs:1}") int concurrentJobs,
+            @Value("${coupon.campaign.job-retention-minutes:60}") long jobRetentionMinutes) {
+        this.redisService = redisService;
+        this.couponMetadataCache = couponMetadataCache;
+        this.soldOutRegistry = soldOutRegistry;
+        this.userIdCache = userIdCache;
+        this.couponIssueRepository = couponIssueRepository;
+        this.couponRepository = couponRepository;
+        this.stockFlusher = stockFlusher;
+        this.chunkSize = chunkSize;
+        this.jobRetention = Duration.ofMinutes(jobRetentionMinutes);
+        this.executor = Executors.newFixedThreadPool(concurrentJobs, runnable -> {
+            Thread thread = new Thread(runnable, "coupon-campaign");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 대량 발급 작업을 시작합니다. 사용자 ID 목록은 임시 파일에 모두 받은 뒤 백그라운드에서 처리합니다.
+     *
+     * @param couponId 쿠폰 ID
+     * @param userIds 한 줄에 사용자 ID 하나씩 담긴 입력
+     * @return 시작된 작업의 진행 상황
+     * @throws CouponExpiredException 쿠폰 발급 기간이 아닌 경우
+     */
+    public CouponCampaignResponse start(Long couponId, InputStream userIds) {
+        CouponMetadata coupon = couponMetadataCache.get(couponId);
+        LocalDateTime now = LocalDateTime.now();
+        if (now.isBefore(coupon.getValidFrom()) || now.isAfter(coupon.getValidTo())) {
+            throw new CouponExpiredException("쿠폰 발급 기간이 아닙니다.");
+        }
+
+        Path file;
+        try {
+            file = Files.createTempFile("coupon-campaign-", ".txt");
+            Files.copy(userIds, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store campaign user list", e);
+        }
+
+        evictFinishedJobs(now);
+        CampaignJob job = new CampaignJob(UUID.randomUUID().toString(), couponId);
+        jobs.put(job.jobId, job);
+        executor.execute(() -> run(job, file));
+        log.info("Started coupon campaign - jobId: {}, couponId: {}", job.jobId, couponId);
+        return job.toResponse();
+    }
+
+    /**
+     * 대량 발급 작업의 진행 상황을 조회합니다.
+     *
+     * @param jobId 작업 ID
+     * @return 작업의 진행 상황
+     */
+    public CouponCampaignResponse getJob(String jobId) {
+        evictFinishedJobs(LocalDateTime.now());
+        CampaignJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new IllegalArgumentException("존재하지 않는 발급 작업입니다. id=" + jobId);
+        }
+        return job.toResponse();
+    }
+
+    /**
+     * 끝난 지 보관 시간이 지난 작업을 지웁니다. 실행 중인 작업은 남겨 둡니다.
+     *
+     * @param now 기준 시각
+     */
+    void evictFinishedJobs(LocalDateTime now) {
+        LocalDateTime threshold = now.minus(jobRetention);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(threshold));
+    }
+
+    /**
+     * 사용자 ID 파일을 묶음 단위로 읽어 발급합니다.
+     */
+    void run(CampaignJob job, Path file) {
+        long start = System.nanoTime();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            List<Long> chunk = new ArrayList<>(chunkSize);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String value = line.trim();
+                if (value.isEmpty()) {
+                    continue;
+                }
+                try {
+                    chunk.add(Long.valueOf(value));
+                } catch (NumberFormatException e) {
+                    job.processed.incrementAndGet();
+                    job.fail(CouponCampaignFailureReason.INVALID_USER_ID, 1);
+                    continue;
+                }
+                if (chunk.size() >= chunkSize) {
+                    processChunk(job, chunk);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                processChunk(job, chunk);
+            }
+            job.finish(CouponCampaignStatus.COMPLETED);
+            log.info("Completed coupon campaign - jobId: {}, processed: {}, issued: {}, elapsedMs: {}",
+                    job.jobId, job.processed.get(), job.issued.get(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (Exception e) {
+            job.finish(CouponCampaignStatus.FAILED);
+            log.error("Coupon campaign failed - jobId: {}, couponId: {}", job.jobId, job.couponId, e);
+        } finally {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Failed to delete campaign user list - {}", file, e);
+            }
+        }
+    }
+
+    /**
+     * 사용자 한 묶음에 쿠폰을 발급합니다.
+     */
+    void processChunk(CampaignJob job, List<Long> userIds) {
+        job.processed.addAndGet(userIds.size());
+        if (job.exhausted) {
+            job.fail(CouponCampaignFailureReason.EXHAUSTED, userIds.size());
+            return;
+        }
+
+        // 1. 사용자 존재 여부를 한 번에 조회
+        // 같은 묶음에 같은 사용자가 다시 나오면 발급 시각이 같아 이력이 겹치므로 한 번만 발급합니다.
+        Set<Long> existingUserIds = userIdCache.findExisting(userIds);
+        Set<Long> seen = new HashSet<>(userIds.size() * 2);
+        List<Long> candidates = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            if (!existingUserIds.contains(userId)) {
+                job.fail(CouponCampaignFailureReason.USER_NOT_FOUND, 1);
+            } else if (!seen.add(userId)) {
+                job.fail(CouponCampaignFailureReason.ALREADY_ISSUED, 1);
+            } else {
+                candidates.add(userId);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        // 2. 발급 스크립트를 파이프라인으로 한 번에 실행
+        List<Long> results;
+        try {
+            results = redisService.tryIssueCoupons(job.couponId, candidates);
+        } catch (Exception e) {
+            log.error("Failed to issue campaign chunk - jobId: {}, size: {}", job.jobId, candidates.size(), e);
+            job.fail(CouponCampaignFailureReason.REDIS_ERROR, candidates.size());
+            return;
+        }
+
+        boolean sharded = redisService.getStockShardCount(job.couponId) > 1;
+        List<Long> issued = new ArrayList<>(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            Long userId = candidates.get(i);
+            Long result = results.get(i);
+            if (result != null && result == -1 && sharded && !job.exhausted) {
+                // 시작 샤드만 비었을 수 있으므로 다른 샤드를 차례로 다시 시도합니다.
+                result = redisService.tryIssueCoupon(job.couponId, userId);
+            }
+
+            if (result == null) {
+                job.fail(CouponCampaignFailureReason.REDIS_ERROR, 1);
+            } else if (result == 1) {
+                issued.add(userId);
+            } else if (result == 0) {
+                job.fail(CouponCampaignFailureReason.ALREADY_ISSUED, 1);
+            } else if (result == -2) {
+                job.fail(CouponCampaignFailureReason.CLAIM_LIMIT_EXCEEDED, 1);
+            } else {
+                job.exhausted = true;
+                job.fail(CouponCampaignFailureReason.EXHAUSTED, 1);
+            }
+        }
+        if (job.exhausted) {
+            soldOutRegistry.markSoldOut(job.couponId);
+        }
+        if (issued.isEmpty()) {
+            return;
+        }
+
+        // 3. 발급 이력을 다중 행 INSERT로 저장 (스트림 모드에서는 발급 스크립트가 스트림에 기록)
+        int issuedCount = issued.size();
+        if (!redisService.isIssueStreamEnabled()) {
+            LocalDateTime issuedAt = LocalDateTime.now();
+            ClaimWindow claimWindow = couponMetadataCache.get(job.couponId).getClaimWindow();
+            List<CouponIssueRecord> records = new ArrayList<>(issued.size());
+            for (Long userId : issued) {
+                records.add(CouponIssueRecord.of(job.couponId, userId, issuedAt, claimWindow));
+            }
+            try {
+                issuedCount = couponIssueRepository.insertIgnoreAll(records);
+            } catch (Exception e) {
+                log.error("Failed to persist campaign chunk - jobId: {}, size: {}", job.jobId, records.size(), e);
+                issued.forEach(userId -> releaseRedisClaim(job.couponId, userId));
+                job.fail(CouponCampaignFailureReason.PERSIST_FAILED, issued.size());
+                return;
+            }
+            // Redis 발급 기록이 사라진 사용자는 DB 유니크 키에 걸려 저장되지 않으므로 이미 발급된 것으로 집계합니다.
+            if (issuedCount < issued.size()) {
+                job.fail(CouponCampaignFailureReason.ALREADY_ISSUED, issued.size() - issuedCount);
+            }
+        }
+        if (issuedCount == 0) {
+            return;
+        }
+
+        // 4. DB 잔여 수량을 묶음 단위로 한 번에 반영 (모아서 반영하도록 설정된 경우 기록만 남김)
+        try {
+            if (stockFlusher.isEnabled()) {
+                stockFlusher.record(job.couponId, issuedCount);
+            } else {
+                couponRepository.decreaseRemainingQuantityBy(job.couponId, issuedCount);
+            }
+        } catch (Exception e) {
+            // 발급은 이미 확정되었으므로 DB 잔여 수량만 뒤처집니다.
+            log.error("Failed to decrease coupon stock - couponId: {}, delta: {}", job.couponId, issuedCount, e);
+        }
+        job.issued.addAndGet(issuedCount);
+    }
+
+    /**
+     * DB 저장에 실패한 발급을 취소합니다. 발급 사용자 기록과 기간 내 발급 횟수를 지우고 차감된 재고를 되돌립니다.
+     */
+    private void releaseRedisClaim(Long couponId, Long userId) {
+        try {
+            redisService.releaseCouponClaim(couponId, userId);
+        } catch (Exception e) {
+            log.error("Failed to release Redis claim - userId: {}, couponId: {}", userId, couponId, e);
+        }
+    }
+
+    /**
+     * 실행 중이거나 끝난 대량 발급 작업
+     */
+    static final class CampaignJob {
+
+        private final String jobId;
+        private final Long couponId;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicLong processed = new AtomicLong();
+        private final AtomicLong issued = new AtomicLong();
+        private final Map<CouponCampaignFailureReason, AtomicLong> failures =
+                new EnumMap<>(CouponCampaignFailureReason.class);
+
+        private volatile CouponCampaignStatus status = CouponCampaignStatus.RUNNING;
+        private volatile LocalDateTime finishedAt;
+
+        /**
+         * 재고가 모두 소진되었으면 남은 사용자는 Redis를 호출하지 않고 소진으로 처리합니다.
+         */
+        private volatile boolean exhausted;
+
+        CampaignJob(String jobId, Long couponId) {
+            this.jobId = jobId;
+            this.couponId = couponId;
+            for (CouponCampaignFailureReason reason : CouponCampaignFailureReason.values()) {
+                failures.put(reason, new AtomicLong());
+            }
+        }
+
+        private void fail(CouponCampaignFailureReason reason, long count) {
+            failures.get(reason).addAndGet(count);
+        }
+
+        private void finish(CouponCampaignStatus status) {
+            this.finishedAt = LocalDateTime.now();
+            this.status = status;
+        }
+
+        CouponCampaignResponse toResponse() {
+            Map<CouponCampaignFailureReason, Long> failureCounts = new EnumMap<>(CouponCampaignFailureReason.class);
+            failures.forEach((reason, count) -> failureCounts.put(reason, count.get()));
+            return CouponCampaignResponse.builder()
+                    .jobId(jobId)
+                    .couponId(couponId)
+                    .status(status)
+                    .processedUsers(processed.get())
+                    .issuedCount(issued.get())
+                    .failureCounts(failureCounts)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.coupon.service;
+
+/**
+ * 대량 발급 작업의 진행 상태
+ */
+public enum CouponCampaignStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
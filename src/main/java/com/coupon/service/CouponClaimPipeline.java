@@ -0,0 +1,497 @@
+package com.coupon.service;
+
+import com.coupon.domain.coupon.CouponIssueRecord;
+import com.coupon.domain.coupon.CouponMetadata;
+import com.coupon.dto.coupon.CouponClaimResponse;
+import com.coupon.exception.ClaimNotFoundException;
+import com.coupon.exception.ClaimQueueFullException;
+import com.coupon.exception.CouponExhaustedException;
+import com.coupon.exception.RedisOperationException;
+import com.coupon.repository.CouponIssueRepository;
+import com.coupon.repository.CouponRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 쿠폰 발급 요청을 티켓으로 접수하고 워커 스레드가 묶어서 처리하는 비동기 발급 파이프라인입니다.
+ * 요청 스레드는 제한된 크기의 큐에 티켓을 넣고 바로 응답하며, 큐가 가득 차면 접수를 거절합니다.
+ * 워커는 큐에서 한 묶음을 꺼내 사용자 확인, 발급 이력 저장, DB 잔여 수량 반영, 처리 결과 기록을
+ * 묶음 단위로 한 번씩 수행합니다. 재고 차감과 중복 확인은 쿠폰별로 발급 스크립트를 파이프라인으로 묶어 실행합니다.
+ *
+ * <p>티켓 상태는 접수 시점부터 Redis({@code coupon:claim:{ticketId}})에 PENDING으로 기록하고 처리 결과로 덮어써
+ * 어느 노드에서든 조회할 수 있게 합니다. 티켓은 요청한 사용자만 조회할 수 있습니다.
+ */
+@Slf4j
+@Component
+public class CouponClaimPipeline {
+
+    private static final String CLAIM_KEY_PREFIX = "coupon:claim:";
+    private static final String SEPARATOR = ":";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisService redisService;
+    private final CouponStockLeaseManager stockLeaseManager;
+    private final CouponSoldOutRegistry soldOutRegistry;
+    private final CouponMetadataCache couponMetadataCache;
+    private final UserIdCache userIdCache;
+    private final CouponIssueRepository couponIssueRepository;
+    private final CouponRepository couponRepository;
+    private final CouponStockFlusher stockFlusher;
+    private final int workers;
+    private final int batchSize;
+    private final long pollIntervalMillis;
+    private final Duration statusTtl;
+    private final BlockingQueue<ClaimTicket> queue;
+
+    private final AtomicLong totalAccepted = new AtomicLong();
+    private final AtomicLong totalRejected = new AtomicLong();
+    private final AtomicLong totalProcessed = new AtomicLong();
+    private final AtomicLong totalBatches = new AtomicLong();
+
+    private volatile boolean running;
+    private final List<Thread> workerThreads = new ArrayList<>();
+
+    public CouponClaimPipeline(
+            RedisTemplate<String, String> redisTemplate,
+            RedisService redisService,
+            CouponStockLeaseManager stockLeaseManager,
+            CouponSoldOutRegistry soldOutRegistry,
+            CouponMetadataCache couponMetadataCache,
+            UserIdCache userIdCache,
+            CouponIssueRepository couponIssueRepository,
+            CouponRepository couponRepository,
+            CouponStockFlusher stockFlusher,
+            @Value("${coupon.claim.workers:4}") int workers,
+            @Value("${coupon.claim.queue-capacity:10000}") int queueCapacity,
+            @Value("${coupon.claim.batch-size:200}") int batchSize,
+            @Value("${coupon.claim.poll-interval-ms:20}") long pollIntervalMillis,
+            @Value("${coupon.claim.status-ttl-seconds:600}") long statusTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.redisService = redisService;
+        this.stockLeaseManager = stockLeaseManager;
+        this.soldOutRegistry = soldOutRegistry;
+        this.couponMetadataCache = couponMetadataCache;
+        this.userIdCache = userIdCache;
+        this.couponIssueRepository = couponIssueRepository;
+        this.couponRepository = couponRepository;
+        this.stockFlusher = stockFlusher;
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.statusTtl = Duration.ofSeconds(statusTtlSeconds);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        for (int i = 0; i < workers; i++) {
+            Thread worker = new Thread(this::runWorkLoop, "coupon-claim-worker-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workerThreads.add(worker);
+        }
+        log.info("Started coupon claim pipeline - workers: {}, batchSize: {}, capacity: {}",
+                workers, batchSize, queue.remainingCapacity());
+    }
+
+    /**
+     * 애플리케이션 종료 시 큐에 남은 티켓을 모두 처리합니다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        for (Thread worker : workerThreads) {
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        if (!queue.isEmpty()) {
+            log.warn("Coupon claim pipeline stopped with {} tickets left in queue", queue.size());
+        }
+    }
+
+    /**
+     * 발급 요청을 접수하고 티켓을 발급합니다. 처리 결과는 티켓으로 조회합니다.
+     *
+     * @param couponId 쿠폰 ID
+     * @param userId 사용자 ID
+     * @return PENDING 상태의 티켓
+     * @throws CouponExhaustedException 소진된 쿠폰인 경우
+     * @throws ClaimQueueFullException 처리 대기 중인 요청이 너무 많은 경우
+     * @throws RedisOperationException 티켓 상태를 기록하지 못한 경우
+     */
+    public CouponClaimResponse submit(Long couponId, Long userId) {
+        // 소진된 쿠폰은 티켓을 만들지 않고 바로 거절합니다.
+        if (soldOutRegistry.isSoldOut(couponId)) {
+            throw new CouponExhaustedException("쿠폰이 모두 소진되었습니다.");
+        }
+
+        ClaimTicket ticket = new ClaimTicket(UUID.randomUUID().toString(), couponId, userId);
+        // 다른 노드에서도 처리 중인 티켓을 조회할 수 있도록 큐에 넣기 전에 PENDING을 기록합니다.
+        String claimKey = getClaimKey(ticket.ticketId);
+        try {
+            redisTemplate.opsForValue().set(claimKey, ticket.format(CouponClaimStatus.PENDING), statusTtl);
+        } catch (Exception e) {
+            log.error("Failed to record pending claim - couponId: {}, userId: {}", couponId, userId, e);
+            throw new RedisOperationException("Failed to record pending claim", e);
+        }
+        if (!queue.offer(ticket)) {
+            redisTemplate.delete(claimKey);
+            totalRejected.incrementAndGet();
+            throw new ClaimQueueFullException("발급 요청이 많아 접수하지 못했습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        totalAccepted.incrementAndGet();
+        return ticket.toResponse(CouponClaimStatus.PENDING);
+    }
+
+    /**
+     * 티켓의 처리 상태를 조회합니다. 다른 사용자의 티켓은 존재하지 않는 티켓과 같이 취급합니다.
+     *
+     * @param ticketId 티켓 ID
+     * @param userId 조회하는 사용자 ID
+     * @return 티켓 처리 상태
+     * @throws ClaimNotFoundException 티켓이 없거나, 결과 보관 시간이 지났거나, 다른 사용자의 티켓인 경우
+     */
+    public CouponClaimResponse getStatus(String ticketId, Long userId) {
+        String value = redisTemplate.opsForValue().get(getClaimKey(ticketId));
+        if (value == null) {
+            throw new ClaimNotFoundException("존재하지 않는 발급 요청입니다. ticket=" + ticketId);
+        }
+        String[] fields = value.split(SEPARATOR);
+        Long ownerId = Long.valueOf(fields[2]);
+        if (!ownerId.equals(userId)) {
+            throw new ClaimNotFoundException("존재하지 않는 발급 요청입니다. ticket=" + ticketId);
+        }
+        return CouponClaimResponse.builder()
+                .ticketId(ticketId)
+                .status(CouponClaimStatus.valueOf(fields[0]))
+                .couponId(Long.valueOf(fields[1]))
+                .userId(ownerId)
+                .build();
+    }
+
+    private void runWorkLoop() {
+        List<ClaimTicket> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                ClaimTicket first = queue.poll(pollIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("Unexpected error in coupon claim worker", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 티켓 한 묶음을 처리합니다.
+     *
+     * @param batch 처리할 티켓 목록
+     */
+    void process(List<ClaimTicket> batch) {
+        Map<ClaimTicket, CouponClaimStatus> results = new LinkedHashMap<>();
+
+        // 1. 사용자 존재 여부를 한 번의 조회로 확인
+        Set<Long> existingUserIds = findExistingUserIds(batch);
+
+        // 2. 사용자, 소진 여부, 기간을 확인하고 통과한 티켓을 쿠폰별로 모음
+        Map<Long, List<ClaimTicket>> candidates = new LinkedHashMap<>();
+        for (ClaimTicket ticket : batch) {
+            CouponClaimStatus rejected = checkClaimable(ticket, existingUserIds);
+            if (rejected != null) {
+                results.put(ticket, rejected);
+            } else {
+                results.put(ticket, CouponClaimStatus.PENDING);
+                candidates.computeIfAbsent(ticket.couponId, id -> new ArrayList<>()).add(ticket);
+            }
+        }
+
+        // 3. 쿠폰별로 발급 스크립트를 파이프라인으로 실행하여 재고 차감
+        candidates.forEach((couponId, tickets) -> claim(couponId, tickets, results));
+        List<ClaimTicket> claimed = results.entrySet().stream()
+                .filter(entry -> entry.getValue() == CouponClaimStatus.ISSUED)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+
+        // 4. 발급이 확정된 이력과 DB 잔여 수량을 묶어서 반영
+        if (!claimed.isEmpty() && !persist(claimed)) {
+            for (ClaimTicket ticket : claimed) {
+                releaseRedisClaim(ticket);
+                results.put(ticket, CouponClaimStatus.FAILED);
+            }
+        }
+
+        // 5. 처리 결과를 한 번의 파이프라인으로 기록
+        recordResults(results);
+        totalProcessed.addAndGet(batch.size());
+        totalBatches.incrementAndGet();
+        log.debug("Processed coupon claim batch - size: {}, issued: {}", batch.size(), claimed.size());
+    }
+
+    private Set<Long> findExistingUserIds(List<ClaimTicket> batch) {
+        Set<Long> userIds = batch.stream().map(ticket -> ticket.userId).collect(Collectors.toSet());
+        return userIdCache.findExisting(userIds);
+    }
+
+    /**
+     * 재고 차감 전에 발급할 수 없는 티켓을 걸러냅니다.
+     *
+     * @return 발급할 수 없으면 처리 상태, 발급을 시도할 수 있으면 null
+     */
+    private CouponClaimStatus checkClaimable(ClaimTicket ticket, Set<Long> existingUserIds) {
+        if (!existingUserIds.contains(ticket.userId)) {
+            log.info("Claim rejected for unknown user - ticket: {}, userId: {}", ticket.ticketId, ticket.userId);
+            return CouponClaimStatus.FAILED;
+        }
+        if (soldOutRegistry.isSoldOut(ticket.couponId)) {
+            return CouponClaimStatus.EXHAUSTED;
+        }
+
+        try {
+            CouponMetadata coupon = couponMetadataCache.get(ticket.couponId);
+            LocalDateTime now = LocalDateTime.now();
+            if (now.isBefore(coupon.getValidFrom()) || now.isAfter(coupon.getValidTo())) {
+                return CouponClaimStatus.FAILED;
+            }
+            return null;
+        } catch (Exception e) {
+            log.error("Failed to load coupon for claim - ticket: {}, couponId: {}", ticket.ticketId, ticket.couponId, e);
+            return CouponClaimStatus.FAILED;
+        }
+    }
+
+    /**
+     * 한 쿠폰에 대한 티켓들의 재고를 차감하고 처리 상태를 기록합니다.
+     * 재고 임대를 사용하면 노드가 임대한 재고에서 티켓마다 차감하고, 그렇지 않으면 발급 스크립트를 한 번의 파이프라인으로 실행합니다.
+     */
+    private void claim(Long couponId, List<ClaimTicket> tickets, Map<ClaimTicket, CouponClaimStatus> results) {
+        List<Long> outcomes;
+        try {
+            outcomes = stockLeaseManager.isEnabled() ? claimFromLease(couponId, tickets) : claimFromStock(couponId, tickets);
+        } catch (Exception e) {
+            log.error("Failed to claim coupons - couponId: {}, size: {}", couponId, tickets.size(), e);
+            tickets.forEach(ticket -> results.put(ticket, CouponClaimStatus.FAILED));
+            return;
+        }
+
+        boolean exhausted = false;
+        for (int i = 0; i < tickets.size(); i++) {
+            CouponClaimStatus status = toStatus(outcomes.get(i));
+            exhausted |= status == CouponClaimStatus.EXHAUSTED;
+            results.put(tickets.get(i), status);
+        }
+        // 다른 노드의 임대분이 남아 있으면 소진으로 알리지 않습니다.
+        if (exhausted && (!stockLeaseManager.isEnabled() || !stockLeaseManager.isStockLeasedElsewhere(couponId))) {
+            soldOutRegistry.markSoldOut(couponId);
+        }
+    }
+
+    private List<Long> claimFromLease(Long couponId, List<ClaimTicket> tickets) {
+        List<Long> outcomes = new ArrayList<>(tickets.size());
+        for (ClaimTicket ticket : tickets) {
+            try {
+                outcomes.add(stockLeaseManager.tryIssueCoupon(couponId, ticket.userId));
+            } catch (Exception e) {
+                log.error("Failed to claim coupon - ticket: {}, couponId: {}, userId: {}",
+                        ticket.ticketId, couponId, ticket.userId, e);
+                outcomes.add(null);
+            }
+        }
+        return outcomes;
+    }
+
+    private List<Long> claimFromStock(Long couponId, List<ClaimTicket> tickets) {
+        List<Long> userIds = tickets.stream().map(ticket -> ticket.userId).collect(Collectors.toList());
+        List<Long> outcomes = new ArrayList<>(redisService.tryIssueCoupons(couponId, userIds));
+
+        boolean sharded = redisService.getStockShardCount(couponId) > 1;
+        if (!sharded) {
+            return outcomes;
+        }
+        for (int i = 0; i < outcomes.size(); i++) {
+            Long outcome = outcomes.get(i);
+            if (outcome != null && outcome == -1) {
+                // 시작 샤드만 비었을 수 있으므로 다른 샤드를 차례로 다시 시도합니다.
+                outcome = redisService.tryIssueCoupon(couponId, userIds.get(i));
+                outcomes.set(i, outcome);
+                if (outcome != null && outcome == -1) {
+                    // 모든 샤드가 비었으므로 남은 티켓은 다시 시도하지 않습니다.
+                    break;
+                }
+            }
+        }
+        return outcomes;
+    }
+
+    private static CouponClaimStatus toStatus(Long result) {
+        if (result == null) {
+            return CouponClaimStatus.FAILED;
+        } else if (result == 1) {
+            return CouponClaimStatus.ISSUED;
+        } else if (result == 0) {
+            return CouponClaimStatus.DUPLICATE;
+        } else if (result == -2) {
+            return CouponClaimStatus.LIMIT_EXCEEDED;
+        } else if (result < 0) {
+            return CouponClaimStatus.EXHAUSTED;
+        }
+        return CouponClaimStatus.FAILED;
+    }
+
+    /**
+     * 발급이 확정된 티켓의 이력을 다중 행 INSERT로 저장하고 쿠폰별 잔여 수량을 한 번씩 줄입니다.
+     * 스트림 모드에서는 발급 스크립트가 이력을 스트림에 남기므로 이력을 저장하지 않습니다.
+     *
+     * @return 이력 저장에 성공하면 true
+     */
+    private boolean persist(List<ClaimTicket> claimed) {
+        if (!redisService.isIssueStreamEnabled()) {
+            // 발급 시각은 요청을 받은 시각이므로 한 묶음 안에 같은 사용자의 발급이 여러 건이어도 claim_bucket이 겹치지 않습니다.
+            List<CouponIssueRecord> records = new ArrayList<>(claimed.size());
+            for (ClaimTicket ticket : claimed) {
+                records.add(CouponIssueRecord.of(ticket.couponId, ticket.userId, ticket.acceptedAt,
+                        couponMetadataCache.get(ticket.couponId).getClaimWindow()));
+            }
+            try {
+                couponIssueRepository.insertIgnoreAll(records);
+            } catch (Exception e) {
+                log.error("Failed to persist coupon claim batch - size: {}", records.size(), e);
+                return false;
+            }
+        }
+
+        Map<Long, Integer> issuedPerCoupon = new HashMap<>();
+        for (ClaimTicket ticket : claimed) {
+            issuedPerCoupon.merge(ticket.couponId, 1, Integer::sum);
+        }
+        issuedPerCoupon.forEach((couponId, count) -> {
+            try {
+                if (stockFlusher.isEnabled()) {
+                    stockFlusher.record(couponId, count);
+                } else {
+                    couponRepository.decreaseRemainingQuantityBy(couponId, count);
+                }
+            } catch (Exception e) {
+                // 발급은 이미 확정되었으므로 DB 잔여 수량만 뒤처집니다.
+                log.error("Failed to decrease coupon stock - couponId: {}, delta: {}", couponId, count, e);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * DB 반영에 실패한 발급을 취소합니다. 사용자가 다시 시도할 수 있도록 발급 사용자 기록을 지우고 차감된 재고를 되돌립니다.
+     */
+    private void releaseRedisClaim(ClaimTicket ticket) {
+        try {
+            redisService.releaseCouponClaim(ticket.couponId, ticket.userId);
+        } catch (Exception e) {
+            log.error("Failed to release Redis claim - userId: {}, couponId: {}", ticket.userId, ticket.couponId, e);
+        }
+    }
+
+    private void recordResults(Map<ClaimTicket, CouponClaimStatus> results) {
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                results.forEach((ticket, status) -> connection.stringCommands().setEx(
+                        getClaimKey(ticket.ticketId).getBytes(StandardCharsets.UTF_8),
+                        statusTtl.toSeconds(),
+                        ticket.format(status).getBytes(StandardCharsets.UTF_8)));
+                return null;
+            });
+        } catch (Exception e) {
+            log.error("Failed to record coupon claim results - size: {}", results.size(), e);
+        }
+    }
+
+    private static String getClaimKey(String ticketId) {
+        return CLAIM_KEY_PREFIX + ticketId;
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public long getTotalAccepted() {
+        return totalAccepted.get();
+    }
+
+    public long getTotalRejected() {
+        return totalRejected.get();
+    }
+
+    public long getTotalProcessed() {
+        return totalProcessed.get();
+    }
+
+    public long getTotalBatches() {
+        return totalBatches.get();
+    }
+
+    /**
+     * 접수된 발급 요청
+     */
+    static final class ClaimTicket {
+
+        private final String ticketId;
+        private final Long couponId;
+        private final Long userId;
+        private final LocalDateTime acceptedAt = LocalDateTime.now();
+
+        ClaimTicket(String ticketId, Long couponId, Long userId) {
+            this.ticketId = ticketId;
+            this.couponId = couponId;
+            this.userId = userId;
+        }
+
+        /**
+         * Redis에 저장하는 티켓 상태 값 (상태:쿠폰 ID:사용자 ID)
+         */
+        private String format(CouponClaimStatus status) {
+            return status.name() + SEPARATOR + couponId + SEPARATOR + userId;
+        }
+
+        private CouponClaimResponse toResponse(CouponClaimStatus status) {
+            return CouponClaimResponse.builder()
+                    .ticketId(ticketId)
+                    .couponId(couponId)
+                    .userId(userId)
+                    .status(status)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.coupon.service;
+
+/**
+ * 비동기 발급 요청(클레임 티켓)의 처리 상태
+ */
+public enum CouponClaimStatus {
+    /**
+     * 대기열에서 처리를 기다리는 중
+     */
+    PENDING,
+    /**
+     * 발급 완료
+     */
+    ISSUED,
+    /**
+     * 재고 소진으로 발급되지 않음
+     */
+    EXHAUSTED,
+    /**
+     * 이미 발급받은 쿠폰
+     */
+    DUPLICATE,
+    /**
+     * 기간 내 발급 횟수 제한 초과
+     */
+    LIMIT_EXCEEDED,
+    /**
+     * 발급 기간이 아니거나 처리 중 오류가 발생해 발급되지 않음
+     */
+    FAILED
+}
@@ -0,0 +1,128 @@
+package com.coupon.service;
+
+import com.coupon.exception.CouponAlreadyIssuedException;
+import com.coupon.exception.CouponExhaustedException;
+import com.coupon.exception.CouponExpiredException;
+import com.coupon.exception.DailyLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쿠폰 발급 경로의 단계별 소요 시간과 결과별 건수를 Micrometer에 기록합니다.
+ * 발급마다 레지스트리를 조회하지 않도록 타이머와 카운터는 생성 시점에 모두 만들어 둡니다.
+ *
+ * <ul>
+ *     <li>{@code coupon.issue.phase} (tag: phase) - 사용자 확인, Redis 스크립트, DB 재고 차감(행 잠금), 발급 이력 저장</li>
+ *     <li>{@code coupon.issue.result} (tag: outcome) - 발급, 중복, 소진, 기간 외, 횟수 초과, 잠금 실패, 오류</li>
+ * </ul>
+ */
+@Component
+public class CouponIssueMetrics {
+
+    public static final String PHASE_TIMER = "coupon.issue.phase";
+    public static final String RESULT_COUNTER = "coupon.issue.result";
+
+    /**
+     * 발급 처리 단계
+     */
+    public enum Phase {
+        USER_LOOKUP("user_lookup"),
+        REDIS_SCRIPT("redis_script"),
+        DB_LOCK("db_lock"),
+        INSERT("insert");
+
+        private final String tag;
+
+        Phase(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    /**
+     * 발급 결과
+     */
+    public enum Outcome {
+        ISSUED("issued"),
+        DUPLICATE("duplicate"),
+        EXHAUSTED("exhausted"),
+        EXPIRED("expired"),
+        DAILY_LIMIT("daily_limit"),
+        LOCK_FAIL("lock_fail"),
+        ERROR("error");
+
+        private final String tag;
+
+        Outcome(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private final Map<Phase, Timer> phaseTimers = new EnumMap<>(Phase.class);
+    private final Map<Outcome, Counter> resultCounters = new EnumMap<>(Outcome.class);
+
+    public CouponIssueMetrics(MeterRegistry meterRegistry) {
+        for (Phase phase : Phase.values()) {
+            phaseTimers.put(phase, Timer.builder(PHASE_TIMER)
+                    .description("쿠폰 발급 단계별 소요 시간")
+                    .tag("phase", phase.tag)
+                    .register(meterRegistry));
+        }
+        for (Outcome outcome : Outcome.values()) {
+            resultCounters.put(outcome, Counter.builder(RESULT_COUNTER)
+                    .description("쿠폰 발급 결과별 건수")
+                    .tag("outcome", outcome.tag)
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 단계 소요 시간을 기록합니다.
+     *
+     * @param phase 발급 처리 단계
+     * @param startNanos 단계 시작 시각 ({@link System#nanoTime()})
+     */
+    public void recordPhase(Phase phase, long startNanos) {
+        phaseTimers.get(phase).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 발급 결과 1건을 기록합니다.
+     *
+     * @param outcome 발급 결과
+     */
+    public void recordOutcome(Outcome outcome) {
+        resultCounters.get(outcome).increment();
+    }
+
+    /**
+     * 발급 실패 예외를 결과로 분류해 기록합니다.
+     *
+     * @param exception 발급 중 발생한 예외
+     */
+    public void recordFailure(Exception exception) {
+        recordOutcome(classify(exception));
+    }
+
+    private Outcome classify(Exception exception) {
+        if (exception instanceof CouponAlreadyIssuedException) {
+            return Outcome.DUPLICATE;
+        } else if (exception instanceof CouponExhaustedException) {
+            return Outcome.EXHAUSTED;
+        } else if (exception instanceof CouponExpiredException) {
+            return Outcome.EXPIRED;
+        } else if (exception instanceof DailyLimitExceededException) {
+            return Outcome.DAILY_LIMIT;
+        } else if (exception instanceof PessimisticLockingFailureException) {
+            // 행 잠금 대기 시간 초과, 데드락 등
+            return Outcome.LOCK_FAIL;
+        }
+        return Outcome.ERROR;
+    }
+}
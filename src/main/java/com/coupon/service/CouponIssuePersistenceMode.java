@@ -0,0 +1,21 @@
+package com.coupon.service;
+
+/**
+ * Redis에서 발급이 확정된 쿠폰 발급 이력을 DB에 저장하는 방식입니다.
+ */
+public enum CouponIssuePersistenceMode {
+    /**
+     * 요청 트랜잭션 안에서 발급 이력을 바로 저장합니다.
+     */
+    SYNC,
+
+    /**
+     * 발급 이력을 프로세스 내부 큐에 넣고 별도 스레드가 묶음으로 저장합니다.
+     */
+    WRITE_BEHIND,
+
+    /**
+     * 발급 스크립트가 Redis Stream에 발급 이력을 기록하고, 컨슈머 그룹 워커가 DB에 저장합니다.
+     */
+    STREAM
+}
@@ -0,0 +1,183 @@
+package com.coupon.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 쿠폰 발급 요청의 처리 속도를 제한하는 토큰 버킷 리미터입니다.
+ * 사용자별 버킷은 노드 메모리에서 확인하고, 쿠폰별 버킷은 모든 노드가 함께 쓰도록 Redis Lua 스크립트로 확인합니다.
+ * 같은 사용자의 반복 요청은 Redis에 닿기 전에 거절되며, 쿠폰 전체의 요청 속도는 클러스터 단위로 제한됩니다.
+ */
+@Slf4j
+@Component
+public class CouponIssueRateLimiter {
+
+    private static final String COUPON_BUCKET_KEY_FORMAT = "coupon:%d:rate-limit";
+
+    /**
+     * Redis 서버 시각 기준으로 토큰을 채우고 사용하는 Lua 스크립트
+     */
+    private static final RedisScript<Long> TOKEN_BUCKET_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/token-bucket.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final boolean enabled;
+    private final double userRate;
+    private final int userCapacity;
+    private final double couponRate;
+    private final int couponCapacity;
+    private final long idleEvictNanos;
+
+    private final Map<Long, LocalTokenBucket> userBuckets = new ConcurrentHashMap<>();
+
+    private final AtomicLong allowedRequests = new AtomicLong();
+    private final AtomicLong userLimitedRequests = new AtomicLong();
+    private final AtomicLong couponLimitedRequests = new AtomicLong();
+    private final AtomicLong redisFailures = new AtomicLong();
+
+    public CouponIssueRateLimiter(
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${coupon.rate-limit.enabled:false}") boolean enabled,
+            @Value("${coupon.rate-limit.user.rate-per-second:1}") double userRate,
+            @Value("${coupon.rate-limit.user.capacity:5}") int userCapacity,
+            @Value("${coupon.rate-limit.coupon.rate-per-second:1000}") double couponRate,
+            @Value("${coupon.rate-limit.coupon.capacity:2000}") int couponCapacity,
+            @Value("${coupon.rate-limit.user.idle-evict-ms:60000}") long idleEvictMillis) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.userRate = userRate;
+        this.userCapacity = userCapacity;
+        this.couponRate = couponRate;
+        this.couponCapacity = couponCapacity;
+        this.idleEvictNanos = TimeUnit.MILLISECONDS.toNanos(idleEvictMillis);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 발급 요청을 허용할지 확인합니다. 사용자별 버킷을 먼저 확인하고, 통과하면 쿠폰별 버킷을 확인합니다.
+     *
+     * @param couponId 쿠폰 ID
+     * @param userId 사용자 ID
+     * @return 0이면 허용, 양수이면 다시 시도하기까지 기다려야 하는 밀리초
+     */
+    public long tryAcquire(Long couponId, Long userId) {
+        if (!enabled) {
+            return 0;
+        }
+
+        long userWait = userBuckets
+                .computeIfAbsent(userId, id -> new LocalTokenBucket(userRate, userCapacity))
+                .tryAcquire(System.nanoTime());
+        if (userWait > 0) {
+            userLimitedRequests.incrementAndGet();
+            return userWait;
+        }
+
+        long couponWait = acquireCouponToken(couponId);
+        if (couponWait > 0) {
+            couponLimitedRequests.incrementAndGet();
+            return couponWait;
+        }
+
+        allowedRequests.incrementAndGet();
+        return 0;
+    }
+
+    private long acquireCouponToken(Long couponId) {
+        try {
+            Long wait = redisTemplate.execute(
+                    TOKEN_BUCKET_SCRIPT,
+                    List.of(String.format(COUPON_BUCKET_KEY_FORMAT, couponId)),
+                    String.valueOf(couponRate),
+                    String.valueOf(couponCapacity));
+            return wait != null ? wait : 0;
+        } catch (Exception e) {
+            // Redis 장애 시에는 사용자별 제한만 적용하고 요청을 통과시킵니다.
+            redisFailures.incrementAndGet();
+            log.warn("Failed to check coupon rate limit, allowing request - couponId: {}", couponId, e);
+            return 0;
+        }
+    }
+
+    /**
+     * 오랫동안 요청이 없던 사용자의 버킷을 정리합니다. 이런 버킷은 이미 가득 차 있으므로 지워도 제한 결과가 같습니다.
+     */
+    @Scheduled(fixedDelayString = "${coupon.rate-limit.user.idle-evict-ms:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        userBuckets.entrySet().removeIf(entry -> entry.getValue().isIdleSince(now, idleEvictNanos));
+    }
+
+    public int getTrackedUsers() {
+        return userBuckets.size();
+    }
+
+    public long getAllowedRequests() {
+        return allowedRequests.get();
+    }
+
+    public long getUserLimitedRequests() {
+        return userLimitedRequests.get();
+    }
+
+    public long getCouponLimitedRequests() {
+        return couponLimitedRequests.get();
+    }
+
+    public long getRedisFailures() {
+        return redisFailures.get();
+    }
+
+    /**
+     * 노드 메모리에서 관리하는 토큰 버킷
+     */
+    static final class LocalTokenBucket {
+
+        private final double ratePerNano;
+        private final double capacity;
+        private double tokens;
+        private long lastRefillNanos;
+
+        LocalTokenBucket(double ratePerSecond, int capacity) {
+            this.ratePerNano = ratePerSecond / TimeUnit.SECONDS.toNanos(1);
+            this.capacity = capacity;
+            this.tokens = capacity;
+            this.lastRefillNanos = System.nanoTime();
+        }
+
+        /**
+         * @return 0이면 토큰을 사용함, 양수이면 토큰이 생길 때까지 기다려야 하는 밀리초
+         */
+        synchronized long tryAcquire(long nowNanos) {
+            refill(nowNanos);
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return Math.max(1, TimeUnit.NANOSECONDS.toMillis((long) Math.ceil((1 - tokens) / ratePerNano)));
+        }
+
+        synchronized boolean isIdleSince(long nowNanos, long idleNanos) {
+            return nowNanos - lastRefillNanos >= idleNanos;
+        }
+
+        private void refill(long nowNanos) {
+            tokens = Math.min(capacity, tokens + (nowNanos - lastRefillNanos) * ratePerNano);
+            lastRefillNanos = nowNanos;
+        }
+    }
+}
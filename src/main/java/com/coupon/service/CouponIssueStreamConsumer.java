@@ -0,0 +1,292 @@
+package com.coupon.service;
+
+import com.coupon.domain.coupon.CouponIssueRecord;
+import com.coupon.repository.CouponIssueRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Redis Stream에 기록된 쿠폰 발급 이력을 컨슈머 그룹으로 읽어 DB에 저장하는 워커입니다.
+ * 발급 이력은 (user_id, coupon_id, claim_bucket) 유니크 키를 이용해 중복 없이 저장되므로 같은 항목을 여러 번 처리해도 안전합니다.
+ * 저장이 끝난 항목만 XACK 하며, 오래 처리되지 않은 항목은 다른 컨슈머가 가져와 다시 처리합니다.
+ * 샤드 스트림마다 스레드 하나가 XREADGROUP BLOCK으로 기다리므로, 새 항목은 바로 읽고 빈 조회를 반복하지 않습니다.
+ * 한 번의 읽기는 스트림 키 하나만 사용합니다. (Redis Cluster에서도 CROSSSLOT 오류가 나지 않음)
+ */
+@Slf4j
+@Component
+public class CouponIssueStreamConsumer {
+
+    private static final String BUSY_GROUP_ERROR = "BUSYGROUP";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisService redisService;
+    private final CouponIssueRepository couponIssueRepository;
+    private final CouponMetadataCache couponMetadataCache;
+    private final String group;
+    private final String consumerName;
+    private final int batchSize;
+    private final Duration blockTimeout;
+    private final Duration reclaimMinIdle;
+
+    private final AtomicLong totalPersisted = new AtomicLong();
+    private final AtomicLong totalAcknowledged = new AtomicLong();
+    private final AtomicLong totalReclaimed = new AtomicLong();
+    private final AtomicLong failedBatches = new AtomicLong();
+
+    private volatile boolean running;
+    private final List<Thread> consumerThreads = new ArrayList<>();
+
+    public CouponIssueStreamConsumer(
+            RedisTemplate<String, String> redisTemplate,
+            RedisService redisService,
+            CouponIssueRepository couponIssueRepository,
+            CouponMetadataCache couponMetadataCache,
+            @Value("${coupon.issue.stream.group:coupon-issue-writers}") String group,
+            @Value("${coupon.issue.stream.consumer-name:}") String consumerName,
+            @Value("${coupon.issue.stream.batch-size:500}") int batchSize,
+            @Value("${coupon.issue.stream.block-ms:1000}") long blockMillis,
+            @Value("${coupon.issue.stream.reclaim-min-idle-ms:30000}") long reclaimMinIdleMillis) {
+        this.redisTemplate = redisTemplate;
+        this.redisService = redisService;
+        this.couponIssueRepository = couponIssueRepository;
+        this.couponMetadataCache = couponMetadataCache;
+        this.group = group;
+        this.consumerName = StringUtils.hasText(consumerName)
+                ? consumerName
+                : ManagementFactory.getRuntimeMXBean().getName();
+        this.batchSize = batchSize;
+        this.blockTimeout = Duration.ofMillis(blockMillis);
+        this.reclaimMinIdle = Duration.ofMillis(reclaimMinIdleMillis);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!redisService.isIssueStreamEnabled()) {
+            return;
+        }
+        for (int shard = 0; shard < redisService.getIssueStreamShards(); shard++) {
+            createGroupIfAbsent(RedisService.getIssueStreamKey(shard));
+        }
+
+        running = true;
+        for (int shard = 0; shard < redisService.getIssueStreamShards(); shard++) {
+            int streamShard = shard;
+            Thread consumerThread = new Thread(() -> runConsumeLoop(streamShard), "coupon-issue-stream-consumer-" + shard);
+            consumerThread.setDaemon(true);
+            consumerThread.start();
+            consumerThreads.add(consumerThread);
+        }
+        log.info("Started coupon issue stream consumer - group: {}, consumer: {}, shards: {}",
+                group, consumerName, redisService.getIssueStreamShards());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        // BLOCK 대기는 blockTimeout 안에 끝나므로 각 스레드가 곧 종료됩니다.
+        for (Thread consumerThread : consumerThreads) {
+            try {
+                consumerThread.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void runConsumeLoop(int shard) {
+        // 재시작 직후에는 이전에 이 컨슈머가 받고 처리하지 못한 항목부터 다시 처리합니다.
+        try {
+            while (running && pollOnce(shard, ReadOffset.from("0")) > 0) {
+                log.debug("Recovered pending coupon issue entries - consumer: {}, shard: {}", consumerName, shard);
+            }
+        } catch (Exception e) {
+            log.error("Failed to recover pending coupon issue entries - consumer: {}, shard: {}", consumerName, shard, e);
+        }
+
+        while (running) {
+            try {
+                // 새 항목이 없으면 Redis에서 blockTimeout 동안 기다립니다.
+                pollOnce(shard, ReadOffset.lastConsumed());
+            } catch (Exception e) {
+                log.error("Unexpected error in coupon issue stream consumer - shard: {}", shard, e);
+                // Redis 장애 중에 빈 루프를 돌지 않도록 잠시 쉽니다.
+                try {
+                    Thread.sleep(blockTimeout.toMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * 샤드 스트림 하나에서 한 묶음의 발급 이력을 읽어 저장합니다.
+     * 새 항목을 읽을 때는 항목이 들어올 때까지 blockTimeout 동안 기다립니다.
+     *
+     * @param shard 스트림 샤드 번호
+     * @param readOffset 읽기 시작 위치 (lastConsumed: 새 항목, 0: 이 컨슈머의 pending 항목)
+     * @return 저장 후 XACK 한 항목 수 (저장에 실패하면 0)
+     */
+    int pollOnce(int shard, ReadOffset readOffset) {
+        StreamReadOptions options = StreamReadOptions.empty().count(batchSize);
+        if (ReadOffset.lastConsumed().equals(readOffset)) {
+            options = options.block(blockTimeout);
+        }
+
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(
+                Consumer.from(group, consumerName),
+                options,
+                StreamOffset.create(RedisService.getIssueStreamKey(shard), readOffset));
+        if (records == null || records.isEmpty()) {
+            return 0;
+        }
+
+        return persistAndAcknowledge(records) ? records.size() : 0;
+    }
+
+    /**
+     * 처리가 멈춘 컨슈머에 할당된 채 오래 남아있는 항목을 가져와 다시 처리합니다.
+     */
+    @Scheduled(fixedDelayString = "${coupon.issue.stream.reclaim-interval-ms:30000}")
+    public void reclaimPendingEntries() {
+        if (!running) {
+            return;
+        }
+        for (int shard = 0; shard < redisService.getIssueStreamShards(); shard++) {
+            String streamKey = RedisService.getIssueStreamKey(shard);
+            try {
+                PendingMessages pending = redisTemplate.opsForStream()
+                        .pending(streamKey, group, Range.unbounded(), batchSize);
+
+                RecordId[] staleIds = pending.stream()
+                        .filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(reclaimMinIdle) >= 0)
+                        .map(PendingMessage::getId)
+                        .toArray(RecordId[]::new);
+                if (staleIds.length == 0) {
+                    continue;
+                }
+
+                List<MapRecord<String, Object, Object>> claimed = redisTemplate.opsForStream()
+                        .claim(streamKey, group, consumerName, reclaimMinIdle, staleIds);
+                if (claimed != null && !claimed.isEmpty()) {
+                    totalReclaimed.addAndGet(claimed.size());
+                    log.info("Reclaimed {} pending coupon issue entries from {}", claimed.size(), streamKey);
+                    persistAndAcknowledge(claimed);
+                }
+            } catch (Exception e) {
+                log.error("Failed to reclaim pending coupon issue entries - stream: {}", streamKey, e);
+            }
+        }
+    }
+
+    private boolean persistAndAcknowledge(List<MapRecord<String, Object, Object>> records) {
+        List<CouponIssueRecord> issues = new ArrayList<>(records.size());
+        Map<String, List<RecordId>> idsByStream = new LinkedHashMap<>();
+        for (MapRecord<String, Object, Object> record : records) {
+            CouponIssueRecord issue = toCouponIssueRecord(record);
+            if (issue != null) {
+                issues.add(issue);
+            }
+            idsByStream.computeIfAbsent(record.getStream(), key -> new ArrayList<>()).add(record.getId());
+        }
+
+        try {
+            if (!issues.isEmpty()) {
+                int inserted = couponIssueRepository.insertIgnoreAll(issues);
+                totalPersisted.addAndGet(inserted);
+                log.debug("Persisted coupon issues from stream - read: {}, inserted: {}", issues.size(), inserted);
+            }
+        } catch (Exception e) {
+            // XACK 하지 않은 항목은 pending 상태로 남아 재처리 대상이 됩니다.
+            failedBatches.incrementAndGet();
+            log.error("Failed to persist coupon issues from stream - size: {}", issues.size(), e);
+            return false;
+        }
+
+        idsByStream.forEach((streamKey, ids) -> {
+            RecordId[] recordIds = ids.toArray(RecordId[]::new);
+            Long acknowledged = redisTemplate.opsForStream().acknowledge(streamKey, group, recordIds);
+            redisTemplate.opsForStream().delete(streamKey, recordIds);
+            totalAcknowledged.addAndGet(acknowledged != null ? acknowledged : 0);
+        });
+        return true;
+    }
+
+    private CouponIssueRecord toCouponIssueRecord(MapRecord<String, Object, Object> record) {
+        Map<Object, Object> value = record.getValue();
+        try {
+            Long couponId = Long.valueOf(String.valueOf(value.get("couponId")));
+            Long userId = Long.valueOf(String.valueOf(value.get("userId")));
+            LocalDateTime issuedAt = LocalDateTime.ofInstant(
+                    Instant.ofEpochMilli(Long.parseLong(String.valueOf(value.get("issuedAt")))),
+                    ZoneId.systemDefault());
+            return CouponIssueRecord.of(couponId, userId, issuedAt, couponMetadataCache.get(couponId).getClaimWindow());
+        } catch (IllegalArgumentException e) {
+            // 숫자가 아닌 값(NumberFormatException)이나 존재하지 않는 쿠폰은 저장할 수 없으므로 건너뜁니다.
+            log.error("Skipping malformed coupon issue stream entry - stream: {}, id: {}, value: {}",
+                    record.getStream(), record.getId(), value);
+            return null;
+        }
+    }
+
+    private void createGroupIfAbsent(String streamKey) {
+        try {
+            redisTemplate.execute((RedisCallback<String>) connection -> connection.streamCommands().xGroupCreate(
+                    streamKey.getBytes(StandardCharsets.UTF_8), group, ReadOffset.from("0"), true));
+            log.info("Created consumer group - stream: {}, group: {}", streamKey, group);
+        } catch (RuntimeException e) {
+            String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            if (message == null || !message.contains(BUSY_GROUP_ERROR)) {
+                throw e;
+            }
+        }
+    }
+
+    public long getTotalPersisted() {
+        return totalPersisted.get();
+    }
+
+    public long getTotalAcknowledged() {
+        return totalAcknowledged.get();
+    }
+
+    public long getTotalReclaimed() {
+        return totalReclaimed.get();
+    }
+
+    public long getFailedBatches() {
+        return failedBatches.get();
+    }
+}
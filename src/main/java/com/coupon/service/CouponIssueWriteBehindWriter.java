@@ -0,0 +1,213 @@
+package com.coupon.service;
+
+import com.coupon.domain.coupon.CouponIssueRecord;
+import com.coupon.repository.CouponIssueRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 쿠폰 발급 이력을 비동기로 묶어서 저장하는 write-behind 저장기입니다.
+ * Redis에서 발급이 확정된 이력을 제한된 크기의 큐에 넣고, 전용 스레드가 일정 건수 또는 일정 시간마다
+ * 다중 행 INSERT로 저장합니다. 큐가 가득 차면 요청 스레드가 직접 저장하여 속도를 조절합니다.
+ */
+@Slf4j
+@Component
+public class CouponIssueWriteBehindWriter {
+
+    private static final int MAX_WRITE_ATTEMPTS = 3;
+
+    private final CouponIssueRepository couponIssueRepository;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final long offerTimeoutMillis;
+    private final BlockingQueue<CouponIssueRecord> queue;
+
+    private final AtomicLong totalWritten = new AtomicLong();
+    private final AtomicLong totalBatches = new AtomicLong();
+    private final AtomicLong lastBatchSize = new AtomicLong();
+    private final AtomicLong maxBatchSize = new AtomicLong();
+    private final AtomicLong callerRunsCount = new AtomicLong();
+    private final AtomicLong failedRecords = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public CouponIssueWriteBehindWriter(
+            CouponIssueRepository couponIssueRepository,
+            @Value("${coupon.issue.persistence-mode:SYNC}") CouponIssuePersistenceMode persistenceMode,
+            @Value("${coupon.issue.write-behind.queue-capacity:10000}") int queueCapacity,
+            @Value("${coupon.issue.write-behind.batch-size:500}") int batchSize,
+            @Value("${coupon.issue.write-behind.flush-interval-ms:20}") long flushIntervalMillis,
+            @Value("${coupon.issue.write-behind.offer-timeout-ms:50}") long offerTimeoutMillis) {
+        this.couponIssueRepository = couponIssueRepository;
+        this.enabled = persistenceMode == CouponIssuePersistenceMode.WRITE_BEHIND;
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writerThread = new Thread(this::runWriteLoop, "coupon-issue-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("Started coupon issue write-behind writer - batchSize: {}, flushIntervalMs: {}, capacity: {}",
+                batchSize, flushIntervalMillis, queue.remainingCapacity());
+    }
+
+    /**
+     * 애플리케이션 종료 시 큐에 남은 발급 이력을 모두 저장합니다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (!enabled) {
+            return;
+        }
+        running = false;
+        if (writerThread != null) {
+            try {
+                writerThread.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        List<CouponIssueRecord> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            log.info("Flushing {} pending coupon issues on shutdown", remaining.size());
+            write(remaining);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 발급 이력을 저장 큐에 넣습니다.
+     * 큐가 가득 차서 제한 시간 안에 넣지 못하면 호출한 스레드에서 바로 저장합니다.
+     *
+     * @param record 저장할 발급 이력
+     */
+    public void enqueue(CouponIssueRecord record) {
+        try {
+            if (queue.offer(record, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        callerRunsCount.incrementAndGet();
+        log.warn("Write-behind queue is full, persisting in caller thread - couponId: {}, userId: {}",
+                record.getCouponId(), record.getUserId());
+        couponIssueRepository.insertIgnoreAll(List.of(record));
+    }
+
+    private void runWriteLoop() {
+        List<CouponIssueRecord> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                CouponIssueRecord first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remainingNanos = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remainingNanos <= 0) {
+                        break;
+                    }
+                    CouponIssueRecord next = queue.poll(remainingNanos, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("Unexpected error in coupon issue writer", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<CouponIssueRecord> batch) {
+        for (int attempt = 1; attempt <= MAX_WRITE_ATTEMPTS; attempt++) {
+            try {
+                int inserted = couponIssueRepository.insertIgnoreAll(batch);
+                totalWritten.addAndGet(inserted);
+                totalBatches.incrementAndGet();
+                lastBatchSize.set(batch.size());
+                maxBatchSize.accumulateAndGet(batch.size(), Math::max);
+                log.debug("Persisted coupon issue batch - size: {}, inserted: {}", batch.size(), inserted);
+                return;
+            } catch (Exception e) {
+                log.warn("Failed to persist coupon issue batch - size: {}, attempt: {}", batch.size(), attempt, e);
+            }
+        }
+
+        failedRecords.addAndGet(batch.size());
+        for (CouponIssueRecord record : batch) {
+            log.error("Dropped coupon issue after {} attempts - couponId: {}, userId: {}, issuedAt: {}",
+                    MAX_WRITE_ATTEMPTS, record.getCouponId(), record.getUserId(), record.getIssuedAt());
+        }
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public int getQueueRemainingCapacity() {
+        return queue.remainingCapacity();
+    }
+
+    public long getTotalWritten() {
+        return totalWritten.get();
+    }
+
+    public long getTotalBatches() {
+        return totalBatches.get();
+    }
+
+    public long getLastBatchSize() {
+        return lastBatchSize.get();
+    }
+
+    public long getMaxBatchSize() {
+        return maxBatchSize.get();
+    }
+
+    public long getCallerRunsCount() {
+        return callerRunsCount.get();
+    }
+
+    public long getFailedRecords() {
+        return failedRecords.get();
+    }
+}
@@ -0,0 +1,17 @@
+package com.coupon.service;
+
+/**
+ * Redis에 쿠폰 발급 사용자를 기록하는 방식입니다.
+ */
+public enum CouponMembershipLayout {
+    /**
+     * 사용자별 집합(coupon:user:{userId})에 발급받은 쿠폰 ID를 저장합니다.
+     */
+    SET,
+
+    /**
+     * 쿠폰별 비트맵(coupon:{couponId}:issued:{userId >> 16})에 사용자 ID 위치의 비트를 설정합니다.
+     * 만료시간은 쿠폰 유효기간에 맞춰 구간이 처음 만들어질 때 한 번만 설정합니다.
+     */
+    BITMAP
+}
@@ -0,0 +1,136 @@
+package com.coupon.service;
+
+import com.coupon.dto.coupon.MembershipMigrationResponse;
+import com.coupon.exception.RedisOperationException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 사용자별 발급 쿠폰 집합(coupon:user:{userId})을 쿠폰별 발급 사용자 비트맵으로 옮깁니다.
+ * 비트맵 방식의 발급 스크립트는 이전 집합도 함께 확인하므로, 이관 중에도 중복 발급은 막힙니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponMembershipMigrator {
+
+    private static final String LEGACY_USER_KEY_PREFIX = "coupon:user:";
+    private static final int BATCH_SIZE = 500;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisService redisService;
+
+    /**
+     * 모든 사용자별 집합을 읽어 쿠폰별 비트맵에 비트를 설정합니다.
+     * 키는 SCAN으로 나누어 읽고, 한 묶음의 조회와 기록은 파이프라인으로 보냅니다.
+     *
+     * @param deleteLegacy 이관한 사용자별 집합을 삭제할지 여부
+     * @return 이관 결과
+     */
+    public MembershipMigrationResponse migrateSetsToBitmaps(boolean deleteLegacy) {
+        long scannedKeys = 0;
+        long migratedMemberships = 0;
+        long deletedLegacyKeys = 0;
+
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(LEGACY_USER_KEY_PREFIX + "*")
+                .count(BATCH_SIZE)
+                .build();
+
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            List<String> batch = new ArrayList<>(BATCH_SIZE);
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() == BATCH_SIZE || !cursor.hasNext()) {
+                    scannedKeys += batch.size();
+                    migratedMemberships += migrateBatch(batch);
+                    if (deleteLegacy) {
+                        Long deleted = redisTemplate.delete(batch);
+                        deletedLegacyKeys += deleted != null ? deleted : 0;
+                    }
+                    batch.clear();
+                }
+            }
+        } catch (Exception e) {
+            log.error("Failed to migrate coupon membership sets - scanned: {}, migrated: {}",
+                    scannedKeys, migratedMemberships, e);
+            throw new RedisOperationException("Failed to migrate coupon membership sets", e);
+        }
+
+        log.info("Migrated coupon membership sets to bitmaps - scanned: {}, migrated: {}, deleted: {}",
+                scannedKeys, migratedMemberships, deletedLegacyKeys);
+        return MembershipMigrationResponse.builder()
+                .scannedKeys(scannedKeys)
+                .migratedMemberships(migratedMemberships)
+                .deletedLegacyKeys(deletedLegacyKeys)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private long migrateBatch(List<String> userKeys) {
+        List<Object> memberships = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String userKey : userKeys) {
+                connection.setCommands().sMembers(userKey.getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+
+        List<long[]> bits = new ArrayList<>();
+        for (int i = 0; i < userKeys.size(); i++) {
+            Long userId = parseUserId(userKeys.get(i));
+            Object members = memberships.get(i);
+            if (userId == null || !(members instanceof Set)) {
+                continue;
+            }
+            for (String couponId : (Set<String>) members) {
+                try {
+                    bits.add(new long[] {Long.parseLong(couponId), userId});
+                } catch (NumberFormatException e) {
+                    log.warn("Skipping invalid coupon id in {}: {}", userKeys.get(i), couponId);
+                }
+            }
+        }
+        if (bits.isEmpty()) {
+            return 0;
+        }
+
+        // 만료 시각 조회는 파이프라인 밖에서 미리 해둡니다.
+        Map<Long, Long> expireAts = new HashMap<>();
+        for (long[] bit : bits) {
+            expireAts.computeIfAbsent(bit[0], redisService::getIssuedBitmapExpireAt);
+        }
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (long[] bit : bits) {
+                Long couponId = bit[0];
+                Long userId = bit[1];
+                byte[] bitmapKey = RedisService.getIssuedBitmapKey(couponId, userId).getBytes(StandardCharsets.UTF_8);
+                connection.stringCommands().setBit(bitmapKey, RedisService.getIssuedBitmapOffset(userId), true);
+                connection.keyCommands().expireAt(bitmapKey, expireAts.get(couponId));
+            }
+            return null;
+        });
+        return bits.size();
+    }
+
+    private Long parseUserId(String userKey) {
+        try {
+            return Long.valueOf(userKey.substring(LEGACY_USER_KEY_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            log.warn("Skipping unexpected membership key: {}", userKey);
+            return null;
+        }
+    }
+}
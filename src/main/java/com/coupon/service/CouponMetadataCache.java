@@ -0,0 +1,279 @@
+package com.coupon.service;
+
+import com.coupon.domain.coupon.ClaimWindow;
+import com.coupon.domain.coupon.Coupon;
+import com.coupon.domain.coupon.CouponMetadata;
+import com.coupon.domain.coupon.CouponStatus;
+import com.coupon.repository.CouponRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 쿠폰 메타데이터를 2단계로 캐시합니다.
+ * 1단계는 크기와 TTL이 제한된 노드 메모리 캐시이고, 2단계는 모든 노드가 함께 쓰는 Redis 해시(coupon:metadata:v2)입니다.
+ * 두 단계 모두 없을 때만 DB를 읽으므로 발급 검증, 목록, 통계 조회가 쿠폰 행을 매번 읽지 않습니다.
+ *
+ * <p>쿠폰이 생성되거나 상태가 바뀌면 Redis 해시를 갱신한 뒤 pub/sub으로 알리고, 알림을 받은 노드는 메모리 캐시를 비웁니다.
+ * Redis를 쓸 수 없으면 DB에서 읽어 메모리 캐시만 채웁니다.
+ */
+@Slf4j
+@Component
+public class CouponMetadataCache implements MessageListener {
+
+    public static final String CHANNEL = "coupon:metadata:invalidate";
+
+    private static final String REDIS_KEY = "coupon:metadata:v2";
+
+    /**
+     * 모든 쿠폰이 Redis 해시에 들어 있음을 나타내는 필드. 이 필드가 있어야 해시 전체를 쿠폰 목록으로 씁니다.
+     */
+    private static final String COMPLETE_FIELD = "complete";
+
+    private static final String SEPARATOR = "|";
+    private static final Pattern SEPARATOR_PATTERN = Pattern.compile(Pattern.quote(SEPARATOR));
+
+    private final CouponRepository couponRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long ttlMillis;
+    private final Duration redisTtl;
+
+    private final Cache<Long, CouponMetadata> entries;
+    private volatile CachedList allCoupons;
+
+    public CouponMetadataCache(
+            CouponRepository couponRepository,
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${coupon.metadata.cache-ttl-ms:30000}") long ttlMillis,
+            @Value("${coupon.metadata.cache-max-size:10000}") long maxSize,
+            @Value("${coupon.metadata.redis-ttl-seconds:3600}") long redisTtlSeconds) {
+        this.couponRepository = couponRepository;
+        this.redisTemplate = redisTemplate;
+        this.ttlMillis = ttlMillis;
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .build();
+    }
+
+    /**
+     * 쿠폰 메타데이터를 조회합니다. 메모리, Redis, DB 순서로 찾고, 같은 쿠폰을 동시에 찾으면 한 번만 읽습니다.
+     *
+     * @param couponId 쿠폰 ID
+     * @return 쿠폰 메타데이터
+     * @throws IllegalArgumentException 존재하지 않는 쿠폰인 경우
+     */
+    public CouponMetadata get(Long couponId) {
+        return entries.get(couponId, this::load);
+    }
+
+    /**
+     * 모든 쿠폰의 메타데이터를 ID 순서로 조회합니다.
+     * Redis 해시에 모든 쿠폰이 들어 있으면 해시를 쓰고, 아니면 DB에서 읽어 해시를 채웁니다.
+     *
+     * @return 쿠폰 메타데이터 목록
+     */
+    public List<CouponMetadata> getAll() {
+        long now = System.currentTimeMillis();
+        CachedList cached = allCoupons;
+        if (cached != null && cached.expiresAtMillis > now) {
+            return cached.coupons;
+        }
+
+        List<CouponMetadata> coupons = readAllFromRedis();
+        if (coupons == null) {
+            coupons = couponRepository.findAll().stream()
+                    .map(CouponMetadata::from)
+                    .toList();
+            writeToRedis(coupons, true);
+            log.debug("Loaded all coupon metadata from database - coupons: {}", coupons.size());
+        }
+
+        coupons = coupons.stream()
+                .sorted(Comparator.comparing(CouponMetadata::getId))
+                .toList();
+        coupons.forEach(metadata -> entries.put(metadata.getId(), metadata));
+        allCoupons = new CachedList(coupons, now + ttlMillis);
+        return coupons;
+    }
+
+    /**
+     * 이미 읽어 둔 쿠폰으로 메모리 캐시를 채웁니다. 발급 시작 전에 미리 채워 두면 첫 요청들이 DB를 읽지 않습니다.
+     *
+     * @param coupon 쿠폰
+     */
+    public void put(Coupon coupon) {
+        entries.put(coupon.getId(), CouponMetadata.from(coupon));
+    }
+
+    /**
+     * 생성되었거나 상태가 바뀐 쿠폰으로 Redis 해시를 갱신하고 다른 노드에 알립니다.
+     *
+     * @param coupon 쿠폰
+     */
+    public void refresh(Coupon coupon) {
+        CouponMetadata metadata = CouponMetadata.from(coupon);
+        entries.put(coupon.getId(), metadata);
+        allCoupons = null;
+        writeToRedis(List.of(metadata), false);
+        publish(coupon.getId());
+    }
+
+    /**
+     * 쿠폰 메타데이터를 모든 노드의 캐시와 Redis 해시에서 제거합니다.
+     *
+     * @param couponId 쿠폰 ID
+     */
+    public void evict(Long couponId) {
+        entries.invalidate(couponId);
+        allCoupons = null;
+        try {
+            // 해시에 빠진 쿠폰이 생기므로 목록으로 쓸 수 없다고 표시합니다.
+            redisTemplate.opsForHash().delete(REDIS_KEY, couponId.toString(), COMPLETE_FIELD);
+        } catch (Exception e) {
+            log.warn("Failed to evict coupon metadata from Redis - couponId: {}", couponId, e);
+        }
+        publish(couponId);
+    }
+
+    /**
+     * 다른 노드가 보낸 변경 알림을 받아 메모리 캐시를 비웁니다. 다음 조회는 Redis 해시에서 읽습니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            entries.invalidate(Long.parseLong(body));
+            allCoupons = null;
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed coupon metadata message: {}", body);
+        }
+    }
+
+    private CouponMetadata load(Long couponId) {
+        CouponMetadata cached = readFromRedis(couponId);
+        if (cached != null) {
+            return cached;
+        }
+
+        CouponMetadata metadata = couponRepository.findById(couponId)
+                .map(CouponMetadata::from)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 쿠폰입니다. id=" + couponId));
+        writeToRedis(List.of(metadata), false);
+        log.debug("Loaded coupon metadata from database - couponId: {}", couponId);
+        return metadata;
+    }
+
+    private CouponMetadata readFromRedis(Long couponId) {
+        try {
+            Object value = redisTemplate.opsForHash().get(REDIS_KEY, couponId.toString());
+            return value != null ? deserialize(value.toString()) : null;
+        } catch (Exception e) {
+            log.warn("Failed to read coupon metadata from Redis - couponId: {}", couponId, e);
+            return null;
+        }
+    }
+
+    private List<CouponMetadata> readAllFromRedis() {
+        try {
+            Map<Object, Object> values = redisTemplate.opsForHash().entries(REDIS_KEY);
+            if (!values.containsKey(COMPLETE_FIELD)) {
+                return null;
+            }
+            List<CouponMetadata> coupons = new ArrayList<>(values.size());
+            for (Map.Entry<Object, Object> entry : values.entrySet()) {
+                if (!COMPLETE_FIELD.equals(entry.getKey())) {
+                    coupons.add(deserialize(entry.getValue().toString()));
+                }
+            }
+            return coupons;
+        } catch (Exception e) {
+            log.warn("Failed to read all coupon metadata from Redis", e);
+            return null;
+        }
+    }
+
+    private void writeToRedis(List<CouponMetadata> coupons, boolean complete) {
+        Map<String, String> fields = new HashMap<>();
+        coupons.forEach(metadata -> fields.put(metadata.getId().toString(), serialize(metadata)));
+        if (complete) {
+            fields.put(COMPLETE_FIELD, "1");
+        }
+        if (fields.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.opsForHash().putAll(REDIS_KEY, fields);
+            redisTemplate.expire(REDIS_KEY, redisTtl);
+        } catch (Exception e) {
+            log.warn("Failed to write coupon metadata to Redis - coupons: {}", coupons.size(), e);
+        }
+    }
+
+    private void publish(Long couponId) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, couponId.toString());
+        } catch (Exception e) {
+            log.warn("Failed to publish coupon metadata invalidation - couponId: {}", couponId, e);
+        }
+    }
+
+    /**
+     * id|totalQuantity|stockShards|validFrom|validTo|status|createdAt|claimWindow|title 형식으로 저장합니다.
+     * 제목에는 구분자가 들어갈 수 있으므로 마지막에 둡니다.
+     * 형식이 바뀌면 이전 형식의 값을 읽지 않도록 해시 키의 버전을 올립니다.
+     */
+    static String serialize(CouponMetadata metadata) {
+        return String.join(SEPARATOR,
+                metadata.getId().toString(),
+                metadata.getTotalQuantity().toString(),
+                metadata.getStockShards().toString(),
+                metadata.getValidFrom().toString(),
+                metadata.getValidTo().toString(),
+                metadata.getStatus().name(),
+                metadata.getCreatedAt().toString(),
+                metadata.getClaimWindow().name(),
+                metadata.getTitle());
+    }
+
+    static CouponMetadata deserialize(String value) {
+        String[] parts = SEPARATOR_PATTERN.split(value, 9);
+        return new CouponMetadata(
+                Long.parseLong(parts[0]),
+                parts[8],
+                Integer.parseInt(parts[1]),
+                LocalDateTime.parse(parts[3]),
+                LocalDateTime.parse(parts[4]),
+                CouponStatus.valueOf(parts[5]),
+                Integer.parseInt(parts[2]),
+                LocalDateTime.parse(parts[6]),
+                ClaimWindow.valueOf(parts[7]));
+    }
+
+    private static final class CachedList {
+
+        private final List<CouponMetadata> coupons;
+        private final long expiresAtMillis;
+
+        private CachedList(List<CouponMetadata> coupons, long expiresAtMillis) {
+            this.coupons = coupons;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+}
@@ -19,6 +19,8 @@ public class CouponScheduler {
 
     private final CouponRepository couponRepository;
     private final RedisService redisService;
+    private final CouponStockLeaseManager stockLeaseManager;
+    private final CouponMetadataCache couponMetadataCache;
 
     /**
      * 매일 자정에 만료된 쿠폰을 처리합니다.
@@ -46,11 +48,13 @@ public class CouponScheduler {
                 int oldQuantity = coupon.getRemainingQuantity();
                 coupon.updateRemainingQuantity(0);
                 
-                // 3. DB에 변경사항 저장
+                // 3. DB에 변경사항 저장하고 모든 노드의 메타데이터 캐시를 갱신
                 couponRepository.save(coupon);
+                couponMetadataCache.refresh(coupon);
                 
-                // 4. Redis의 재고 정보도 0으로 업데이트
+                // 4. Redis의 재고 정보도 0으로 업데이트 (이 노드가 임대한 재고는 반납하지 않고 버림)
                 try {
+                    stockLeaseManager.releaseLease(coupon.getId(), false);
                     redisService.initializeCouponStock(coupon.getId(), 0);
                     log.info("Updated Redis stock for expired coupon: {} (ID: {}), old quantity: {}", 
                             coupon.getTitle(), coupon.getId(), oldQuantity);
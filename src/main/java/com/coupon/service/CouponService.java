@@ -1,8 +1,11 @@
 package com.coupon.service;
 
+import com.coupon.domain.coupon.ClaimWindow;
 import com.coupon.domain.coupon.Coupon;
 import com.coupon.domain.coupon.CouponIssue;
-import com.coupon.domain.user.User;
+import com.coupon.domain.coupon.CouponIssueRecord;
+import com.coupon.domain.coupon.CouponMetadata;
+import com.coupon.domain.coupon.CouponStockSnapshot;
 import com.coupon.dto.coupon.CouponCreateRequest;
 import com.coupon.dto.coupon.CouponIssueResponse;
 import com.coupon.dto.coupon.CouponResponse;
@@ -16,14 +19,18 @@ import com.coupon.repository.CouponRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.DayOfWeek;
 import java.time.temporal.TemporalAdjusters;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.coupon.domain.coupon.CouponStatus;
@@ -38,7 +45,15 @@ public class CouponService {
     private final CouponRepository couponRepository;
     private final CouponIssueRepository couponIssueRepository;
     private final UserService userService;
+    private final UserIdCache userIdCache;
     private final RedisService redisService;
+    private final CouponIssueWriteBehindWriter couponIssueWriter;
+    private final CouponStockLeaseManager stockLeaseManager;
+    private final CouponSoldOutRegistry soldOutRegistry;
+    private final CouponMetadataCache couponMetadataCache;
+    private final CouponStockFlusher stockFlusher;
+    private final CouponIssueMetrics issueMetrics;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 새로운 쿠폰을 생성합니다.
@@ -53,18 +68,28 @@ public class CouponService {
                 .totalQuantity(request.getTotalQuantity())
                 .validFrom(request.getValidFrom())
                 .validTo(request.getValidTo())
+                .stockShards(request.getStockShards())
+                .claimWindow(request.getClaimWindow())
+                .claimLimit(request.getClaimLimit())
                 .build();
 
         Coupon savedCoupon = couponRepository.save(coupon);
         
-        // Redis에 쿠폰 재고 초기화
-        redisService.initializeCouponStock(savedCoupon.getId(), savedCoupon.getTotalQuantity());
+        // Redis에 쿠폰 재고 초기화 (샤드 수만큼 나누어 저장)
+        redisService.initializeCouponStock(
+                savedCoupon.getId(), savedCoupon.getTotalQuantity(), savedCoupon.getStockShards());
+        redisService.registerCouponExpiry(savedCoupon.getId(), savedCoupon.getValidTo());
+        redisService.registerCouponClaimWindow(
+                savedCoupon.getId(), savedCoupon.getClaimWindow(), savedCoupon.getClaimLimit());
+        couponMetadataCache.refresh(savedCoupon);
         
         return new CouponResponse(savedCoupon);
     }
 
     /**
-     * 사용자에게 쿠폰을 발급합니다. Redis를 활용한 분산 락을 사용하여 동시성을 제어합니다.
+     * 사용자에게 쿠폰을 발급합니다. Redis Lua 스크립트로 중복 확인, 기간 내 발급 횟수 확인과 재고 차감을 원자적으로 처리합니다.
+     * 트랜잭션 없이 실행하므로 소진 거절과 Redis만 쓰는 단계는 DB 커넥션을 사용하지 않습니다.
+     * SYNC 모드에서 DB 잔여 수량 차감과 발급 이력 저장만 트랜잭션으로 묶습니다.
      * 
      * @param userId 쿠폰을 발급받을 사용자 ID
      * @param couponId 발급할 쿠폰 ID
@@ -72,106 +97,272 @@ public class CouponService {
      * @throws CouponAlreadyIssuedException 이미 발급받은 쿠폰인 경우
      * @throws CouponExhaustedException 쿠폰 재고가 소진된 경우
      * @throws CouponExpiredException 쿠폰 기간이 만료되었거나 아직 시작되지 않은 경우
-     * @throws DailyLimitExceededException 하루 발급 횟수 제한을 초과한 경우
+     * @throws DailyLimitExceededException 기간 내 발급 횟수 제한을 초과한 경우
      * @throws InternalServerException 발급 처리 중 오류가 발생한 경우
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public CouponIssueResponse issueCoupon(Long userId, Long couponId) {
-        log.info("Attempting to issue coupon - userId: {}, couponId: {}", userId, couponId);
+        // 소진된 쿠폰은 DB, Redis 조회 없이 바로 거절합니다.
+        if (soldOutRegistry.isSoldOut(couponId)) {
+            issueMetrics.recordOutcome(CouponIssueMetrics.Outcome.EXHAUSTED);
+            throw new CouponExhaustedException("쿠폰이 모두 소진되었습니다.");
+        }
+        
+        log.debug("Attempting to issue coupon - userId: {}, couponId: {}", userId, couponId);
         
         try {
-            // 1. 사용자 조회
-            User user = userService.findById(userId);
-            
-            // 2. Redis를 통한 쿠폰 발급 시도 (분산 락 대체)
-            Long result = redisService.tryIssueCoupon(couponId, userId);
-            
-            // 3. 발급 결과 처리
-            if (result == null) {
-                log.error("Unexpected null result from Redis for userId: {}, couponId: {}", userId, couponId);
-                throw new InternalServerException("쿠폰 발급 처리 중 오류가 발생했습니다.");
-            } else if (result == 0) {
-                log.info("Coupon already issued - userId: {}, couponId: {}", userId, couponId);
-                throw new CouponAlreadyIssuedException("이미 발급받은 쿠폰입니다.");
-            } else if (result < 0) {
-                log.info("Coupon out of stock - userId: {}, couponId: {}", userId, couponId);
-                throw new CouponExhaustedException("쿠폰이 모두 소진되었습니다.");
-            } else if (result != 1) {
-                log.error("Unexpected result from Redis: {} for userId: {}, couponId: {}", 
-                        result, userId, couponId);
-                throw new InternalServerException("쿠폰 발급 중 예상치 못한 오류가 발생했습니다.");
+            // 1. 사용자 확인 (사용자 행을 읽지 않고 ID 캐시로 확인)
+            long phaseStart = System.nanoTime();
+            boolean userExists = userIdCache.exists(userId);
+            issueMetrics.recordPhase(CouponIssueMetrics.Phase.USER_LOOKUP, phaseStart);
+            if (!userExists) {
+                throw new IllegalArgumentException("사용자를 찾을 수 없습니다. id=" + userId);
             }
             
-            // 4. 쿠폰 조회 (비관적 락 적용)
-            Coupon coupon = couponRepository.findByIdWithPessimisticLock(couponId)
-                    .orElseThrow(() -> {
-                        log.error("Coupon not found after successful Redis operation - couponId: {}", couponId);
-                        return new IllegalArgumentException("존재하지 않는 쿠폰입니다. id=" + couponId);
-                    });
-                    
-            // 5. 쿠폰 유효성 검사 (기간 등)
-            validateCouponIssue(user, coupon);
+            // 2. 쿠폰 기간 검증 (캐시된 메타데이터 사용)
+            // 발급 스크립트가 재고를 차감하고 사용자를 등록한 뒤에는 되돌려야 하므로 스크립트보다 먼저 확인합니다.
+            CouponMetadata coupon = couponMetadataCache.get(couponId);
+            validateCouponPeriod(coupon);
             
-            // 6. DB에 쿠폰 발급 이력 저장
-            CouponIssue couponIssue = CouponIssue.builder()
-                    .user(user)
-                    .coupon(coupon)
-                    .issuedAt(LocalDateTime.now())
-                    .build();
+            // 스트림 모드에서는 발급 이력 저장을 스트림 컨슈머에 맡기고 DB에 쓰지 않습니다.
+            if (redisService.isIssueStreamEnabled()) {
+                return issueCouponViaStream(userId, couponId);
+            }
             
-            CouponIssue savedCouponIssue = couponIssueRepository.save(couponIssue);
+            // 3. Redis Lua 스크립트를 통한 쿠폰 발급 시도
+            // 중복 발급 확인은 발급 스크립트가 원자적으로 처리하므로 DB를 조회하지 않습니다.
+            Long result = claimStock(couponId, userId);
             
-            // 7. 재고 동기화 (Redis와 DB 간의 불일치 방지를 위한 안전장치)
-            int remainingInRedis = redisService.getRemainingCouponStock(couponId);
-            int expectedRemaining = coupon.getRemainingQuantity() - 1;
+            // 4. 발급 결과 처리
+            verifyIssueResult(result, userId, couponId);
             
-            if (remainingInRedis != expectedRemaining) {
-                log.warn("Redis and DB stock mismatch detected - couponId: {}, Redis: {}, DB: {}", 
-                        couponId, remainingInRedis, expectedRemaining);
-                
-                // Redis 재고를 DB와 동기화 (안전장치)
-                try {
-                    redisService.initializeCouponStock(couponId, expectedRemaining);
-                    log.info("Synchronized Redis stock with DB - couponId: {}, new stock: {}", 
-                            couponId, expectedRemaining);
-                } catch (Exception e) {
-                    log.error("Failed to synchronize Redis stock with DB - couponId: {}", couponId, e);
-                    // 계속 진행 (주요 비즈니스 로직에는 영향을 주지 않음)
-                }
+            // write-behind 모드에서는 발급 이력을 큐에 넣고 바로 응답합니다.
+            if (couponIssueWriter.isEnabled()) {
+                return issueCouponWriteBehind(userId, couponId, coupon.getClaimWindow());
             }
             
-            log.info("Successfully issued coupon - userId: {}, couponId: {}, issueId: {}", 
-                    userId, couponId, savedCouponIssue.getId());
-                    
-            return new CouponIssueResponse(
-                    savedCouponIssue.getId(),
-                    savedCouponIssue.getUser().getId(),
-                    savedCouponIssue.getCoupon().getId(),
-                    savedCouponIssue.getIssuedAt()
-            );
+            // 5. DB 잔여 수량 차감과 발급 이력 저장 (이 단계에서만 커넥션을 사용)
+            CouponIssueResponse response;
+            try {
+                response = transactionTemplate.execute(status -> persistIssue(userId, couponId, coupon.getClaimWindow()));
+            } catch (CouponExhaustedException e) {
+                throw e;
+            } catch (RuntimeException e) {
+                // 트랜잭션이 롤백되었으므로 Redis에서 확정한 발급도 재고까지 되돌립니다.
+                releaseCouponClaim(couponId, userId);
+                throw e;
+            }
+            issueMetrics.recordOutcome(CouponIssueMetrics.Outcome.ISSUED);
+            return response;
             
         } catch (CouponAlreadyIssuedException | CouponExhaustedException | CouponExpiredException | DailyLimitExceededException e) {
             // 이미 처리된 비즈니스 예외는 그대로 전파
+            issueMetrics.recordFailure(e);
             throw e;
         } catch (Exception e) {
+            issueMetrics.recordFailure(e);
             log.error("Unexpected error while issuing coupon - userId: {}, couponId: {}", userId, couponId, e);
             throw new InternalServerException("쿠폰 발급 처리 중 오류가 발생했습니다.", e);
         }
     }
     
+    /**
+     * SYNC 모드에서 DB 잔여 수량을 차감하고 발급 이력을 저장합니다. 트랜잭션 안에서 호출합니다.
+     * 
+     * @param userId 쿠폰을 발급받을 사용자 ID
+     * @param couponId 발급할 쿠폰 ID
+     * @param claimWindow 쿠폰의 발급 제한 기간
+     * @return 쿠폰 발급 결과 정보
+     * @throws CouponExhaustedException DB 잔여 수량이 없는 경우
+     */
+    private CouponIssueResponse persistIssue(Long userId, Long couponId, ClaimWindow claimWindow) {
+        // 모아서 반영하는 경우 Redis 결과를 그대로 따르고, 아니면 조건부 UPDATE의 변경된 행 수로 결과를 판단합니다.
+        if (stockFlusher.isEnabled()) {
+            stockFlusher.record(couponId);
+        } else if (decreaseDbStock(couponId) == 0) {
+            log.warn("DB stock exhausted after successful Redis operation - userId: {}, couponId: {}", userId, couponId);
+            releaseRedisClaim(couponId, userId);
+            soldOutRegistry.markSoldOut(couponId);
+            throw new CouponExhaustedException("쿠폰이 모두 소진되었습니다.");
+        }
+        
+        // 사용자와 쿠폰 행은 읽지 않고 참조만 사용
+        CouponIssue couponIssue = CouponIssue.builder()
+                .user(userService.getReference(userId))
+                .coupon(couponRepository.getReferenceById(couponId))
+                .issuedAt(LocalDateTime.now())
+                .claimWindow(claimWindow)
+                .build();
+        
+        long start = System.nanoTime();
+        CouponIssue savedCouponIssue = couponIssueRepository.save(couponIssue);
+        issueMetrics.recordPhase(CouponIssueMetrics.Phase.INSERT, start);
+        
+        log.info("Successfully issued coupon - userId: {}, couponId: {}, issueId: {}", 
+                userId, couponId, savedCouponIssue.getId());
+                
+        return new CouponIssueResponse(
+                savedCouponIssue.getId(),
+                userId,
+                couponId,
+                savedCouponIssue.getIssuedAt()
+        );
+    }
+    
+    /**
+     * Redis에서 확정된 발급 사용자 기록을 되돌립니다. DB에서 발급이 거절되었을 때 사용자가 다시 시도할 수 있도록 합니다.
+     * 
+     * @param couponId 쿠폰 ID
+     * @param userId 사용자 ID
+     */
+    private void releaseRedisClaim(Long couponId, Long userId) {
+        try {
+            redisService.removeCouponUser(couponId, userId);
+        } catch (Exception e) {
+            log.error("Failed to release Redis claim - userId: {}, couponId: {}", userId, couponId, e);
+            // 계속 진행 (발급 거절 응답에는 영향을 주지 않음)
+        }
+    }
+    
+    /**
+     * Redis에서 확정된 발급을 재고까지 되돌립니다. DB 저장이 실패해 발급이 없던 일이 되었을 때 사용합니다.
+     * 
+     * @param couponId 쿠폰 ID
+     * @param userId 사용자 ID
+     */
+    private void releaseCouponClaim(Long couponId, Long userId) {
+        try {
+            redisService.releaseCouponClaim(couponId, userId);
+        } catch (Exception e) {
+            log.error("Failed to release Redis claim - userId: {}, couponId: {}", userId, couponId, e);
+        }
+    }
+    
+    /**
+     * 쿠폰 재고를 차감하고 발급 사용자를 등록합니다.
+     * 재고 임대를 사용하면 노드가 임대한 재고에서 차감하고, 그렇지 않으면 Redis 재고 키에서 직접 차감합니다.
+     * 
+     * @param couponId 쿠폰 ID
+     * @param userId 사용자 ID
+     * @return 발급 결과 (1: 성공, 0: 이미 발급됨, -1: 재고 부족, -2: 기간 내 발급 횟수 초과)
+     */
+    private Long claimStock(Long couponId, Long userId) {
+        long start = System.nanoTime();
+        try {
+            if (stockLeaseManager.isEnabled()) {
+                return stockLeaseManager.tryIssueCoupon(couponId, userId);
+            }
+            return redisService.tryIssueCoupon(couponId, userId);
+        } finally {
+            issueMetrics.recordPhase(CouponIssueMetrics.Phase.REDIS_SCRIPT, start);
+        }
+    }
+    
+    /**
+     * DB 잔여 수량을 조건부 UPDATE로 차감합니다. 쿠폰 행 잠금을 기다리는 시간이 포함됩니다.
+     * 
+     * @param couponId 쿠폰 ID
+     * @return 변경된 행 수 (0이면 DB 재고 부족)
+     */
+    private int decreaseDbStock(Long couponId) {
+        long start = System.nanoTime();
+        try {
+            return couponRepository.decreaseRemainingQuantity(couponId);
+        } finally {
+            issueMetrics.recordPhase(CouponIssueMetrics.Phase.DB_LOCK, start);
+        }
+    }
+    
+    /**
+     * Redis 발급 스크립트의 결과 코드를 확인합니다.
+     * 
+     * @param result 발급 결과 (1: 성공, 0: 이미 발급됨, -1: 재고 부족, -2: 기간 내 발급 횟수 초과)
+     * @param userId 사용자 ID
+     * @param couponId 쿠폰 ID
+     * @throws CouponAlreadyIssuedException 이미 발급받은 쿠폰인 경우
+     * @throws CouponExhaustedException 쿠폰 재고가 소진된 경우
+     * @throws DailyLimitExceededException 기간 내 발급 횟수 제한을 초과한 경우
+     * @throws InternalServerException 결과 코드가 올바르지 않은 경우
+     */
+    private void verifyIssueResult(Long result, Long userId, Long couponId) {
+        if (result == null) {
+            log.error("Unexpected null result from Redis for userId: {}, couponId: {}", userId, couponId);
+            throw new InternalServerException("쿠폰 발급 처리 중 오류가 발생했습니다.");
+        } else if (result == 0) {
+            // 예상된 거절은 발급 메트릭으로 세고, 로그는 예외 처리기에서 샘플링해 남깁니다.
+            throw new CouponAlreadyIssuedException("이미 발급받은 쿠폰입니다.");
+        } else if (result == -2) {
+            throw new DailyLimitExceededException("발급 가능 횟수를 초과했습니다. 다음 기간에 다시 시도해주세요.");
+        } else if (result < 0) {
+            // 재고를 임대하는 경우 이 노드의 임대가 바닥나도 다른 노드의 임대분이 남아 있을 수 있습니다.
+            if (!stockLeaseManager.isEnabled() || !stockLeaseManager.isStockLeasedElsewhere(couponId)) {
+                soldOutRegistry.markSoldOut(couponId);
+            }
+            throw new CouponExhaustedException("쿠폰이 모두 소진되었습니다.");
+        } else if (result != 1) {
+            log.error("Unexpected result from Redis: {} for userId: {}, couponId: {}", 
+                    result, userId, couponId);
+            throw new InternalServerException("쿠폰 발급 중 예상치 못한 오류가 발생했습니다.");
+        }
+    }
+    
+    /**
+     * 발급 이력을 Redis Stream에 기록하여 쿠폰을 발급합니다.
+     * 발급 스크립트가 재고 차감과 함께 스트림에 이력을 남기고, 컨슈머 그룹이 이를 DB에 저장합니다.
+     * 기간 검증은 {@link #issueCoupon}에서 스크립트 실행 전에 마칩니다.
+     * 
+     * @param userId 쿠폰을 발급받을 사용자 ID
+     * @param couponId 발급할 쿠폰 ID
+     * @return 쿠폰 발급 결과 정보
+     */
+    private CouponIssueResponse issueCouponViaStream(Long userId, Long couponId) {
+        Long result = claimStock(couponId, userId);
+        verifyIssueResult(result, userId, couponId);
+        recordFlushedStock(couponId);
+        issueMetrics.recordOutcome(CouponIssueMetrics.Outcome.ISSUED);
+        
+        log.info("Appended coupon issue to stream - userId: {}, couponId: {}", userId, couponId);
+        return new CouponIssueResponse(null, userId, couponId, LocalDateTime.now());
+    }
+    
+    /**
+     * 발급 이력을 write-behind 큐에 넣어 쿠폰을 발급합니다.
+     * 발급 이력은 별도 스레드가 묶어서 저장하므로 응답의 발급 ID는 비어 있습니다.
+     * 
+     * @param userId 쿠폰을 발급받을 사용자 ID
+     * @param couponId 발급할 쿠폰 ID
+     * @param claimWindow 쿠폰의 발급 제한 기간
+     * @return 쿠폰 발급 결과 정보
+     */
+    private CouponIssueResponse issueCouponWriteBehind(Long userId, Long couponId, ClaimWindow claimWindow) {
+        LocalDateTime issuedAt = LocalDateTime.now();
+        couponIssueWriter.enqueue(CouponIssueRecord.of(couponId, userId, issuedAt, claimWindow));
+        recordFlushedStock(couponId);
+        issueMetrics.recordOutcome(CouponIssueMetrics.Outcome.ISSUED);
+        
+        log.info("Queued coupon issue for write-behind - userId: {}, couponId: {}", userId, couponId);
+        return new CouponIssueResponse(null, userId, couponId, issuedAt);
+    }
 
     /**
-     * 쿠폰 발급 전 유효성을 검증합니다.
+     * DB 잔여 수량을 모아서 반영하도록 설정된 경우 발급 1건을 기록합니다.
      * 
-     * @param user 쿠폰을 발급받을 사용자
-     * @param coupon 발급할 쿠폰
+     * @param couponId 쿠폰 ID
+     */
+    private void recordFlushedStock(Long couponId) {
+        if (stockFlusher.isEnabled()) {
+            stockFlusher.record(couponId);
+        }
+    }
+
+    /**
+     * 쿠폰 발급 기간을 검증합니다. 재고 확인과 중복 발급, 기간 내 발급 횟수 확인은 Redis 발급 스크립트가 담당합니다.
+     * JMH 벤치마크(src/jmh)에서 직접 호출할 수 있도록 패키지 범위로 둡니다.
+     * 
+     * @param coupon 발급할 쿠폰의 메타데이터
      * @throws CouponExpiredException 쿠폰 기간이 만료되었거나 아직 시작되지 않은 경우
-     * @throws CouponExhaustedException 쿠폰 재고가 소진된 경우
-     * @throws CouponAlreadyIssuedException 이미 발급받은 쿠폰인 경우
-     * @throws DailyLimitExceededException 하루 발급 횟수 제한을 초과한 경우
      */
-    private void validateCouponIssue(User user, Coupon coupon) {
-        // 1. 쿠폰 기간 검증
+    void validateCouponPeriod(CouponMetadata coupon) {
         LocalDateTime now = LocalDateTime.now();
         if (now.isBefore(coupon.getValidFrom())) {
             throw new CouponExpiredException("쿠폰 발급 기간이 아닙니다.");
@@ -179,34 +370,33 @@ public class CouponService {
         if (now.isAfter(coupon.getValidTo())) {
             throw new CouponExpiredException("만료된 쿠폰입니다.");
         }
-        
-        // 2. 재고 확인
-        if (coupon.getRemainingQuantity() <= 0) {
-            throw new CouponExhaustedException("쿠폰이 모두 소진되었습니다.");
-        }
-        
-        // 3. 중복 발급 방지
-        if (couponIssueRepository.existsByUserIdAndCouponId(user.getId(), coupon.getId())) {
-            throw new CouponAlreadyIssuedException("이미 발급받은 쿠폰입니다.");
-        }
-        
-        // 4. 1일 1회 발급 제한
-        if (couponIssueRepository.existsByUserIdAndCouponIdToday(user.getId(), coupon.getId())) {
-            throw new DailyLimitExceededException("하루에 한 번만 발급 가능한 쿠폰입니다.");
-        }
     }
 
     /**
-     * 모든 쿠폰 목록을 조회합니다.
+     * 모든 쿠폰 목록을 조회합니다. 쿠폰 정보는 메타데이터 캐시에서, 잔여 수량은 Redis 재고에서 읽습니다.
      * 
      * @return 쿠폰 목록
      */
     public List<CouponResponse> getAllCoupons() {
-        return couponRepository.findAll().stream()
-                .map(CouponResponse::new)
+        List<CouponMetadata> coupons = couponMetadataCache.getAll();
+        Map<Long, Integer> remainingQuantities = getRemainingQuantities(coupons);
+        return coupons.stream()
+                .map(coupon -> new CouponResponse(coupon, remainingQuantities.get(coupon.getId())))
                 .collect(Collectors.toList());
     }
     
+    /**
+     * 여러 쿠폰의 Redis 잔여 재고를 파이프라인 한 번으로 조회합니다. 재고 키가 없으면 0으로 봅니다.
+     */
+    private Map<Long, Integer> getRemainingQuantities(List<CouponMetadata> coupons) {
+        List<Long> couponIds = coupons.stream().map(CouponMetadata::getId).toList();
+        Map<Long, Integer> remainingQuantities = new HashMap<>();
+        for (CouponStockSnapshot snapshot : redisService.getCouponStockSnapshots(couponIds)) {
+            remainingQuantities.put(snapshot.getCouponId(), snapshot.getRemaining());
+        }
+        return remainingQuantities;
+    }
+    
     /**
      * 사용자가 발급받은 쿠폰 목록을 조회합니다.
      * 
@@ -239,8 +429,7 @@ public class CouponService {
      */
     public CouponStatisticsResponse getCouponStatistics(Long couponId) {
         // 쿠폰 조회
-        Coupon coupon = couponRepository.findById(couponId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 쿠폰입니다. id=" + couponId));
+        CouponMetadata coupon = couponMetadataCache.get(couponId);
         
         // 통계 기간 계산
         LocalDate today = LocalDate.now();
@@ -260,7 +449,8 @@ public class CouponService {
         long issuedThisWeek = couponIssueRepository.countByCouponIdIssuedThisWeek(couponId, startOfWeek, endOfWeek);
         long issuedThisMonth = couponIssueRepository.countByCouponIdIssuedThisMonth(couponId, startOfMonth, endOfMonth);
         
-        return CouponStatisticsResponse.from(coupon, issuedToday, issuedThisWeek, issuedThisMonth);
+        return CouponStatisticsResponse.from(coupon, redisService.getRemainingCouponStock(couponId),
+                issuedToday, issuedThisWeek, issuedThisMonth);
     }
     
     /**
@@ -269,16 +459,16 @@ public class CouponService {
      * @return 전체 쿠폰 발급 통계 정보
      */
     public CouponStatisticsResponse getAllCouponsStatistics() {
-        // 쿠폰 상태별 수량 조회
-        int totalCoupons = (int) couponRepository.count();
-        int activeCoupons = (int) couponRepository.countByStatus(CouponStatus.ACTIVE);
-        int expiredCoupons = (int) couponRepository.countByStatus(CouponStatus.EXPIRED);
-        int exhaustedCoupons = (int) couponRepository.countByStatus(CouponStatus.EXHAUSTED);
+        // 쿠폰 상태별 수량 조회 (메타데이터 캐시 기준)
+        List<CouponMetadata> coupons = couponMetadataCache.getAll();
+        int totalCoupons = coupons.size();
+        int activeCoupons = countByStatus(coupons, CouponStatus.ACTIVE);
+        int expiredCoupons = countByStatus(coupons, CouponStatus.EXPIRED);
+        int exhaustedCoupons = countByStatus(coupons, CouponStatus.EXHAUSTED);
         
-        // 쿠폰 총 수량 및 남은 수량 조회
-        Object[] quantities = couponRepository.getTotalAndRemainingQuantity();
-        int totalQuantity = quantities[0] != null ? ((Number) quantities[0]).intValue() : 0;
-        int remainingQuantity = quantities[1] != null ? ((Number) quantities[1]).intValue() : 0;
+        // 쿠폰 총 수량 및 남은 수량 조회 (남은 수량은 Redis 재고 기준)
+        int totalQuantity = coupons.stream().mapToInt(CouponMetadata::getTotalQuantity).sum();
+        int remainingQuantity = getRemainingQuantities(coupons).values().stream().mapToInt(Integer::intValue).sum();
         
         // 통계 기간 계산
         LocalDate today = LocalDate.now();
@@ -302,4 +492,8 @@ public class CouponService {
                 issuedToday, issuedThisWeek, issuedThisMonth
         );
     }
+    
+    private int countByStatus(List<CouponMetadata> coupons, CouponStatus status) {
+        return (int) coupons.stream().filter(coupon -> coupon.getStatus() == status).count();
+    }
 }
@@ -0,0 +1,121 @@
+package com.coupon.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 재고가 소진된 쿠폰을 노드 메모리에 기록해 두는 저장소입니다.
+ * 소진된 쿠폰에 대한 발급 요청은 DB나 Redis를 거치지 않고 바로 거절할 수 있습니다.
+ * 한 노드에서 소진 또는 재고 복구를 감지하면 Redis pub/sub으로 다른 노드에 알립니다.
+ * 복구 알림을 놓친 노드가 계속 거절하지 않도록 소진 표시는 일정 시간이 지나면 사라지고, 다음 요청이 Redis 재고로 다시 확인합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponSoldOutRegistry implements MessageListener {
+
+    public static final String CHANNEL = "coupon:sold-out";
+
+    private static final String EXHAUSTED = "EXHAUSTED";
+    private static final String AVAILABLE = "AVAILABLE";
+    private static final String SEPARATOR = ":";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 소진된 쿠폰 ID와 소진 표시가 사라지는 시각(epoch millis)
+     */
+    private final Map<Long, Long> soldOutCoupons = new ConcurrentHashMap<>();
+
+    @Value("${coupon.stock.sold-out.flag-ttl-ms:5000}")
+    private long flagTtlMillis = 5000;
+
+    /**
+     * 쿠폰이 소진 상태인지 확인합니다. 메모리만 조회하며, 유지 시간이 지난 표시는 지우고 소진되지 않은 것으로 봅니다.
+     *
+     * @param couponId 쿠폰 ID
+     * @return 소진되었으면 true
+     */
+    public boolean isSoldOut(Long couponId) {
+        Long expiresAt = soldOutCoupons.get(couponId);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (expiresAt > System.currentTimeMillis()) {
+            return true;
+        }
+        soldOutCoupons.remove(couponId, expiresAt);
+        return false;
+    }
+
+    /**
+     * 쿠폰을 소진 상태로 표시하고 다른 노드에 알립니다.
+     * 이미 소진 상태로 알고 있는 쿠폰이면 유지 시간만 늘리고 다시 알리지 않습니다.
+     *
+     * @param couponId 쿠폰 ID
+     */
+    public void markSoldOut(Long couponId) {
+        boolean known = isSoldOut(couponId);
+        soldOutCoupons.put(couponId, System.currentTimeMillis() + flagTtlMillis);
+        if (!known) {
+            log.info("Coupon marked as sold out - couponId: {}", couponId);
+            publish(EXHAUSTED, couponId);
+        }
+    }
+
+    /**
+     * 쿠폰의 소진 표시를 지우고 다른 노드에 알립니다. 재고가 다시 채워졌을 때 호출합니다.
+     * 이 노드가 소진 상태로 알고 있지 않았더라도 다른 노드는 표시를 가지고 있을 수 있으므로 항상 알립니다.
+     *
+     * @param couponId 쿠폰 ID
+     */
+    public void clear(Long couponId) {
+        if (soldOutCoupons.remove(couponId) != null) {
+            log.info("Coupon sold-out flag cleared - couponId: {}", couponId);
+        }
+        publish(AVAILABLE, couponId);
+    }
+
+    /**
+     * 다른 노드에서 보낸 소진/복구 알림을 반영합니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(SEPARATOR);
+        if (separator < 0) {
+            log.warn("Ignoring malformed sold-out message: {}", body);
+            return;
+        }
+
+        try {
+            String event = body.substring(0, separator);
+            Long couponId = Long.valueOf(body.substring(separator + 1));
+            if (EXHAUSTED.equals(event)) {
+                soldOutCoupons.put(couponId, System.currentTimeMillis() + flagTtlMillis);
+            } else if (AVAILABLE.equals(event)) {
+                soldOutCoupons.remove(couponId);
+            }
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed sold-out message: {}", body);
+        }
+    }
+
+    private void publish(String event, Long couponId) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, event + SEPARATOR + couponId);
+        } catch (Exception e) {
+            // 알림에 실패해도 다른 노드는 Redis 재고 확인으로 소진을 스스로 감지합니다.
+            log.warn("Failed to publish sold-out event - event: {}, couponId: {}", event, couponId, e);
+        }
+    }
+}
@@ -0,0 +1,384 @@
+package com.coupon.service;
+
+import com.coupon.repository.CouponRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 쿠폰 발급으로 줄어든 DB 잔여 수량을 쿠폰별로 모아서 반영하는 저장기입니다.
+ * 발급마다 쿠폰 행을 갱신하지 않고 메모리에서 건수를 센 뒤, 일정 시간 또는 일정 건수마다 한 번의 UPDATE로 반영합니다.
+ * 발급 허용 여부는 Redis가 판단하고 DB 잔여 수량은 뒤따라 맞춰지는 사본으로 취급합니다.
+ * 아직 반영하지 않은 건수는 노드별 저널 파일에 남기므로 비정상 종료 후 재시작할 때 다시 반영합니다.
+ * 저널 쓰기는 그룹 커밋으로 처리하여, 동시에 들어온 기록을 먼저 잠금을 잡은 스레드가 한 번에 쓰고 flush합니다.
+ *
+ * <p>저널은 한 줄에 한 항목을 기록합니다.
+ * <ul>
+ *     <li>{@code C <couponId>}: 발급 1건</li>
+ *     <li>{@code C <couponId> <count>}: 발급 count건</li>
+ *     <li>{@code A <couponId> <delta>}: DB에 반영한 수량</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class CouponStockFlusher {
+
+    private static final String CLAIM = "C";
+    private static final String APPLIED = "A";
+
+    private final CouponRepository couponRepository;
+    private final boolean enabled;
+    private final int maxPending;
+    private final Path journalPath;
+
+    private final Map<Long, AtomicLong> pendingCounts = new ConcurrentHashMap<>();
+    private final AtomicLong pendingTotal = new AtomicLong();
+    private final AtomicBoolean flushing = new AtomicBoolean();
+
+    /**
+     * 저널 파일 쓰기 중 가상 스레드가 캐리어 스레드에 고정되지 않도록 synchronized 대신 ReentrantLock을 사용합니다.
+     */
+    private final ReentrantLock journalLock = new ReentrantLock();
+
+    /**
+     * 저널에 아직 쓰지 않은 발급 기록. 잠금을 잡은 스레드가 모두 꺼내 한 번에 씁니다.
+     */
+    private final ConcurrentLinkedQueue<PendingClaim> journalBuffer = new ConcurrentLinkedQueue<>();
+
+    private final AtomicLong totalRecorded = new AtomicLong();
+    private final AtomicLong totalFlushed = new AtomicLong();
+    private final AtomicLong flushedUpdates = new AtomicLong();
+
+    private BufferedWriter journal;
+
+    public CouponStockFlusher(
+            CouponRepository couponRepository,
+            @Value("${coupon.stock.flush.enabled:false}") boolean enabled,
+            @Value("${coupon.stock.flush.max-pending:1000}") int maxPending,
+            @Value("${coupon.stock.flush.journal-dir:data}") String journalDir,
+            @Value("${coupon.stock.flush.node-id:}") String nodeId) {
+        this.couponRepository = couponRepository;
+        this.enabled = enabled;
+        this.maxPending = maxPending;
+        // 재시작할 때 자기 저널만 복구하고 비우도록 노드마다 다른 파일을 사용합니다.
+        this.journalPath = Paths.get(journalDir, "coupon-stock-flush-" + resolveNodeId(nodeId) + ".journal");
+    }
+
+    /**
+     * 저널 파일 이름에 쓸 노드 ID를 정합니다. 재시작해도 같은 파일을 찾아야 하므로 프로세스 ID 대신 호스트 이름을 기본값으로 사용합니다.
+     */
+    private static String resolveNodeId(String nodeId) {
+        if (StringUtils.hasText(nodeId)) {
+            return nodeId;
+        }
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            throw new IllegalStateException("Cannot resolve host name for coupon stock flush journal; set coupon.stock.flush.node-id", e);
+        }
+    }
+
+    /**
+     * 이전 실행에서 반영하지 못한 수량을 저널에서 읽어 DB에 반영한 뒤 새 저널을 엽니다.
+     */
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            if (journalPath.getParent() != null) {
+                Files.createDirectories(journalPath.getParent());
+            }
+            recoverJournal();
+            journal = Files.newBufferedWriter(journalPath, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open coupon stock flush journal: " + journalPath, e);
+        }
+        log.info("Started coupon stock flusher - maxPending: {}, journal: {}", maxPending, journalPath);
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 수량을 모두 반영합니다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (!enabled) {
+            return;
+        }
+        flush();
+        journalLock.lock();
+        try {
+            journal.close();
+        } catch (IOException e) {
+            log.warn("Failed to close coupon stock flush journal", e);
+        } finally {
+            journalLock.unlock();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 발급 1건을 기록합니다.
+     *
+     * @param couponId 쿠폰 ID
+     * @see #record(Long, int)
+     */
+    public void record(Long couponId) {
+        record(couponId, 1);
+    }
+
+    /**
+     * 발급 건수를 기록합니다. 트랜잭션 안에서 호출하면 커밋된 뒤에 기록하므로, 롤백된 발급은 DB 잔여 수량에 반영되지 않습니다.
+     * 저널에 남긴 뒤 메모리 카운터를 올리며, 쌓인 건수가 기준을 넘으면 바로 반영합니다.
+     *
+     * @param couponId 쿠폰 ID
+     * @param count 발급 건수
+     */
+    public void record(Long couponId, int count) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recordNow(couponId, count);
+                }
+            });
+        } else {
+            recordNow(couponId, count);
+        }
+    }
+
+    private void recordNow(Long couponId, int count) {
+        PendingClaim claim = new PendingClaim(couponId, count);
+        journalBuffer.add(claim);
+        writeJournalBuffer(claim);
+        totalRecorded.addAndGet(count);
+
+        if (pendingTotal.addAndGet(count) >= maxPending) {
+            flush();
+        }
+    }
+
+    /**
+     * 버퍼에 모인 발급 기록을 한 번에 저널에 쓰고 flush합니다. 잠금을 기다리는 동안 다른 스레드가 이미 써 주었으면 바로 돌아갑니다.
+     * 메모리 카운터는 저널에 쓴 뒤 같은 잠금 안에서 올리므로, 저널을 비울 때 쓰지 않은 기록이 카운터에만 남는 일이 없습니다.
+     */
+    private void writeJournalBuffer(PendingClaim own) {
+        journalLock.lock();
+        try {
+            if (own.written) {
+                throwIfFailed(own);
+                return;
+            }
+            List<PendingClaim> batch = new ArrayList<>();
+            PendingClaim claim;
+            while ((claim = journalBuffer.poll()) != null) {
+                batch.add(claim);
+            }
+            try {
+                for (PendingClaim pending : batch) {
+                    journal.write(pending.count == 1
+                            ? CLAIM + " " + pending.couponId
+                            : CLAIM + " " + pending.couponId + " " + pending.count);
+                    journal.newLine();
+                }
+                journal.flush();
+            } catch (IOException e) {
+                // 함께 묶인 다른 스레드의 기록도 실패로 표시해 각자 호출한 쪽에 알립니다.
+                for (PendingClaim pending : batch) {
+                    pending.failure = e;
+                    pending.written = true;
+                }
+                throw new UncheckedIOException("Failed to write coupon stock flush journal", e);
+            }
+            for (PendingClaim pending : batch) {
+                pendingCounts.computeIfAbsent(pending.couponId, id -> new AtomicLong()).addAndGet(pending.count);
+                pending.written = true;
+            }
+        } finally {
+            journalLock.unlock();
+        }
+    }
+
+    private void throwIfFailed(PendingClaim claim) {
+        if (claim.failure != null) {
+            throw new UncheckedIOException("Failed to write coupon stock flush journal", claim.failure);
+        }
+    }
+
+    /**
+     * 쿠폰별로 모인 수량을 DB에 반영합니다. 다른 스레드가 반영 중이면 건너뜁니다.
+     */
+    @Scheduled(fixedDelayString = "${coupon.stock.flush.interval-ms:100}")
+    public void flush() {
+        if (!enabled || !flushing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            pendingCounts.forEach(this::flushCoupon);
+            compactJournalIfIdle();
+        } finally {
+            flushing.set(false);
+        }
+    }
+
+    private void flushCoupon(Long couponId, AtomicLong counter) {
+        long delta = counter.getAndSet(0);
+        if (delta <= 0) {
+            return;
+        }
+        pendingTotal.addAndGet(-delta);
+
+        try {
+            couponRepository.decreaseRemainingQuantityBy(couponId, (int) delta);
+        } catch (Exception e) {
+            // 반영하지 못한 수량은 다음 주기에 다시 시도합니다.
+            counter.addAndGet(delta);
+            pendingTotal.addAndGet(delta);
+            log.error("Failed to flush coupon stock - couponId: {}, delta: {}", couponId, delta, e);
+            return;
+        }
+
+        journalLock.lock();
+        try {
+            appendJournal(APPLIED + " " + couponId + " " + delta);
+        } finally {
+            journalLock.unlock();
+        }
+        totalFlushed.addAndGet(delta);
+        flushedUpdates.incrementAndGet();
+        log.debug("Flushed coupon stock - couponId: {}, delta: {}", couponId, delta);
+    }
+
+    /**
+     * 반영할 수량이 하나도 없으면 저널을 비웁니다. 저널이 끝없이 커지지 않도록 합니다.
+     */
+    private void compactJournalIfIdle() {
+        journalLock.lock();
+        try {
+            if (pendingCounts.values().stream().anyMatch(counter -> counter.get() > 0)) {
+                return;
+            }
+            try {
+                journal.close();
+                journal = Files.newBufferedWriter(journalPath, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+            } catch (IOException e) {
+                log.error("Failed to compact coupon stock flush journal", e);
+            }
+        } finally {
+            journalLock.unlock();
+        }
+    }
+
+    private void appendJournal(String line) {
+        try {
+            journal.write(line);
+            journal.newLine();
+            journal.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write coupon stock flush journal", e);
+        }
+    }
+
+    /**
+     * 저널에서 발급 건수와 반영 수량을 합산해 아직 반영하지 않은 수량을 DB에 반영합니다.
+     */
+    private void recoverJournal() throws IOException {
+        if (!Files.exists(journalPath)) {
+            return;
+        }
+
+        Map<Long, Long> unapplied = new HashMap<>();
+        List<String> lines = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+        for (String line : lines) {
+            String[] fields = line.trim().split(" ");
+            try {
+                if (CLAIM.equals(fields[0]) && fields.length == 2) {
+                    unapplied.merge(Long.valueOf(fields[1]), 1L, Long::sum);
+                } else if (CLAIM.equals(fields[0]) && fields.length == 3) {
+                    unapplied.merge(Long.valueOf(fields[1]), Long.parseLong(fields[2]), Long::sum);
+                } else if (APPLIED.equals(fields[0]) && fields.length == 3) {
+                    unapplied.merge(Long.valueOf(fields[1]), -Long.parseLong(fields[2]), Long::sum);
+                }
+            } catch (NumberFormatException e) {
+                // 기록 도중 종료되어 잘린 마지막 줄은 무시합니다.
+                log.warn("Ignoring malformed coupon stock flush journal line: {}", line);
+            }
+        }
+
+        unapplied.forEach((couponId, delta) -> {
+            if (delta > 0) {
+                couponRepository.decreaseRemainingQuantityBy(couponId, delta.intValue());
+                totalFlushed.addAndGet(delta);
+                log.info("Recovered unflushed coupon stock from journal - couponId: {}, delta: {}", couponId, delta);
+            }
+        });
+    }
+
+    public long getPendingCount(Long couponId) {
+        AtomicLong counter = pendingCounts.get(couponId);
+        return counter != null ? counter.get() : 0;
+    }
+
+    public long getTotalRecorded() {
+        return totalRecorded.get();
+    }
+
+    public long getTotalFlushed() {
+        return totalFlushed.get();
+    }
+
+    public long getFlushedUpdates() {
+        return flushedUpdates.get();
+    }
+
+    Path getJournalPath() {
+        return journalPath;
+    }
+
+    /**
+     * 저널에 쓰기를 기다리는 발급 기록
+     */
+    private static final class PendingClaim {
+        private final Long couponId;
+        private final int count;
+        private volatile boolean written;
+        private volatile IOException failure;
+
+        private PendingClaim(Long couponId, int count) {
+            this.couponId = couponId;
+            this.count = count;
+        }
+    }
+}
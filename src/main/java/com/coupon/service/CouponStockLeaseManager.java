@@ -0,0 +1,361 @@
+package com.coupon.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Redis 재고를 노드 단위로 묶어서 임대하고, 임대한 재고를 JVM 안에서 나누어 주는 관리자입니다.
+ * 재고 차감은 로컬 카운터로 처리하고 Redis에는 중복 발급 확인만 요청하므로 재고 키에 대한 왕복이 줄어듭니다.
+ * 임대 크기는 직전 임대를 소진한 속도에 맞춰 조절되며, 임대 기간이 지나거나 노드가 종료되면 남은 수량을 반납합니다.
+ * Redis 임대 장부 항목에는 임대 기간에 유예 시간을 더한 만료 시각을 남기므로, 반납하지 못하고 종료된 노드의 임대는 그 시각이 지나면 재고 보정에서 무시됩니다.
+ */
+@Slf4j
+@Component
+public class CouponStockLeaseManager {
+
+    private final RedisService redisService;
+    private final boolean enabled;
+    private final String nodeId;
+    private final int initialLeaseSize;
+    private final int minLeaseSize;
+    private final int maxLeaseSize;
+    private final long targetLeaseMillis;
+    private final long leaseTtlMillis;
+    private final long ledgerGraceMillis;
+
+    private final Map<Long, StockLease> leases = new ConcurrentHashMap<>();
+
+    private final AtomicLong totalLeased = new AtomicLong();
+    private final AtomicLong totalReturned = new AtomicLong();
+    private final AtomicLong leaseRequests = new AtomicLong();
+
+    public CouponStockLeaseManager(
+            RedisService redisService,
+            @Value("${coupon.stock.lease.enabled:false}") boolean enabled,
+            @Value("${coupon.stock.lease.node-id:}") String nodeId,
+            @Value("${coupon.stock.lease.initial-size:200}") int initialLeaseSize,
+            @Value("${coupon.stock.lease.min-size:10}") int minLeaseSize,
+            @Value("${coupon.stock.lease.max-size:1000}") int maxLeaseSize,
+            @Value("${coupon.stock.lease.target-duration-ms:1000}") long targetLeaseMillis,
+            @Value("${coupon.stock.lease.ttl-ms:5000}") long leaseTtlMillis,
+            @Value("${coupon.stock.lease.ledger-grace-ms:10000}") long ledgerGraceMillis) {
+        this.redisService = redisService;
+        this.enabled = enabled;
+        this.nodeId = StringUtils.hasText(nodeId) ? nodeId : ManagementFactory.getRuntimeMXBean().getName();
+        this.initialLeaseSize = initialLeaseSize;
+        this.minLeaseSize = minLeaseSize;
+        this.maxLeaseSize = maxLeaseSize;
+        this.targetLeaseMillis = targetLeaseMillis;
+        this.leaseTtlMillis = leaseTtlMillis;
+        this.ledgerGraceMillis = ledgerGraceMillis;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 임대한 재고로 쿠폰 발급을 시도합니다.
+     * 로컬 임대분에서 한 개를 가져온 뒤 Redis에서 중복 발급 여부를 확인하며, 이미 발급된 사용자면 가져온 재고를 되돌립니다.
+     * 로컬 임대분이 없으면 Redis에서 새로 임대하고, 더 이상 임대할 재고가 없으면 재고 부족으로 응답합니다.
+     *
+     * @param couponId 쿠폰 ID
+     * @param userId 사용자 ID
+     * @return 발급 결과 (1: 성공, 0: 이미 발급됨, -1: 재고 부족, -2: 기간 내 발급 횟수 초과)
+     */
+    public Long tryIssueCoupon(Long couponId, Long userId) {
+        StockLease lease = leases.computeIfAbsent(couponId, id -> new StockLease(initialLeaseSize));
+
+        // 가져온 재고가 어느 임대에 속하는지 기억해 두었다가, 그 사이 반납되었으면 되돌릴 때 따로 모아 반납합니다.
+        int epoch = lease.epoch;
+        if (!lease.tryTake()) {
+            epoch = refill(couponId, lease);
+            if (epoch < 0) {
+                return -1L;
+            }
+        }
+
+        Long result;
+        try {
+            result = redisService.tryRegisterCouponUser(couponId, userId);
+        } catch (RuntimeException e) {
+            lease.giveBack(epoch);
+            throw e;
+        }
+
+        if (result == null || result != 1L) {
+            // 이미 발급되었거나 기간 내 발급 횟수를 넘은 사용자이므로 가져온 재고를 임대분에 되돌립니다.
+            lease.giveBack(epoch);
+        }
+        return result;
+    }
+
+    /**
+     * 다른 노드가 아직 쓰고 있는 임대 재고가 있는지 확인합니다.
+     * 이 노드의 임대가 바닥나도 다른 노드의 임대분이 남아 있으면 쿠폰을 소진으로 알리면 안 됩니다.
+     *
+     * @param couponId 쿠폰 ID
+     * @return 만료되지 않은 임대가 Redis 장부에 남아 있으면 true
+     */
+    public boolean isStockLeasedElsewhere(Long couponId) {
+        return redisService.hasActiveStockLeases(couponId);
+    }
+
+    /**
+     * Redis에서 재고를 새로 임대하고 그 중 한 개를 호출자 몫으로 가져갑니다.
+     *
+     * @return 재고를 확보했으면 가져온 재고가 속한 임대 번호, 더 이상 임대할 재고가 없으면 -1
+     */
+    private int refill(Long couponId, StockLease lease) {
+        // Redis 호출 중 가상 스레드가 캐리어 스레드에 고정되지 않도록 synchronized 대신 ReentrantLock을 사용합니다.
+        lease.lock.lock();
+        try {
+            // 다른 스레드가 먼저 임대를 채웠을 수 있습니다.
+            if (lease.tryTake()) {
+                return lease.epoch;
+            }
+
+            int size = nextLeaseSize(lease);
+            leaseRequests.incrementAndGet();
+            long now = System.currentTimeMillis();
+            long ledgerExpiresAt = now + leaseTtlMillis + ledgerGraceMillis;
+            int leased = redisService.leaseCouponStock(couponId, size, nodeId, ledgerExpiresAt);
+            if (leased <= 0) {
+                // 첫 샤드가 비어 있으면 스크립트가 이 노드의 장부 항목을 지웁니다.
+                lease.held = false;
+                return -1;
+            }
+
+            totalLeased.addAndGet(leased);
+            lease.grant(leased - 1, size, now + leaseTtlMillis, ledgerExpiresAt);
+            log.debug("Leased coupon stock - couponId: {}, requested: {}, leased: {}", couponId, size, leased);
+            return lease.epoch;
+        } finally {
+            lease.lock.unlock();
+        }
+    }
+
+    /**
+     * 직전 임대를 소진한 속도를 기준으로 목표 시간 동안 사용할 만큼의 임대 크기를 계산합니다.
+     */
+    private int nextLeaseSize(StockLease lease) {
+        if (lease.grantedAtNanos == 0) {
+            return lease.size;
+        }
+        long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lease.grantedAtNanos));
+        long estimated = lease.granted * targetLeaseMillis / elapsedMillis;
+        // 급격한 변화를 줄이기 위해 직전 크기와 평균을 냅니다.
+        int next = (int) Math.min(maxLeaseSize, (lease.size + estimated) / 2);
+        return Math.max(minLeaseSize, next);
+    }
+
+    /**
+     * 임대 기간이 지난 임대분의 남은 재고를 반납합니다.
+     */
+    @Scheduled(fixedDelayString = "${coupon.stock.lease.return-interval-ms:1000}")
+    public void returnExpiredLeases() {
+        if (!enabled) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        leases.forEach((couponId, lease) -> {
+            if (lease.expiresAtMillis <= now) {
+                returnLease(couponId, lease);
+            }
+        });
+    }
+
+    /**
+     * 특정 쿠폰의 로컬 임대분을 정리합니다. 쿠폰이 만료되어 더 이상 발급하지 않을 때 사용합니다.
+     *
+     * @param couponId 쿠폰 ID
+     * @param returnToStock 남은 수량을 Redis 재고에 반납할지 여부
+     */
+    public void releaseLease(Long couponId, boolean returnToStock) {
+        StockLease lease = leases.remove(couponId);
+        if (lease == null) {
+            return;
+        }
+        if (returnToStock) {
+            returnLease(couponId, lease);
+        } else {
+            lease.lock.lock();
+            try {
+                int discarded = lease.drain() + lease.takeOrphaned();
+                // 재고는 버리더라도 장부 항목은 지워야 재고 보정이 막히지 않습니다.
+                releaseLedgerEntry(couponId, lease);
+                log.info("Discarded leased coupon stock - couponId: {}, amount: {}", couponId, discarded);
+            } finally {
+                lease.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 노드 종료 시 모든 임대분을 반납합니다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        leases.forEach(this::returnLease);
+    }
+
+    private void returnLease(Long couponId, StockLease lease) {
+        lease.lock.lock();
+        try {
+            int remaining = lease.drain() + lease.takeOrphaned();
+            if (!lease.held && remaining <= 0) {
+                return;
+            }
+            if (System.currentTimeMillis() >= lease.ledgerExpiresAtMillis) {
+                // 장부 항목이 만료되어 재고 보정이 이미 이 수량을 되돌렸을 수 있으므로 반납하지 않고 버립니다.
+                log.warn("Discarded leased coupon stock after ledger expiry - couponId: {}, amount: {}", couponId, remaining);
+                releaseLedgerEntry(couponId, lease);
+                return;
+            }
+            try {
+                // 남은 수량이 없어도 장부 항목은 지워야 하므로 0으로 반납합니다.
+                redisService.returnCouponStock(couponId, remaining, nodeId);
+                lease.release();
+                totalReturned.addAndGet(remaining);
+                log.debug("Returned leased coupon stock - couponId: {}, amount: {}", couponId, remaining);
+            } catch (Exception e) {
+                // 반납하지 못한 수량은 다음 반납 주기에 다시 시도합니다.
+                lease.restore(remaining);
+                log.error("Failed to return leased coupon stock - couponId: {}, amount: {}", couponId, remaining, e);
+            }
+        } finally {
+            lease.lock.unlock();
+        }
+    }
+
+    private void releaseLedgerEntry(Long couponId, StockLease lease) {
+        if (!lease.held) {
+            return;
+        }
+        try {
+            redisService.returnCouponStock(couponId, 0, nodeId);
+            lease.release();
+        } catch (Exception e) {
+            // 지우지 못한 장부 항목은 만료 시각이 지나면 재고 보정에서 무시됩니다.
+            log.error("Failed to release lease ledger entry - couponId: {}", couponId, e);
+        }
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public int getLocalRemaining(Long couponId) {
+        StockLease lease = leases.get(couponId);
+        return lease != null ? lease.remaining.get() : 0;
+    }
+
+    public long getTotalLeased() {
+        return totalLeased.get();
+    }
+
+    public long getTotalReturned() {
+        return totalReturned.get();
+    }
+
+    public long getLeaseRequests() {
+        return leaseRequests.get();
+    }
+
+    /**
+     * 쿠폰 하나에 대한 노드의 임대분
+     */
+    private static final class StockLease {
+
+        private final AtomicInteger remaining = new AtomicInteger();
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile long expiresAtMillis = Long.MAX_VALUE;
+        // 아래 필드는 lock을 잡고 바꿉니다. epoch는 반납할 때마다 늘어나며 잠금 없이 읽습니다.
+        private volatile int epoch;
+        private boolean held;
+        private long ledgerExpiresAtMillis = Long.MAX_VALUE;
+        private int orphaned;
+        private int size;
+        private int granted;
+        private long grantedAtNanos;
+
+        private StockLease(int initialSize) {
+            this.size = initialSize;
+        }
+
+        private boolean tryTake() {
+            int current;
+            do {
+                current = remaining.get();
+                if (current <= 0) {
+                    return false;
+                }
+            } while (!remaining.compareAndSet(current, current - 1));
+            return true;
+        }
+
+        /**
+         * 가져갔던 재고 한 개를 되돌립니다. 가져간 뒤 임대분이 반납되었으면 장부에 없는 재고가 되므로
+         * 임대분에 더하지 않고 따로 모았다가 다음 반납 주기에 Redis로 돌려보냅니다.
+         */
+        private void giveBack(int takenEpoch) {
+            lock.lock();
+            try {
+                if (takenEpoch == epoch) {
+                    remaining.incrementAndGet();
+                } else {
+                    orphaned++;
+                    expiresAtMillis = 0;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void grant(int available, int requestedSize, long expiresAtMillis, long ledgerExpiresAtMillis) {
+            this.size = requestedSize;
+            this.granted = available + 1;
+            this.grantedAtNanos = System.nanoTime();
+            this.expiresAtMillis = expiresAtMillis;
+            this.ledgerExpiresAtMillis = ledgerExpiresAtMillis;
+            this.held = true;
+            remaining.addAndGet(available);
+        }
+
+        private int drain() {
+            int drained = remaining.getAndSet(0);
+            epoch++;
+            // 반납한 수량은 소진 속도 계산에서 제외합니다.
+            granted = Math.max(0, granted - drained);
+            return drained;
+        }
+
+        private int takeOrphaned() {
+            int taken = orphaned;
+            orphaned = 0;
+            return taken;
+        }
+
+        private void release() {
+            held = false;
+            expiresAtMillis = Long.MAX_VALUE;
+            ledgerExpiresAtMillis = Long.MAX_VALUE;
+        }
+
+        private void restore(int amount) {
+            remaining.addAndGet(amount);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.coupon.service;
+
+import com.coupon.domain.coupon.CouponMetadata;
+import com.coupon.domain.coupon.CouponStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 활성 쿠폰별 Redis 잔여 재고를 게이지({@code coupon.stock.remaining}, tag: couponId)로 노출합니다.
+ * 스크랩할 때마다 Redis를 읽지 않도록 주기적으로 파이프라인 한 번으로 읽어 게이지 값을 바꿉니다.
+ * 비활성으로 바뀐 쿠폰의 게이지는 다음 갱신에서 제거됩니다.
+ */
+@Slf4j
+@Component
+public class CouponStockMetrics {
+
+    public static final String REMAINING_GAUGE = "coupon.stock.remaining";
+
+    private final CouponMetadataCache couponMetadataCache;
+    private final RedisService redisService;
+    private final MultiGauge remainingStock;
+    private final boolean enabled;
+
+    public CouponStockMetrics(
+            CouponMetadataCache couponMetadataCache,
+            RedisService redisService,
+            MeterRegistry meterRegistry,
+            @Value("${coupon.metrics.stock-gauge.enabled:true}") boolean enabled) {
+        this.couponMetadataCache = couponMetadataCache;
+        this.redisService = redisService;
+        this.enabled = enabled;
+        this.remainingStock = MultiGauge.builder(REMAINING_GAUGE)
+                .description("활성 쿠폰의 Redis 잔여 재고")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 활성 쿠폰의 잔여 재고를 읽어 게이지를 갱신합니다.
+     */
+    @Scheduled(fixedDelayString = "${coupon.metrics.stock-gauge.refresh-ms:5000}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            List<Long> activeCouponIds = couponMetadataCache.getAll().stream()
+                    .filter(coupon -> coupon.getStatus() == CouponStatus.ACTIVE)
+                    .map(CouponMetadata::getId)
+                    .toList();
+
+            List<MultiGauge.Row<Number>> rows = redisService.getCouponStockSnapshots(activeCouponIds).stream()
+                    .map(snapshot -> MultiGauge.Row.of(
+                            Tags.of("couponId", String.valueOf(snapshot.getCouponId())), snapshot.getRemaining()))
+                    .toList();
+            remainingStock.register(rows, true);
+        } catch (Exception e) {
+            log.warn("Failed to refresh coupon stock gauges", e);
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package com.coupon.service;
+
+import com.coupon.domain.coupon.Coupon;
+import com.coupon.domain.coupon.CouponStatus;
+import com.coupon.domain.coupon.CouponStockSnapshot;
+import com.coupon.dto.coupon.StockReconciliationResponse;
+import com.coupon.repository.CouponIssueRepository;
+import com.coupon.repository.CouponRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 재고를 DB 발급 이력 기준으로 맞추는 보정기입니다.
+ * 쿠폰별 정답 잔여 재고는 총 수량에서 coupon_issue 행 수를 뺀 값으로 보고, Redis 재고와 다르면 보정합니다.
+ *
+ * <p>write-behind 큐나 스트림에 남아 있는 발급처럼 아직 DB에 저장되지 않은 발급이 있으면 발급 수가 실제보다 적게 보여
+ * Redis 재고가 정답보다 작아 보입니다. 이때 Redis 재고를 올리면 초과 발급이 되므로, Redis 재고가 정답보다 많을 때만
+ * 낮추는 방향으로 보정하고 적을 때는 차이를 기록만 합니다. 낮추는 보정은 저장이 밀려 있어도 실제 잔여 재고보다
+ * 낮아지지 않으므로 초과 발급을 만들지 않습니다.
+ * 차이가 보이면 일정 시간 기다렸다가 다시 읽어, 발급 수와 Redis 재고가 모두 그대로일 때만 보정합니다.
+ * 보정은 조회했던 값이 그대로일 때만 바꾸는 스크립트로 실행하므로 그 사이 들어온 발급과 충돌하지 않습니다.
+ * 노드가 재고를 임대 중인 쿠폰은 Redis 재고만으로 판단할 수 없으므로 보정하지 않습니다.
+ */
+@Slf4j
+@Service
+public class CouponStockReconciler {
+
+    private static final String RUN_LOCK_KEY = "coupon:stock:reconcile-lock";
+
+    private final CouponRepository couponRepository;
+    private final CouponIssueRepository couponIssueRepository;
+    private final RedisService redisService;
+    private final CouponSoldOutRegistry soldOutRegistry;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final boolean enabled;
+    private final long intervalMillis;
+    private final int batchSize;
+    private final long settleMillis;
+    private final String nodeId = ManagementFactory.getRuntimeMXBean().getName();
+
+    /**
+     * 마지막 확인에서 차이가 있던 쿠폰과 차이 (Redis 재고 - 정답 재고)
+     */
+    private final Map<Long, Long> currentDrifts = new ConcurrentHashMap<>();
+
+    private final AtomicLong totalRuns = new AtomicLong();
+    private final AtomicLong checkedCoupons = new AtomicLong();
+    private final AtomicLong driftedCoupons = new AtomicLong();
+    private final AtomicLong repairedCoupons = new AtomicLong();
+    private final AtomicLong skippedCoupons = new AtomicLong();
+    private final AtomicLong repairedUnits = new AtomicLong();
+
+    public CouponStockReconciler(
+            CouponRepository couponRepository,
+            CouponIssueRepository couponIssueRepository,
+            RedisService redisService,
+            CouponSoldOutRegistry soldOutRegistry,
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${coupon.stock.reconcile.enabled:true}") boolean enabled,
+            @Value("${coupon.stock.reconcile.interval-ms:60000}") long intervalMillis,
+            @Value("${coupon.stock.reconcile.batch-size:100}") int batchSize,
+            @Value("${coupon.stock.reconcile.settle-ms:2000}") long settleMillis) {
+        this.couponRepository = couponRepository;
+        this.couponIssueRepository = couponIssueRepository;
+        this.redisService = redisService;
+        this.soldOutRegistry = soldOutRegistry;
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.intervalMillis = intervalMillis;
+        this.batchSize = batchSize;
+        this.settleMillis = settleMillis;
+    }
+
+    /**
+     * 활성 쿠폰 전체를 주기적으로 보정합니다. 여러 노드가 같은 주기에 중복 실행하지 않도록 잠금을 잡은 노드만 실행합니다.
+     */
+    @Scheduled(fixedDelayString = "${coupon.stock.reconcile.interval-ms:60000}",
+            initialDelayString = "${coupon.stock.reconcile.interval-ms:60000}")
+    public void reconcileActiveCoupons() {
+        if (!enabled) {
+            return;
+        }
+        Boolean locked = redisTemplate.opsForValue()
+                .setIfAbsent(RUN_LOCK_KEY, nodeId, Duration.ofMillis(intervalMillis));
+        if (!Boolean.TRUE.equals(locked)) {
+            return;
+        }
+        try {
+            reconcileAll();
+        } catch (Exception e) {
+            log.error("Failed to reconcile coupon stock", e);
+        }
+    }
+
+    /**
+     * 활성 쿠폰 전체를 바로 보정합니다.
+     *
+     * @return 보정 결과
+     */
+    public StockReconciliationResponse reconcileAll() {
+        return reconcile(couponRepository.findByStatus(CouponStatus.ACTIVE));
+    }
+
+    /**
+     * 쿠폰 하나를 바로 보정합니다.
+     *
+     * @param couponId 쿠폰 ID
+     * @return 보정 결과
+     */
+    public StockReconciliationResponse reconcile(Long couponId) {
+        Coupon coupon = couponRepository.findById(couponId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 쿠폰입니다. id=" + couponId));
+        return reconcile(List.of(coupon));
+    }
+
+    private StockReconciliationResponse reconcile(List<Coupon> coupons) {
+        totalRuns.incrementAndGet();
+        List<StockReconciliationResponse.CouponDrift> drifts = new ArrayList<>();
+        for (int from = 0; from < coupons.size(); from += batchSize) {
+            drifts.addAll(reconcileBatch(coupons.subList(from, Math.min(from + batchSize, coupons.size()))));
+        }
+
+        int repaired = (int) drifts.stream().filter(StockReconciliationResponse.CouponDrift::isRepaired).count();
+        if (!drifts.isEmpty()) {
+            log.info("Reconciled coupon stock - checked: {}, drifted: {}, repaired: {}",
+                    coupons.size(), drifts.size(), repaired);
+        }
+        return StockReconciliationResponse.builder()
+                .checkedCoupons(coupons.size())
+                .driftedCoupons(drifts.size())
+                .repairedCoupons(repaired)
+                .drifts(drifts)
+                .build();
+    }
+
+    /**
+     * 쿠폰 한 묶음의 발급 수를 한 번의 쿼리로, Redis 재고를 한 번의 파이프라인으로 읽어 비교합니다.
+     */
+    List<StockReconciliationResponse.CouponDrift> reconcileBatch(List<Coupon> coupons) {
+        checkedCoupons.addAndGet(coupons.size());
+        Map<Long, Coupon> couponsById = coupons.stream().collect(Collectors.toMap(Coupon::getId, coupon -> coupon));
+        List<Long> couponIds = new ArrayList<>(couponsById.keySet());
+
+        Map<Long, Long> issued = countIssued(couponIds);
+        Map<Long, CouponStockSnapshot> snapshots = readSnapshots(couponIds);
+
+        List<Long> suspects = new ArrayList<>();
+        for (Long couponId : couponIds) {
+            CouponStockSnapshot snapshot = snapshots.get(couponId);
+            if (snapshot == null || !snapshot.exists()
+                    || drift(couponsById.get(couponId), issued.get(couponId), snapshot) == 0) {
+                currentDrifts.remove(couponId);
+            } else {
+                suspects.add(couponId);
+            }
+        }
+        if (suspects.isEmpty()) {
+            return List.of();
+        }
+
+        // 아직 DB에 저장되지 않은 발급이 반영될 시간을 두고 다시 읽습니다.
+        sleepQuietly(settleMillis);
+        Map<Long, Long> settledIssued = countIssued(suspects);
+        Map<Long, CouponStockSnapshot> settledSnapshots = readSnapshots(suspects);
+
+        List<StockReconciliationResponse.CouponDrift> drifts = new ArrayList<>();
+        for (Long couponId : suspects) {
+            Coupon coupon = couponsById.get(couponId);
+            CouponStockSnapshot snapshot = settledSnapshots.get(couponId);
+            long issuedCount = settledIssued.get(couponId);
+            if (snapshot == null || !snapshot.exists() || drift(coupon, issuedCount, snapshot) == 0) {
+                currentDrifts.remove(couponId);
+                continue;
+            }
+
+            long drift = drift(coupon, issuedCount, snapshot);
+            driftedCoupons.incrementAndGet();
+            currentDrifts.put(couponId, drift);
+            int expected = (int) Math.max(0, coupon.getTotalQuantity() - issuedCount);
+            boolean stable = issuedCount == issued.get(couponId)
+                    && Objects.equals(snapshot.getShardValues(), snapshots.get(couponId).getShardValues());
+            // 재고가 적어 보이는 차이는 저장 지연일 수 있으므로 올리지 않고 기록만 합니다.
+            boolean repaired = drift > 0 && stable && snapshot.getActiveLeases() == 0 && repair(snapshot, expected);
+            if (!repaired) {
+                skippedCoupons.incrementAndGet();
+            }
+
+            drifts.add(StockReconciliationResponse.CouponDrift.builder()
+                    .couponId(couponId)
+                    .expectedRemaining(expected)
+                    .redisRemaining(snapshot.getRemaining())
+                    .drift(drift)
+                    .repaired(repaired)
+                    .build());
+            log.warn("Coupon stock drift - couponId: {}, expected: {}, redis: {}, stable: {}, leases: {}, repaired: {}",
+                    couponId, expected, snapshot.getRemaining(), stable, snapshot.getActiveLeases(), repaired);
+        }
+        return drifts;
+    }
+
+    private boolean repair(CouponStockSnapshot snapshot, int expected) {
+        if (!redisService.compareAndSetCouponStock(snapshot, expected)) {
+            return false;
+        }
+        repairedCoupons.incrementAndGet();
+        repairedUnits.addAndGet(snapshot.getRemaining() - expected);
+        currentDrifts.remove(snapshot.getCouponId());
+        if (expected == 0) {
+            soldOutRegistry.markSoldOut(snapshot.getCouponId());
+        }
+        return true;
+    }
+
+    private long drift(Coupon coupon, Long issuedCount, CouponStockSnapshot snapshot) {
+        long expected = Math.max(0, coupon.getTotalQuantity() - issuedCount);
+        return snapshot.getRemaining() - expected;
+    }
+
+    private Map<Long, Long> countIssued(List<Long> couponIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        couponIds.forEach(couponId -> counts.put(couponId, 0L));
+        for (Object[] row : couponIssueRepository.countByCouponIds(couponIds)) {
+            counts.put(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+
+    private Map<Long, CouponStockSnapshot> readSnapshots(List<Long> couponIds) {
+        return redisService.getCouponStockSnapshots(couponIds).stream()
+                .collect(Collectors.toMap(CouponStockSnapshot::getCouponId, snapshot -> snapshot));
+    }
+
+    private void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Map<Long, Long> getCurrentDrifts() {
+        return Map.copyOf(currentDrifts);
+    }
+
+    public long getTotalRuns() {
+        return totalRuns.get();
+    }
+
+    public long getCheckedCoupons() {
+        return checkedCoupons.get();
+    }
+
+    public long getDriftedCoupons() {
+        return driftedCoupons.get();
+    }
+
+    public long getRepairedCoupons() {
+        return repairedCoupons.get();
+    }
+
+    public long getSkippedCoupons() {
+        return skippedCoupons.get();
+    }
+
+    public long getRepairedUnits() {
+        return repairedUnits.get();
+    }
+}
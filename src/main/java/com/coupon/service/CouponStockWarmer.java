@@ -0,0 +1,188 @@
+package com.coupon.service;
+
+import com.coupon.domain.coupon.Coupon;
+import com.coupon.domain.coupon.CouponStatus;
+import com.coupon.repository.CouponIssueRepository;
+import com.coupon.repository.CouponRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 활성 쿠폰의 Redis 재고와 메타데이터를 미리 채워 두는 컴포넌트입니다.
+ * Redis가 비워졌거나(allkeys-lru 축출 포함) 새 노드가 뜬 뒤 첫 발급 요청들이 빈 재고를 읽고 소진으로 처리되지 않도록 합니다.
+ *
+ * <p>애플리케이션 시작 시 활성 쿠폰 전체를 페이지 단위로 읽어 채우고, 이후에는 발급 시작이 임박한 쿠폰을 주기적으로 다시 채웁니다.
+ * 키가 없을 때만 쓰므로 발급이 진행 중인 재고를 덮어쓰지 않고, 여러 노드가 동시에 실행해도 안전합니다.
+ * 시작 시 채우기가 끝나기 전에는 readiness를 트래픽 수신 상태로 두지 않습니다.
+ */
+@Slf4j
+@Component
+public class CouponStockWarmer implements ApplicationRunner {
+
+    private final CouponRepository couponRepository;
+    private final CouponIssueRepository couponIssueRepository;
+    private final RedisService redisService;
+    private final CouponMetadataCache couponMetadataCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final int pageSize;
+    private final long activationLeadMillis;
+
+    private volatile boolean warmedUp;
+    private volatile boolean readinessHeld;
+
+    public CouponStockWarmer(
+            CouponRepository couponRepository,
+            CouponIssueRepository couponIssueRepository,
+            RedisService redisService,
+            CouponMetadataCache couponMetadataCache,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${coupon.stock.warm-up.enabled:true}") boolean enabled,
+            @Value("${coupon.stock.warm-up.page-size:500}") int pageSize,
+            @Value("${coupon.stock.warm-up.activation-lead-ms:60000}") long activationLeadMillis) {
+        this.couponRepository = couponRepository;
+        this.couponIssueRepository = couponIssueRepository;
+        this.redisService = redisService;
+        this.couponMetadataCache = couponMetadataCache;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.pageSize = pageSize;
+        this.activationLeadMillis = activationLeadMillis;
+    }
+
+    /**
+     * 애플리케이션 시작 시 활성 쿠폰 전체를 채웁니다.
+     * 실행기(ApplicationRunner)가 끝난 뒤에 readiness가 트래픽 수신 상태로 바뀌므로, 채우기가 끝나기 전에는 트래픽을 받지 않습니다.
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            warmedUp = true;
+            return;
+        }
+        try {
+            warmUpActiveCoupons();
+        } catch (Exception e) {
+            // 실패하면 readiness를 내려 두고 주기 작업에서 다시 시도합니다.
+            log.error("Failed to warm up coupon stock on startup. Retrying in background.", e);
+        }
+    }
+
+    /**
+     * 시작 시 채우기가 끝나지 않았는데 트래픽 수신 상태로 바뀌면 다시 거부 상태로 돌려 둡니다.
+     */
+    @EventListener
+    public void onReadinessChanged(AvailabilityChangeEvent<ReadinessState> event) {
+        if (event.getState() == ReadinessState.ACCEPTING_TRAFFIC && !warmedUp) {
+            readinessHeld = true;
+            AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+        }
+    }
+
+    /**
+     * 발급 시작이 임박한 쿠폰을 채웁니다. 시작 시 채우기가 실패했다면 전체 채우기를 다시 시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${coupon.stock.warm-up.activation-check-ms:10000}",
+            initialDelayString = "${coupon.stock.warm-up.activation-check-ms:10000}")
+    public void warmUpActivatingCoupons() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            if (!warmedUp) {
+                warmUpActiveCoupons();
+                return;
+            }
+            LocalDateTime now = LocalDateTime.now();
+            List<Coupon> coupons = couponRepository.findByStatusAndValidFromBetween(
+                    CouponStatus.ACTIVE, now, now.plus(Duration.ofMillis(activationLeadMillis)));
+            int warmed = warm(coupons);
+            if (warmed > 0) {
+                log.info("Warmed up activating coupons - coupons: {}, warmed: {}", coupons.size(), warmed);
+            }
+        } catch (Exception e) {
+            log.error("Failed to warm up activating coupons", e);
+        }
+    }
+
+    /**
+     * 활성 쿠폰 전체를 페이지 단위로 읽어 채웁니다.
+     *
+     * @return 재고를 새로 채운 쿠폰 수
+     */
+    public int warmUpActiveCoupons() {
+        long startedAt = System.currentTimeMillis();
+        int checked = 0;
+        int warmed = 0;
+        Slice<Coupon> page = couponRepository.findByStatus(
+                CouponStatus.ACTIVE, PageRequest.of(0, pageSize, Sort.by("id")));
+        while (true) {
+            checked += page.getNumberOfElements();
+            warmed += warm(page.getContent());
+            if (!page.hasNext()) {
+                break;
+            }
+            page = couponRepository.findByStatus(CouponStatus.ACTIVE, page.nextPageable());
+        }
+
+        warmedUp = true;
+        log.info("Warmed up active coupons - checked: {}, warmed: {}, elapsed: {}ms",
+                checked, warmed, System.currentTimeMillis() - startedAt);
+        if (readinessHeld) {
+            readinessHeld = false;
+            AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.ACCEPTING_TRAFFIC);
+        }
+        return warmed;
+    }
+
+    /**
+     * 쿠폰 한 묶음의 잔여 수량을 한 번의 쿼리로 계산하고, 재고와 메타데이터를 한 번의 파이프라인으로 채웁니다.
+     */
+    int warm(List<Coupon> coupons) {
+        if (coupons.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Long> issued = new HashMap<>();
+        List<Long> couponIds = coupons.stream().map(Coupon::getId).toList();
+        for (Object[] row : couponIssueRepository.countByCouponIds(couponIds)) {
+            issued.put(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
+        }
+
+        // DB 잔여 수량과 발급 이력 중 더 적은 쪽을 써서 아직 반영되지 않은 차감이 있어도 초과 발급하지 않습니다.
+        Map<Long, Integer> remainingQuantities = new HashMap<>();
+        for (Coupon coupon : coupons) {
+            long byIssues = coupon.getTotalQuantity() - issued.getOrDefault(coupon.getId(), 0L);
+            int remaining = (int) Math.max(0, Math.min(coupon.getRemainingQuantity(), byIssues));
+            remainingQuantities.put(coupon.getId(), remaining);
+        }
+
+        List<Long> warmed = redisService.warmCouponStocks(coupons, remainingQuantities);
+        coupons.forEach(couponMetadataCache::put);
+        if (!warmed.isEmpty()) {
+            log.debug("Warmed up coupon stock - couponIds: {}", warmed);
+        }
+        return warmed.size();
+    }
+
+    public boolean isWarmedUp() {
+        return warmedUp;
+    }
+}
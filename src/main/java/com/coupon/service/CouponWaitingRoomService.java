@@ -0,0 +1,315 @@
+package com.coupon.service;
+
+import com.coupon.dto.coupon.WaitingRoomStatusResponse;
+import com.coupon.exception.AdmissionRequiredException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 선착순 쿠폰 발급 요청을 대기열로 받아 일정한 속도로 입장시키는 대기실입니다.
+ * 사용자는 쿠폰별 대기열(Redis sorted set, 도착 시각 순)에 들어가 자신의 순번을 조회하고,
+ * 스케줄러가 직전 주기의 발급 처리량에 맞춘 인원만큼 앞에서부터 입장시킵니다.
+ * 입장한 사용자는 짧은 시간 동안 유효한 입장 토큰을 받으며, 발급 API는 이 토큰이 있어야 요청을 받습니다.
+ * 직전 입장 주기의 기록은 Redis에 두므로 입장 잠금을 잡는 노드가 바뀌어도 같은 기준으로 인원을 정합니다.
+ */
+@Slf4j
+@Service
+public class CouponWaitingRoomService {
+
+    private static final String KEY_PREFIX = "coupon:";
+    private static final String WAITING_KEY_SUFFIX = ":waiting";
+    private static final String ADMISSION_KEY_INFIX = ":admission:";
+    private static final String ACTIVE_ROOMS_KEY = "coupon:waiting:active";
+    private static final String ADMIT_LOCK_KEY = "coupon:waiting:admit-lock";
+    private static final String WINDOW_KEY_SUFFIX = ":waiting:window";
+    private static final String WINDOW_REMAINING_STOCK_FIELD = "remainingStock";
+    private static final String WINDOW_BATCH_SIZE_FIELD = "batchSize";
+
+    /**
+     * 입장 주기 기록 보관 시간. 이 시간 동안 입장이 없었으면 처음 인원부터 다시 시작합니다.
+     */
+    private static final Duration WINDOW_TTL = Duration.ofMinutes(10);
+
+    /**
+     * 대기열 보관 시간. 마지막 사용자가 들어온 뒤 이 시간이 지나면 대기열이 사라지고 입장 대상 목록에서도 빠집니다.
+     */
+    private static final Duration WAITING_TTL = Duration.ofDays(1);
+
+    /**
+     * 저장된 입장 토큰이 요청의 토큰과 같을 때만 지우는 Lua 스크립트
+     */
+    private static final RedisScript<Long> CONSUME_ADMISSION_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/consume-admission.lua"), Long.class);
+
+    /**
+     * 비어 있는 대기열을 입장 대상 목록에서 빼는 Lua 스크립트
+     */
+    private static final RedisScript<Long> PRUNE_WAITING_ROOM_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/prune-waiting-room.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisService redisService;
+    private final boolean enabled;
+    private final long admitIntervalMillis;
+    private final Duration admissionTtl;
+    private final int initialBatchSize;
+    private final int minBatchSize;
+    private final int maxBatchSize;
+    private final String nodeId = ManagementFactory.getRuntimeMXBean().getName();
+
+    public CouponWaitingRoomService(
+            RedisTemplate<String, String> redisTemplate,
+            RedisService redisService,
+            @Value("${coupon.waiting-room.enabled:false}") boolean enabled,
+            @Value("${coupon.waiting-room.admit-interval-ms:1000}") long admitIntervalMillis,
+            @Value("${coupon.waiting-room.admission-ttl-seconds:30}") long admissionTtlSeconds,
+            @Value("${coupon.waiting-room.initial-batch-size:100}") int initialBatchSize,
+            @Value("${coupon.waiting-room.min-batch-size:10}") int minBatchSize,
+            @Value("${coupon.waiting-room.max-batch-size:2000}") int maxBatchSize) {
+        this.redisTemplate = redisTemplate;
+        this.redisService = redisService;
+        this.enabled = enabled;
+        this.admitIntervalMillis = admitIntervalMillis;
+        this.admissionTtl = Duration.ofSeconds(admissionTtlSeconds);
+        this.initialBatchSize = initialBatchSize;
+        this.minBatchSize = minBatchSize;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 쿠폰 대기열에 들어갑니다. 이미 대기 중이면 처음 도착한 순번을 유지합니다.
+     *
+     * @param couponId 쿠폰 ID
+     * @param userId 사용자 ID
+     * @return 대기 상태
+     */
+    public WaitingRoomStatusResponse enter(Long couponId, Long userId) {
+        if (!hasAdmission(couponId, userId)) {
+            // 대기열에 먼저 넣은 뒤 목록에 올려야 정리 스크립트가 방금 들어온 사용자의 대기실을 빼지 않습니다.
+            redisTemplate.opsForZSet().addIfAbsent(getWaitingKey(couponId), userId.toString(), System.currentTimeMillis());
+            redisTemplate.expire(getWaitingKey(couponId), WAITING_TTL);
+            redisTemplate.opsForSet().add(ACTIVE_ROOMS_KEY, couponId.toString());
+        }
+        return getStatus(couponId, userId);
+    }
+
+    /**
+     * 대기 상태를 조회합니다. 입장이 허용되었으면 입장 토큰을, 아니면 현재 순번과 예상 대기 시간을 돌려줍니다.
+     *
+     * @param couponId 쿠폰 ID
+     * @param userId 사용자 ID
+     * @return 대기 상태
+     */
+    public WaitingRoomStatusResponse getStatus(Long couponId, Long userId) {
+        String token = redisTemplate.opsForValue().get(getAdmissionKey(couponId, userId));
+        Long waitingCount = redisTemplate.opsForZSet().zCard(getWaitingKey(couponId));
+        WaitingRoomStatusResponse.WaitingRoomStatusResponseBuilder builder = WaitingRoomStatusResponse.builder()
+                .couponId(couponId)
+                .userId(userId)
+                .waitingCount(waitingCount != null ? waitingCount : 0);
+
+        if (token != null) {
+            return builder.admitted(true).admissionToken(token).build();
+        }
+
+        Long rank = redisTemplate.opsForZSet().rank(getWaitingKey(couponId), userId.toString());
+        if (rank == null) {
+            return builder.admitted(false).build();
+        }
+        long position = rank + 1;
+        return builder
+                .admitted(false)
+                .position(position)
+                .estimatedWaitSeconds(estimateWaitSeconds(couponId, position))
+                .build();
+    }
+
+    /**
+     * 발급 요청의 입장 토큰을 확인하고 사용 처리합니다. 토큰은 한 번만 사용할 수 있습니다.
+     * 저장된 토큰과 같을 때만 지우므로 틀린 토큰으로 요청해도 저장된 토큰의 남은 유효 시간은 바뀌지 않습니다.
+     * 대기실을 사용하지 않으면 확인하지 않습니다.
+     *
+     * @param couponId 쿠폰 ID
+     * @param userId 사용자 ID
+     * @param admissionToken 요청에 담긴 입장 토큰
+     * @throws AdmissionRequiredException 입장 토큰이 없거나 올바르지 않은 경우
+     */
+    public void verifyAdmission(Long couponId, Long userId, String admissionToken) {
+        if (!enabled) {
+            return;
+        }
+        if (admissionToken == null || admissionToken.isBlank()) {
+            throw new AdmissionRequiredException("대기열 입장 후 발급을 요청해 주세요.");
+        }
+
+        Long consumed = redisTemplate.execute(
+                CONSUME_ADMISSION_SCRIPT, List.of(getAdmissionKey(couponId, userId)), admissionToken);
+        if (consumed == null || consumed != 1L) {
+            throw new AdmissionRequiredException("입장 토큰이 유효하지 않습니다.");
+        }
+    }
+
+    /**
+     * 대기 중인 쿠폰마다 앞에서부터 한 묶음씩 입장시킵니다.
+     * 여러 노드가 동시에 입장시키지 않도록 한 주기 동안 유지되는 잠금을 잡은 노드만 실행합니다.
+     */
+    @Scheduled(fixedDelayString = "${coupon.waiting-room.admit-interval-ms:1000}")
+    public void admitWaitingUsers() {
+        if (!enabled) {
+            return;
+        }
+        Boolean locked = redisTemplate.opsForValue()
+                .setIfAbsent(ADMIT_LOCK_KEY, nodeId, Duration.ofMillis(admitIntervalMillis));
+        if (!Boolean.TRUE.equals(locked)) {
+            return;
+        }
+
+        Set<String> couponIds = redisTemplate.opsForSet().members(ACTIVE_ROOMS_KEY);
+        if (couponIds == null) {
+            return;
+        }
+        for (String couponId : couponIds) {
+            try {
+                admitBatch(Long.valueOf(couponId));
+                pruneIfEmpty(Long.valueOf(couponId));
+            } catch (Exception e) {
+                log.error("Failed to admit waiting users - couponId: {}", couponId, e);
+            }
+        }
+    }
+
+    /**
+     * 쿠폰 하나의 대기열에서 한 묶음을 입장시킵니다.
+     *
+     * @param couponId 쿠폰 ID
+     * @return 입장시킨 인원
+     */
+    int admitBatch(Long couponId) {
+        // 노드가 임대해 간 재고도 아직 발급될 수 있으므로 재고 키에 남은 수량에 더해 입장 인원을 정합니다.
+        int remainingStock = (int) Math.min(Integer.MAX_VALUE,
+                redisService.getRemainingCouponStock(couponId) + redisService.getActiveLeasedStock(couponId));
+        AdmissionWindow window = getWindow(couponId);
+        int batchSize = Math.min(nextBatchSize(window, remainingStock), remainingStock);
+        if (batchSize <= 0) {
+            // 재고가 없으면 더 이상 입장시키지 않습니다. 대기 중인 사용자는 발급 요청 시 소진 응답을 받습니다.
+            saveWindow(couponId, new AdmissionWindow(remainingStock, 0));
+            return 0;
+        }
+
+        Set<TypedTuple<String>> admitted = redisTemplate.opsForZSet().popMin(getWaitingKey(couponId), batchSize);
+        int count = admitted != null ? admitted.size() : 0;
+        if (count > 0) {
+            for (TypedTuple<String> user : admitted) {
+                redisTemplate.opsForValue().set(
+                        getAdmissionKey(couponId, Long.valueOf(user.getValue())),
+                        UUID.randomUUID().toString(),
+                        admissionTtl);
+            }
+            log.debug("Admitted waiting users - couponId: {}, batchSize: {}, admitted: {}", couponId, batchSize, count);
+        }
+        saveWindow(couponId, new AdmissionWindow(remainingStock, batchSize));
+        return count;
+    }
+
+    /**
+     * 대기열이 비었으면 입장 대상 목록에서 뺍니다.
+     */
+    private void pruneIfEmpty(Long couponId) {
+        Long pruned = redisTemplate.execute(
+                PRUNE_WAITING_ROOM_SCRIPT, List.of(getWaitingKey(couponId), ACTIVE_ROOMS_KEY), couponId.toString());
+        if (pruned != null && pruned == 1L) {
+            log.debug("Pruned empty waiting room - couponId: {}", couponId);
+        }
+    }
+
+    /**
+     * 직전 주기 동안 줄어든 Redis 재고(= 발급 처리량)를 기준으로 이번 주기의 입장 인원을 정합니다.
+     * 직전 주기에 입장시킨 인원을 거의 다 발급했으면 여유를 두고 늘리고, 적게 발급했으면 처리량만큼 줄입니다.
+     */
+    private int nextBatchSize(AdmissionWindow window, int remainingStock) {
+        if (window == null) {
+            return initialBatchSize;
+        }
+        int issued = Math.max(0, window.remainingStock - remainingStock);
+        int next = issued >= window.batchSize ? window.batchSize * 2 : issued + issued / 2;
+        return Math.max(minBatchSize, Math.min(maxBatchSize, next));
+    }
+
+    private Long estimateWaitSeconds(Long couponId, long position) {
+        AdmissionWindow window = getWindow(couponId);
+        int batchSize = window != null && window.batchSize > 0 ? window.batchSize : initialBatchSize;
+        long intervals = (position + batchSize - 1) / batchSize;
+        return intervals * admitIntervalMillis / 1000;
+    }
+
+    /**
+     * Redis에 남긴 직전 입장 주기 기록을 읽습니다.
+     *
+     * @return 기록이 없으면 null
+     */
+    private AdmissionWindow getWindow(Long couponId) {
+        List<Object> values = redisTemplate.opsForHash().multiGet(
+                getWindowKey(couponId), List.of(WINDOW_REMAINING_STOCK_FIELD, WINDOW_BATCH_SIZE_FIELD));
+        if (values == null || values.size() < 2 || values.get(0) == null || values.get(1) == null) {
+            return null;
+        }
+        return new AdmissionWindow(
+                Integer.parseInt(values.get(0).toString()),
+                Integer.parseInt(values.get(1).toString()));
+    }
+
+    private void saveWindow(Long couponId, AdmissionWindow window) {
+        String key = getWindowKey(couponId);
+        redisTemplate.opsForHash().putAll(key, Map.of(
+                WINDOW_REMAINING_STOCK_FIELD, String.valueOf(window.remainingStock),
+                WINDOW_BATCH_SIZE_FIELD, String.valueOf(window.batchSize)));
+        redisTemplate.expire(key, WINDOW_TTL);
+    }
+
+    private boolean hasAdmission(Long couponId, Long userId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(getAdmissionKey(couponId, userId)));
+    }
+
+    private static String getWaitingKey(Long couponId) {
+        return KEY_PREFIX + couponId + WAITING_KEY_SUFFIX;
+    }
+
+    private static String getWindowKey(Long couponId) {
+        return KEY_PREFIX + couponId + WINDOW_KEY_SUFFIX;
+    }
+
+    private static String getAdmissionKey(Long couponId, Long userId) {
+        return KEY_PREFIX + couponId + ADMISSION_KEY_INFIX + userId;
+    }
+
+    /**
+     * 한 입장 주기의 기록
+     */
+    private static final class AdmissionWindow {
+
+        private final int remainingStock;
+        private final int batchSize;
+
+        private AdmissionWindow(int remainingStock, int batchSize) {
+            this.remainingStock = remainingStock;
+            this.batchSize = batchSize;
+        }
+    }
+}
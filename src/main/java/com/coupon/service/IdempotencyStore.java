@@ -0,0 +1,180 @@
+package com.coupon.service;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Idempotency-Key로 식별되는 요청의 처리 상태와 첫 응답을 Redis에 보관합니다.
+ * 처음 요청한 쪽이 처리 중 표시를 잡고 처리한 뒤 응답을 저장하며, 같은 키의 재시도는 저장된 응답을 그대로 돌려받습니다.
+ *
+ * <p>값은 한 번의 GET으로 상태를 알 수 있도록 문자열 하나에 담습니다.
+ * <ul>
+ *     <li>{@code P|<owner>}: 처리 중</li>
+ *     <li>{@code D|<status>|<content-type>|<base64 body>}: 처리 완료</li>
+ * </ul>
+ *
+ * <p>처리 중 표시가 만료된 뒤 다른 재시도가 다시 잡을 수 있으므로, 응답 저장과 표시 해제는 표시 값이 자신의 것일 때만 합니다.
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    private static final String KEY_PREFIX = "idempotency:";
+    private static final String IN_FLIGHT = "P";
+    private static final String DONE = "D";
+    private static final String SEPARATOR = "|";
+
+    /**
+     * 처리 중 표시가 자신의 것일 때만 응답을 저장하는 스크립트
+     */
+    private static final RedisScript<Long> COMPLETE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/complete-idempotency.lua"), Long.class);
+
+    /**
+     * 처리 중 표시가 자신의 것일 때만 지우는 스크립트
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/release-idempotency.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final boolean enabled;
+    private final Duration responseTtl;
+    private final Duration lockTtl;
+
+    public IdempotencyStore(
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${coupon.idempotency.enabled:true}") boolean enabled,
+            @Value("${coupon.idempotency.ttl-seconds:86400}") long responseTtlSeconds,
+            @Value("${coupon.idempotency.lock-ttl-ms:10000}") long lockTtlMillis) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.responseTtl = Duration.ofSeconds(responseTtlSeconds);
+        this.lockTtl = Duration.ofMillis(lockTtlMillis);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 요청을 구분하는 Redis 키를 만듭니다. 다른 사용자의 응답이 재사용되지 않도록 사용자 ID를 포함합니다.
+     *
+     * @param userId JWT로 인증한 사용자 ID (AuthenticatedUser의 id)
+     * @param method HTTP 메서드
+     * @param uri 요청 경로
+     * @param idempotencyKey 클라이언트가 보낸 Idempotency-Key
+     * @return Redis 키
+     */
+    public static String getKey(String userId, String method, String uri, String idempotencyKey) {
+        return KEY_PREFIX + userId + ":" + method + ":" + uri + ":" + idempotencyKey;
+    }
+
+    /**
+     * 저장된 상태를 조회합니다.
+     *
+     * @param key Redis 키
+     * @return 처리 완료면 저장된 응답, 처리 중이면 {@link Entry#inFlight()}, 없으면 null
+     */
+    public Entry find(String key) {
+        String value = redisTemplate.opsForValue().get(key);
+        if (value == null) {
+            return null;
+        }
+        if (value.startsWith(IN_FLIGHT + SEPARATOR)) {
+            return Entry.inFlight();
+        }
+
+        String[] fields = value.split("\\|", 4);
+        if (fields.length < 4 || !DONE.equals(fields[0])) {
+            log.warn("Ignoring malformed idempotency entry - key: {}", key);
+            return null;
+        }
+        try {
+            return Entry.completed(Integer.parseInt(fields[1]), fields[2].isEmpty() ? null : fields[2],
+                    Base64.getDecoder().decode(fields[3]));
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed idempotency entry - key: {}", key);
+            return null;
+        }
+    }
+
+    /**
+     * 처리 중 표시를 잡습니다. 처리한 쪽이 응답 없이 종료되어도 잠시 뒤 다른 재시도가 처리할 수 있도록 만료 시간을 둡니다.
+     *
+     * @param key Redis 키
+     * @return 잡았으면 처리 중 표시 값, 이미 다른 요청이 잡았으면 null
+     */
+    public String tryAcquire(String key) {
+        String owner = IN_FLIGHT + SEPARATOR + UUID.randomUUID();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key, owner, lockTtl);
+        return Boolean.TRUE.equals(acquired) ? owner : null;
+    }
+
+    /**
+     * 첫 응답을 저장합니다. 자신이 잡은 처리 중 표시일 때만 덮어씁니다.
+     *
+     * @param key Redis 키
+     * @param owner {@link #tryAcquire(String)}가 반환한 처리 중 표시 값
+     * @param status HTTP 상태 코드
+     * @param contentType 응답 Content-Type
+     * @param body 응답 본문
+     * @return 저장했으면 true, 처리 중 표시가 만료되었거나 다른 요청이 잡았으면 false
+     */
+    public boolean complete(String key, String owner, int status, String contentType, byte[] body) {
+        String value = DONE + SEPARATOR + status + SEPARATOR + (contentType != null ? contentType : "")
+                + SEPARATOR + Base64.getEncoder().encodeToString(body);
+        Long result = redisTemplate.execute(
+                COMPLETE_SCRIPT, List.of(key), owner, value, String.valueOf(responseTtl.toMillis()));
+        return result != null && result == 1;
+    }
+
+    /**
+     * 응답을 저장하지 않고 처리 중 표시를 지웁니다. 같은 키로 다시 시도하면 처음부터 처리합니다.
+     * 자신이 잡은 처리 중 표시일 때만 지웁니다.
+     *
+     * @param key Redis 키
+     * @param owner {@link #tryAcquire(String)}가 반환한 처리 중 표시 값
+     */
+    public void release(String key, String owner) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(key), owner);
+    }
+
+    /**
+     * 저장된 처리 상태
+     */
+    @Getter
+    public static final class Entry {
+
+        private static final Entry IN_FLIGHT_ENTRY = new Entry(false, 0, null, null);
+
+        private final boolean completed;
+        private final int status;
+        private final String contentType;
+        private final byte[] body;
+
+        private Entry(boolean completed, int status, String contentType, byte[] body) {
+            this.completed = completed;
+            this.status = status;
+            this.contentType = contentType;
+            this.body = body;
+        }
+
+        public static Entry inFlight() {
+            return IN_FLIGHT_ENTRY;
+        }
+
+        public static Entry completed(int status, String contentType, byte[] body) {
+            return new Entry(true, status, contentType, body);
+        }
+    }
+}
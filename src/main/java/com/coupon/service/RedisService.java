@@ -1,17 +1,39 @@
 package com.coupon.service;
 
+import com.coupon.domain.coupon.ClaimWindow;
+import com.coupon.domain.coupon.Coupon;
+import com.coupon.domain.coupon.CouponStockSnapshot;
 import com.coupon.exception.RedisOperationException;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Redis 서비스를 제공하는 클래스입니다.
  * 쿠폰 발급, 재고 관리 등의 기능을 제공합니다.
+ * <p>
+ * 발급, 사용자 등록, 재고 보정 스크립트는 재고 키(coupon:{couponId}:s{n}), 사용자 키(coupon:user:{userId}),
+ * 기간 제한 키, 발급 로그 스트림 키, 임대 장부 키를 한 스크립트 안에서 함께 다룹니다.
+ * 이 키들은 해시 태그로 묶여 있지 않으므로 단일 노드 Redis(또는 Sentinel 구성)에서만 동작하며,
+ * Redis Cluster에서는 CROSSSLOT 오류로 실패합니다. 재고 샤드는 한 Redis 안에서 키 경합을 나누기 위한 것입니다.
  */
 @Slf4j
 @Service
@@ -20,27 +42,177 @@ public class RedisService {
 
     private static final String COUPON_KEY_PREFIX = "coupon:";
     private static final String USER_KEY_PREFIX = "coupon:user:";
-    private static final String LOCK_KEY_PREFIX = "lock:coupon:";
-    private static final Duration LOCK_TIMEOUT = Duration.ofSeconds(5);
+    private static final String ISSUE_STREAM_KEY_PREFIX = "coupon:issue:stream:";
+    private static final String STOCK_SHARD_KEY_INFIX = ":s";
+    private static final String META_KEY_SUFFIX = ":meta";
+    private static final String META_SHARDS_FIELD = "shards";
+    private static final String LEASE_LEDGER_KEY_SUFFIX = ":leases";
+    private static final String ISSUED_BITMAP_KEY_INFIX = ":issued:";
+    private static final String META_EXPIRE_AT_FIELD = "expireAt";
+    private static final String META_CLAIM_WINDOW_FIELD = "claimWindow";
+    private static final String CLAIM_WINDOW_KEY_INFIX = ":claims:";
+    private static final int ISSUED_BITMAP_CHUNK_BITS = 16;
+    private static final long ISSUED_BITMAP_OFFSET_MASK = (1L << ISSUED_BITMAP_CHUNK_BITS) - 1;
     private static final Duration USER_COUPON_EXPIRY = Duration.ofDays(30);
+    private static final Duration ISSUED_BITMAP_GRACE = Duration.ofDays(1);
+
+    /**
+     * 중복 확인, 재고 차감, 발급 사용자 등록을 한 번의 호출로 처리하는 Lua 스크립트
+     */
+    private static final RedisScript<Long> ISSUE_COUPON_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/issue-coupon.lua"), Long.class);
+
+    /**
+     * 발급 사용자를 쿠폰별 비트맵에 기록하는 발급 스크립트
+     */
+    private static final RedisScript<Long> ISSUE_COUPON_BITMAP_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/issue-coupon-bitmap.lua"), Long.class);
+
+    /**
+     * 재고 키에서 일정 수량을 노드 임대로 가져가는 Lua 스크립트
+     */
+    private static final RedisScript<Long> LEASE_STOCK_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/lease-stock.lua"), Long.class);
+
+    /**
+     * 사용하지 않은 임대 수량을 재고 키에 되돌리는 Lua 스크립트
+     */
+    private static final RedisScript<Long> RETURN_STOCK_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/return-stock.lua"), Long.class);
+
+    /**
+     * 재고 차감 없이 중복 확인과 발급 사용자 등록만 처리하는 Lua 스크립트
+     */
+    private static final RedisScript<Long> REGISTER_COUPON_USER_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/register-coupon-user.lua"), Long.class);
+
+    /**
+     * 발급 사용자를 쿠폰별 비트맵에 기록하는 사용자 등록 스크립트
+     */
+    private static final RedisScript<Long> REGISTER_COUPON_USER_BITMAP_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/register-coupon-user-bitmap.lua"), Long.class);
+
+    /**
+     * 조회했던 재고 값이 그대로일 때만 재고를 바꾸는 보정 스크립트
+     */
+    private static final RedisScript<Long> RECONCILE_STOCK_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/reconcile-stock.lua"), Long.class);
+
+    /**
+     * 발급을 취소할 때 차감한 재고 한 개를 되돌리는 스크립트
+     */
+    private static final RedisScript<Long> RESTORE_STOCK_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/restore-stock.lua"), Long.class);
+
+    /**
+     * 발급을 취소할 때 기간 내 발급 횟수에서 한 건을 지우는 스크립트
+     */
+    private static final RedisScript<Long> RELEASE_CLAIM_WINDOW_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/release-claim-window.lua"), Long.class);
     
     private final RedisTemplate<String, String> redisTemplate;
+    private final CouponSoldOutRegistry soldOutRegistry;
+
+    /**
+     * 쿠폰별 재고 샤드 수 캐시. 다른 노드가 재고를 다시 나눌 수 있으므로 일정 시간이 지나면 메타데이터를 다시 읽습니다.
+     */
+    private final Map<Long, StockShardCount> stockShardCounts = new ConcurrentHashMap<>();
+
+    /**
+     * 쿠폰별 발급 사용자 비트맵 만료 시각(epoch seconds) 캐시
+     */
+    private final Map<Long, Long> issuedBitmapExpireAts = new ConcurrentHashMap<>();
+
+    /**
+     * 쿠폰별 발급 기간 제한 캐시. 기간 제한은 쿠폰 생성 시 정해지므로 한 번 조회한 값을 재사용합니다.
+     */
+    private final Map<Long, ClaimPolicy> claimPolicies = new ConcurrentHashMap<>();
+
+    @Value("${coupon.issue.persistence-mode:SYNC}")
+    private CouponIssuePersistenceMode persistenceMode;
+
+    @Value("${coupon.issue.stream.shards:4}")
+    private int issueStreamShards;
+
+    @Value("${coupon.issue.membership-layout:SET}")
+    private CouponMembershipLayout membershipLayout;
+
+    @Value("${coupon.claim-window.zone:Asia/Seoul}")
+    private String claimWindowZone;
+
+    @Value("${coupon.stock.shard-cache-ttl-ms:1000}")
+    private long stockShardCacheTtlMillis = 1000;
+
+    /**
+     * 애플리케이션 시작 시 발급 관련 스크립트를 Redis에 미리 등록합니다.
+     * 등록된 스크립트는 EVALSHA로 실행되며, 등록에 실패하더라도 첫 호출 시 EVAL로 대체됩니다.
+     */
+    @PostConstruct
+    public void loadScripts() {
+        for (RedisScript<Long> script : List.of(
+                ISSUE_COUPON_SCRIPT, ISSUE_COUPON_BITMAP_SCRIPT, LEASE_STOCK_SCRIPT, RETURN_STOCK_SCRIPT,
+                REGISTER_COUPON_USER_SCRIPT, REGISTER_COUPON_USER_BITMAP_SCRIPT)) {
+            try {
+                String sha = redisTemplate.execute((RedisCallback<String>) connection ->
+                        connection.scriptingCommands().scriptLoad(
+                                script.getScriptAsString().getBytes(StandardCharsets.UTF_8)));
+                log.info("Loaded coupon script - sha1: {}", sha);
+            } catch (Exception e) {
+                log.warn("Failed to preload coupon script. It will be loaded on first use.", e);
+            }
+        }
+    }
 
     /**
-     * 쿠폰 재고를 초기화합니다.
+     * 쿠폰 재고를 초기화합니다. 현재 설정된 재고 샤드 수를 유지한 채 수량을 다시 나눕니다.
      * @param couponId 쿠폰 ID
      * @param quantity 초기 수량
      * @throws RedisOperationException Redis 작업 중 오류가 발생한 경우
      */
     public void initializeCouponStock(Long couponId, int quantity) {
+        initializeCouponStock(couponId, quantity, couponId != null ? getStockShardCount(couponId) : 1);
+    }
+
+    /**
+     * 쿠폰 재고를 여러 샤드로 나누어 초기화합니다.
+     * 샤드가 1개이면 기존과 같이 coupon:{couponId} 키 하나를 사용하고,
+     * 2개 이상이면 coupon:{couponId}:s0 ~ s{n-1} 키에 수량을 고르게 나눕니다.
+     * @param couponId 쿠폰 ID
+     * @param quantity 초기 수량
+     * @param shards 재고 샤드 수
+     * @throws RedisOperationException Redis 작업 중 오류가 발생한 경우
+     */
+    public void initializeCouponStock(Long couponId, int quantity, int shards) {
         try {
             if (couponId == null || quantity < 0) {
                 throw new IllegalArgumentException("Invalid couponId or quantity");
             }
+            if (shards < 1) {
+                throw new IllegalArgumentException("Stock shards must be at least 1");
+            }
+            
+            // 샤드 수가 바뀌면 이전 배치의 재고 키를 정리합니다.
+            int previousShards = getStockShardCount(couponId);
+            if (previousShards != shards) {
+                redisTemplate.delete(getStockKeys(couponId, previousShards));
+            }
+            
+            List<String> keys = getStockKeys(couponId, shards);
+            for (int shard = 0; shard < shards; shard++) {
+                int shardQuantity = quantity / shards + (shard < quantity % shards ? 1 : 0);
+                redisTemplate.opsForValue().set(keys.get(shard), String.valueOf(shardQuantity));
+            }
+            redisTemplate.opsForHash().put(getMetaKey(couponId), META_SHARDS_FIELD, String.valueOf(shards));
+            cacheStockShardCount(couponId, shards);
+            
+            // 재고를 다시 설정했으므로 노드들의 소진 표시도 함께 갱신합니다.
+            if (quantity > 0) {
+                soldOutRegistry.clear(couponId);
+            } else {
+                soldOutRegistry.markSoldOut(couponId);
+            }
             
-            String key = getCouponKey(couponId);
-            redisTemplate.opsForValue().set(key, String.valueOf(quantity));
-            log.info("Initialized coupon stock - couponId: {}, quantity: {}", couponId, quantity);
+            log.info("Initialized coupon stock - couponId: {}, quantity: {}, shards: {}", couponId, quantity, shards);
         } catch (Exception e) {
             log.error("Failed to initialize coupon stock. couponId: {}, quantity: {}", couponId, quantity, e);
             throw new RedisOperationException("Failed to initialize coupon stock", e);
@@ -48,10 +220,11 @@ public class RedisService {
     }
 
     /**
-     * 쿠폰 발급을 시도합니다. 분산 락을 사용하여 동시성을 제어합니다.
+     * 쿠폰 발급을 시도합니다. Lua 스크립트로 중복 확인, 기간 내 발급 횟수 확인부터 재고 차감까지 원자적으로 처리합니다.
+     * 재고가 여러 샤드로 나뉘어 있으면 사용자 ID로 고른 샤드부터 시도하고, 비어 있으면 다음 샤드로 넘어갑니다.
      * @param couponId 쿠폰 ID
      * @param userId 사용자 ID
-     * @return 발급 결과 (1: 성공, 0: 이미 발급됨, -1: 재고 부족, -2: 락 획득 실패)
+     * @return 발급 결과 (1: 성공, 0: 이미 발급됨, -1: 재고 부족, -2: 기간 내 발급 횟수 초과)
      * @throws RedisOperationException Redis 작업 중 오류가 발생한 경우
      */
     public Long tryIssueCoupon(Long couponId, Long userId) {
@@ -59,68 +232,262 @@ public class RedisService {
             throw new IllegalArgumentException("couponId and userId must not be null");
         }
         
-        String couponKey = getCouponKey(couponId);
         String userKey = getUserKey(userId);
-        String lockKey = LOCK_KEY_PREFIX + couponId;
         
         log.debug("Attempting to issue coupon - couponId: {}, userId: {}", couponId, userId);
         
         try {
-            // 1. 락 획득 시도 (일정 시간 동안만 유효)
-            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(lockKey, userId.toString(), LOCK_TIMEOUT);
-            if (!Boolean.TRUE.equals(acquired)) {
-                log.debug("Failed to acquire lock for couponId: {}", couponId);
-                return -2L; // 락 획득 실패
-            }
+            int shards = getStockShardCount(couponId);
+            int startShard = getStockShard(userId, shards);
+            ClaimWindowCheck windowCheck = getClaimWindowCheck(couponId, userId);
             
-            try {
-                // 2. 이미 발급받은 쿠폰인지 확인
-                Boolean isMember = redisTemplate.opsForSet().isMember(userKey, couponId.toString());
-                if (Boolean.TRUE.equals(isMember)) {
-                    log.debug("User already has this coupon - couponId: {}, userId: {}", couponId, userId);
-                    return 0L; // 이미 발급됨
-                }
+            Long result = null;
+            for (int attempt = 0; attempt < shards; attempt++) {
+                String stockKey = getStockKey(couponId, (startShard + attempt) % shards, shards);
+                result = executeIssueScript(stockKey, userKey, couponId, userId, windowCheck);
                 
-                // 3. 재고 확인
-                String remainingStr = redisTemplate.opsForValue().get(couponKey);
-                int remaining = remainingStr != null ? Integer.parseInt(remainingStr) : 0;
-                if (remaining <= 0) {
-                    log.debug("Coupon out of stock - couponId: {}", couponId);
-                    return -1L; // 재고 부족
+                // 재고 부족(-1)인 경우에만 다음 샤드로 넘어갑니다.
+                if (result == null || result != -1) {
+                    break;
+                }
+            }
+            
+            // 모든 샤드가 비어 있으면 다른 노드가 재고를 다시 나눴는지 확인하고, 샤드 수가 바뀌었으면 새 키로 다시 시도합니다.
+            if (result != null && result == -1) {
+                int refreshed = refreshStockShardCount(couponId);
+                if (refreshed != shards) {
+                    startShard = getStockShard(userId, refreshed);
+                    for (int attempt = 0; attempt < refreshed; attempt++) {
+                        String stockKey = getStockKey(couponId, (startShard + attempt) % refreshed, refreshed);
+                        result = executeIssueScript(stockKey, userKey, couponId, userId, windowCheck);
+                        if (result == null || result != -1) {
+                            break;
+                        }
+                    }
                 }
-                
-                // 4. 재고 감소
-                redisTemplate.opsForValue().decrement(couponKey);
-                
-                // 5. 사용자에게 쿠폰 발급 (사용자 집합에 쿠폰 ID 추가)
-                redisTemplate.opsForSet().add(userKey, couponId.toString());
-                
-                // 6. 사용자 쿠폰 집합에 만료시간 설정 (30일)
-                redisTemplate.expire(userKey, USER_COUPON_EXPIRY);
-                
-                log.debug("Successfully issued coupon - couponId: {}, userId: {}", couponId, userId);
-                return 1L; // 성공
-            } finally {
-                // 7. 락 해제
-                redisTemplate.delete(lockKey);
-                log.debug("Released lock for couponId: {}", couponId);
             }
+            
+            log.debug("Coupon issue script result - couponId: {}, userId: {}, result: {}", couponId, userId, result);
+            return result;
         } catch (Exception e) {
             log.error("Error while trying to issue coupon - couponId: {}, userId: {}", couponId, userId, e);
             throw new RedisOperationException("Failed to issue coupon", e);
         }
     }
+
+    private Long executeIssueScript(String stockKey, String userKey, Long couponId, Long userId, ClaimWindowCheck windowCheck) {
+        return redisTemplate.execute(
+                getIssueScript(),
+                getIssueScriptKeys(stockKey, userKey, couponId, userId, windowCheck),
+                getIssueScriptArgs(couponId, userId, windowCheck));
+    }
+
+    /**
+     * 여러 사용자에게 같은 쿠폰을 한 번에 발급합니다. 사용자마다 발급 스크립트를 실행하되 파이프라인으로 묶어 한 번에 보냅니다.
+     * 각 사용자는 자신의 시작 샤드에서만 시도하므로, 재고 부족(-1)을 받은 사용자는 호출한 쪽에서
+     * {@link #tryIssueCoupon(Long, Long)}으로 다른 샤드를 다시 시도해야 합니다.
+     * @param couponId 쿠폰 ID
+     * @param userIds 사용자 ID 목록
+     * @return 사용자 순서대로의 발급 결과 (1: 성공, 0: 이미 발급됨, -1: 재고 부족, -2: 기간 내 발급 횟수 초과)
+     * @throws RedisOperationException Redis 작업 중 오류가 발생한 경우
+     */
+    public List<Long> tryIssueCoupons(Long couponId, List<Long> userIds) {
+        if (couponId == null || userIds == null) {
+            throw new IllegalArgumentException("couponId and userIds must not be null");
+        }
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        
+        try {
+            int shards = getStockShardCount(couponId);
+            RedisScript<Long> script = getIssueScript();
+            byte[] scriptBody = script.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+            
+            // 파이프라인 안에서는 NOSCRIPT를 처리할 수 없으므로 스크립트가 등록되어 있는지 먼저 확인합니다.
+            redisTemplate.execute((RedisCallback<String>) connection ->
+                    connection.scriptingCommands().scriptLoad(scriptBody));
+            
+            // 기간 제한 조회가 파이프라인에 섞이지 않도록 미리 만들어 둡니다.
+            List<ClaimWindowCheck> windowChecks = new ArrayList<>(userIds.size());
+            for (Long userId : userIds) {
+                windowChecks.add(getClaimWindowCheck(couponId, userId));
+            }
+            
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (int index = 0; index < userIds.size(); index++) {
+                    Long userId = userIds.get(index);
+                    String stockKey = getStockKey(couponId, getStockShard(userId, shards), shards);
+                    ClaimWindowCheck windowCheck = windowChecks.get(index);
+                    List<String> keys = getIssueScriptKeys(stockKey, getUserKey(userId), couponId, userId, windowCheck);
+                    Object[] args = getIssueScriptArgs(couponId, userId, windowCheck);
+                    byte[][] keysAndArgs = new byte[keys.size() + args.length][];
+                    for (int i = 0; i < keys.size(); i++) {
+                        keysAndArgs[i] = keys.get(i).getBytes(StandardCharsets.UTF_8);
+                    }
+                    for (int i = 0; i < args.length; i++) {
+                        keysAndArgs[keys.size() + i] = args[i].toString().getBytes(StandardCharsets.UTF_8);
+                    }
+                    connection.scriptingCommands().evalSha(script.getSha1(), ReturnType.INTEGER, keys.size(), keysAndArgs);
+                }
+                return null;
+            });
+            
+            List<Long> issueResults = new ArrayList<>(results.size());
+            for (Object result : results) {
+                issueResults.add(result instanceof Number ? ((Number) result).longValue() : null);
+            }
+            return issueResults;
+        } catch (Exception e) {
+            log.error("Error while trying to issue coupons in batch - couponId: {}, users: {}", couponId, userIds.size(), e);
+            throw new RedisOperationException("Failed to issue coupons in batch", e);
+        }
+    }
+
+    private RedisScript<Long> getIssueScript() {
+        return isBitmapMembership() ? ISSUE_COUPON_BITMAP_SCRIPT : ISSUE_COUPON_SCRIPT;
+    }
+
+    private List<String> getIssueScriptKeys(
+            String stockKey, String userKey, Long couponId, Long userId, ClaimWindowCheck windowCheck) {
+        List<String> keys = isBitmapMembership()
+                ? new ArrayList<>(List.of(stockKey, getIssuedBitmapKey(couponId, userId), userKey, windowCheck.key))
+                : new ArrayList<>(List.of(stockKey, userKey, windowCheck.key));
+        if (isIssueStreamEnabled()) {
+            // 발급 이력을 스트림에 함께 기록하여 DB 저장을 컨슈머에 맡깁니다.
+            keys.add(getIssueStreamKey(getIssueStreamShard(couponId)));
+        }
+        return keys;
+    }
+
+    private Object[] getIssueScriptArgs(Long couponId, Long userId, ClaimWindowCheck windowCheck) {
+        if (isBitmapMembership()) {
+            return bitmapScriptArgs(couponId, userId, windowCheck);
+        }
+        return setScriptArgs(couponId, userId, windowCheck);
+    }
+
+    private Object[] setScriptArgs(Long couponId, Long userId, ClaimWindowCheck windowCheck) {
+        return new Object[] {
+                couponId.toString(),
+                String.valueOf(USER_COUPON_EXPIRY.toSeconds()),
+                userId.toString(),
+                String.valueOf(windowCheck.issuedAt),
+                windowCheck.mode,
+                windowCheck.limit,
+                windowCheck.expire
+        };
+    }
+    
+    /**
+     * 노드에서 사용할 재고를 임대합니다. 노드가 선호하는 샤드부터 요청 수량이 채워질 때까지 차례로 가져옵니다.
+     * @param couponId 쿠폰 ID
+     * @param requested 요청 수량
+     * @param nodeId 임대하는 노드 ID
+     * @param ledgerExpiresAtMillis 임대 장부 항목의 만료 시각 (epoch millis). 이 시각이 지나면 반납 없이 종료된 노드의 임대로 봅니다.
+     * @return 임대한 수량 (재고가 없으면 0)
+     * @throws RedisOperationException Redis 작업 중 오류가 발생한 경우
+     */
+    public int leaseCouponStock(Long couponId, int requested, String nodeId, long ledgerExpiresAtMillis) {
+        try {
+            int shards = getStockShardCount(couponId);
+            int startShard = getStockShard((long) nodeId.hashCode(), shards);
+            String ledgerKey = getLeaseLedgerKey(couponId);
+            
+            int leased = 0;
+            for (int attempt = 0; attempt < shards && leased < requested; attempt++) {
+                String stockKey = getStockKey(couponId, (startShard + attempt) % shards, shards);
+                Long taken = redisTemplate.execute(
+                        LEASE_STOCK_SCRIPT,
+                        List.of(stockKey, ledgerKey),
+                        String.valueOf(requested - leased),
+                        nodeId,
+                        attempt == 0 ? "1" : "0",
+                        String.valueOf(ledgerExpiresAtMillis));
+                leased += taken != null ? taken.intValue() : 0;
+            }
+            
+            log.debug("Leased coupon stock - couponId: {}, node: {}, requested: {}, leased: {}",
+                    couponId, nodeId, requested, leased);
+            return leased;
+        } catch (Exception e) {
+            log.error("Failed to lease coupon stock - couponId: {}, node: {}", couponId, nodeId, e);
+            throw new RedisOperationException("Failed to lease coupon stock", e);
+        }
+    }
+    
+    /**
+     * 사용하지 않은 임대 재고를 반납하고 노드의 임대 장부 항목을 지웁니다.
+     * 남은 수량이 없으면 0으로 호출하여 장부 항목만 지웁니다.
+     * @param couponId 쿠폰 ID
+     * @param amount 반납 수량
+     * @param nodeId 반납하는 노드 ID
+     * @throws RedisOperationException Redis 작업 중 오류가 발생한 경우
+     */
+    public void returnCouponStock(Long couponId, int amount, String nodeId) {
+        try {
+            int shards = getStockShardCount(couponId);
+            String stockKey = getStockKey(couponId, getStockShard((long) nodeId.hashCode(), shards), shards);
+            redisTemplate.execute(
+                    RETURN_STOCK_SCRIPT,
+                    List.of(stockKey, getLeaseLedgerKey(couponId)),
+                    String.valueOf(amount),
+                    nodeId);
+            if (amount > 0) {
+                soldOutRegistry.clear(couponId);
+            }
+            log.debug("Returned leased coupon stock - couponId: {}, node: {}, amount: {}", couponId, nodeId, amount);
+        } catch (Exception e) {
+            log.error("Failed to return leased coupon stock - couponId: {}, node: {}, amount: {}",
+                    couponId, nodeId, amount, e);
+            throw new RedisOperationException("Failed to return leased coupon stock", e);
+        }
+    }
+    
+    /**
+     * 재고를 차감하지 않고 발급 사용자만 등록합니다. 노드에서 임대한 재고로 발급할 때 사용합니다.
+     * @param couponId 쿠폰 ID
+     * @param userId 사용자 ID
+     * @return 등록 결과 (1: 성공, 0: 이미 발급됨, -2: 기간 내 발급 횟수 초과)
+     * @throws RedisOperationException Redis 작업 중 오류가 발생한 경우
+     */
+    public Long tryRegisterCouponUser(Long couponId, Long userId) {
+        if (couponId == null || userId == null) {
+            throw new IllegalArgumentException("couponId and userId must not be null");
+        }
+        
+        try {
+            String userKey = getUserKey(userId);
+            ClaimWindowCheck windowCheck = getClaimWindowCheck(couponId, userId);
+            if (isBitmapMembership()) {
+                List<String> keys = new ArrayList<>(List.of(getIssuedBitmapKey(couponId, userId), userKey, windowCheck.key));
+                if (isIssueStreamEnabled()) {
+                    keys.add(getIssueStreamKey(getIssueStreamShard(couponId)));
+                }
+                return redisTemplate.execute(
+                        REGISTER_COUPON_USER_BITMAP_SCRIPT, keys, bitmapScriptArgs(couponId, userId, windowCheck));
+            }
+            List<String> keys = new ArrayList<>(List.of(userKey, windowCheck.key));
+            if (isIssueStreamEnabled()) {
+                keys.add(getIssueStreamKey(getIssueStreamShard(couponId)));
+            }
+            return redisTemplate.execute(REGISTER_COUPON_USER_SCRIPT, keys, setScriptArgs(couponId, userId, windowCheck));
+        } catch (Exception e) {
+            log.error("Failed to register coupon user - couponId: {}, userId: {}", couponId, userId, e);
+            throw new RedisOperationException("Failed to register coupon user", e);
+        }
+    }
     
     /**
      * 발급 결과 코드에 대한 설명
      * 1: 성공
      * 0: 이미 발급됨
      * -1: 재고 부족
-     * -2: 락 획득 실패
+     * -2: 기간 내 발급 횟수 초과
      */
 
     /**
-     * 쿠폰 재고를 조회합니다.
+     * 쿠폰 재고를 조회합니다. 재고가 여러 샤드로 나뉘어 있으면 모든 샤드의 합을 반환합니다.
      * @param couponId 쿠폰 ID
      * @return 남은 재고 수량 (없으면 0 반환)
      * @throws RedisOperationException Redis 작업 중 오류가 발생한 경우
@@ -131,26 +498,264 @@ public class RedisService {
         }
         
         try {
-            String key = getCouponKey(couponId);
-            String value = redisTemplate.opsForValue().get(key);
+            int shards = getStockShardCount(couponId);
+            List<String> values = shards == 1
+                    ? Collections.singletonList(redisTemplate.opsForValue().get(getCouponKey(couponId)))
+                    : redisTemplate.opsForValue().multiGet(getStockKeys(couponId, shards));
             
-            if (value == null) {
+            if (values == null || values.stream().allMatch(value -> value == null)) {
                 log.debug("No stock information found for coupon: {}", couponId);
                 return 0;
             }
             
-            try {
-                return Integer.parseInt(value);
-            } catch (NumberFormatException e) {
-                log.error("Invalid stock value in Redis for coupon: {}, value: {}", couponId, value, e);
-                throw new RedisOperationException("Invalid stock value in Redis", e);
+            int remaining = 0;
+            for (String value : values) {
+                if (value == null) {
+                    continue;
+                }
+                try {
+                    remaining += Integer.parseInt(value);
+                } catch (NumberFormatException e) {
+                    log.error("Invalid stock value in Redis for coupon: {}, value: {}", couponId, value, e);
+                    throw new RedisOperationException("Invalid stock value in Redis", e);
+                }
             }
+            return remaining;
         } catch (Exception e) {
             log.error("Failed to get remaining coupon stock. couponId: {}", couponId, e);
             throw new RedisOperationException("Failed to get remaining coupon stock", e);
         }
     }
 
+    /**
+     * 여러 쿠폰의 Redis 재고 상태를 파이프라인 한 번으로 조회합니다.
+     * @param couponIds 쿠폰 ID 목록
+     * @return 쿠폰 순서대로의 재고 상태
+     * @throws RedisOperationException Redis 작업 중 오류가 발생한 경우
+     */
+    @SuppressWarnings("unchecked")
+    public List<CouponStockSnapshot> getCouponStockSnapshots(List<Long> couponIds) {
+        if (couponIds.isEmpty()) {
+            return List.of();
+        }
+        
+        try {
+            List<List<String>> stockKeys = new ArrayList<>(couponIds.size());
+            for (Long couponId : couponIds) {
+                stockKeys.add(getStockKeys(couponId, getStockShardCount(couponId)));
+            }
+            
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (int i = 0; i < couponIds.size(); i++) {
+                    byte[][] keys = stockKeys.get(i).stream()
+                            .map(key -> key.getBytes(StandardCharsets.UTF_8))
+                            .toArray(byte[][]::new);
+                    connection.stringCommands().mGet(keys);
+                    connection.hashCommands().hVals(getLeaseLedgerKey(couponIds.get(i)).getBytes(StandardCharsets.UTF_8));
+                }
+                return null;
+            });
+            
+            long now = System.currentTimeMillis();
+            List<CouponStockSnapshot> snapshots = new ArrayList<>(couponIds.size());
+            for (int i = 0; i < couponIds.size(); i++) {
+                List<String> values = (List<String>) results.get(i * 2);
+                List<Object> leases = (List<Object>) results.get(i * 2 + 1);
+                snapshots.add(new CouponStockSnapshot(
+                        couponIds.get(i),
+                        values != null ? values : Collections.nCopies(stockKeys.get(i).size(), null),
+                        countActiveLeases(leases, now)));
+            }
+            return snapshots;
+        } catch (Exception e) {
+            log.error("Failed to read coupon stock snapshots - coupons: {}", couponIds.size(), e);
+            throw new RedisOperationException("Failed to read coupon stock snapshots", e);
+        }
+    }
+
+    /**
+     * 다른 노드가 아직 쓰고 있는 임대 재고가 있는지 확인합니다. 만료 시각이 지난 장부 항목은 세지 않습니다.
+     * @param couponId 쿠폰 ID
+     * @return 만료되지 않은 임대가 있으면 true
+     * @throws RedisOperationException Redis 작업 중 오류가 발생한 경우
+     */
+    public boolean hasActiveStockLeases(Long couponId) {
+        try {
+            List<Object> leases = redisTemplate.opsForHash().values(getLeaseLedgerKey(couponId));
+            return countActiveLeases(leases, System.currentTimeMillis()) > 0;
+        } catch (Exception e) {
+            log.error("Failed to read coupon stock leases - couponId: {}", couponId, e);
+            throw new RedisOperationException("Failed to read coupon stock leases", e);
+        }
+    }
+
+    /**
+     * 다른 노드가 임대해 간 재고 수량을 합산합니다. 만료 시각이 지난 장부 항목은 세지 않습니다.
+     * 장부에는 임대한 수량이 남으므로 노드가 이미 발급에 쓴 수량까지 포함한 상한값입니다.
+     * @param couponId 쿠폰 ID
+     * @return 만료되지 않은 임대 수량의 합
+     * @throws RedisOperationException Redis 작업 중 오류가 발생한 경우
+     */
+    public long getActiveLeasedStock(Long couponId) {
+        try {
+            List<Object> leases = redisTemplate.opsForHash().values(getLeaseLedgerKey(couponId));
+            return sumActiveLeases(leases, System.currentTimeMillis());
+        } catch (Exception e) {
+            log.error("Failed to read coupon stock leases - couponId: {}", couponId, e);
+            throw new RedisOperationException("Failed to read coupon stock leases", e);
+        }
+    }
+
+    /**
+     * 임대 장부 값("임대 수량:만료 시각") 중 만료 시각이 지나지 않은 항목의 임대 수량을 합산합니다.
+     * 만료 시각이 없는 이전 형식의 항목은 만료된 것으로 봅니다.
+     */
+    static long sumActiveLeases(List<?> ledgerValues, long now) {
+        if (ledgerValues == null) {
+            return 0;
+        }
+        long leased = 0;
+        for (Object value : ledgerValues) {
+            String entry = value instanceof byte[] bytes ? new String(bytes, StandardCharsets.UTF_8) : String.valueOf(value);
+            int separator = entry.lastIndexOf(':');
+            if (separator < 0) {
+                continue;
+            }
+            try {
+                if (Long.parseLong(entry.substring(separator + 1)) > now) {
+                    leased += Long.parseLong(entry.substring(0, separator));
+                }
+            } catch (NumberFormatException e) {
+                log.warn("Ignoring malformed lease ledger entry: {}", entry);
+            }
+        }
+        return leased;
+    }
+
+    /**
+     * 임대 장부 값("임대 수량:만료 시각") 중 만료 시각이 지나지 않은 항목 수를 셉니다.
+     * 만료 시각이 없는 이전 형식의 항목은 만료된 것으로 봅니다.
+     */
+    static long countActiveLeases(List<?> ledgerValues, long now) {
+        if (ledgerValues == null) {
+            return 0;
+        }
+        long active = 0;
+        for (Object value : ledgerValues) {
+            String entry = value instanceof byte[] bytes ? new String(bytes, StandardCharsets.UTF_8) : String.valueOf(value);
+            int separator = entry.lastIndexOf(':');
+            if (separator < 0) {
+                continue;
+            }
+            try {
+                if (Long.parseLong(entry.substring(separator + 1)) > now) {
+                    active++;
+                }
+            } catch (NumberFormatException e) {
+                log.warn("Ignoring malformed lease ledger entry: {}", entry);
+            }
+        }
+        return active;
+    }
+
+    /**
+     * 조회했던 재고 상태가 그대로이고 만료되지 않은 임대가 없을 때만 재고를 새 수량으로 바꿉니다.
+     * 새 수량은 샤드 수만큼 고르게 나눕니다.
+     * @param snapshot 조회했던 재고 상태
+     * @param quantity 새 재고 수량
+     * @return 바꿨으면 true, 그 사이 재고가 바뀌었거나 임대 중이면 false
+     * @throws RedisOperationException Redis 작업 중 오류가 발생한 경우
+     */
+    public boolean compareAndSetCouponStock(CouponStockSnapshot snapshot, int quantity) {
+        Long couponId = snapshot.getCouponId();
+        List<String> observed = snapshot.getShardValues();
+        int shards = observed.size();
+        
+        try {
+            List<String> keys = new ArrayList<>(getStockKeys(couponId, shards));
+            keys.add(getLeaseLedgerKey(couponId));
+            Object[] args = new Object[shards * 2 + 1];
+            for (int shard = 0; shard < shards; shard++) {
+                args[shard] = observed.get(shard) != null ? observed.get(shard) : "";
+                args[shards + shard] = String.valueOf(quantity / shards + (shard < quantity % shards ? 1 : 0));
+            }
+            args[shards * 2] = String.valueOf(System.currentTimeMillis());
+            Long result = redisTemplate.execute(RECONCILE_STOCK_SCRIPT, keys, args);
+            return result != null && result == 1;
+        } catch (Exception e) {
+            log.error("Failed to reconcile coupon stock - couponId: {}, quantity: {}", couponId, quantity, e);
+            throw new RedisOperationException("Failed to reconcile coupon stock", e);
+        }
+    }
+
+    /**
+     * 여러 쿠폰의 재고와 메타데이터(샤드 수, 유효기간, 발급 기간 제한)를 파이프라인 한 번으로 채웁니다.
+     * 키가 없을 때만 쓰므로 이미 발급이 진행 중인 쿠폰의 재고는 바뀌지 않습니다.
+     * @param coupons 쿠폰 목록
+     * @param remainingQuantities 쿠폰별로 채울 잔여 수량
+     * @return 재고 키를 새로 채운 쿠폰 ID 목록
+     * @throws RedisOperationException Redis 작업 중 오류가 발생한 경우
+     */
+    public List<Long> warmCouponStocks(List<Coupon> coupons, Map<Long, Integer> remainingQuantities) {
+        if (coupons.isEmpty()) {
+            return List.of();
+        }
+
+        try {
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Coupon coupon : coupons) {
+                    int shards = coupon.getStockShards();
+                    int quantity = remainingQuantities.get(coupon.getId());
+                    List<String> keys = getStockKeys(coupon.getId(), shards);
+                    for (int shard = 0; shard < shards; shard++) {
+                        int shardQuantity = quantity / shards + (shard < quantity % shards ? 1 : 0);
+                        connection.stringCommands().setNX(
+                                keys.get(shard).getBytes(StandardCharsets.UTF_8),
+                                String.valueOf(shardQuantity).getBytes(StandardCharsets.UTF_8));
+                    }
+                    byte[] metaKey = getMetaKey(coupon.getId()).getBytes(StandardCharsets.UTF_8);
+                    connection.hashCommands().hSetNX(metaKey,
+                            META_SHARDS_FIELD.getBytes(StandardCharsets.UTF_8),
+                            String.valueOf(shards).getBytes(StandardCharsets.UTF_8));
+                    connection.hashCommands().hSetNX(metaKey,
+                            META_EXPIRE_AT_FIELD.getBytes(StandardCharsets.UTF_8),
+                            String.valueOf(getExpireAt(coupon.getValidTo())).getBytes(StandardCharsets.UTF_8));
+                    connection.hashCommands().hSetNX(metaKey,
+                            META_CLAIM_WINDOW_FIELD.getBytes(StandardCharsets.UTF_8),
+                            new ClaimPolicy(coupon.getClaimWindow(), coupon.getClaimLimit()).format()
+                                    .getBytes(StandardCharsets.UTF_8));
+                }
+                return null;
+            });
+
+            List<Long> warmed = new ArrayList<>();
+            int index = 0;
+            for (Coupon coupon : coupons) {
+                int shards = coupon.getStockShards();
+                boolean stockWritten = false;
+                for (int shard = 0; shard < shards; shard++) {
+                    stockWritten |= Boolean.TRUE.equals(results.get(index++));
+                }
+                // 샤드 수, 만료 시각, 발급 기간 제한 결과는 확인하지 않습니다.
+                index += 3;
+
+                cacheStockShardCount(coupon.getId(), shards);
+                if (stockWritten) {
+                    warmed.add(coupon.getId());
+                    if (remainingQuantities.get(coupon.getId()) > 0) {
+                        soldOutRegistry.clear(coupon.getId());
+                    } else {
+                        soldOutRegistry.markSoldOut(coupon.getId());
+                    }
+                }
+            }
+            return warmed;
+        } catch (Exception e) {
+            log.error("Failed to warm coupon stocks - coupons: {}", coupons.size(), e);
+            throw new RedisOperationException("Failed to warm coupon stocks", e);
+        }
+    }
+
     /**
      * 쿠폰 발급 가능 여부를 확인합니다.
      * @param couponId 쿠폰 ID
@@ -164,10 +769,8 @@ public class RedisService {
         }
         
         try {
-            // 1. Check if user already has this coupon
-            String userKey = getUserKey(userId);
-            Boolean isMember = redisTemplate.opsForSet().isMember(userKey, String.valueOf(userId));
-            if (Boolean.TRUE.equals(isMember)) {
+            // 1. Check if user already has this coupon (기간 제한이 있는 쿠폰은 다시 발급받을 수 있음)
+            if (getClaimPolicy(couponId).window == ClaimWindow.NONE && hasIssuedCoupon(couponId, userId)) {
                 log.debug("User already has this coupon - couponId: {}, userId: {}", couponId, userId);
                 return false;
             }
@@ -186,6 +789,311 @@ public class RedisService {
         }
     }
 
+    /**
+     * 사용자가 쿠폰을 이미 발급받았는지 확인합니다. 비트맵 방식이면 이전 방식의 집합도 함께 확인합니다.
+     * @param couponId 쿠폰 ID
+     * @param userId 사용자 ID
+     * @return 발급 여부
+     */
+    private boolean hasIssuedCoupon(Long couponId, Long userId) {
+        if (isBitmapMembership()) {
+            Boolean bit = redisTemplate.opsForValue().getBit(
+                    getIssuedBitmapKey(couponId, userId), getIssuedBitmapOffset(userId));
+            if (Boolean.TRUE.equals(bit)) {
+                return true;
+            }
+        }
+        return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(getUserKey(userId), couponId.toString()));
+    }
+
+    /**
+     * 발급 사용자 기록과 기간 내 발급 횟수를 지웁니다. Redis에서 발급이 확정된 뒤 DB 반영에 실패했을 때 사용자가 다시 시도할 수 있도록 합니다.
+     * 차감된 재고는 되돌리지 않습니다.
+     * @param couponId 쿠폰 ID
+     * @param userId 사용자 ID
+     * @throws RedisOperationException Redis 작업 중 오류가 발생한 경우
+     */
+    public void removeCouponUser(Long couponId, Long userId) {
+        try {
+            if (isBitmapMembership()) {
+                redisTemplate.opsForValue().setBit(
+                        getIssuedBitmapKey(couponId, userId), getIssuedBitmapOffset(userId), false);
+            }
+            redisTemplate.opsForSet().remove(getUserKey(userId), couponId.toString());
+
+            ClaimWindowCheck windowCheck = getClaimWindowCheck(couponId, userId);
+            if (!"0".equals(windowCheck.mode)) {
+                redisTemplate.execute(RELEASE_CLAIM_WINDOW_SCRIPT, List.of(windowCheck.key), windowCheck.mode);
+            }
+        } catch (Exception e) {
+            log.error("Failed to remove coupon user - couponId: {}, userId: {}", couponId, userId, e);
+            throw new RedisOperationException("Failed to remove coupon user", e);
+        }
+    }
+
+    /**
+     * Redis에서 확정된 발급을 취소하고 차감된 재고 한 개를 되돌립니다.
+     * 발급 사용자 기록을 먼저 지운 뒤 사용자의 시작 샤드에 재고를 더하므로, 다른 샤드에서 차감되었더라도 전체 재고는 맞춰집니다.
+     * @param couponId 쿠폰 ID
+     * @param userId 사용자 ID
+     * @throws RedisOperationException Redis 작업 중 오류가 발생한 경우
+     */
+    public void releaseCouponClaim(Long couponId, Long userId) {
+        removeCouponUser(couponId, userId);
+        try {
+            int shards = getStockShardCount(couponId);
+            Long remaining = redisTemplate.execute(
+                    RESTORE_STOCK_SCRIPT,
+                    List.of(getStockKey(couponId, getStockShard(userId, shards), shards)));
+            if (remaining != null && remaining > 0) {
+                soldOutRegistry.clear(couponId);
+            }
+        } catch (Exception e) {
+            log.error("Failed to restore coupon stock - couponId: {}, userId: {}", couponId, userId, e);
+            throw new RedisOperationException("Failed to restore coupon stock", e);
+        }
+    }
+
+    /**
+     * 쿠폰 유효기간을 등록합니다. 발급 사용자 비트맵은 유효기간 종료 후 하루 뒤에 만료됩니다.
+     * @param couponId 쿠폰 ID
+     * @param validTo 쿠폰 유효기간 종료 시각
+     * @throws RedisOperationException Redis 작업 중 오류가 발생한 경우
+     */
+    public void registerCouponExpiry(Long couponId, LocalDateTime validTo) {
+        try {
+            long expireAt = getExpireAt(validTo);
+            redisTemplate.opsForHash().put(getMetaKey(couponId), META_EXPIRE_AT_FIELD, String.valueOf(expireAt));
+            issuedBitmapExpireAts.put(couponId, expireAt);
+        } catch (Exception e) {
+            log.error("Failed to register coupon expiry - couponId: {}, validTo: {}", couponId, validTo, e);
+            throw new RedisOperationException("Failed to register coupon expiry", e);
+        }
+    }
+
+    private long getExpireAt(LocalDateTime validTo) {
+        return validTo.atZone(ZoneId.systemDefault()).plus(ISSUED_BITMAP_GRACE).toEpochSecond();
+    }
+
+    /**
+     * 쿠폰의 사용자별 발급 기간 제한을 등록합니다. 발급 스크립트가 이 값으로 기간별 발급 횟수를 확인합니다.
+     * @param couponId 쿠폰 ID
+     * @param claimWindow 발급 횟수를 세는 기간
+     * @param claimLimit 기간 안에 사용자 한 명이 발급받을 수 있는 횟수
+     * @throws RedisOperationException Redis 작업 중 오류가 발생한 경우
+     */
+    public void registerCouponClaimWindow(Long couponId, ClaimWindow claimWindow, int claimLimit) {
+        try {
+            ClaimPolicy policy = new ClaimPolicy(claimWindow, claimLimit);
+            redisTemplate.opsForHash().put(getMetaKey(couponId), META_CLAIM_WINDOW_FIELD, policy.format());
+            claimPolicies.put(couponId, policy);
+        } catch (Exception e) {
+            log.error("Failed to register coupon claim window - couponId: {}, window: {}", couponId, claimWindow, e);
+            throw new RedisOperationException("Failed to register coupon claim window", e);
+        }
+    }
+
+    /**
+     * 쿠폰의 발급 기간 제한을 조회합니다. 등록된 값이 없으면 기간 제한이 없는 것으로 간주합니다.
+     * @param couponId 쿠폰 ID
+     * @return 발급 기간 제한
+     */
+    private ClaimPolicy getClaimPolicy(Long couponId) {
+        ClaimPolicy cached = claimPolicies.get(couponId);
+        if (cached != null) {
+            return cached;
+        }
+
+        Object value = redisTemplate.opsForHash().get(getMetaKey(couponId), META_CLAIM_WINDOW_FIELD);
+        if (value == null) {
+            // 아직 생성되지 않은 쿠폰일 수 있으므로 기본값은 캐시하지 않습니다.
+            return ClaimPolicy.NONE;
+        }
+        ClaimPolicy policy = ClaimPolicy.parse(value.toString());
+        claimPolicies.put(couponId, policy);
+        return policy;
+    }
+
+    /**
+     * 발급 스크립트에 넘길 기간 제한 카운터 키와 인자를 만듭니다.
+     * 달력 기간은 기간마다 키를 따로 두고 기간이 끝나는 시각에 만료시키며, 최근 기간은 발급 시각을 정렬 집합에 보관합니다.
+     */
+    private ClaimWindowCheck getClaimWindowCheck(Long couponId, Long userId) {
+        ClaimPolicy policy = getClaimPolicy(couponId);
+        ZonedDateTime now = ZonedDateTime.now(ZoneId.of(claimWindowZone));
+        String key = getCouponKey(couponId) + CLAIM_WINDOW_KEY_INFIX + userId + ":" + policy.window.getBucket(now);
+
+        String mode;
+        String expire;
+        if (policy.window == ClaimWindow.NONE) {
+            mode = "0";
+            expire = "0";
+        } else if (policy.window.getRollingDuration() != null) {
+            mode = "2";
+            expire = String.valueOf(policy.window.getRollingDuration().toMillis());
+        } else {
+            mode = "1";
+            expire = String.valueOf(policy.window.getWindowEnd(now));
+        }
+        return new ClaimWindowCheck(key, mode, String.valueOf(policy.limit), expire, now.toInstant().toEpochMilli());
+    }
+
+    /**
+     * 발급 사용자 비트맵의 만료 시각을 조회합니다. 등록된 유효기간이 없으면 지금부터 기본 보관 기간 뒤로 정합니다.
+     * @param couponId 쿠폰 ID
+     * @return 만료 시각 (epoch seconds)
+     */
+    long getIssuedBitmapExpireAt(Long couponId) {
+        Long cached = issuedBitmapExpireAts.get(couponId);
+        if (cached != null) {
+            return cached;
+        }
+        
+        Object value = redisTemplate.opsForHash().get(getMetaKey(couponId), META_EXPIRE_AT_FIELD);
+        if (value == null) {
+            return System.currentTimeMillis() / 1000 + USER_COUPON_EXPIRY.toSeconds();
+        }
+        long expireAt = Long.parseLong(value.toString());
+        issuedBitmapExpireAts.put(couponId, expireAt);
+        return expireAt;
+    }
+
+    /**
+     * 발급 사용자를 비트맵으로 기록하는지 확인합니다.
+     * @return 비트맵 방식 여부
+     */
+    public boolean isBitmapMembership() {
+        return membershipLayout == CouponMembershipLayout.BITMAP;
+    }
+
+    /**
+     * 사용자 ID가 속한 구간의 발급 사용자 비트맵 키를 반환합니다.
+     * @param couponId 쿠폰 ID
+     * @param userId 사용자 ID
+     * @return 비트맵 키
+     */
+    public static String getIssuedBitmapKey(Long couponId, Long userId) {
+        return COUPON_KEY_PREFIX + couponId + ISSUED_BITMAP_KEY_INFIX + (userId >>> ISSUED_BITMAP_CHUNK_BITS);
+    }
+
+    /**
+     * 사용자 ID의 비트맵 구간 안 비트 위치를 반환합니다.
+     * @param userId 사용자 ID
+     * @return 비트 위치
+     */
+    public static long getIssuedBitmapOffset(Long userId) {
+        return userId & ISSUED_BITMAP_OFFSET_MASK;
+    }
+
+    private Object[] bitmapScriptArgs(Long couponId, Long userId, ClaimWindowCheck windowCheck) {
+        return new Object[] {
+                couponId.toString(),
+                String.valueOf(getIssuedBitmapOffset(userId)),
+                String.valueOf(getIssuedBitmapExpireAt(couponId)),
+                userId.toString(),
+                String.valueOf(windowCheck.issuedAt),
+                windowCheck.mode,
+                windowCheck.limit,
+                windowCheck.expire
+        };
+    }
+
+    /**
+     * 발급 이력을 Redis Stream에 기록하는 모드인지 확인합니다.
+     * @return 스트림 기록 여부
+     */
+    public boolean isIssueStreamEnabled() {
+        return persistenceMode == CouponIssuePersistenceMode.STREAM;
+    }
+
+    /**
+     * 쿠폰 ID로 발급 로그 스트림의 샤드 번호를 계산합니다.
+     * @param couponId 쿠폰 ID
+     * @return 샤드 번호 (0 ~ shards - 1)
+     */
+    public int getIssueStreamShard(Long couponId) {
+        return (int) Math.floorMod(couponId, (long) issueStreamShards);
+    }
+
+    /**
+     * 발급 로그 스트림의 샤드 수를 반환합니다.
+     * @return 샤드 수
+     */
+    public int getIssueStreamShards() {
+        return issueStreamShards;
+    }
+
+    /**
+     * 샤드 번호에 해당하는 발급 로그 스트림 키를 반환합니다.
+     * @param shard 샤드 번호
+     * @return 스트림 키
+     */
+    public static String getIssueStreamKey(int shard) {
+        return ISSUE_STREAM_KEY_PREFIX + shard;
+    }
+
+    /**
+     * 쿠폰의 재고 샤드 수를 조회합니다. 샤드 정보가 없으면 단일 키를 사용하는 것으로 간주합니다.
+     * 캐시한 값은 coupon.stock.shard-cache-ttl-ms가 지나면 메타데이터에서 다시 읽습니다.
+     * @param couponId 쿠폰 ID
+     * @return 재고 샤드 수
+     */
+    public int getStockShardCount(Long couponId) {
+        StockShardCount cached = stockShardCounts.get(couponId);
+        if (cached != null && cached.expiresAt > System.currentTimeMillis()) {
+            return cached.shards;
+        }
+        return refreshStockShardCount(couponId);
+    }
+
+    /**
+     * 캐시를 거치지 않고 메타데이터에서 재고 샤드 수를 다시 읽습니다.
+     * @param couponId 쿠폰 ID
+     * @return 재고 샤드 수
+     */
+    private int refreshStockShardCount(Long couponId) {
+        Object value = redisTemplate.opsForHash().get(getMetaKey(couponId), META_SHARDS_FIELD);
+        if (value == null) {
+            // 아직 생성되지 않은 쿠폰일 수 있으므로 기본값은 캐시하지 않습니다.
+            stockShardCounts.remove(couponId);
+            return 1;
+        }
+        int shards = Integer.parseInt(value.toString());
+        cacheStockShardCount(couponId, shards);
+        return shards;
+    }
+
+    private void cacheStockShardCount(Long couponId, int shards) {
+        stockShardCounts.put(couponId, new StockShardCount(shards, System.currentTimeMillis() + stockShardCacheTtlMillis));
+    }
+
+    private int getStockShard(Long userId, int shards) {
+        return Math.floorMod(Long.hashCode(userId), shards);
+    }
+
+    private String getStockKey(Long couponId, int shard, int shards) {
+        if (shards == 1) {
+            return getCouponKey(couponId);
+        }
+        return getCouponKey(couponId) + STOCK_SHARD_KEY_INFIX + shard;
+    }
+
+    private List<String> getStockKeys(Long couponId, int shards) {
+        List<String> keys = new ArrayList<>(shards);
+        for (int shard = 0; shard < shards; shard++) {
+            keys.add(getStockKey(couponId, shard, shards));
+        }
+        return keys;
+    }
+
+    private String getMetaKey(Long couponId) {
+        return getCouponKey(couponId) + META_KEY_SUFFIX;
+    }
+
+    private String getLeaseLedgerKey(Long couponId) {
+        return getCouponKey(couponId) + LEASE_LEDGER_KEY_SUFFIX;
+    }
+
     private String getCouponKey(Long couponId) {
         if (couponId == null) {
             throw new IllegalArgumentException("couponId must not be null");
@@ -199,4 +1107,63 @@ public class RedisService {
         }
         return USER_KEY_PREFIX + userId;
     }
+
+    /**
+     * 캐시한 재고 샤드 수와 다시 읽어야 하는 시각(epoch millis)
+     */
+    private static final class StockShardCount {
+        private final int shards;
+        private final long expiresAt;
+
+        private StockShardCount(int shards, long expiresAt) {
+            this.shards = shards;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * 쿠폰별 발급 기간 제한. 메타데이터 해시에는 "기간:횟수" 형식으로 저장합니다.
+     */
+    private static final class ClaimPolicy {
+        private static final ClaimPolicy NONE = new ClaimPolicy(ClaimWindow.NONE, 1);
+
+        private final ClaimWindow window;
+        private final int limit;
+
+        private ClaimPolicy(ClaimWindow window, int limit) {
+            this.window = window != null ? window : ClaimWindow.NONE;
+            this.limit = limit;
+        }
+
+        private String format() {
+            return window.name() + ":" + limit;
+        }
+
+        private static ClaimPolicy parse(String value) {
+            int separator = value.indexOf(':');
+            return new ClaimPolicy(
+                    ClaimWindow.valueOf(value.substring(0, separator)),
+                    Integer.parseInt(value.substring(separator + 1)));
+        }
+    }
+
+    /**
+     * 발급 스크립트 한 번에 넘길 기간 제한 카운터 키와 인자
+     * (mode 0: 제한 없음, 1: 달력 기간 카운터, 2: 최근 기간 정렬 집합 / expire: 기간 종료 시각(초) 또는 기간 길이(밀리초))
+     */
+    private static final class ClaimWindowCheck {
+        private final String key;
+        private final String mode;
+        private final String limit;
+        private final String expire;
+        private final long issuedAt;
+
+        private ClaimWindowCheck(String key, String mode, String limit, String expire, long issuedAt) {
+            this.key = key;
+            this.mode = mode;
+            this.limit = limit;
+            this.expire = expire;
+            this.issuedAt = issuedAt;
+        }
+    }
 }
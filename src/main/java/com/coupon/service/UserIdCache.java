@@ -0,0 +1,190 @@
+package com.coupon.service;
+
+import com.coupon.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 가입한 사용자 ID를 비트맵으로 보관하는 캐시입니다.
+ * 발급 경로에서 사용자 행을 읽지 않고 존재 여부만 확인할 수 있습니다.
+ *
+ * <p>사용자 ID는 자동 증가 값이라 촘촘하므로 ID를 비트 위치로 쓰면 사용자 1,000만 명도 약 1.2MB로 보관할 수 있습니다.
+ * 시작 시 전체 ID를 페이지 단위로 읽어 채우고, 이 노드에서 가입한 사용자는 커밋 후 바로 추가합니다.
+ * 다른 노드에서 가입한 사용자처럼 비트맵에 없는 ID는 DB에서 ID만 조회해 확인하고, 있으면 비트맵에 추가합니다.
+ */
+@Slf4j
+@Component
+public class UserIdCache implements ApplicationRunner {
+
+    private final UserRepository userRepository;
+    private final int pageSize;
+
+    private final BitSet userIds = new BitSet();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public UserIdCache(
+            UserRepository userRepository,
+            @Value("${coupon.user-cache.page-size:10000}") int pageSize) {
+        this.userRepository = userRepository;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * 애플리케이션 시작 시 가입한 사용자 ID를 모두 읽어 둡니다. 실패하면 비트맵에 없는 ID만 DB에서 확인합니다.
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            load();
+        } catch (Exception e) {
+            log.error("Failed to load user ids. Unknown ids will be checked against the database.", e);
+        }
+    }
+
+    /**
+     * 가입한 사용자 ID를 ID 순서로 페이지 단위로 읽어 비트맵을 채웁니다.
+     *
+     * @return 읽은 사용자 수
+     */
+    public int load() {
+        long startedAt = System.currentTimeMillis();
+        int loaded = 0;
+        long afterId = 0;
+        while (true) {
+            List<Long> page = userRepository.findIdsAfter(afterId, PageRequest.of(0, pageSize));
+            addAll(page);
+            loaded += page.size();
+            if (page.size() < pageSize) {
+                break;
+            }
+            afterId = page.get(page.size() - 1);
+        }
+        log.info("Loaded user ids - users: {}, elapsed: {}ms", loaded, System.currentTimeMillis() - startedAt);
+        return loaded;
+    }
+
+    /**
+     * 사용자가 존재하는지 확인합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 존재하면 true
+     */
+    public boolean exists(Long userId) {
+        if (userId == null) {
+            return false;
+        }
+        if (contains(userId)) {
+            return true;
+        }
+        if (!userRepository.existsById(userId)) {
+            return false;
+        }
+        add(userId);
+        return true;
+    }
+
+    /**
+     * 여러 사용자 중 존재하는 사용자 ID를 반환합니다. 비트맵에 없는 ID는 한 번의 쿼리로 확인합니다.
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 존재하는 사용자 ID
+     */
+    public Set<Long> findExisting(Collection<Long> userIds) {
+        Set<Long> existing = new HashSet<>();
+        List<Long> unknown = new ArrayList<>();
+        for (Long userId : userIds) {
+            if (contains(userId)) {
+                existing.add(userId);
+            } else {
+                unknown.add(userId);
+            }
+        }
+        if (!unknown.isEmpty()) {
+            List<Long> found = userRepository.findExistingIds(unknown);
+            addAll(found);
+            existing.addAll(found);
+        }
+        return existing;
+    }
+
+    /**
+     * 새로 가입한 사용자를 추가합니다. 트랜잭션 안에서 호출하면 커밋된 뒤에 추가합니다.
+     *
+     * @param userId 사용자 ID
+     */
+    public void register(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    add(userId);
+                }
+            });
+        } else {
+            add(userId);
+        }
+    }
+
+    /**
+     * 비트맵에 들어 있는 사용자 수를 반환합니다.
+     *
+     * @return 사용자 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return userIds.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean contains(Long userId) {
+        if (!isIndexable(userId)) {
+            return false;
+        }
+        lock.readLock().lock();
+        try {
+            return userIds.get(userId.intValue());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void add(Long userId) {
+        addAll(List.of(userId));
+    }
+
+    private void addAll(Collection<Long> ids) {
+        lock.writeLock().lock();
+        try {
+            for (Long userId : ids) {
+                // 비트 위치로 쓸 수 없는 ID는 담지 않고 매번 DB에서 확인합니다.
+                if (isIndexable(userId)) {
+                    userIds.set(userId.intValue());
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean isIndexable(Long userId) {
+        return userId != null && userId >= 0 && userId <= Integer.MAX_VALUE;
+    }
+}
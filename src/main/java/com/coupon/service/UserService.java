@@ -18,6 +18,7 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserIdCache userIdCache;
 
     /**
      * 사용자 등록 요청을 처리합니다.
@@ -41,6 +42,7 @@ public class UserService {
                 .build();
 
         User savedUser = userRepository.save(user);
+        userIdCache.register(savedUser.getId());
         return new UserResponse(savedUser);
     }
     
@@ -67,7 +69,9 @@ public class UserService {
                 .role(UserRole.USER)
                 .build();
 
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        userIdCache.register(savedUser.getId());
+        return savedUser;
     }
 
     /**
@@ -81,4 +85,14 @@ public class UserService {
         return userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다. id=" + userId));
     }
+    
+    /**
+     * 사용자 행을 읽지 않고 사용자 엔티티 참조를 반환합니다. 연관 관계를 저장할 때 사용합니다.
+     * 
+     * @param userId 사용자 ID
+     * @return 사용자 엔티티 참조
+     */
+    public User getReference(Long userId) {
+        return userRepository.getReferenceById(userId);
+    }
 }
@@ -0,0 +1,17 @@
+-- 멱등 응답 저장 스크립트
+-- 처리 중 표시를 잡은 요청일 때만 첫 응답으로 덮어씁니다.
+-- 처리 중 표시가 만료되어 다른 재시도가 다시 잡았다면 그 요청의 표시나 응답을 덮어쓰지 않습니다.
+--
+-- KEYS[1] : 멱등 키 (idempotency:{userId}:{method}:{uri}:{key})
+-- ARGV[1] : tryAcquire가 기록한 처리 중 표시 값 (P|<owner>)
+-- ARGV[2] : 저장할 응답 값 (D|<status>|<content-type>|<base64 body>)
+-- ARGV[3] : 응답 보관 시간 (밀리초)
+--
+-- 반환값 : 1 저장함, 0 처리 중 표시가 없거나 다른 요청의 것
+
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+    return 1
+end
+
+return 0
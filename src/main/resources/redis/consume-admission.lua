@@ -0,0 +1,14 @@
+-- 입장 토큰 사용 스크립트
+-- 저장된 입장 토큰이 요청의 토큰과 같을 때만 지웁니다. 맞지 않으면 저장된 토큰과 남은 유효 시간을 그대로 둡니다.
+--
+-- KEYS[1] : 입장 토큰 키 (coupon:{couponId}:admission:{userId})
+-- ARGV[1] : 요청에 담긴 입장 토큰
+--
+-- 반환값 : 1 사용함, 0 토큰이 없거나 다름
+
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    redis.call('DEL', KEYS[1])
+    return 1
+end
+
+return 0
@@ -0,0 +1,68 @@
+-- 쿠폰 발급 스크립트 (비트맵 발급 사용자 저장 방식)
+-- 쿠폰별 비트맵에 사용자 ID 위치의 비트로 발급 여부를 기록합니다.
+-- 비트맵은 사용자 ID 65536개 단위로 나누어 저장하므로 ID가 흩어져 있어도 사용하는 구간만 메모리를 차지합니다.
+-- 이전 방식(사용자별 집합)에 남아있는 발급 이력도 함께 확인합니다.
+-- 여러 키를 함께 다루므로 단일 노드 Redis 전용입니다. (Redis Cluster에서는 CROSSSLOT 오류)
+--
+-- KEYS[1] : 쿠폰 재고 키 (coupon:{couponId} 또는 coupon:{couponId}:s{n})
+-- KEYS[2] : 발급 사용자 비트맵 키 (coupon:{couponId}:issued:{userId >> 16})
+-- KEYS[3] : 이전 방식의 사용자 발급 쿠폰 집합 키 (coupon:user:{userId})
+-- KEYS[4] : 기간 내 발급 횟수 키 (coupon:{couponId}:claims:{userId}:{기간})
+-- KEYS[5] : (선택) 발급 로그 스트림 키 (coupon:issue:stream:{shard})
+-- ARGV[1] : 쿠폰 ID
+-- ARGV[2] : 비트맵 안의 비트 위치 (userId & 0xFFFF)
+-- ARGV[3] : 비트맵 만료 시각 (epoch seconds)
+-- ARGV[4] : 사용자 ID
+-- ARGV[5] : 발급 시각 (epoch millis)
+-- ARGV[6] : 기간 제한 방식 (0: 없음, 1: 달력 기간 카운터, 2: 최근 기간 정렬 집합)
+-- ARGV[7] : 기간 안에 발급받을 수 있는 횟수
+-- ARGV[8] : 달력 기간 종료 시각 (epoch seconds) 또는 최근 기간 길이 (millis)
+--
+-- 기간 제한이 있는 쿠폰은 평생 한 번 제한 없이 기간 안의 발급 횟수로만 제한합니다.
+--
+-- 반환값 : 1 성공, 0 이미 발급됨 (기간 제한이 없는 쿠폰), -1 재고 부족, -2 기간 내 발급 횟수 초과
+
+local windowMode = tonumber(ARGV[6])
+if windowMode == 0 then
+    -- 기간 제한이 없는 쿠폰은 사용자당 한 번만 발급합니다.
+    if redis.call('GETBIT', KEYS[2], ARGV[2]) == 1 or redis.call('SISMEMBER', KEYS[3], ARGV[1]) == 1 then
+        return 0
+    end
+elseif windowMode == 1 then
+    if tonumber(redis.call('GET', KEYS[4]) or '0') >= tonumber(ARGV[7]) then
+        return -2
+    end
+elseif windowMode == 2 then
+    redis.call('ZREMRANGEBYSCORE', KEYS[4], '-inf', tonumber(ARGV[5]) - tonumber(ARGV[8]))
+    if redis.call('ZCARD', KEYS[4]) >= tonumber(ARGV[7]) then
+        return -2
+    end
+end
+
+local remaining = tonumber(redis.call('GET', KEYS[1]) or '0')
+if remaining == nil or remaining <= 0 then
+    return -1
+end
+
+redis.call('DECR', KEYS[1])
+
+-- 만료시간은 비트맵 구간이 처음 만들어질 때만 설정합니다.
+local fresh = redis.call('EXISTS', KEYS[2]) == 0
+redis.call('SETBIT', KEYS[2], ARGV[2], 1)
+if fresh then
+    redis.call('EXPIREAT', KEYS[2], ARGV[3])
+end
+
+if windowMode == 1 then
+    redis.call('INCR', KEYS[4])
+    redis.call('EXPIREAT', KEYS[4], ARGV[8])
+elseif windowMode == 2 then
+    redis.call('ZADD', KEYS[4], ARGV[5], ARGV[5] .. '-' .. redis.call('ZCARD', KEYS[4]))
+    redis.call('PEXPIRE', KEYS[4], ARGV[8])
+end
+
+if #KEYS >= 5 then
+    redis.call('XADD', KEYS[5], '*', 'couponId', ARGV[1], 'userId', ARGV[4], 'issuedAt', ARGV[5])
+end
+
+return 1
@@ -0,0 +1,60 @@
+-- 쿠폰 발급 스크립트
+-- 중복 확인, 기간 내 발급 횟수 확인, 재고 확인, 재고 차감, 발급 사용자 등록, 만료시간 설정을 하나의 원자적 연산으로 처리합니다.
+-- 발급 로그 스트림 키가 전달되면 발급 이력을 스트림에 함께 기록합니다.
+-- 여러 키를 함께 다루므로 단일 노드 Redis 전용입니다. (Redis Cluster에서는 CROSSSLOT 오류)
+--
+-- KEYS[1] : 쿠폰 재고 키 (coupon:{couponId})
+-- KEYS[2] : 사용자 발급 쿠폰 집합 키 (coupon:user:{userId})
+-- KEYS[3] : 기간 내 발급 횟수 키 (coupon:{couponId}:claims:{userId}:{기간})
+-- KEYS[4] : (선택) 발급 로그 스트림 키 (coupon:issue:stream:{shard})
+-- ARGV[1] : 쿠폰 ID
+-- ARGV[2] : 사용자 발급 쿠폰 집합 만료시간 (초)
+-- ARGV[3] : 사용자 ID
+-- ARGV[4] : 발급 시각 (epoch millis)
+-- ARGV[5] : 기간 제한 방식 (0: 없음, 1: 달력 기간 카운터, 2: 최근 기간 정렬 집합)
+-- ARGV[6] : 기간 안에 발급받을 수 있는 횟수
+-- ARGV[7] : 달력 기간 종료 시각 (epoch seconds) 또는 최근 기간 길이 (millis)
+--
+-- 기간 제한이 있는 쿠폰은 평생 한 번 제한 없이 기간 안의 발급 횟수로만 제한합니다.
+--
+-- 반환값 : 1 성공, 0 이미 발급됨 (기간 제한이 없는 쿠폰), -1 재고 부족, -2 기간 내 발급 횟수 초과
+
+local windowMode = tonumber(ARGV[5])
+if windowMode == 0 then
+    -- 기간 제한이 없는 쿠폰은 사용자당 한 번만 발급합니다.
+    if redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 1 then
+        return 0
+    end
+elseif windowMode == 1 then
+    if tonumber(redis.call('GET', KEYS[3]) or '0') >= tonumber(ARGV[6]) then
+        return -2
+    end
+elseif windowMode == 2 then
+    redis.call('ZREMRANGEBYSCORE', KEYS[3], '-inf', tonumber(ARGV[4]) - tonumber(ARGV[7]))
+    if redis.call('ZCARD', KEYS[3]) >= tonumber(ARGV[6]) then
+        return -2
+    end
+end
+
+local remaining = tonumber(redis.call('GET', KEYS[1]) or '0')
+if remaining == nil or remaining <= 0 then
+    return -1
+end
+
+redis.call('DECR', KEYS[1])
+redis.call('SADD', KEYS[2], ARGV[1])
+redis.call('EXPIRE', KEYS[2], ARGV[2])
+
+if windowMode == 1 then
+    redis.call('INCR', KEYS[3])
+    redis.call('EXPIREAT', KEYS[3], ARGV[7])
+elseif windowMode == 2 then
+    redis.call('ZADD', KEYS[3], ARGV[4], ARGV[4] .. '-' .. redis.call('ZCARD', KEYS[3]))
+    redis.call('PEXPIRE', KEYS[3], ARGV[7])
+end
+
+if #KEYS >= 4 then
+    redis.call('XADD', KEYS[4], '*', 'couponId', ARGV[1], 'userId', ARGV[3], 'issuedAt', ARGV[4])
+end
+
+return 1
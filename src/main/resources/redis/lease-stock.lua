@@ -0,0 +1,34 @@
+-- 재고 임대 스크립트
+-- 재고 키에서 요청한 수량만큼(남은 재고가 적으면 남은 만큼) 차감하고 노드별 임대 장부에 기록합니다.
+-- 장부 값은 "임대 수량:만료 시각"이며, 만료 시각이 지난 항목은 반납 없이 종료된 노드의 것으로 보고 재고 보정에서 무시합니다.
+--
+-- KEYS[1] : 쿠폰 재고 키 (coupon:{couponId} 또는 coupon:{couponId}:s{n})
+-- KEYS[2] : 임대 장부 해시 키 (coupon:{couponId}:leases)
+-- ARGV[1] : 요청 수량
+-- ARGV[2] : 노드 ID
+-- ARGV[3] : 새 임대의 첫 요청이면 '1' (장부를 덮어씀), 이어지는 샤드 요청이면 '0' (장부에 더함)
+-- ARGV[4] : 장부 항목 만료 시각 (epoch millis)
+--
+-- 반환값 : 임대한 수량 (재고가 없으면 0)
+
+local remaining = tonumber(redis.call('GET', KEYS[1]) or '0')
+if remaining == nil or remaining <= 0 then
+    if ARGV[3] == '1' then
+        redis.call('HDEL', KEYS[2], ARGV[2])
+    end
+    return 0
+end
+
+local taken = math.min(remaining, tonumber(ARGV[1]))
+redis.call('DECRBY', KEYS[1], taken)
+
+local leased = taken
+if ARGV[3] ~= '1' then
+    local previous = redis.call('HGET', KEYS[2], ARGV[2])
+    if previous then
+        leased = leased + (tonumber(string.match(previous, '^(%d+)')) or 0)
+    end
+end
+redis.call('HSET', KEYS[2], ARGV[2], leased .. ':' .. ARGV[4])
+
+return taken
@@ -0,0 +1,16 @@
+-- 대기실 정리 스크립트
+-- 대기열이 비어 있으면 입장 대상 쿠폰 목록에서 뺍니다.
+-- 확인과 삭제를 한 번에 처리하므로 그 사이 들어온 사용자의 대기실이 목록에서 빠지지 않습니다.
+--
+-- KEYS[1] : 대기열 키 (coupon:{couponId}:waiting)
+-- KEYS[2] : 입장 대상 쿠폰 집합 키 (coupon:waiting:active)
+-- ARGV[1] : 쿠폰 ID
+--
+-- 반환값 : 1 목록에서 뺌, 0 대기 중인 사용자가 있음
+
+if redis.call('ZCARD', KEYS[1]) == 0 then
+    redis.call('SREM', KEYS[2], ARGV[1])
+    return 1
+end
+
+return 0
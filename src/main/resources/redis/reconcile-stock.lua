@@ -0,0 +1,40 @@
+-- 재고 보정 스크립트
+-- 보정 대상 재고 키들의 값이 조회했던 값과 모두 같고 임대 중인 재고가 없을 때만 새 값으로 바꿉니다.
+-- 조회 이후 발급이나 임대로 값이 바뀌었으면 아무것도 바꾸지 않으므로 보정 중 발급과 충돌하지 않습니다.
+-- 임대 장부 항목 중 만료 시각이 지난 것은 반납 없이 종료된 노드의 것으로 보고 무시하며, 보정할 때 함께 지웁니다.
+-- 여러 키를 함께 다루므로 단일 노드 Redis 전용입니다. (Redis Cluster에서는 CROSSSLOT 오류)
+--
+-- KEYS[1..n] : 쿠폰 재고 키 (coupon:{couponId} 또는 coupon:{couponId}:s{i})
+-- KEYS[n+1]  : 임대 장부 해시 키 (coupon:{couponId}:leases)
+-- ARGV[1..n] : 조회했던 재고 값 (키가 없었으면 빈 문자열)
+-- ARGV[n+1..2n] : 새 재고 값
+-- ARGV[2n+1] : 현재 시각 (epoch millis)
+--
+-- 반환값 : 1 보정함, 0 값이 바뀌어 보정하지 않음
+
+local n = #KEYS - 1
+local now = tonumber(ARGV[2 * n + 1])
+
+local leases = redis.call('HGETALL', KEYS[n + 1])
+for i = 2, #leases, 2 do
+    local expiresAt = tonumber(string.match(leases[i], ':(%d+)$'))
+    if expiresAt ~= nil and expiresAt > now then
+        return 0
+    end
+end
+
+for i = 1, n do
+    local current = redis.call('GET', KEYS[i]) or ''
+    if current ~= ARGV[i] then
+        return 0
+    end
+end
+
+for i = 1, n do
+    redis.call('SET', KEYS[i], ARGV[n + i])
+end
+if #leases > 0 then
+    redis.call('DEL', KEYS[n + 1])
+end
+
+return 1
@@ -0,0 +1,57 @@
+-- 발급 사용자 등록 스크립트 (비트맵 발급 사용자 저장 방식)
+-- 재고 차감 없이 중복 확인, 기간 내 발급 횟수 확인과 발급 사용자 등록만 원자적으로 처리합니다. (노드에서 임대한 재고로 발급할 때 사용)
+-- 여러 키를 함께 다루므로 단일 노드 Redis 전용입니다. (Redis Cluster에서는 CROSSSLOT 오류)
+--
+-- KEYS[1] : 발급 사용자 비트맵 키 (coupon:{couponId}:issued:{userId >> 16})
+-- KEYS[2] : 이전 방식의 사용자 발급 쿠폰 집합 키 (coupon:user:{userId})
+-- KEYS[3] : 기간 내 발급 횟수 키 (coupon:{couponId}:claims:{userId}:{기간})
+-- KEYS[4] : (선택) 발급 로그 스트림 키 (coupon:issue:stream:{shard})
+-- ARGV[1] : 쿠폰 ID
+-- ARGV[2] : 비트맵 안의 비트 위치 (userId & 0xFFFF)
+-- ARGV[3] : 비트맵 만료 시각 (epoch seconds)
+-- ARGV[4] : 사용자 ID
+-- ARGV[5] : 발급 시각 (epoch millis)
+-- ARGV[6] : 기간 제한 방식 (0: 없음, 1: 달력 기간 카운터, 2: 최근 기간 정렬 집합)
+-- ARGV[7] : 기간 안에 발급받을 수 있는 횟수
+-- ARGV[8] : 달력 기간 종료 시각 (epoch seconds) 또는 최근 기간 길이 (millis)
+--
+-- 기간 제한이 있는 쿠폰은 평생 한 번 제한 없이 기간 안의 발급 횟수로만 제한합니다.
+--
+-- 반환값 : 1 성공, 0 이미 발급됨 (기간 제한이 없는 쿠폰), -2 기간 내 발급 횟수 초과
+
+local windowMode = tonumber(ARGV[6])
+if windowMode == 0 then
+    -- 기간 제한이 없는 쿠폰은 사용자당 한 번만 발급합니다.
+    if redis.call('GETBIT', KEYS[1], ARGV[2]) == 1 or redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 1 then
+        return 0
+    end
+elseif windowMode == 1 then
+    if tonumber(redis.call('GET', KEYS[3]) or '0') >= tonumber(ARGV[7]) then
+        return -2
+    end
+elseif windowMode == 2 then
+    redis.call('ZREMRANGEBYSCORE', KEYS[3], '-inf', tonumber(ARGV[5]) - tonumber(ARGV[8]))
+    if redis.call('ZCARD', KEYS[3]) >= tonumber(ARGV[7]) then
+        return -2
+    end
+end
+
+local fresh = redis.call('EXISTS', KEYS[1]) == 0
+redis.call('SETBIT', KEYS[1], ARGV[2], 1)
+if fresh then
+    redis.call('EXPIREAT', KEYS[1], ARGV[3])
+end
+
+if windowMode == 1 then
+    redis.call('INCR', KEYS[3])
+    redis.call('EXPIREAT', KEYS[3], ARGV[8])
+elseif windowMode == 2 then
+    redis.call('ZADD', KEYS[3], ARGV[5], ARGV[5] .. '-' .. redis.call('ZCARD', KEYS[3]))
+    redis.call('PEXPIRE', KEYS[3], ARGV[8])
+end
+
+if #KEYS >= 4 then
+    redis.call('XADD', KEYS[4], '*', 'couponId', ARGV[1], 'userId', ARGV[4], 'issuedAt', ARGV[5])
+end
+
+return 1
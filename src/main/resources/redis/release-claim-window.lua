@@ -0,0 +1,21 @@
+-- 기간 내 발급 횟수 되돌리기 스크립트
+-- DB 반영에 실패해 발급을 취소할 때 기간 안의 발급 한 건을 지웁니다. 남은 만료시간은 그대로 둡니다.
+--
+-- KEYS[1] : 기간 내 발급 횟수 키 (coupon:{couponId}:claims:{userId}:{기간})
+-- ARGV[1] : 기간 제한 방식 (1: 달력 기간 카운터, 2: 최근 기간 정렬 집합)
+--
+-- 반환값 : 되돌린 뒤 기간 안의 발급 횟수
+
+if ARGV[1] == '1' then
+    local count = tonumber(redis.call('GET', KEYS[1]) or '0')
+    if count > 0 then
+        return redis.call('DECR', KEYS[1])
+    end
+    return 0
+elseif ARGV[1] == '2' then
+    -- 방금 취소한 발급이 가장 최근 항목입니다.
+    redis.call('ZPOPMAX', KEYS[1])
+    return redis.call('ZCARD', KEYS[1])
+end
+
+return 0
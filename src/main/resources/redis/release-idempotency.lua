@@ -0,0 +1,14 @@
+-- 멱등 처리 중 표시 해제 스크립트
+-- 처리 중 표시를 잡은 요청일 때만 지웁니다. 다른 재시도가 다시 잡은 표시나 저장된 응답은 그대로 둡니다.
+--
+-- KEYS[1] : 멱등 키 (idempotency:{userId}:{method}:{uri}:{key})
+-- ARGV[1] : tryAcquire가 기록한 처리 중 표시 값 (P|<owner>)
+--
+-- 반환값 : 1 지움, 0 처리 중 표시가 없거나 다른 요청의 것
+
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    redis.call('DEL', KEYS[1])
+    return 1
+end
+
+return 0
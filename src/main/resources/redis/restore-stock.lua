@@ -0,0 +1,13 @@
+-- 발급 취소 재고 복구 스크립트
+-- Redis에서 차감한 재고를 DB 반영 실패로 되돌릴 때 한 개를 다시 더합니다.
+-- 쿠폰이 만료되어 재고 키가 지워졌다면 키를 새로 만들지 않습니다.
+--
+-- KEYS[1] : 쿠폰 재고 키 (coupon:{couponId} 또는 coupon:{couponId}:s{n})
+--
+-- 반환값 : 복구 후 재고 수량, 재고 키가 없으면 -1
+
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return -1
+end
+
+return redis.call('INCR', KEYS[1])
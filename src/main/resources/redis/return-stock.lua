@@ -0,0 +1,20 @@
+-- 임대 재고 반납 스크립트
+-- 사용하지 않은 임대 수량을 재고 키에 되돌리고 노드의 임대 장부 항목을 지웁니다.
+-- 남은 수량이 없어도 장부 항목을 지우기 위해 0으로 호출할 수 있습니다.
+--
+-- KEYS[1] : 쿠폰 재고 키 (coupon:{couponId} 또는 coupon:{couponId}:s{n})
+-- KEYS[2] : 임대 장부 해시 키 (coupon:{couponId}:leases)
+-- ARGV[1] : 반납 수량
+-- ARGV[2] : 노드 ID
+--
+-- 반환값 : 반납 후 재고 수량
+
+local remaining
+if tonumber(ARGV[1]) > 0 then
+    remaining = redis.call('INCRBY', KEYS[1], ARGV[1])
+else
+    remaining = tonumber(redis.call('GET', KEYS[1]) or '0')
+end
+redis.call('HDEL', KEYS[2], ARGV[2])
+
+return remaining
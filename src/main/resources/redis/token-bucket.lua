@@ -0,0 +1,37 @@
+-- 토큰 버킷 요청 허용 스크립트
+-- 마지막 갱신 이후 흐른 시간만큼 토큰을 채운 뒤 토큰 1개를 사용합니다.
+-- 시각은 Redis 서버 시계를 사용하므로 노드 간 시계 차이의 영향을 받지 않습니다.
+--
+-- KEYS[1] : 버킷 해시 키 (coupon:{couponId}:rate-limit)
+-- ARGV[1] : 초당 채워지는 토큰 수
+-- ARGV[2] : 버킷 용량 (허용하는 순간 최대 요청 수)
+--
+-- 반환값 : 0 (허용), 양수 (거절, 토큰이 생길 때까지 기다려야 하는 밀리초)
+
+local rate = tonumber(ARGV[1])
+local capacity = tonumber(ARGV[2])
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+local tokens = tonumber(bucket[1])
+local ts = tonumber(bucket[2])
+if tokens == nil or ts == nil then
+    tokens = capacity
+    ts = now
+end
+
+tokens = math.min(capacity, tokens + (now - ts) * rate / 1000)
+
+local wait = 0
+if tokens >= 1 then
+    tokens = tokens - 1
+else
+    wait = math.ceil((1 - tokens) * 1000 / rate)
+end
+
+redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now)
+redis.call('PEXPIRE', KEYS[1], math.ceil(capacity * 1000 / rate) + 1000)
+
+return wait
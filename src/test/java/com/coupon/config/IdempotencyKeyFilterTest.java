@@ -0,0 +1,200 @@
+package com.coupon.config;
+
+import com.coupon.config.security.AuthenticatedUser;
+import com.coupon.domain.user.UserRole;
+import com.coupon.service.IdempotencyStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyKeyFilterTest {
+
+    private static final String KEY = "idempotency:7:POST:/api/coupons/3/issue:abc";
+    private static final String BODY = "{\"success\":true}";
+    private static final String OWNER = "P|owner-1";
+
+    @Mock
+    private IdempotencyStore idempotencyStore;
+
+    private IdempotencyKeyFilter filter;
+    private MockHttpServletResponse response;
+    private AtomicInteger executions;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        filter = new IdempotencyKeyFilter(idempotencyStore, objectMapper, 200, 1);
+        response = new MockHttpServletResponse();
+        executions = new AtomicInteger();
+
+        // 보안 필터 체인이 JWT로 인증한 상태
+        AuthenticatedUser user = new AuthenticatedUser(7L, "user7@example.com", UserRole.USER);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, "", user.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("처음 요청은 발급 로직을 실행하고 응답을 저장")
+    void firstRequest_ExecutesAndStores() throws Exception {
+        // given
+        given(idempotencyStore.tryAcquire(KEY)).willReturn(OWNER);
+        given(idempotencyStore.complete(eq(KEY), eq(OWNER), eq(200), any(), any())).willReturn(true);
+
+        // when
+        filter.doFilterInternal(issueRequest(), response, chain(200));
+
+        // then
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(response.getContentAsString()).isEqualTo(BODY);
+        verify(idempotencyStore).complete(eq(KEY), eq(OWNER), eq(200), any(), eq(BODY.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @DisplayName("처리 중 표시가 만료되어 응답을 저장하지 못해도 응답은 그대로 반환")
+    void lockExpired_ResponseStillReturned() throws Exception {
+        // given
+        given(idempotencyStore.tryAcquire(KEY)).willReturn(OWNER);
+        given(idempotencyStore.complete(eq(KEY), eq(OWNER), eq(200), any(), any())).willReturn(false);
+
+        // when
+        filter.doFilterInternal(issueRequest(), response, chain(200));
+
+        // then
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(BODY);
+    }
+
+    @Test
+    @DisplayName("같은 키로 다시 요청하면 발급 로직 없이 저장된 응답을 그대로 반환")
+    void repeatedRequest_ReplaysStoredResponse() throws Exception {
+        // given
+        byte[] stored = "{\"code\":\"P002\"}".getBytes(StandardCharsets.UTF_8);
+        given(idempotencyStore.find(KEY)).willReturn(IdempotencyStore.Entry.completed(400, "application/json", stored));
+
+        // when
+        filter.doFilterInternal(issueRequest(), response, chain(200));
+
+        // then
+        assertThat(executions.get()).isZero();
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(response.getContentAsByteArray()).isEqualTo(stored);
+        assertThat(response.getHeader(IdempotencyKeyFilter.REPLAYED_HEADER)).isEqualTo("true");
+    }
+
+    @Test
+    @DisplayName("처음 요청이 처리 중이면 결과가 저장될 때까지 기다렸다가 같은 응답 반환")
+    void concurrentRequest_WaitsForInFlightResult() throws Exception {
+        // given
+        byte[] stored = BODY.getBytes(StandardCharsets.UTF_8);
+        given(idempotencyStore.find(KEY)).willReturn(
+                IdempotencyStore.Entry.inFlight(),
+                IdempotencyStore.Entry.inFlight(),
+                IdempotencyStore.Entry.completed(200, "application/json", stored));
+
+        // when
+        filter.doFilterInternal(issueRequest(), response, chain(200));
+
+        // then
+        assertThat(executions.get()).isZero();
+        assertThat(response.getContentAsByteArray()).isEqualTo(stored);
+        verify(idempotencyStore, never()).tryAcquire(anyString());
+    }
+
+    @Test
+    @DisplayName("처리 중인 요청이 제한 시간 안에 끝나지 않으면 409 응답")
+    void concurrentRequest_Timeout_Returns409() throws Exception {
+        // given
+        given(idempotencyStore.find(KEY)).willReturn(IdempotencyStore.Entry.inFlight());
+
+        // when
+        filter.doFilterInternal(issueRequest(), response, chain(200));
+
+        // then
+        assertThat(executions.get()).isZero();
+        assertThat(response.getStatus()).isEqualTo(409);
+        assertThat(response.getContentAsString()).contains("C008");
+    }
+
+    @Test
+    @DisplayName("서버 오류 응답은 저장하지 않고 처리 중 표시를 지움")
+    void serverError_NotStored() throws Exception {
+        // given
+        given(idempotencyStore.tryAcquire(KEY)).willReturn(OWNER);
+
+        // when
+        filter.doFilterInternal(issueRequest(), response, chain(500));
+
+        // then
+        verify(idempotencyStore).release(KEY, OWNER);
+        verify(idempotencyStore, never()).complete(anyString(), anyString(), anyInt(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Idempotency-Key가 없는 요청은 그대로 처리")
+    void requestWithoutKey_NotFiltered() throws Exception {
+        // given
+        given(idempotencyStore.isEnabled()).willReturn(true);
+        MockHttpServletRequest request = issueRequest();
+        request.removeHeader(IdempotencyKeyFilter.IDEMPOTENCY_KEY_HEADER);
+
+        // when
+        filter.doFilter(request, response, chain(200));
+
+        // then
+        assertThat(executions.get()).isEqualTo(1);
+        verify(idempotencyStore, never()).find(anyString());
+    }
+
+    private MockHttpServletRequest issueRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/coupons/3/issue");
+        request.addHeader(IdempotencyKeyFilter.IDEMPOTENCY_KEY_HEADER, "abc");
+        return request;
+    }
+
+    private MockFilterChain chain(int status) {
+        return new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) throws IOException {
+                executions.incrementAndGet();
+                res.setStatus(status);
+                res.setContentType("application/json");
+                res.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+            }
+        });
+    }
+}
@@ -0,0 +1,122 @@
+package com.coupon.config;
+
+import com.coupon.config.security.AuthenticatedUser;
+import com.coupon.domain.user.UserRole;
+import com.coupon.exception.ErrorResponseBodies;
+import com.coupon.service.CouponIssueRateLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class IssueRateLimitFilterTest {
+
+    @Mock
+    private CouponIssueRateLimiter rateLimiter;
+
+    private IssueRateLimitFilter filter;
+    private MockHttpServletResponse response;
+    private MockFilterChain filterChain;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        filter = new IssueRateLimitFilter(rateLimiter, new ErrorResponseBodies(objectMapper));
+        response = new MockHttpServletResponse();
+        filterChain = new MockFilterChain();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("제한을 넘은 발급 요청은 429와 Retry-After로 응답하고 다음 필터로 넘기지 않음")
+    void limitedRequest_Returns429() throws Exception {
+        // given
+        MockHttpServletRequest request = issueRequest("/api/coupons/3/issue", 7L);
+        given(rateLimiter.tryAcquire(3L, 7L)).willReturn(1500L);
+
+        // when
+        filter.doFilterInternal(request, response, filterChain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(response.getContentAsString()).contains("C007");
+        assertThat(filterChain.getRequest()).isNull();
+    }
+
+    @Test
+    @DisplayName("허용된 발급 요청은 다음 필터로 넘김")
+    void allowedRequest_PassesThrough() throws Exception {
+        // given
+        MockHttpServletRequest request = issueRequest("/api/coupons/3/issue", 7L);
+        given(rateLimiter.tryAcquire(3L, 7L)).willReturn(0L);
+
+        // when
+        filter.doFilterInternal(request, response, filterChain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(filterChain.getRequest()).isSameAs(request);
+    }
+
+    @Test
+    @DisplayName("비동기 발급 요청도 같은 버킷으로 제한")
+    void claimRequest_Limited() throws Exception {
+        // given
+        MockHttpServletRequest request = issueRequest("/api/coupons/3/claims", 7L);
+        given(rateLimiter.tryAcquire(3L, 7L)).willReturn(500L);
+
+        // when
+        filter.doFilterInternal(request, response, filterChain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(filterChain.getRequest()).isNull();
+    }
+
+    @Test
+    @DisplayName("발급 API가 아니거나 인증 사용자가 없으면 제한하지 않음")
+    void otherRequest_NotLimited() throws Exception {
+        // given
+        MockHttpServletRequest request = issueRequest("/api/coupons/3/issue", null);
+
+        // when
+        filter.doFilterInternal(request, response, filterChain);
+
+        // then
+        verify(rateLimiter, never()).tryAcquire(anyLong(), anyLong());
+        assertThat(filterChain.getRequest()).isSameAs(request);
+    }
+
+    private MockHttpServletRequest issueRequest(String uri, Long userId) {
+        if (userId != null) {
+            // 보안 필터 체인이 JWT로 인증한 상태
+            AuthenticatedUser user = new AuthenticatedUser(userId, "user" + userId + "@example.com", UserRole.USER);
+            SecurityContextHolder.getContext().setAuthentication(
+                    new UsernamePasswordAuthenticationToken(user, "", user.getAuthorities()));
+        }
+        return new MockHttpServletRequest("POST", uri);
+    }
+}
@@ -15,6 +15,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 
 import jakarta.servlet.ServletException;
 import java.io.IOException;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -48,18 +49,17 @@ class JwtAuthenticationFilterTest {
         // given
         String token = "valid.jwt.token";
         request.addHeader("Authorization", "Bearer " + token);
-        when(tokenProvider.validateToken(token)).thenReturn(true);
-        
         Authentication mockAuth = mock(Authentication.class);
-        when(tokenProvider.getAuthentication(token)).thenReturn(mockAuth);
+        when(tokenProvider.authenticate(token)).thenReturn(Optional.of(mockAuth));
         
         // when
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
         
         // then
         assertNotNull(SecurityContextHolder.getContext().getAuthentication());
-        verify(tokenProvider).validateToken(token);
-        verify(tokenProvider).getAuthentication(token);
+        // 토큰은 한 번만 파싱 (검증과 인증 객체 생성을 함께 처리)
+        verify(tokenProvider).authenticate(token);
+        verify(tokenProvider, never()).validateToken(anyString());
     }
 
     @Test
@@ -68,15 +68,14 @@ class JwtAuthenticationFilterTest {
         // given
         String invalidToken = "invalid.token";
         request.addHeader("Authorization", "Bearer " + invalidToken);
-        when(tokenProvider.validateToken(invalidToken)).thenReturn(false);
+        when(tokenProvider.authenticate(invalidToken)).thenReturn(Optional.empty());
         
         // when
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
         
         // then
         assertNull(SecurityContextHolder.getContext().getAuthentication());
-        verify(tokenProvider).validateToken(invalidToken);
-        verify(tokenProvider, never()).getAuthentication(anyString());
+        verify(tokenProvider).authenticate(invalidToken);
     }
 
     @Test
@@ -87,8 +86,7 @@ class JwtAuthenticationFilterTest {
         
         // then
         assertNull(SecurityContextHolder.getContext().getAuthentication());
-        verify(tokenProvider, never()).validateToken(anyString());
-        verify(tokenProvider, never()).getAuthentication(anyString());
+        verify(tokenProvider, never()).authenticate(anyString());
     }
     
     @Test
@@ -102,7 +100,6 @@ class JwtAuthenticationFilterTest {
         
         // then
         assertNull(SecurityContextHolder.getContext().getAuthentication());
-        verify(tokenProvider, never()).validateToken(anyString());
-        verify(tokenProvider, never()).getAuthentication(anyString());
+        verify(tokenProvider, never()).authenticate(anyString());
     }
 }
@@ -1,62 +1,56 @@
 package com.coupon.config.security;
 
-import com.coupon.service.CustomUserDetailsService;
+import com.coupon.domain.user.User;
+import com.coupon.domain.user.UserRole;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.Authentication;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.security.Key;
-import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.when;
 
-@ExtendWith(MockitoExtension.class)
 class JwtTokenProviderTest {
 
-    @InjectMocks
     private JwtTokenProvider jwtTokenProvider;
-    
-    @Mock
-    private CustomUserDetailsService userDetailsService;
-    
+    private User user;
+
     private static final String TEST_EMAIL = "test@example.com";
     private static final String TEST_SECRET_KEY = "test-secret-key-12345678901234567890123456789012";
 
     @BeforeEach
     void setUp() {
         // JwtTokenProvider 설정
+        jwtTokenProvider = new JwtTokenProvider();
         ReflectionTestUtils.setField(jwtTokenProvider, "secretKey", TEST_SECRET_KEY);
         ReflectionTestUtils.setField(jwtTokenProvider, "tokenValidityInMilliseconds", 3600000L);
-        
-        // 시크릿 키 초기화
-        byte[] keyBytes = Base64.getEncoder().encode(TEST_SECRET_KEY.getBytes());
-        Key key = Keys.hmacShaKeyFor(keyBytes);
-        ReflectionTestUtils.setField(jwtTokenProvider, "key", key);
+
+        // 시크릿 키와 파서 초기화
+        jwtTokenProvider.init();
+
+        user = new User(TEST_EMAIL, "테스트", "encoded", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 7L);
     }
 
     @Test
-    @DisplayName("JWT 토큰 생성 테스트")
+    @DisplayName("JWT 토큰 생성 테스트 - 사용자 ID와 역할 클레임 포함")
     void createToken() {
         // when
-        String token = jwtTokenProvider.createToken(TEST_EMAIL);
-        
+        String token = jwtTokenProvider.createToken(user);
+
         // then
         assertNotNull(token);
-        
+
         // 토큰 검증
         Key key = (Key) ReflectionTestUtils.getField(jwtTokenProvider, "key");
         Claims claims = Jwts.parserBuilder()
@@ -64,8 +58,10 @@ class JwtTokenProviderTest {
                 .build()
                 .parseClaimsJws(token)
                 .getBody();
-        
+
         assertEquals(TEST_EMAIL, claims.getSubject());
+        assertEquals(7L, claims.get(JwtTokenProvider.USER_ID_CLAIM, Number.class).longValue());
+        assertEquals("USER", claims.get(JwtTokenProvider.ROLE_CLAIM, String.class));
         assertTrue(claims.getExpiration().after(new Date()));
     }
 
@@ -81,29 +77,70 @@ class JwtTokenProviderTest {
         // then
         assertFalse(isValid);
     }
-    
+
     @Test
     @DisplayName("JWT 토큰에서 사용자 이메일 추출 테스트")
     void getUserEmailFromToken() {
         // given
-        String token = jwtTokenProvider.createToken(TEST_EMAIL);
-        
+        String token = jwtTokenProvider.createToken(user);
+
         // when
         String userEmail = jwtTokenProvider.getUserEmail(token);
-        
+
         // then
         assertEquals(TEST_EMAIL, userEmail);
     }
-    
+
     @Test
-    @DisplayName("JWT 토큰에서 인증 객체 추출 테스트")
-    void getAuthenticationFromToken() {
+    @DisplayName("JWT 토큰의 클레임으로 인증 객체 생성 테스트 - 사용자 조회 없음")
+    void authenticateFromClaims() {
         // given
-        UserDetails userDetails = new User(TEST_EMAIL, "", new ArrayList<>());
-        when(userDetailsService.loadUserByUsername(TEST_EMAIL)).thenReturn(userDetails);
-        String token = jwtTokenProvider.createToken(TEST_EMAIL);
-        
+        String token = jwtTokenProvider.createToken(user);
+
+        // when
+        Optional<Authentication> authentication = jwtTokenProvider.authenticate(token);
+
+        // then
+        assertThat(authentication).isPresent();
+        AuthenticatedUser principal = (AuthenticatedUser) authentication.get().getPrincipal();
+        assertThat(principal.getId()).isEqualTo(7L);
+        assertThat(principal.getEmail()).isEqualTo(TEST_EMAIL);
+        assertThat(principal.getRole()).isEqualTo(UserRole.USER);
+        assertThat(authentication.get().getName()).isEqualTo(TEST_EMAIL);
+        assertThat(authentication.get().getAuthorities())
+                .extracting(Object::toString)
+                .containsExactly("ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("사용자 클레임이 없는 이전 형식 토큰은 인증하지 않음")
+    void authenticateRejectsTokenWithoutClaims() {
+        // given
+        Key key = Keys.hmacShaKeyFor(Base64.getEncoder().encode(TEST_SECRET_KEY.getBytes()));
+        String legacyToken = Jwts.builder()
+                .setSubject(TEST_EMAIL)
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+
+        // when & then
+        assertThat(jwtTokenProvider.validateToken(legacyToken)).isTrue();
+        assertThat(jwtTokenProvider.authenticate(legacyToken)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명한 토큰은 인증하지 않음")
+    void authenticateRejectsForeignSignature() {
+        // given
+        Key otherKey = Keys.hmacShaKeyFor("other-secret-key-1234567890123456789012345678".getBytes());
+        String forged = Jwts.builder()
+                .setSubject(TEST_EMAIL)
+                .claim(JwtTokenProvider.USER_ID_CLAIM, 7L)
+                .claim(JwtTokenProvider.ROLE_CLAIM, "ADMIN")
+                .signWith(otherKey, SignatureAlgorithm.HS256)
+                .compact();
+
         // when & then
-        assertDoesNotThrow(() -> jwtTokenProvider.getAuthentication(token));
+        assertThat(jwtTokenProvider.authenticate(forged)).isEmpty();
     }
 }
@@ -0,0 +1,114 @@
+package com.coupon.config.security;
+
+import com.coupon.controller.AdminCouponController;
+import com.coupon.domain.user.UserRole;
+import com.coupon.service.CouponCampaignService;
+import com.coupon.service.CouponIssueRateLimiter;
+import com.coupon.service.CouponIssueWriteBehindWriter;
+import com.coupon.service.CouponMembershipMigrator;
+import com.coupon.service.CouponService;
+import com.coupon.service.CouponStockReconciler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+import java.util.Optional;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringJUnitWebConfig(SecurityConfigTest.TestConfig.class)
+class SecurityConfigTest {
+
+    @Configuration
+    @EnableWebMvc
+    @Import({SecurityConfig.class, AdminCouponController.class})
+    static class TestConfig {
+    }
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @MockBean
+    private JwtTokenProvider tokenProvider;
+
+    @MockBean
+    private UserDetailsService userDetailsService;
+
+    @MockBean
+    private CouponService couponService;
+
+    @MockBean
+    private CouponIssueWriteBehindWriter couponIssueWriter;
+
+    @MockBean
+    private CouponMembershipMigrator membershipMigrator;
+
+    @MockBean
+    private CouponIssueRateLimiter rateLimiter;
+
+    @MockBean
+    private CouponCampaignService campaignService;
+
+    @MockBean
+    private CouponStockReconciler stockReconciler;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context)
+                .apply(springSecurity())
+                .build();
+        given(tokenProvider.authenticate("user-token")).willReturn(Optional.of(authentication(UserRole.USER)));
+        given(tokenProvider.authenticate("admin-token")).willReturn(Optional.of(authentication(UserRole.ADMIN)));
+    }
+
+    @Test
+    @DisplayName("USER 토큰으로 관리자 API를 호출하면 403")
+    void adminApi_UserToken_Forbidden() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/admin/coupons/statistics")
+                .header("Authorization", "Bearer user-token"))
+                .andExpect(status().isForbidden());
+        verify(couponService, never()).getAllCouponsStatistics();
+    }
+
+    @Test
+    @DisplayName("ADMIN 토큰으로 관리자 API 호출 가능")
+    void adminApi_AdminToken_Allowed() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/admin/coupons/statistics")
+                .header("Authorization", "Bearer admin-token"))
+                .andExpect(status().isOk());
+        verify(couponService).getAllCouponsStatistics();
+    }
+
+    @Test
+    @DisplayName("토큰 없이 관리자 API를 호출하면 거절")
+    void adminApi_NoToken_Rejected() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/admin/coupons/statistics"))
+                .andExpect(status().isForbidden());
+    }
+
+    private UsernamePasswordAuthenticationToken authentication(UserRole role) {
+        AuthenticatedUser user = new AuthenticatedUser(1L, "user@example.com", role);
+        return new UsernamePasswordAuthenticationToken(user, "", user.getAuthorities());
+    }
+}
@@ -1,8 +1,18 @@
 package com.coupon.controller;
 
 import com.coupon.domain.coupon.CouponStatus;
+import com.coupon.dto.coupon.CouponCampaignResponse;
 import com.coupon.dto.coupon.CouponStatisticsResponse;
+import com.coupon.dto.coupon.StockReconciliationResponse;
+import com.coupon.dto.coupon.MembershipMigrationResponse;
+import com.coupon.service.CouponCampaignFailureReason;
+import com.coupon.service.CouponCampaignService;
+import com.coupon.service.CouponCampaignStatus;
+import com.coupon.service.CouponIssueRateLimiter;
+import com.coupon.service.CouponIssueWriteBehindWriter;
+import com.coupon.service.CouponMembershipMigrator;
 import com.coupon.service.CouponService;
+import com.coupon.service.CouponStockReconciler;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,11 +25,17 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.io.InputStream;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -29,6 +45,21 @@ class AdminCouponControllerTest {
     @Mock
     private CouponService couponService;
 
+    @Mock
+    private CouponIssueWriteBehindWriter couponIssueWriter;
+
+    @Mock
+    private CouponMembershipMigrator membershipMigrator;
+
+    @Mock
+    private CouponIssueRateLimiter rateLimiter;
+
+    @Mock
+    private CouponCampaignService campaignService;
+
+    @Mock
+    private CouponStockReconciler stockReconciler;
+
     @InjectMocks
     private AdminCouponController adminCouponController;
 
@@ -106,4 +137,124 @@ class AdminCouponControllerTest {
                 .andExpect(jsonPath("$.data.issuedThisWeek").value(80))
                 .andExpect(jsonPath("$.data.issuedThisMonth").value(200));
     }
+
+    @Test
+    @DisplayName("write-behind 저장기 상태 조회 성공")
+    void getWriteBehindStatus_Success() throws Exception {
+        // given
+        given(couponIssueWriter.isEnabled()).willReturn(true);
+        given(couponIssueWriter.getQueueDepth()).willReturn(42);
+        given(couponIssueWriter.getLastBatchSize()).willReturn(500L);
+        given(couponIssueWriter.getTotalWritten()).willReturn(12000L);
+
+        // when & then
+        mockMvc.perform(get("/api/admin/coupons/write-behind")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.enabled").value(true))
+                .andExpect(jsonPath("$.data.queueDepth").value(42))
+                .andExpect(jsonPath("$.data.lastBatchSize").value(500))
+                .andExpect(jsonPath("$.data.totalWritten").value(12000));
+    }
+
+    @Test
+    @DisplayName("발급 사용자 집합을 비트맵으로 이관")
+    void migrateMembership_Success() throws Exception {
+        // given
+        given(membershipMigrator.migrateSetsToBitmaps(true)).willReturn(MembershipMigrationResponse.builder()
+                .scannedKeys(3)
+                .migratedMemberships(5)
+                .deletedLegacyKeys(3)
+                .build());
+
+        // when & then
+        mockMvc.perform(post("/api/admin/coupons/membership/migrate")
+                .param("deleteLegacy", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.migratedMemberships").value(5))
+                .andExpect(jsonPath("$.data.deletedLegacyKeys").value(3));
+    }
+
+    @Test
+    @DisplayName("발급 요청 속도 제한 상태 조회")
+    void getRateLimitStatus_Success() throws Exception {
+        // given
+        given(rateLimiter.isEnabled()).willReturn(true);
+        given(rateLimiter.getUserLimitedRequests()).willReturn(12L);
+        given(rateLimiter.getCouponLimitedRequests()).willReturn(3L);
+
+        // when & then
+        mockMvc.perform(get("/api/admin/coupons/rate-limit"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.enabled").value(true))
+                .andExpect(jsonPath("$.data.userLimitedRequests").value(12))
+                .andExpect(jsonPath("$.data.couponLimitedRequests").value(3));
+    }
+
+    @Test
+    @DisplayName("사용자 ID 목록을 본문으로 보내면 대량 발급 작업을 시작하고 202 응답")
+    void startCampaignFromStream_Accepted() throws Exception {
+        // given
+        given(campaignService.start(eq(1L), any(InputStream.class))).willReturn(campaign(CouponCampaignStatus.RUNNING, 0));
+
+        // when & then
+        mockMvc.perform(post("/api/admin/coupons/1/campaigns")
+                .contentType(MediaType.TEXT_PLAIN)
+                .content("1\n2\n3\n"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.data.jobId").value("job-1"))
+                .andExpect(jsonPath("$.data.status").value("RUNNING"));
+    }
+
+    @Test
+    @DisplayName("대량 발급 작업의 진행 상황과 사유별 실패 건수 조회")
+    void getCampaign_Success() throws Exception {
+        // given
+        given(campaignService.getJob("job-1")).willReturn(campaign(CouponCampaignStatus.COMPLETED, 3));
+
+        // when & then
+        mockMvc.perform(get("/api/admin/coupons/campaigns/job-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.data.issuedCount").value(3))
+                .andExpect(jsonPath("$.data.failureCounts.ALREADY_ISSUED").value(1));
+    }
+
+    private CouponCampaignResponse campaign(CouponCampaignStatus status, long issued) {
+        return CouponCampaignResponse.builder()
+                .jobId("job-1")
+                .couponId(1L)
+                .status(status)
+                .processedUsers(issued + 1)
+                .issuedCount(issued)
+                .failureCounts(Map.of(CouponCampaignFailureReason.ALREADY_ISSUED, 1L))
+                .build();
+    }
+
+    @Test
+    @DisplayName("쿠폰 하나의 Redis 재고 보정")
+    void reconcileStock_Success() throws Exception {
+        // given
+        StockReconciliationResponse response = StockReconciliationResponse.builder()
+                .checkedCoupons(1)
+                .driftedCoupons(1)
+                .repairedCoupons(1)
+                .drifts(List.of(StockReconciliationResponse.CouponDrift.builder()
+                        .couponId(1L)
+                        .expectedRemaining(90)
+                        .redisRemaining(95)
+                        .drift(5)
+                        .repaired(true)
+                        .build()))
+                .build();
+        given(stockReconciler.reconcile(1L)).willReturn(response);
+
+        // when & then
+        mockMvc.perform(post("/api/admin/coupons/1/stock/reconcile"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.repairedCoupons").value(1))
+                .andExpect(jsonPath("$.data.drifts[0].drift").value(5));
+    }
 }
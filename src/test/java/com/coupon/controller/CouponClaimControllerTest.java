@@ -0,0 +1,118 @@
+package com.coupon.controller;
+
+import com.coupon.config.security.AuthenticatedUser;
+import com.coupon.domain.user.UserRole;
+import com.coupon.dto.coupon.CouponClaimResponse;
+import com.coupon.exception.ClaimQueueFullException;
+import com.coupon.exception.ErrorResponseBodies;
+import com.coupon.exception.GlobalExceptionHandler;
+import com.coupon.service.CouponClaimPipeline;
+import com.coupon.service.CouponClaimStatus;
+import com.coupon.service.CouponWaitingRoomService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class CouponClaimControllerTest {
+
+    @Mock
+    private CouponClaimPipeline claimPipeline;
+
+    @Mock
+    private CouponWaitingRoomService waitingRoomService;
+
+    @InjectMocks
+    private CouponClaimController couponClaimController;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        GlobalExceptionHandler exceptionHandler = new GlobalExceptionHandler(
+                new ErrorResponseBodies(objectMapper), new SimpleMeterRegistry(), 1000);
+        mockMvc = MockMvcBuilders.standaloneSetup(couponClaimController)
+                .setControllerAdvice(exceptionHandler)
+                .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+                .build();
+
+        // 보안 필터 체인이 JWT로 인증한 상태
+        AuthenticatedUser user = new AuthenticatedUser(7L, "user7@example.com", UserRole.USER);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, "", user.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("비동기 발급 요청 접수 시 202와 티켓 반환")
+    void claimCoupon_Accepted() throws Exception {
+        // given
+        given(claimPipeline.submit(1L, 7L)).willReturn(response("ticket-1", CouponClaimStatus.PENDING));
+
+        // when & then
+        mockMvc.perform(post("/api/coupons/1/claims")
+                .header("X-ADMISSION-TOKEN", "token"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.data.ticketId").value("ticket-1"))
+                .andExpect(jsonPath("$.data.status").value("PENDING"));
+        verify(waitingRoomService).verifyAdmission(1L, 7L, "token");
+    }
+
+    @Test
+    @DisplayName("처리 대기 요청이 많으면 503 응답")
+    void claimCoupon_QueueFull() throws Exception {
+        // given
+        given(claimPipeline.submit(1L, 7L)).willThrow(new ClaimQueueFullException("busy"));
+
+        // when & then
+        mockMvc.perform(post("/api/coupons/1/claims"))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    @DisplayName("티켓 처리 상태 조회")
+    void getClaimStatus_Success() throws Exception {
+        // given
+        given(claimPipeline.getStatus("ticket-1", 7L)).willReturn(response("ticket-1", CouponClaimStatus.ISSUED));
+
+        // when & then
+        mockMvc.perform(get("/api/coupons/claims/ticket-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.status").value("ISSUED"));
+    }
+
+    private CouponClaimResponse response(String ticketId, CouponClaimStatus status) {
+        return CouponClaimResponse.builder()
+                .ticketId(ticketId)
+                .couponId(1L)
+                .userId(7L)
+                .status(status)
+                .build();
+    }
+}
@@ -1,20 +1,28 @@
 package com.coupon.controller;
 
+import com.coupon.config.security.AuthenticatedUser;
+import com.coupon.domain.user.UserRole;
 import com.coupon.dto.coupon.CouponCreateRequest;
 import com.coupon.dto.coupon.CouponIssueResponse;
 import com.coupon.dto.coupon.CouponResponse;
 import com.coupon.service.CouponService;
+import com.coupon.service.CouponWaitingRoomService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
@@ -36,6 +44,9 @@ class CouponControllerTest {
     @Mock
     private CouponService couponService;
 
+    @Mock
+    private CouponWaitingRoomService waitingRoomService;
+
     @InjectMocks
     private CouponController couponController;
 
@@ -44,9 +55,21 @@ class CouponControllerTest {
 
     @BeforeEach
     void setUp() {
-        mockMvc = MockMvcBuilders.standaloneSetup(couponController).build();
+        mockMvc = MockMvcBuilders.standaloneSetup(couponController)
+                .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+                .build();
         objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule()); // LocalDateTime 직렬화를 위해 필요
+
+        // 보안 필터 체인이 JWT로 인증한 상태
+        AuthenticatedUser user = new AuthenticatedUser(1L, "user1@example.com", UserRole.USER);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, "", user.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
     }
 
     @Test
@@ -93,13 +116,30 @@ class CouponControllerTest {
 
         // when & then
         mockMvc.perform(post("/api/coupons/1/issue")
-                .contentType(MediaType.APPLICATION_JSON)
-                .header("X-USER-ID", "1"))
+                .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.message").value("쿠폰이 발급되었습니다."));
     }
 
+    @Test
+    @DisplayName("쿠폰 발급 - 입장 토큰을 확인한 뒤 발급")
+    void issueCoupon_VerifiesAdmissionToken() throws Exception {
+        // given
+        CouponIssueResponse issueResponse = new CouponIssueResponse(1L, 1L, 1L, LocalDateTime.now());
+        given(couponService.issueCoupon(1L, 1L)).willReturn(issueResponse);
+
+        // when
+        mockMvc.perform(post("/api/coupons/1/issue")
+                .header("X-ADMISSION-TOKEN", "token-1"))
+                .andExpect(status().isOk());
+
+        // then
+        InOrder inOrder = Mockito.inOrder(waitingRoomService, couponService);
+        inOrder.verify(waitingRoomService).verifyAdmission(1L, 1L, "token-1");
+        inOrder.verify(couponService).issueCoupon(1L, 1L);
+    }
+
     @Test
     @DisplayName("모든 쿠폰 조회 성공")
     void getAllCoupons_Success() throws Exception {
@@ -152,8 +192,7 @@ class CouponControllerTest {
 
         // when & then
         mockMvc.perform(get("/api/coupons/my")
-                .contentType(MediaType.APPLICATION_JSON)
-                .header("X-USER-ID", "1"))
+                .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data[0].id").value(1))
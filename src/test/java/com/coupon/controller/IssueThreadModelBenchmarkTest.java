@@ -0,0 +1,118 @@
+package com.coupon.controller;
+
+import com.coupon.config.security.AuthenticatedUser;
+import com.coupon.domain.user.UserRole;
+import com.coupon.dto.coupon.CouponIssueResponse;
+import com.coupon.service.CouponService;
+import com.coupon.service.CouponWaitingRoomService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 발급 API를 플랫폼 스레드 풀과 가상 스레드로 처리할 때의 처리량 비교
+ * 발급 한 건이 Redis 왕복과 커넥션 풀(10개)을 쓰는 DB 저장으로 대기하는 상황을 지연으로 흉내 냅니다.
+ * 플랫폼 스레드 풀 크기는 Tomcat 기본 최대 스레드 수(200)와 같습니다.
+ * 기본 테스트에서는 제외되며 ./gradlew benchmarkTest 로 실행합니다.
+ */
+@Tag("benchmark")
+class IssueThreadModelBenchmarkTest {
+
+    private static final int REQUESTS = 5_000;
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final int DB_POOL_SIZE = 10;
+    private static final long REDIS_LATENCY_MILLIS = 50;
+    private static final long DB_LATENCY_MILLIS = 1;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        CouponService couponService = mock(CouponService.class);
+        Semaphore dbPool = new Semaphore(DB_POOL_SIZE);
+        given(couponService.issueCoupon(anyLong(), anyLong())).willAnswer(invocation -> {
+            // Redis 발급 스크립트 대기 (대기열 혼잡 포함)
+            Thread.sleep(REDIS_LATENCY_MILLIS);
+            // DB 커넥션을 얻어 발급 이력 저장
+            dbPool.acquire();
+            try {
+                Thread.sleep(DB_LATENCY_MILLIS);
+            } finally {
+                dbPool.release();
+            }
+            return new CouponIssueResponse(1L, invocation.getArgument(0), invocation.getArgument(1), LocalDateTime.now());
+        });
+
+        CouponController controller = new CouponController(couponService, mock(CouponWaitingRoomService.class));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+                .build();
+    }
+
+    @Test
+    @DisplayName("발급 API 처리량 - 플랫폼 스레드 풀 vs 가상 스레드")
+    void compareThreadModels() throws Exception {
+        // 워밍업
+        run(Executors.newVirtualThreadPerTaskExecutor(), 500);
+
+        long platformMillis = run(Executors.newFixedThreadPool(TOMCAT_MAX_THREADS), REQUESTS);
+        long virtualMillis = run(Executors.newVirtualThreadPerTaskExecutor(), REQUESTS);
+
+        System.out.printf("Issue endpoint - requests: %d%n", REQUESTS);
+        System.out.printf("  platform threads (%d): %d ms, %.0f req/s%n",
+                TOMCAT_MAX_THREADS, platformMillis, REQUESTS * 1000.0 / platformMillis);
+        System.out.printf("  virtual threads      : %d ms, %.0f req/s%n",
+                virtualMillis, REQUESTS * 1000.0 / virtualMillis);
+
+        assertThat(virtualMillis).isLessThan(platformMillis);
+    }
+
+    private long run(ExecutorService executor, int requests) throws Exception {
+        long start = System.nanoTime();
+        try (executor) {
+            List<Future<?>> futures = new ArrayList<>(requests);
+            for (int i = 0; i < requests; i++) {
+                long userId = i + 1;
+                futures.add(executor.submit(() -> {
+                    // 보안 필터 체인이 요청 스레드에 인증 사용자를 설정한 상태
+                    AuthenticatedUser user = new AuthenticatedUser(userId, "user" + userId + "@example.com", UserRole.USER);
+                    SecurityContextHolder.getContext().setAuthentication(
+                            new UsernamePasswordAuthenticationToken(user, "", user.getAuthorities()));
+                    try {
+                        mockMvc.perform(post("/api/coupons/1/issue"))
+                                .andExpect(status().isOk());
+                    } finally {
+                        SecurityContextHolder.clearContext();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        }
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+}
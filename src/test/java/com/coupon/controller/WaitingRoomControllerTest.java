@@ -0,0 +1,93 @@
+package com.coupon.controller;
+
+import com.coupon.config.security.AuthenticatedUser;
+import com.coupon.domain.user.UserRole;
+import com.coupon.dto.coupon.WaitingRoomStatusResponse;
+import com.coupon.service.CouponWaitingRoomService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class WaitingRoomControllerTest {
+
+    @Mock
+    private CouponWaitingRoomService waitingRoomService;
+
+    @InjectMocks
+    private WaitingRoomController waitingRoomController;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(waitingRoomController)
+                .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+                .build();
+
+        // 보안 필터 체인이 JWT로 인증한 상태
+        AuthenticatedUser user = new AuthenticatedUser(7L, "user7@example.com", UserRole.USER);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, "", user.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("대기열 등록 성공")
+    void enter_Success() throws Exception {
+        // given
+        WaitingRoomStatusResponse response = WaitingRoomStatusResponse.builder()
+                .couponId(1L)
+                .userId(7L)
+                .position(3L)
+                .waitingCount(10)
+                .build();
+        given(waitingRoomService.enter(1L, 7L)).willReturn(response);
+
+        // when & then
+        mockMvc.perform(post("/api/coupons/1/waiting-room"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.position").value(3))
+                .andExpect(jsonPath("$.data.admitted").value(false));
+    }
+
+    @Test
+    @DisplayName("입장 허용 후 대기 상태 조회 시 입장 토큰 반환")
+    void getStatus_Admitted() throws Exception {
+        // given
+        WaitingRoomStatusResponse response = WaitingRoomStatusResponse.builder()
+                .couponId(1L)
+                .userId(7L)
+                .admitted(true)
+                .admissionToken("token-7")
+                .build();
+        given(waitingRoomService.getStatus(1L, 7L)).willReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/api/coupons/1/waiting-room"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.admitted").value(true))
+                .andExpect(jsonPath("$.data.admissionToken").value("token-7"));
+    }
+}
@@ -0,0 +1,71 @@
+package com.coupon.domain.coupon;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClaimWindowTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    @Test
+    @DisplayName("하루 단위 기간은 날짜별 키를 쓰고 다음 날 자정에 만료")
+    void day() {
+        // given
+        ZonedDateTime now = ZonedDateTime.of(2024, 5, 1, 23, 59, 0, 0, SEOUL);
+
+        // when
+        String bucket = ClaimWindow.DAY.getBucket(now);
+        long windowEnd = ClaimWindow.DAY.getWindowEnd(now);
+
+        // then
+        assertThat(bucket).isEqualTo("d20240501");
+        assertThat(windowEnd).isEqualTo(ZonedDateTime.of(2024, 5, 2, 0, 0, 0, 0, SEOUL).toEpochSecond());
+    }
+
+    @Test
+    @DisplayName("한 주 단위 기간은 ISO 주차별 키를 쓰고 다음 월요일 0시에 만료")
+    void week() {
+        // given: 2024-05-05는 일요일 (18주차)
+        ZonedDateTime now = ZonedDateTime.of(2024, 5, 5, 12, 0, 0, 0, SEOUL);
+
+        // when
+        String bucket = ClaimWindow.WEEK.getBucket(now);
+        long windowEnd = ClaimWindow.WEEK.getWindowEnd(now);
+
+        // then
+        assertThat(bucket).isEqualTo("w2024W18");
+        assertThat(windowEnd).isEqualTo(ZonedDateTime.of(2024, 5, 6, 0, 0, 0, 0, SEOUL).toEpochSecond());
+    }
+
+    @Test
+    @DisplayName("최근 24시간 기간은 키 하나에 발급 시각을 보관")
+    void rolling() {
+        // given
+        ZonedDateTime now = ZonedDateTime.of(2024, 5, 1, 10, 0, 0, 0, SEOUL);
+
+        // when & then
+        assertThat(ClaimWindow.ROLLING_24H.getBucket(now)).isEqualTo("r");
+        assertThat(ClaimWindow.ROLLING_24H.getRollingDuration()).isEqualTo(Duration.ofHours(24));
+        assertThat(ClaimWindow.DAY.getRollingDuration()).isNull();
+    }
+
+    @Test
+    @DisplayName("기간 제한이 없으면 claim_bucket은 0, 있으면 발급마다 다른 값")
+    void claimBucket() {
+        // given
+        LocalDateTime issuedAt = LocalDateTime.of(2024, 5, 1, 10, 0, 0, 1_000);
+
+        // when & then
+        assertThat(ClaimWindow.NONE.getClaimBucket(issuedAt)).isZero();
+        assertThat(ClaimWindow.DAY.getClaimBucket(issuedAt)).isEqualTo(ClaimWindow.DAY.getClaimBucket(issuedAt));
+        assertThat(ClaimWindow.DAY.getClaimBucket(issuedAt.plusNanos(1_000)))
+                .isEqualTo(ClaimWindow.DAY.getClaimBucket(issuedAt) + 1);
+    }
+}
@@ -0,0 +1,54 @@
+package com.coupon.exception;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ErrorResponseBodiesTest {
+
+    private ObjectMapper objectMapper;
+    private ErrorResponseBodies errorResponseBodies;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        errorResponseBodies = new ErrorResponseBodies(objectMapper);
+    }
+
+    @Test
+    @DisplayName("미리 직렬화한 본문은 ErrorResponse를 직렬화한 것과 같은 필드를 가짐")
+    void bodyOf_MatchesErrorResponse() throws Exception {
+        // when
+        JsonNode body = objectMapper.readTree(errorResponseBodies.bodyOf(ErrorCode.COUPON_EXHAUSTED));
+        JsonNode expected = objectMapper.readTree(objectMapper.writeValueAsString(ErrorResponse.of(ErrorCode.COUPON_EXHAUSTED)));
+
+        // then
+        assertThat(body.get("code").asText()).isEqualTo("P003");
+        assertThat(body.get("message")).isEqualTo(expected.get("message"));
+        assertThat(body.get("errors")).isEqualTo(expected.get("errors"));
+        assertThat(body.size()).isEqualTo(expected.size());
+    }
+
+    @Test
+    @DisplayName("본문의 시각은 요청 시점의 현재 시각")
+    void bodyOf_UsesCurrentTimestamp() throws Exception {
+        // given
+        LocalDateTime before = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+        // when
+        JsonNode body = objectMapper.readTree(errorResponseBodies.bodyOf(ErrorCode.COUPON_ALREADY_ISSUED));
+
+        // then
+        LocalDateTime timestamp = LocalDateTime.parse(body.get("timestamp").asText());
+        assertThat(timestamp).isBetween(before, LocalDateTime.now());
+    }
+}
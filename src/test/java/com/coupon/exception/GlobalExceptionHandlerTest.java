@@ -0,0 +1,58 @@
+package com.coupon.exception;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GlobalExceptionHandlerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private GlobalExceptionHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        meterRegistry = new SimpleMeterRegistry();
+        handler = new GlobalExceptionHandler(new ErrorResponseBodies(objectMapper), meterRegistry, 1000);
+    }
+
+    @Test
+    @DisplayName("비즈니스 예외는 스택 트레이스를 만들지 않음")
+    void businessException_IsStackless() {
+        // when
+        BusinessException exception = new CouponExhaustedException("쿠폰이 모두 소진되었습니다.");
+
+        // then
+        assertThat(exception.getStackTrace()).isEmpty();
+        assertThat(exception.getMessage()).isEqualTo("쿠폰이 모두 소진되었습니다.");
+    }
+
+    @Test
+    @DisplayName("비즈니스 예외는 에러 코드의 상태와 미리 직렬화한 본문으로 응답하고 건수를 기록")
+    void handleBusinessException_RespondsAndCounts() {
+        // when
+        ResponseEntity<byte[]> response = null;
+        for (int i = 0; i < 3; i++) {
+            response = handler.handleBusinessException(new CouponAlreadyIssuedException("이미 발급받은 쿠폰입니다."));
+        }
+
+        // then
+        assertThat(response.getStatusCode().value()).isEqualTo(400);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(new String(response.getBody(), StandardCharsets.UTF_8)).contains("\"code\":\"P002\"");
+        assertThat(meterRegistry.get(GlobalExceptionHandler.REJECTION_COUNTER).tag("code", "P002").counter().count())
+                .isEqualTo(3);
+        assertThat(meterRegistry.get(GlobalExceptionHandler.REJECTION_COUNTER).tag("code", "P003").counter().count())
+                .isZero();
+    }
+}
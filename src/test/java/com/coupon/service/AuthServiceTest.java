@@ -44,6 +44,9 @@ class AuthServiceTest {
     @Mock
     private JwtTokenProvider tokenProvider;
 
+    @Mock
+    private UserIdCache userIdCache;
+
     @InjectMocks
     private AuthService authService;
 
@@ -67,7 +70,8 @@ class AuthServiceTest {
                 .role(UserRole.USER)
                 .build();
                 
-        authentication = new UsernamePasswordAuthenticationToken(TEST_EMAIL, null, user.getAuthorities());
+        // 인증 매니저는 UserDetails(User)를 principal로 담아 돌려줌
+        authentication = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
     }
 
     @Test
@@ -75,7 +79,7 @@ class AuthServiceTest {
     void loginSuccess() {
         // given
         when(authenticationManager.authenticate(any(Authentication.class))).thenReturn(authentication);
-        when(tokenProvider.createToken(TEST_EMAIL)).thenReturn(TEST_TOKEN);
+        when(tokenProvider.createToken(user)).thenReturn(TEST_TOKEN);
 
         // when
         TokenResponse response = authService.login(loginRequest);
@@ -105,7 +109,7 @@ class AuthServiceTest {
         // given
         when(userRepository.existsByEmail(TEST_EMAIL)).thenReturn(false);
         when(userRepository.save(any(User.class))).thenReturn(user);
-        when(tokenProvider.createToken(TEST_EMAIL)).thenReturn(TEST_TOKEN);
+        when(tokenProvider.createToken(user)).thenReturn(TEST_TOKEN);
         when(passwordEncoder.encode(TEST_PASSWORD)).thenReturn("encodedPassword");
 
         // when
@@ -0,0 +1,258 @@
+package com.coupon.service;
+
+import com.coupon.domain.coupon.ClaimWindow;
+import com.coupon.domain.coupon.CouponIssueRecord;
+import com.coupon.domain.coupon.CouponMetadata;
+import com.coupon.domain.coupon.CouponStatus;
+import com.coupon.dto.coupon.CouponCampaignResponse;
+import com.coupon.repository.CouponIssueRepository;
+import com.coupon.repository.CouponRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CouponCampaignServiceTest {
+
+    @Mock
+    private RedisService redisService;
+
+    @Mock
+    private CouponMetadataCache couponMetadataCache;
+
+    @Mock
+    private CouponSoldOutRegistry soldOutRegistry;
+
+    @Mock
+    private UserIdCache userIdCache;
+
+    @Mock
+    private CouponIssueRepository couponIssueRepository;
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private CouponStockFlusher stockFlusher;
+
+    @TempDir
+    Path tempDir;
+
+    private CouponCampaignService campaignService;
+
+    @BeforeEach
+    void setUp() {
+        campaignService = new CouponCampaignService(redisService, couponMetadataCache, soldOutRegistry,
+                userIdCache, couponIssueRepository, couponRepository, stockFlusher, 2, 1, 60);
+        lenient().when(couponMetadataCache.get(1L)).thenReturn(new CouponMetadata(1L, "테스트 쿠폰", 100,
+                LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1), CouponStatus.ACTIVE,
+                1, LocalDateTime.now().minusDays(2), ClaimWindow.DAY));
+    }
+
+    @AfterEach
+    void tearDown() {
+        campaignService.shutdown();
+    }
+
+    @Test
+    @DisplayName("사용자 ID 파일을 묶음 단위로 발급하고 사유별 실패 건수를 집계")
+    void run_IssuesInChunks() throws IOException {
+        // given: 묶음 크기 2, 잘못된 줄 1개, 없는 사용자 1명, 이미 발급받은 사용자 1명
+        Path file = Files.writeString(tempDir.resolve("users.txt"), "1\n2\nabc\n3\n4\n");
+        given(userIdCache.findExisting(anyCollection())).willReturn(Set.of(1L, 2L, 3L));
+        given(redisService.tryIssueCoupons(1L, List.of(1L, 2L))).willReturn(List.of(1L, 0L));
+        given(redisService.tryIssueCoupons(1L, List.of(3L))).willReturn(List.of(1L));
+        given(redisService.getStockShardCount(1L)).willReturn(1);
+        given(couponIssueRepository.insertIgnoreAll(anyList())).willReturn(1);
+        CouponCampaignService.CampaignJob job = new CouponCampaignService.CampaignJob("job-1", 1L);
+
+        // when
+        campaignService.run(job, file);
+
+        // then
+        CouponCampaignResponse response = job.toResponse();
+        assertThat(response.getStatus()).isEqualTo(CouponCampaignStatus.COMPLETED);
+        assertThat(response.getProcessedUsers()).isEqualTo(5);
+        assertThat(response.getIssuedCount()).isEqualTo(2);
+        assertThat(response.getFailureCounts())
+                .containsEntry(CouponCampaignFailureReason.INVALID_USER_ID, 1L)
+                .containsEntry(CouponCampaignFailureReason.USER_NOT_FOUND, 1L)
+                .containsEntry(CouponCampaignFailureReason.ALREADY_ISSUED, 1L);
+        verify(couponIssueRepository, times(2)).insertIgnoreAll(anyList());
+        verify(couponRepository, times(2)).decreaseRemainingQuantityBy(1L, 1);
+        assertThat(Files.exists(file)).isFalse();
+    }
+
+    @Test
+    @DisplayName("재고가 소진되면 남은 사용자는 Redis를 호출하지 않고 소진으로 집계")
+    void processChunk_Exhausted_SkipsRemainingChunks() {
+        // given
+        given(userIdCache.findExisting(anyCollection())).willReturn(Set.of(1L, 2L));
+        given(redisService.tryIssueCoupons(1L, List.of(1L, 2L))).willReturn(List.of(1L, -1L));
+        given(redisService.getStockShardCount(1L)).willReturn(1);
+        given(couponIssueRepository.insertIgnoreAll(anyList())).willReturn(1);
+        CouponCampaignService.CampaignJob job = new CouponCampaignService.CampaignJob("job-1", 1L);
+
+        // when
+        campaignService.processChunk(job, List.of(1L, 2L));
+        campaignService.processChunk(job, List.of(3L, 4L));
+
+        // then
+        CouponCampaignResponse response = job.toResponse();
+        assertThat(response.getIssuedCount()).isEqualTo(1);
+        assertThat(response.getFailureCounts()).containsEntry(CouponCampaignFailureReason.EXHAUSTED, 3L);
+        verify(soldOutRegistry).markSoldOut(1L);
+        verify(redisService, times(1)).tryIssueCoupons(anyLong(), anyList());
+    }
+
+    @Test
+    @DisplayName("발급 이력 저장에 실패하면 Redis 발급 기록을 되돌리고 저장 실패로 집계")
+    void processChunk_PersistFailure_ReleasesClaims() {
+        // given
+        given(userIdCache.findExisting(anyCollection())).willReturn(Set.of(1L, 2L));
+        given(redisService.tryIssueCoupons(1L, List.of(1L, 2L))).willReturn(List.of(1L, 1L));
+        given(redisService.getStockShardCount(1L)).willReturn(1);
+        given(couponIssueRepository.insertIgnoreAll(anyList())).willThrow(new RuntimeException("db down"));
+        CouponCampaignService.CampaignJob job = new CouponCampaignService.CampaignJob("job-1", 1L);
+
+        // when
+        campaignService.processChunk(job, List.of(1L, 2L));
+
+        // then
+        assertThat(job.toResponse().getFailureCounts()).containsEntry(CouponCampaignFailureReason.PERSIST_FAILED, 2L);
+        verify(redisService).releaseCouponClaim(1L, 1L);
+        verify(redisService).releaseCouponClaim(1L, 2L);
+        verify(couponRepository, never()).decreaseRemainingQuantityBy(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("같은 묶음에 같은 사용자가 다시 나오면 한 번만 발급")
+    void processChunk_DuplicateUserInChunk_IssuesOnce() {
+        // given
+        given(userIdCache.findExisting(anyCollection())).willReturn(Set.of(1L));
+        given(redisService.tryIssueCoupons(1L, List.of(1L))).willReturn(List.of(1L));
+        given(redisService.getStockShardCount(1L)).willReturn(1);
+        given(couponIssueRepository.insertIgnoreAll(anyList())).willReturn(1);
+        CouponCampaignService.CampaignJob job = new CouponCampaignService.CampaignJob("job-1", 1L);
+
+        // when
+        campaignService.processChunk(job, List.of(1L, 1L));
+
+        // then
+        CouponCampaignResponse response = job.toResponse();
+        assertThat(response.getIssuedCount()).isEqualTo(1);
+        assertThat(response.getFailureCounts()).containsEntry(CouponCampaignFailureReason.ALREADY_ISSUED, 1L);
+        verify(couponIssueRepository).insertIgnoreAll(argThat((List<CouponIssueRecord> records) ->
+                records.size() == 1 && records.get(0).getClaimBucket() != 0L));
+    }
+
+    @Test
+    @DisplayName("DB 유니크 키에 걸려 저장되지 않은 발급은 이미 발급으로 집계하고 잔여 수량을 줄이지 않음")
+    void processChunk_DuplicateRows_CountsInsertedOnly() {
+        // given
+        given(userIdCache.findExisting(anyCollection())).willReturn(Set.of(1L, 2L));
+        given(redisService.tryIssueCoupons(1L, List.of(1L, 2L))).willReturn(List.of(1L, 1L));
+        given(redisService.getStockShardCount(1L)).willReturn(1);
+        given(couponIssueRepository.insertIgnoreAll(anyList())).willReturn(1);
+        CouponCampaignService.CampaignJob job = new CouponCampaignService.CampaignJob("job-1", 1L);
+
+        // when
+        campaignService.processChunk(job, List.of(1L, 2L));
+
+        // then
+        CouponCampaignResponse response = job.toResponse();
+        assertThat(response.getIssuedCount()).isEqualTo(1);
+        assertThat(response.getFailureCounts()).containsEntry(CouponCampaignFailureReason.ALREADY_ISSUED, 1L);
+        verify(couponRepository).decreaseRemainingQuantityBy(1L, 1);
+    }
+
+    @Test
+    @DisplayName("DB 잔여 수량을 모아서 반영하도록 설정되면 플러셔에 기록")
+    void processChunk_StockFlusherEnabled_RecordsDelta() {
+        // given
+        given(userIdCache.findExisting(anyCollection())).willReturn(Set.of(1L, 2L));
+        given(redisService.tryIssueCoupons(1L, List.of(1L, 2L))).willReturn(List.of(1L, 1L));
+        given(redisService.getStockShardCount(1L)).willReturn(1);
+        given(couponIssueRepository.insertIgnoreAll(anyList())).willReturn(2);
+        given(stockFlusher.isEnabled()).willReturn(true);
+        CouponCampaignService.CampaignJob job = new CouponCampaignService.CampaignJob("job-1", 1L);
+
+        // when
+        campaignService.processChunk(job, List.of(1L, 2L));
+
+        // then
+        verify(stockFlusher).record(1L, 2);
+        verify(couponRepository, never()).decreaseRemainingQuantityBy(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("스트림 모드에서는 발급 이력을 직접 저장하지 않음")
+    void processChunk_StreamMode_SkipsInsert() {
+        // given
+        given(userIdCache.findExisting(anyCollection())).willReturn(Set.of(1L));
+        given(redisService.tryIssueCoupons(1L, List.of(1L))).willReturn(List.of(1L));
+        given(redisService.getStockShardCount(1L)).willReturn(1);
+        given(redisService.isIssueStreamEnabled()).willReturn(true);
+        CouponCampaignService.CampaignJob job = new CouponCampaignService.CampaignJob("job-1", 1L);
+
+        // when
+        campaignService.processChunk(job, List.of(1L));
+
+        // then
+        verify(couponIssueRepository, never()).insertIgnoreAll(anyList());
+        verify(couponRepository).decreaseRemainingQuantityBy(1L, 1);
+    }
+
+    @Test
+    @DisplayName("끝난 작업은 보관 시간이 지나면 지우고 실행 중인 작업은 남김")
+    void evictFinishedJobs_RemovesExpiredJobs() {
+        // given
+        CouponCampaignService.CampaignJob finished = new CouponCampaignService.CampaignJob("job-1", 1L);
+        CouponCampaignService.CampaignJob running = new CouponCampaignService.CampaignJob("job-2", 1L);
+        ReflectionTestUtils.setField(finished, "finishedAt", LocalDateTime.now().minusMinutes(61));
+        Map<String, CouponCampaignService.CampaignJob> jobs = jobs();
+        jobs.put("job-1", finished);
+        jobs.put("job-2", running);
+
+        // when
+        campaignService.evictFinishedJobs(LocalDateTime.now());
+
+        // then
+        assertThat(jobs).containsOnlyKeys("job-2");
+        assertThatThrownBy(() -> campaignService.getJob("job-1"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, CouponCampaignService.CampaignJob> jobs() {
+        return (Map<String, CouponCampaignService.CampaignJob>) ReflectionTestUtils.getField(campaignService, "jobs");
+    }
+
+}
@@ -0,0 +1,258 @@
+package com.coupon.service;
+
+import com.coupon.domain.coupon.ClaimWindow;
+import com.coupon.domain.coupon.CouponIssueRecord;
+import com.coupon.domain.coupon.CouponMetadata;
+import com.coupon.domain.coupon.CouponStatus;
+import com.coupon.dto.coupon.CouponClaimResponse;
+import com.coupon.exception.ClaimNotFoundException;
+import com.coupon.exception.ClaimQueueFullException;
+import com.coupon.exception.CouponExhaustedException;
+import com.coupon.repository.CouponIssueRepository;
+import com.coupon.repository.CouponRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CouponClaimPipelineTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RedisService redisService;
+
+    @Mock
+    private CouponStockLeaseManager stockLeaseManager;
+
+    @Mock
+    private CouponSoldOutRegistry soldOutRegistry;
+
+    @Mock
+    private CouponMetadataCache couponMetadataCache;
+
+    @Mock
+    private UserIdCache userIdCache;
+
+    @Mock
+    private CouponIssueRepository couponIssueRepository;
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private CouponStockFlusher stockFlusher;
+
+    private CouponClaimPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        pipeline = createPipeline(100);
+    }
+
+    @Test
+    @DisplayName("발급 요청을 접수하면 PENDING 티켓을 반환하고 다른 노드에서도 조회할 수 있도록 Redis에 PENDING 기록")
+    void submit_ReturnsPendingTicket() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+
+        // when
+        CouponClaimResponse ticket = pipeline.submit(1L, 7L);
+
+        // then
+        assertThat(ticket.getTicketId()).isNotBlank();
+        assertThat(ticket.getStatus()).isEqualTo(CouponClaimStatus.PENDING);
+        verify(valueOperations).set("coupon:claim:" + ticket.getTicketId(), "PENDING:1:7", Duration.ofSeconds(600));
+        assertThat(pipeline.getQueueDepth()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 접수를 거절")
+    void submit_QueueFull_ThrowsException() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        pipeline = createPipeline(1);
+        pipeline.submit(1L, 7L);
+
+        // when & then
+        assertThatThrownBy(() -> pipeline.submit(1L, 8L))
+                .isInstanceOf(ClaimQueueFullException.class);
+        assertThat(pipeline.getTotalRejected()).isEqualTo(1);
+        verify(redisTemplate).delete(anyString());
+    }
+
+    @Test
+    @DisplayName("소진된 쿠폰은 티켓을 만들지 않고 바로 거절")
+    void submit_SoldOut_ThrowsException() {
+        // given
+        given(soldOutRegistry.isSoldOut(1L)).willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> pipeline.submit(1L, 7L))
+                .isInstanceOf(CouponExhaustedException.class);
+        assertThat(pipeline.getQueueDepth()).isZero();
+    }
+
+    @Test
+    @DisplayName("묶음 처리 시 발급 스크립트는 파이프라인으로, 발급 이력은 한 번에 저장하고 잔여 수량은 쿠폰별로 한 번 반영")
+    void process_PersistsBatchOnce() {
+        // given
+        given(userIdCache.findExisting(anyCollection())).willReturn(Set.of(1L, 2L, 3L));
+        given(couponMetadataCache.get(1L)).willReturn(activeCoupon());
+        given(redisService.tryIssueCoupons(1L, List.of(1L, 2L, 3L))).willReturn(List.of(1L, 1L, 0L));
+        given(couponIssueRepository.insertIgnoreAll(anyList())).willReturn(2);
+
+        // when
+        pipeline.process(List.of(
+                new CouponClaimPipeline.ClaimTicket("t1", 1L, 1L),
+                new CouponClaimPipeline.ClaimTicket("t2", 1L, 2L),
+                new CouponClaimPipeline.ClaimTicket("t3", 1L, 3L)));
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<CouponIssueRecord>> records = ArgumentCaptor.forClass(List.class);
+        verify(couponIssueRepository).insertIgnoreAll(records.capture());
+        assertThat(records.getValue()).extracting(CouponIssueRecord::getUserId).containsExactly(1L, 2L);
+        verify(couponRepository).decreaseRemainingQuantityBy(1L, 2);
+        verify(redisService, never()).tryIssueCoupon(any(), any());
+        verify(redisTemplate).executePipelined(any(RedisCallback.class));
+        assertThat(pipeline.getTotalProcessed()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("재고가 나뉜 쿠폰은 시작 샤드가 빈 티켓만 다른 샤드로 다시 시도")
+    void process_ShardedExhausted_RetriesOtherShards() {
+        // given
+        given(userIdCache.findExisting(anyCollection())).willReturn(Set.of(1L, 2L));
+        given(couponMetadataCache.get(1L)).willReturn(activeCoupon());
+        given(redisService.tryIssueCoupons(1L, List.of(1L, 2L))).willReturn(List.of(-1L, 1L));
+        given(redisService.getStockShardCount(1L)).willReturn(4);
+        given(redisService.tryIssueCoupon(1L, 1L)).willReturn(1L);
+        given(couponIssueRepository.insertIgnoreAll(anyList())).willReturn(2);
+
+        // when
+        pipeline.process(List.of(
+                new CouponClaimPipeline.ClaimTicket("t1", 1L, 1L),
+                new CouponClaimPipeline.ClaimTicket("t2", 1L, 2L)));
+
+        // then
+        verify(redisService, never()).tryIssueCoupon(1L, 2L);
+        verify(couponRepository).decreaseRemainingQuantityBy(1L, 2);
+        verify(soldOutRegistry, never()).markSoldOut(any());
+    }
+
+    @Test
+    @DisplayName("재고 부족 응답을 받으면 소진 표시 후 이력을 저장하지 않음")
+    void process_Exhausted_MarksSoldOut() {
+        // given
+        given(userIdCache.findExisting(anyCollection())).willReturn(Set.of(1L));
+        given(couponMetadataCache.get(1L)).willReturn(activeCoupon());
+        given(redisService.tryIssueCoupons(1L, List.of(1L))).willReturn(List.of(-1L));
+
+        // when
+        pipeline.process(List.of(new CouponClaimPipeline.ClaimTicket("t1", 1L, 1L)));
+
+        // then
+        verify(soldOutRegistry).markSoldOut(1L);
+        verify(couponIssueRepository, never()).insertIgnoreAll(anyList());
+        verify(couponRepository, never()).decreaseRemainingQuantityBy(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("이력 저장에 실패하면 Redis 발급 기록과 차감된 재고를 되돌림")
+    void process_PersistFailure_ReleasesRedisClaim() {
+        // given
+        given(userIdCache.findExisting(anyCollection())).willReturn(Set.of(1L));
+        given(couponMetadataCache.get(1L)).willReturn(activeCoupon());
+        given(redisService.tryIssueCoupons(1L, List.of(1L))).willReturn(List.of(1L));
+        given(couponIssueRepository.insertIgnoreAll(anyList())).willThrow(new RuntimeException("db down"));
+
+        // when
+        pipeline.process(List.of(new CouponClaimPipeline.ClaimTicket("t1", 1L, 1L)));
+
+        // then
+        verify(redisService).releaseCouponClaim(1L, 1L);
+        verify(couponRepository, never()).decreaseRemainingQuantityBy(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("처리가 끝난 티켓은 Redis에 남은 결과로 조회")
+    void getStatus_Completed() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get("coupon:claim:t1")).willReturn("ISSUED:1:7");
+
+        // when
+        CouponClaimResponse response = pipeline.getStatus("t1", 7L);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(CouponClaimStatus.ISSUED);
+        assertThat(response.getCouponId()).isEqualTo(1L);
+        assertThat(response.getUserId()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("없는 티켓 조회 시 예외 발생")
+    void getStatus_NotFound() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+
+        // when & then
+        assertThatThrownBy(() -> pipeline.getStatus("unknown", 7L))
+                .isInstanceOf(ClaimNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 티켓은 조회할 수 없음")
+    void getStatus_OtherUser_NotFound() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get("coupon:claim:t1")).willReturn("ISSUED:1:7");
+
+        // when & then
+        assertThatThrownBy(() -> pipeline.getStatus("t1", 8L))
+                .isInstanceOf(ClaimNotFoundException.class);
+    }
+
+    private CouponClaimPipeline createPipeline(int queueCapacity) {
+        return new CouponClaimPipeline(
+                redisTemplate, redisService, stockLeaseManager, soldOutRegistry, couponMetadataCache,
+                userIdCache, couponIssueRepository, couponRepository, stockFlusher,
+                1, queueCapacity, 100, 20, 600);
+    }
+
+    private CouponMetadata activeCoupon() {
+        return new CouponMetadata(1L, "테스트 쿠폰", 100,
+                LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1), CouponStatus.ACTIVE,
+                1, LocalDateTime.now().minusDays(2), ClaimWindow.NONE);
+    }
+
+}
@@ -0,0 +1,67 @@
+package com.coupon.service;
+
+import com.coupon.exception.CouponAlreadyIssuedException;
+import com.coupon.exception.CouponExhaustedException;
+import com.coupon.exception.DailyLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CouponIssueMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private CouponIssueMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new CouponIssueMetrics(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("단계별 소요 시간은 phase 태그로 나누어 기록")
+    void recordPhase_TaggedByPhase() {
+        // given
+        long start = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(5);
+
+        // when
+        metrics.recordPhase(CouponIssueMetrics.Phase.REDIS_SCRIPT, start);
+
+        // then
+        assertThat(meterRegistry.get(CouponIssueMetrics.PHASE_TIMER).tag("phase", "redis_script").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get(CouponIssueMetrics.PHASE_TIMER).tag("phase", "redis_script").timer()
+                .totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(5);
+        assertThat(meterRegistry.get(CouponIssueMetrics.PHASE_TIMER).tag("phase", "insert").timer().count())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("발급 실패 예외는 결과별 카운터로 분류")
+    void recordFailure_ClassifiesExceptions() {
+        // when
+        metrics.recordFailure(new CouponAlreadyIssuedException("이미 발급받은 쿠폰입니다."));
+        metrics.recordFailure(new CouponExhaustedException("쿠폰이 모두 소진되었습니다."));
+        metrics.recordFailure(new DailyLimitExceededException("발급 가능 횟수를 초과했습니다."));
+        metrics.recordFailure(new CannotAcquireLockException("lock wait timeout"));
+        metrics.recordFailure(new IllegalStateException("unexpected"));
+
+        // then
+        assertThat(countOf("duplicate")).isEqualTo(1);
+        assertThat(countOf("exhausted")).isEqualTo(1);
+        assertThat(countOf("daily_limit")).isEqualTo(1);
+        assertThat(countOf("lock_fail")).isEqualTo(1);
+        assertThat(countOf("error")).isEqualTo(1);
+        assertThat(countOf("issued")).isZero();
+    }
+
+    private double countOf(String outcome) {
+        return meterRegistry.get(CouponIssueMetrics.RESULT_COUNTER).tag("outcome", outcome).counter().count();
+    }
+}
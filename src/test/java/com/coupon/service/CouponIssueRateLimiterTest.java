@@ -0,0 +1,115 @@
+package com.coupon.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CouponIssueRateLimiterTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    private CouponIssueRateLimiter newLimiter(int userCapacity) {
+        return new CouponIssueRateLimiter(redisTemplate, true, 1, userCapacity, 1000, 2000, 60000);
+    }
+
+    @Test
+    @DisplayName("사용자별 버킷을 다 쓰면 Redis를 호출하지 않고 거절")
+    void tryAcquire_UserLimited() {
+        // given
+        CouponIssueRateLimiter limiter = newLimiter(2);
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString())).willReturn(0L);
+
+        // when
+        long first = limiter.tryAcquire(1L, 7L);
+        long second = limiter.tryAcquire(1L, 7L);
+        long third = limiter.tryAcquire(1L, 7L);
+
+        // then
+        assertThat(first).isZero();
+        assertThat(second).isZero();
+        assertThat(third).isPositive();
+        assertThat(limiter.getUserLimitedRequests()).isEqualTo(1);
+        verify(redisTemplate, times(2)).execute(any(RedisScript.class), anyList(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("쿠폰별 버킷이 비어 있으면 Redis가 알려준 대기 시간으로 거절")
+    void tryAcquire_CouponLimited() {
+        // given
+        CouponIssueRateLimiter limiter = newLimiter(5);
+        given(redisTemplate.execute(any(RedisScript.class), eq(List.of("coupon:1:rate-limit")), anyString(), anyString()))
+                .willReturn(250L);
+
+        // when
+        long wait = limiter.tryAcquire(1L, 7L);
+
+        // then
+        assertThat(wait).isEqualTo(250L);
+        assertThat(limiter.getCouponLimitedRequests()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시에는 쿠폰별 제한을 건너뛰고 허용")
+    void tryAcquire_RedisFailureAllows() {
+        // given
+        CouponIssueRateLimiter limiter = newLimiter(5);
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString()))
+                .willThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        long wait = limiter.tryAcquire(1L, 7L);
+
+        // then
+        assertThat(wait).isZero();
+        assertThat(limiter.getRedisFailures()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("비활성화되어 있으면 항상 허용")
+    void tryAcquire_Disabled() {
+        // given
+        CouponIssueRateLimiter limiter = new CouponIssueRateLimiter(redisTemplate, false, 1, 1, 1, 1, 60000);
+
+        // when & then
+        assertThat(limiter.tryAcquire(1L, 7L)).isZero();
+        assertThat(limiter.tryAcquire(1L, 7L)).isZero();
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("로컬 토큰 버킷은 흐른 시간만큼 토큰을 채움")
+    void localTokenBucket_Refills() {
+        // given
+        CouponIssueRateLimiter.LocalTokenBucket bucket = new CouponIssueRateLimiter.LocalTokenBucket(10, 1);
+        long now = System.nanoTime();
+        assertThat(bucket.tryAcquire(now)).isZero();
+
+        // when
+        long wait = bucket.tryAcquire(now);
+        long afterRefill = bucket.tryAcquire(now + TimeUnit.MILLISECONDS.toNanos(150));
+
+        // then
+        assertThat(wait).isEqualTo(100L);
+        assertThat(afterRefill).isZero();
+    }
+}
@@ -0,0 +1,175 @@
+package com.coupon.service;
+
+import com.coupon.domain.coupon.ClaimWindow;
+import com.coupon.domain.coupon.CouponIssueRecord;
+import com.coupon.domain.coupon.CouponMetadata;
+import com.coupon.domain.coupon.CouponStatus;
+import com.coupon.repository.CouponIssueRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CouponIssueStreamConsumerTest {
+
+    private static final String STREAM_KEY = RedisService.getIssueStreamKey(0);
+    private static final String GROUP = "coupon-issue-writers";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private StreamOperations<String, Object, Object> streamOperations;
+
+    @Mock
+    private RedisService redisService;
+
+    @Mock
+    private CouponIssueRepository couponIssueRepository;
+
+    @Mock
+    private CouponMetadataCache couponMetadataCache;
+
+    private CouponIssueStreamConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        consumer = new CouponIssueStreamConsumer(
+                redisTemplate, redisService, couponIssueRepository, couponMetadataCache, GROUP, "consumer-1", 500, 1000, 30000);
+        lenient().when(couponMetadataCache.get(anyLong())).thenReturn(new CouponMetadata(1L, "테스트 쿠폰", 100,
+                LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1), CouponStatus.ACTIVE,
+                1, LocalDateTime.now().minusDays(2), ClaimWindow.NONE));
+    }
+
+    @Test
+    @DisplayName("스트림에서 읽은 발급 이력을 저장한 뒤 XACK")
+    void pollOnce_PersistsAndAcknowledges() {
+        // given
+        MapRecord<String, Object, Object> record = issueRecord("1-0", 1L, 2L);
+        given(redisTemplate.<Object, Object>opsForStream()).willReturn(streamOperations);
+        given(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset.class)))
+                .willReturn(List.of(record));
+        given(couponIssueRepository.insertIgnoreAll(anyList())).willReturn(1);
+        given(streamOperations.acknowledge(eq(STREAM_KEY), eq(GROUP), any(RecordId.class))).willReturn(1L);
+
+        // when
+        int processed = consumer.pollOnce(0, ReadOffset.lastConsumed());
+
+        // then
+        assertThat(processed).isEqualTo(1);
+        assertThat(consumer.getTotalPersisted()).isEqualTo(1);
+        assertThat(consumer.getTotalAcknowledged()).isEqualTo(1);
+        verify(couponIssueRepository).insertIgnoreAll(argThat((List<CouponIssueRecord> records) ->
+                records.size() == 1
+                        && records.get(0).getCouponId().equals(1L)
+                        && records.get(0).getUserId().equals(2L)
+                        && records.get(0).getClaimBucket() == 0L));
+        verify(streamOperations).delete(eq(STREAM_KEY), eq(RecordId.of("1-0")));
+    }
+
+    @Test
+    @DisplayName("DB 저장에 실패하면 XACK 하지 않고 pending 상태로 남김")
+    void pollOnce_PersistFailure_NotAcknowledged() {
+        // given
+        given(redisTemplate.<Object, Object>opsForStream()).willReturn(streamOperations);
+        given(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset.class)))
+                .willReturn(List.of(issueRecord("1-0", 1L, 2L)));
+        given(couponIssueRepository.insertIgnoreAll(anyList()))
+                .willThrow(new DataAccessResourceFailureException("DB down"));
+
+        // when
+        int processed = consumer.pollOnce(0, ReadOffset.lastConsumed());
+
+        // then
+        assertThat(processed).isZero();
+        assertThat(consumer.getFailedBatches()).isEqualTo(1);
+        verify(streamOperations, never()).acknowledge(any(String.class), any(String.class), any(RecordId.class));
+    }
+
+    @Test
+    @DisplayName("새 항목은 샤드 스트림 하나만 BLOCK으로 기다려 읽음")
+    void pollOnce_BlocksOnSingleShard() {
+        // given
+        given(redisTemplate.<Object, Object>opsForStream()).willReturn(streamOperations);
+        given(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset.class)))
+                .willReturn(List.of());
+
+        // when
+        consumer.pollOnce(2, ReadOffset.lastConsumed());
+
+        // then
+        verify(streamOperations).read(
+                eq(Consumer.from(GROUP, "consumer-1")),
+                argThat((StreamReadOptions options) -> options.getBlock() != null && options.getBlock() == 1000L),
+                eq(StreamOffset.create(RedisService.getIssueStreamKey(2), ReadOffset.lastConsumed())));
+    }
+
+    @Test
+    @DisplayName("재시작 후 pending 항목을 읽을 때는 기다리지 않음")
+    void pollOnce_PendingRecovery_DoesNotBlock() {
+        // given
+        given(redisTemplate.<Object, Object>opsForStream()).willReturn(streamOperations);
+        given(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset.class)))
+                .willReturn(List.of());
+
+        // when
+        consumer.pollOnce(0, ReadOffset.from("0"));
+
+        // then
+        verify(streamOperations).read(
+                any(Consumer.class),
+                argThat((StreamReadOptions options) -> options.getBlock() == null),
+                any(StreamOffset.class));
+    }
+
+    @Test
+    @DisplayName("읽을 항목이 없으면 저장하지 않음")
+    void pollOnce_Empty() {
+        // given
+        given(redisTemplate.<Object, Object>opsForStream()).willReturn(streamOperations);
+        given(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset.class)))
+                .willReturn(List.of());
+
+        // when
+        int processed = consumer.pollOnce(0, ReadOffset.lastConsumed());
+
+        // then
+        assertThat(processed).isZero();
+        verify(couponIssueRepository, never()).insertIgnoreAll(anyList());
+    }
+
+    private MapRecord<String, Object, Object> issueRecord(String id, Long couponId, Long userId) {
+        Map<Object, Object> value = Map.of(
+                "couponId", couponId.toString(),
+                "userId", userId.toString(),
+                "issuedAt", String.valueOf(System.currentTimeMillis()));
+        return MapRecord.create(STREAM_KEY, value).withId(RecordId.of(id));
+    }
+}
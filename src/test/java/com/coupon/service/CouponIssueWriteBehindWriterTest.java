@@ -0,0 +1,118 @@
+package com.coupon.service;
+
+import com.coupon.domain.coupon.CouponIssueRecord;
+import com.coupon.repository.CouponIssueRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CouponIssueWriteBehindWriterTest {
+
+    @Mock
+    private CouponIssueRepository couponIssueRepository;
+
+    private CouponIssueWriteBehindWriter writer;
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null) {
+            writer.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("큐에 넣은 발급 이력을 묶음으로 저장")
+    void enqueue_WritesInBatches() {
+        // given
+        List<CouponIssueRecord> persisted = new CopyOnWriteArrayList<>();
+        given(couponIssueRepository.insertIgnoreAll(anyList())).willAnswer(invocation -> {
+            List<CouponIssueRecord> batch = invocation.getArgument(0);
+            persisted.addAll(batch);
+            return batch.size();
+        });
+        writer = new CouponIssueWriteBehindWriter(
+                couponIssueRepository, CouponIssuePersistenceMode.WRITE_BEHIND, 100, 10, 20, 50);
+        writer.start();
+
+        // when
+        for (long userId = 1; userId <= 25; userId++) {
+            writer.enqueue(new CouponIssueRecord(1L, userId, LocalDateTime.now(), 0L));
+        }
+
+        // then
+        await().atMost(2, TimeUnit.SECONDS).until(() -> persisted.size() == 25);
+        assertThat(writer.getTotalWritten()).isEqualTo(25);
+        assertThat(writer.getMaxBatchSize()).isLessThanOrEqualTo(10);
+        assertThat(writer.getQueueDepth()).isZero();
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 호출한 스레드에서 바로 저장")
+    void enqueue_QueueFull_CallerRuns() {
+        // given: 저장 스레드를 시작하지 않아 큐가 비워지지 않는 상태
+        given(couponIssueRepository.insertIgnoreAll(anyList())).willReturn(1);
+        writer = new CouponIssueWriteBehindWriter(
+                couponIssueRepository, CouponIssuePersistenceMode.WRITE_BEHIND, 1, 10, 20, 1);
+        writer.enqueue(new CouponIssueRecord(1L, 1L, LocalDateTime.now(), 0L));
+
+        // when
+        writer.enqueue(new CouponIssueRecord(1L, 2L, LocalDateTime.now(), 0L));
+
+        // then
+        assertThat(writer.getCallerRunsCount()).isEqualTo(1);
+        assertThat(writer.getQueueDepth()).isEqualTo(1);
+        verify(couponIssueRepository).insertIgnoreAll(argThat(records ->
+                records.size() == 1 && records.get(0).getUserId().equals(2L)));
+    }
+
+    @Test
+    @DisplayName("종료 시 큐에 남은 발급 이력을 모두 저장")
+    void shutdown_FlushesPendingRecords() {
+        // given
+        given(couponIssueRepository.insertIgnoreAll(anyList())).willAnswer(invocation ->
+                ((List<?>) invocation.getArgument(0)).size());
+        writer = new CouponIssueWriteBehindWriter(
+                couponIssueRepository, CouponIssuePersistenceMode.WRITE_BEHIND, 100, 500, 20, 50);
+        writer.enqueue(new CouponIssueRecord(1L, 1L, LocalDateTime.now(), 0L));
+        writer.enqueue(new CouponIssueRecord(1L, 2L, LocalDateTime.now(), 0L));
+
+        // when
+        writer.shutdown();
+
+        // then
+        assertThat(writer.getTotalWritten()).isEqualTo(2);
+        assertThat(writer.getQueueDepth()).isZero();
+    }
+
+    @Test
+    @DisplayName("SYNC 모드에서는 write-behind 저장기가 비활성화")
+    void syncMode_Disabled() {
+        // given
+        writer = new CouponIssueWriteBehindWriter(
+                couponIssueRepository, CouponIssuePersistenceMode.SYNC, 100, 500, 20, 50);
+
+        // when
+        writer.start();
+
+        // then
+        assertThat(writer.isEnabled()).isFalse();
+        verify(couponIssueRepository, never()).insertIgnoreAll(anyList());
+    }
+}
@@ -0,0 +1,106 @@
+package com.coupon.service;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 발급 사용자 저장 방식별 Redis 메모리 사용량 비교
+ * 기본 테스트에서는 제외되며 ./gradlew benchmarkTest 로 실행합니다.
+ */
+@Tag("benchmark")
+class CouponMembershipMemoryBenchmarkTest {
+
+    private static final int USERS = 200_000;
+    private static final long COUPON_ID = 1L;
+    private static final int PIPELINE_SIZE = 10_000;
+
+    private static GenericContainer<?> redisContainer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    @BeforeAll
+    @SuppressWarnings("resource")
+    static void startRedis() {
+        redisContainer = new GenericContainer<>(DockerImageName.parse("redis:7.0.0")).withExposedPorts(6379);
+        redisContainer.start();
+        connectionFactory = new LettuceConnectionFactory(redisContainer.getHost(), redisContainer.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        connectionFactory.destroy();
+        redisContainer.stop();
+    }
+
+    @BeforeEach
+    void flush() {
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+    }
+
+    @Test
+    @DisplayName("사용자별 집합과 쿠폰별 비트맵의 메모리 사용량 비교")
+    void compareMembershipMemory() {
+        // given
+        long baseline = usedMemory();
+
+        // when: 사용자별 집합 방식
+        for (int from = 1; from <= USERS; from += PIPELINE_SIZE) {
+            int start = from;
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (long userId = start; userId < start + PIPELINE_SIZE && userId <= USERS; userId++) {
+                    byte[] key = ("coupon:user:" + userId).getBytes(StandardCharsets.UTF_8);
+                    connection.setCommands().sAdd(key, String.valueOf(COUPON_ID).getBytes(StandardCharsets.UTF_8));
+                    connection.keyCommands().expire(key, Duration.ofDays(30).toSeconds());
+                }
+                return null;
+            });
+        }
+        long setBytes = usedMemory() - baseline;
+
+        flush();
+        baseline = usedMemory();
+
+        // when: 쿠폰별 비트맵 방식
+        for (int from = 1; from <= USERS; from += PIPELINE_SIZE) {
+            int start = from;
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (long userId = start; userId < start + PIPELINE_SIZE && userId <= USERS; userId++) {
+                    byte[] key = RedisService.getIssuedBitmapKey(COUPON_ID, userId).getBytes(StandardCharsets.UTF_8);
+                    connection.stringCommands().setBit(key, RedisService.getIssuedBitmapOffset(userId), true);
+                }
+                return null;
+            });
+        }
+        long bitmapBytes = usedMemory() - baseline;
+
+        // then
+        System.out.printf("Membership memory for %d users - set: %,d bytes (%.1f B/user), bitmap: %,d bytes (%.2f B/user)%n",
+                USERS, setBytes, (double) setBytes / USERS, bitmapBytes, (double) bitmapBytes / USERS);
+        assertThat(bitmapBytes).isLessThan(setBytes / 10);
+    }
+
+    private long usedMemory() {
+        Properties info = redisTemplate.execute((RedisCallback<Properties>) connection -> connection.serverCommands().info("memory"));
+        return Long.parseLong(info.getProperty("used_memory"));
+    }
+}
@@ -0,0 +1,200 @@
+package com.coupon.service;
+
+import com.coupon.domain.coupon.Coupon;
+import com.coupon.domain.coupon.CouponMetadata;
+import com.coupon.domain.coupon.CouponStatus;
+import com.coupon.repository.CouponRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CouponMetadataCacheTest {
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    private CouponMetadataCache cache;
+    private Coupon coupon;
+
+    @BeforeEach
+    void setUp() {
+        given(redisTemplate.opsForHash()).willReturn(hashOperations);
+        cache = new CouponMetadataCache(couponRepository, redisTemplate, 60000, 100, 3600);
+
+        coupon = Coupon.builder()
+                .title("테스트 쿠폰")
+                .totalQuantity(100)
+                .validFrom(LocalDateTime.now().minusDays(1))
+                .validTo(LocalDateTime.now().plusDays(30))
+                .build();
+        ReflectionTestUtils.setField(coupon, "id", 1L);
+    }
+
+    @Test
+    @DisplayName("한 번 읽은 쿠폰 메타데이터는 DB를 다시 조회하지 않음")
+    void get_Cached() {
+        // given
+        given(couponRepository.findById(1L)).willReturn(Optional.of(coupon));
+
+        // when
+        CouponMetadata first = cache.get(1L);
+        CouponMetadata second = cache.get(1L);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(first.getValidTo()).isEqualTo(coupon.getValidTo());
+        verify(couponRepository, times(1)).findById(1L);
+        verify(hashOperations).putAll(eq("coupon:metadata:v2"), anyMap());
+    }
+
+    @Test
+    @DisplayName("메모리에 없어도 Redis 해시에 있으면 DB를 조회하지 않음")
+    void get_FromRedis() {
+        // given
+        String stored = CouponMetadataCache.serialize(CouponMetadata.from(coupon));
+        given(hashOperations.get("coupon:metadata:v2", "1")).willReturn(stored);
+
+        // when
+        CouponMetadata metadata = cache.get(1L);
+
+        // then
+        assertThat(metadata.getTitle()).isEqualTo("테스트 쿠폰");
+        assertThat(metadata.getValidFrom()).isEqualTo(coupon.getValidFrom());
+        verify(couponRepository, never()).findById(1L);
+    }
+
+    @Test
+    @DisplayName("캐시에서 제거하면 다음 조회 때 DB에서 다시 읽음")
+    void evict_Reloads() {
+        // given
+        given(couponRepository.findById(1L)).willReturn(Optional.of(coupon));
+        cache.get(1L);
+
+        // when
+        cache.evict(1L);
+        cache.get(1L);
+
+        // then
+        verify(couponRepository, times(2)).findById(1L);
+        verify(redisTemplate).convertAndSend(CouponMetadataCache.CHANNEL, "1");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 변경 알림을 받으면 메모리 캐시를 비움")
+    void onMessage_Invalidates() {
+        // given
+        given(couponRepository.findById(1L)).willReturn(Optional.of(coupon));
+        cache.get(1L);
+
+        // when
+        cache.onMessage(new DefaultMessage(
+                CouponMetadataCache.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "1".getBytes(StandardCharsets.UTF_8)), null);
+        cache.get(1L);
+
+        // then
+        verify(couponRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("상태가 바뀐 쿠폰은 Redis 해시를 갱신하고 다른 노드에 알림")
+    void refresh_WritesAndPublishes() {
+        // given
+        coupon.setStatus(CouponStatus.EXPIRED);
+
+        // when
+        cache.refresh(coupon);
+
+        // then
+        assertThat(cache.get(1L).getStatus()).isEqualTo(CouponStatus.EXPIRED);
+        verify(hashOperations).putAll(eq("coupon:metadata:v2"), anyMap());
+        verify(redisTemplate).convertAndSend(CouponMetadataCache.CHANNEL, "1");
+        verify(couponRepository, never()).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Redis 해시에 모든 쿠폰이 있으면 목록을 DB 없이 ID 순서로 반환")
+    void getAll_FromCompleteRedisHash() {
+        // given
+        Coupon second = Coupon.builder()
+                .title("두 번째 | 쿠폰")
+                .totalQuantity(10)
+                .validFrom(LocalDateTime.now().minusDays(1))
+                .validTo(LocalDateTime.now().plusDays(1))
+                .build();
+        ReflectionTestUtils.setField(second, "id", 2L);
+        given(hashOperations.entries("coupon:metadata:v2")).willReturn(Map.of(
+                "2", CouponMetadataCache.serialize(CouponMetadata.from(second)),
+                "1", CouponMetadataCache.serialize(CouponMetadata.from(coupon)),
+                "complete", "1"));
+
+        // when
+        List<CouponMetadata> coupons = cache.getAll();
+
+        // then
+        assertThat(coupons).extracting(CouponMetadata::getId).containsExactly(1L, 2L);
+        assertThat(coupons.get(1).getTitle()).isEqualTo("두 번째 | 쿠폰");
+        verify(couponRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Redis 해시가 완전하지 않으면 DB에서 전체를 읽어 채움")
+    void getAll_IncompleteRedisHash_LoadsFromDatabase() {
+        // given
+        given(hashOperations.entries("coupon:metadata:v2")).willReturn(Map.of());
+        given(couponRepository.findAll()).willReturn(List.of(coupon));
+
+        // when
+        List<CouponMetadata> coupons = cache.getAll();
+        cache.getAll();
+
+        // then
+        assertThat(coupons).hasSize(1);
+        verify(couponRepository, times(1)).findAll();
+        verify(hashOperations).putAll(eq("coupon:metadata:v2"), anyMap());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 쿠폰이면 예외 발생")
+    void get_NotFound() {
+        // given
+        given(couponRepository.findById(999L)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> cache.get(999L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("존재하지 않는 쿠폰입니다");
+    }
+}
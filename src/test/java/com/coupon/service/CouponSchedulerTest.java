@@ -34,6 +34,12 @@ class CouponSchedulerTest {
     @Mock
     private RedisService redisService;
     
+    @Mock
+    private CouponStockLeaseManager stockLeaseManager;
+    
+    @Mock
+    private CouponMetadataCache couponMetadataCache;
+    
     @InjectMocks
     private CouponScheduler couponScheduler;
     
@@ -88,6 +94,10 @@ class CouponSchedulerTest {
         verify(couponRepository).save(expiredCoupon2);
         verify(redisService, times(1)).initializeCouponStock(eq(1L), eq(0));
         verify(redisService, times(1)).initializeCouponStock(eq(2L), eq(0));
+        verify(stockLeaseManager).releaseLease(1L, false);
+        verify(stockLeaseManager).releaseLease(2L, false);
+        verify(couponMetadataCache).refresh(expiredCoupon1);
+        verify(couponMetadataCache).refresh(expiredCoupon2);
     }
     
     @Test
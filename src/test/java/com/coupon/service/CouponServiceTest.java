@@ -1,7 +1,11 @@
 package com.coupon.service;
 
+import com.coupon.domain.coupon.ClaimWindow;
 import com.coupon.domain.coupon.Coupon;
 import com.coupon.domain.coupon.CouponIssue;
+import com.coupon.domain.coupon.CouponIssueRecord;
+import com.coupon.domain.coupon.CouponMetadata;
+import com.coupon.domain.coupon.CouponStockSnapshot;
 import com.coupon.domain.coupon.CouponStatus;
 import com.coupon.domain.user.User;
 import com.coupon.dto.coupon.CouponCreateRequest;
@@ -18,14 +22,17 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -35,8 +42,10 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class CouponServiceTest {
@@ -47,9 +56,33 @@ class CouponServiceTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private UserIdCache userIdCache;
+
     @Mock
     private RedisService redisService;
 
+    @Mock
+    private CouponIssueWriteBehindWriter couponIssueWriter;
+
+    @Mock
+    private CouponStockLeaseManager stockLeaseManager;
+
+    @Mock
+    private CouponSoldOutRegistry soldOutRegistry;
+
+    @Mock
+    private CouponMetadataCache couponMetadataCache;
+
+    @Mock
+    private CouponStockFlusher stockFlusher;
+
+    @Mock
+    private CouponIssueMetrics issueMetrics;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
     @Mock
     private CouponIssueRepository couponIssueRepository;
 
@@ -80,6 +113,7 @@ class CouponServiceTest {
                 .build();
         ReflectionTestUtils.setField(coupon, "id", 1L);
         ReflectionTestUtils.setField(coupon, "remainingQuantity", 100);
+        lenient().when(couponMetadataCache.get(anyLong())).thenReturn(CouponMetadata.from(coupon));
 
         createRequest = new CouponCreateRequest("테스트 쿠폰", 100, 
                 LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(30));
@@ -89,7 +123,7 @@ class CouponServiceTest {
     @DisplayName("쿠폰 생성 성공")
     void createCoupon_Success() {
         // given
-        doNothing().when(redisService).initializeCouponStock(anyLong(), anyInt());
+        doNothing().when(redisService).initializeCouponStock(anyLong(), anyInt(), anyInt());
         given(couponRepository.save(any(Coupon.class))).willReturn(coupon);
 
         // when
@@ -102,18 +136,18 @@ class CouponServiceTest {
         assertThat(response.getTotalQuantity()).isEqualTo(createRequest.getTotalQuantity());
         
         verify(couponRepository).save(any(Coupon.class));
+        verify(redisService).initializeCouponStock(1L, 100, 1);
+        verify(redisService).registerCouponClaimWindow(1L, ClaimWindow.NONE, 1);
+        verify(couponMetadataCache).refresh(coupon);
     }
 
     @Test
     @DisplayName("쿠폰 발급 실패 - 사용자 없음")
     void issueCoupon_UserNotFound() {
         // given
-        given(userService.findById(999L)).willThrow(new InternalServerException("쿠폰 발급 처리 중 오류가 발생했습니다."));
+        given(userIdCache.exists(999L)).willReturn(false);
         // These stubs are not used in this test path, so we make them lenient
         lenient().when(redisService.tryIssueCoupon(anyLong(), anyLong())).thenReturn(1L);
-        lenient().when(couponRepository.findByIdWithPessimisticLock(anyLong())).thenReturn(Optional.of(coupon));
-        lenient().when(couponIssueRepository.existsByUserIdAndCouponId(anyLong(), anyLong())).thenReturn(false);
-        lenient().when(couponIssueRepository.existsByUserIdAndCouponIdToday(anyLong(), anyLong())).thenReturn(false);
 
         // when & then
         assertThatThrownBy(() -> couponService.issueCoupon(999L, 1L))
@@ -128,15 +162,15 @@ class CouponServiceTest {
     @DisplayName("쿠폰 발급 실패 - 쿠폰 없음")
     void issueCoupon_CouponNotFound() {
         // given
-        given(userService.findById(1L)).willReturn(user);
-        given(redisService.tryIssueCoupon(999L, 1L)).willReturn(1L);
-        given(couponRepository.findByIdWithPessimisticLock(999L)).willReturn(Optional.empty());
+        given(userIdCache.exists(1L)).willReturn(true);
+        given(couponMetadataCache.get(999L)).willThrow(new IllegalArgumentException("존재하지 않는 쿠폰입니다. id=999"));
 
         // when & then
         assertThatThrownBy(() -> couponService.issueCoupon(1L, 999L))
                 .isInstanceOf(InternalServerException.class)
                 .hasMessageContaining("쿠폰 발급 처리 중 오류가 발생했습니다");
                 
+        verify(redisService, never()).tryIssueCoupon(anyLong(), anyLong());
         verify(couponRepository, never()).save(any());
         verify(couponIssueRepository, never()).save(any());
     }
@@ -145,10 +179,10 @@ class CouponServiceTest {
     @DisplayName("쿠폰 발급 성공")
     void issueCoupon_Success() {
         // given
-        given(couponRepository.findByIdWithPessimisticLock(1L)).willReturn(Optional.of(coupon));
-        given(userService.findById(1L)).willReturn(user);
-        given(couponIssueRepository.existsByUserIdAndCouponId(1L, 1L)).willReturn(false);
-        given(couponIssueRepository.existsByUserIdAndCouponIdToday(1L, 1L)).willReturn(false);
+        given(couponMetadataCache.get(1L)).willReturn(CouponMetadata.from(coupon));
+        given(couponRepository.decreaseRemainingQuantity(1L)).willReturn(1);
+        given(couponRepository.getReferenceById(1L)).willReturn(coupon);
+        given(userIdCache.exists(1L)).willReturn(true);
         given(redisService.tryIssueCoupon(1L, 1L)).willReturn(1L);
         
         // CouponIssue 저장 모킹
@@ -169,7 +203,123 @@ class CouponServiceTest {
         assertThat(response.getCouponId()).isEqualTo(1L);
         assertThat(response.getIssuedAt()).isNotNull();
         
+        verify(couponRepository).decreaseRemainingQuantity(1L);
         verify(couponIssueRepository).save(any(CouponIssue.class));
+        // DB 잔여 수량 차감과 발급 이력 저장만 트랜잭션으로 묶음
+        verify(transactionTemplate).execute(any());
+        // 쿠폰 행과 사용자 행은 발급마다 다시 읽지 않음
+        verify(couponRepository, never()).findById(anyLong());
+        verify(userService).getReference(1L);
+        verify(userService, never()).findById(anyLong());
+        // 중복 발급은 발급 스크립트가 확인하므로 DB를 조회하지 않음
+        verify(couponIssueRepository, never()).existsByUserIdAndCouponId(anyLong(), anyLong());
+        // 단계별 소요 시간과 발급 결과를 기록
+        verify(issueMetrics).recordPhase(eq(CouponIssueMetrics.Phase.USER_LOOKUP), anyLong());
+        verify(issueMetrics).recordPhase(eq(CouponIssueMetrics.Phase.REDIS_SCRIPT), anyLong());
+        verify(issueMetrics).recordPhase(eq(CouponIssueMetrics.Phase.DB_LOCK), anyLong());
+        verify(issueMetrics).recordPhase(eq(CouponIssueMetrics.Phase.INSERT), anyLong());
+        verify(issueMetrics).recordOutcome(CouponIssueMetrics.Outcome.ISSUED);
+    }
+
+    @Test
+    @DisplayName("쿠폰 발급 성공 - 잔여 수량을 모아서 반영하면 발급마다 UPDATE 하지 않음")
+    void issueCoupon_CoalescedStockFlush() {
+        // given
+        given(stockFlusher.isEnabled()).willReturn(true);
+        given(userIdCache.exists(1L)).willReturn(true);
+        given(redisService.tryIssueCoupon(1L, 1L)).willReturn(1L);
+        given(couponMetadataCache.get(1L)).willReturn(CouponMetadata.from(coupon));
+        given(couponRepository.getReferenceById(1L)).willReturn(coupon);
+        given(couponIssueRepository.save(any(CouponIssue.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        CouponIssueResponse response = couponService.issueCoupon(1L, 1L);
+
+        // then
+        assertThat(response.getCouponId()).isEqualTo(1L);
+        verify(stockFlusher).record(1L);
+        verify(couponRepository, never()).decreaseRemainingQuantity(anyLong());
+    }
+
+    @Test
+    @DisplayName("쿠폰 발급 성공 - write-behind 모드")
+    void issueCoupon_WriteBehind() {
+        // given
+        given(couponIssueWriter.isEnabled()).willReturn(true);
+        given(userIdCache.exists(1L)).willReturn(true);
+        given(redisService.tryIssueCoupon(1L, 1L)).willReturn(1L);
+        given(couponMetadataCache.get(1L)).willReturn(CouponMetadata.from(coupon));
+
+        // when
+        CouponIssueResponse response = couponService.issueCoupon(1L, 1L);
+
+        // then
+        assertThat(response.getId()).isNull();
+        assertThat(response.getUserId()).isEqualTo(1L);
+        assertThat(response.getCouponId()).isEqualTo(1L);
+        assertThat(response.getIssuedAt()).isNotNull();
+
+        verify(couponIssueWriter).enqueue(any(CouponIssueRecord.class));
+        verify(couponRepository, never()).decreaseRemainingQuantity(anyLong());
+        verify(couponIssueRepository, never()).save(any());
+        verify(couponIssueRepository, never()).existsByUserIdAndCouponId(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("쿠폰 발급 실패 - write-behind 모드에서 기간이 지난 쿠폰은 재고를 차감하지 않음")
+    void issueCoupon_WriteBehind_Expired() {
+        // given
+        ReflectionTestUtils.setField(coupon, "validTo", LocalDateTime.now().minusDays(1));
+        given(userIdCache.exists(1L)).willReturn(true);
+        given(couponMetadataCache.get(1L)).willReturn(CouponMetadata.from(coupon));
+
+        // when & then
+        assertThatThrownBy(() -> couponService.issueCoupon(1L, 1L))
+                .isInstanceOf(CouponExpiredException.class);
+
+        verify(redisService, never()).tryIssueCoupon(anyLong(), anyLong());
+        verify(couponIssueWriter, never()).enqueue(any());
+    }
+
+    @Test
+    @DisplayName("쿠폰 발급 성공 - 스트림 모드에서는 DB에 쓰지 않음")
+    void issueCoupon_Stream() {
+        // given
+        given(redisService.isIssueStreamEnabled()).willReturn(true);
+        given(userIdCache.exists(1L)).willReturn(true);
+        given(couponMetadataCache.get(1L)).willReturn(CouponMetadata.from(coupon));
+        given(redisService.tryIssueCoupon(1L, 1L)).willReturn(1L);
+
+        // when
+        CouponIssueResponse response = couponService.issueCoupon(1L, 1L);
+
+        // then
+        assertThat(response.getId()).isNull();
+        assertThat(response.getUserId()).isEqualTo(1L);
+        assertThat(response.getCouponId()).isEqualTo(1L);
+
+        verify(couponIssueRepository, never()).save(any());
+        verify(couponIssueRepository, never()).existsByUserIdAndCouponId(anyLong(), anyLong());
+        verify(couponIssueWriter, never()).enqueue(any());
+        // API 경로는 트랜잭션을 열지 않으므로 MySQL 커넥션을 사용하지 않음
+        verify(transactionTemplate, never()).execute(any());
+        verifyNoInteractions(couponRepository);
+    }
+
+    @Test
+    @DisplayName("쿠폰 발급 실패 - 스트림 모드에서 기간이 지난 쿠폰은 재고를 차감하지 않음")
+    void issueCoupon_Stream_Expired() {
+        // given
+        ReflectionTestUtils.setField(coupon, "validTo", LocalDateTime.now().minusDays(1));
+        given(redisService.isIssueStreamEnabled()).willReturn(true);
+        given(userIdCache.exists(1L)).willReturn(true);
+        given(couponMetadataCache.get(1L)).willReturn(CouponMetadata.from(coupon));
+
+        // when & then
+        assertThatThrownBy(() -> couponService.issueCoupon(1L, 1L))
+                .isInstanceOf(CouponExpiredException.class);
+
+        verify(redisService, never()).tryIssueCoupon(anyLong(), anyLong());
     }
 
     @Test
@@ -177,7 +327,7 @@ class CouponServiceTest {
     void issueCoupon_CouponExhausted() {
         // given
         // Set up the user and coupon
-        given(userService.findById(1L)).willReturn(user);
+        given(userIdCache.exists(1L)).willReturn(true);
         
         // Mock Redis to return -1, indicating the coupon is exhausted
         given(redisService.tryIssueCoupon(1L, 1L)).willReturn(-1L);
@@ -191,9 +341,44 @@ class CouponServiceTest {
         verify(couponRepository, never()).save(any());
         verify(couponIssueRepository, never()).save(any());
         
-        // Verify that existsByUserIdAndCouponId and existsByUserIdAndCouponIdToday were never called
+        // Verify that existsByUserIdAndCouponId was never called
         verify(couponIssueRepository, never()).existsByUserIdAndCouponId(anyLong(), anyLong());
-        verify(couponIssueRepository, never()).existsByUserIdAndCouponIdToday(anyLong(), anyLong());
+        
+        // 소진을 감지한 노드는 소진 표시를 남김
+        verify(soldOutRegistry).markSoldOut(1L);
+        verify(transactionTemplate, never()).execute(any());
+    }
+
+    @Test
+    @DisplayName("재고 임대 - 이 노드의 임대가 바닥나도 다른 노드가 임대 중이면 소진으로 알리지 않음")
+    void issueCoupon_LeaseExhausted_OtherNodesHoldLeases() {
+        // given
+        given(userIdCache.exists(1L)).willReturn(true);
+        given(stockLeaseManager.isEnabled()).willReturn(true);
+        given(stockLeaseManager.tryIssueCoupon(1L, 1L)).willReturn(-1L);
+        given(stockLeaseManager.isStockLeasedElsewhere(1L)).willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> couponService.issueCoupon(1L, 1L))
+                .isInstanceOf(CouponExhaustedException.class);
+        verify(soldOutRegistry, never()).markSoldOut(anyLong());
+    }
+
+    @Test
+    @DisplayName("쿠폰 발급 실패 - 소진 표시된 쿠폰은 조회 없이 거절")
+    void issueCoupon_SoldOutFastPath() {
+        // given
+        given(soldOutRegistry.isSoldOut(1L)).willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> couponService.issueCoupon(1L, 1L))
+                .isInstanceOf(CouponExhaustedException.class);
+
+        verify(userIdCache, never()).exists(anyLong());
+        verify(redisService, never()).tryIssueCoupon(anyLong(), anyLong());
+        // 소진 거절은 트랜잭션을 시작하지 않으므로 DB 커넥션을 사용하지 않음
+        verify(transactionTemplate, never()).execute(any());
+        verify(issueMetrics).recordOutcome(CouponIssueMetrics.Outcome.EXHAUSTED);
     }
 
     @Test
@@ -210,47 +395,44 @@ class CouponServiceTest {
         ReflectionTestUtils.setField(coupon, "id", 1L);
         ReflectionTestUtils.setField(coupon, "remainingQuantity", 100);
         
-        given(userService.findById(1L)).willReturn(user);
-        given(redisService.tryIssueCoupon(1L, 1L)).willReturn(1L);
-        given(couponRepository.findByIdWithPessimisticLock(1L)).willReturn(Optional.of(coupon));
-        // These stubs might not be called in this test path, so make them lenient
-        lenient().when(couponIssueRepository.existsByUserIdAndCouponId(1L, 1L)).thenReturn(false);
-        lenient().when(couponIssueRepository.existsByUserIdAndCouponIdToday(1L, 1L)).thenReturn(false);
+        given(userIdCache.exists(1L)).willReturn(true);
+        given(couponMetadataCache.get(1L)).willReturn(CouponMetadata.from(coupon));
 
         // when & then
         assertThatThrownBy(() -> couponService.issueCoupon(1L, 1L))
                 .isInstanceOf(CouponExpiredException.class)
                 .hasMessageContaining("만료된 쿠폰입니다");
                 
-        verify(couponRepository, never()).save(any());
+        // 기간 검증은 발급 스크립트보다 먼저 하므로 Redis 재고와 발급 기록이 바뀌지 않음
+        verify(redisService, never()).tryIssueCoupon(anyLong(), anyLong());
+        verify(couponRepository, never()).decreaseRemainingQuantity(anyLong());
         verify(couponIssueRepository, never()).save(any());
     }
 
     @Test
-    @DisplayName("쿠폰 발급 실패 - 일일 발급 한도 초과")
+    @DisplayName("쿠폰 발급 실패 - 기간 내 발급 횟수 초과")
     void issueCoupon_DailyLimitExceeded() {
         // given
-        given(userService.findById(1L)).willReturn(user);
-        given(redisService.tryIssueCoupon(1L, 1L)).willReturn(1L);
-        given(couponRepository.findByIdWithPessimisticLock(1L)).willReturn(Optional.of(coupon));
-        given(couponIssueRepository.existsByUserIdAndCouponId(1L, 1L)).willReturn(false);
-        // 일일 발급 한도 초과 설정
-        given(couponIssueRepository.existsByUserIdAndCouponIdToday(1L, 1L)).willReturn(true);
+        given(userIdCache.exists(1L)).willReturn(true);
+        // 발급 스크립트가 기간 내 발급 횟수 초과(-2)를 반환
+        given(redisService.tryIssueCoupon(1L, 1L)).willReturn(-2L);
 
         // when & then
         assertThatThrownBy(() -> couponService.issueCoupon(1L, 1L))
                 .isInstanceOf(DailyLimitExceededException.class)
-                .hasMessageContaining("하루에 한 번만 발급 가능한 쿠폰입니다");
+                .hasMessageContaining("발급 가능 횟수를 초과했습니다");
                 
-        verify(couponRepository, never()).save(any());
+        verify(couponRepository, never()).decreaseRemainingQuantity(anyLong());
         verify(couponIssueRepository, never()).save(any());
+        // 기간 내 발급 횟수 초과는 재고 소진으로 표시하지 않음
+        verify(soldOutRegistry, never()).markSoldOut(anyLong());
     }
     
     @Test
     @DisplayName("쿠폰 발급 실패 - 이미 발급받은 쿠폰")
     void issueCoupon_AlreadyIssued() {
         // given
-        given(userService.findById(1L)).willReturn(user);
+        given(userIdCache.exists(1L)).willReturn(true);
         // Redis가 0을 반환하면 이미 발급받은 쿠폰임을 의미
         given(redisService.tryIssueCoupon(1L, 1L)).willReturn(0L);
 
@@ -259,15 +441,16 @@ class CouponServiceTest {
                 .isInstanceOf(CouponAlreadyIssuedException.class)
                 .hasMessageContaining("이미 발급받은 쿠폰입니다");
                 
-        verify(couponRepository, never()).findByIdWithPessimisticLock(anyLong());
+        verify(couponRepository, never()).decreaseRemainingQuantity(anyLong());
         verify(couponIssueRepository, never()).save(any());
+        verify(issueMetrics).recordFailure(any(CouponAlreadyIssuedException.class));
     }
     
     @Test
     @DisplayName("쿠폰 발급 실패 - Redis 결과값 null")
     void issueCoupon_RedisResultNull() {
         // given
-        given(userService.findById(1L)).willReturn(user);
+        given(userIdCache.exists(1L)).willReturn(true);
         // Redis가 null을 반환하는 경우
         given(redisService.tryIssueCoupon(1L, 1L)).willReturn(null);
 
@@ -276,7 +459,7 @@ class CouponServiceTest {
                 .isInstanceOf(InternalServerException.class)
                 .hasMessageContaining("쿠폰 발급 처리 중 오류가 발생했습니다");
                 
-        verify(couponRepository, never()).findByIdWithPessimisticLock(anyLong());
+        verify(couponRepository, never()).decreaseRemainingQuantity(anyLong());
         verify(couponIssueRepository, never()).save(any());
     }
     
@@ -284,7 +467,7 @@ class CouponServiceTest {
     @DisplayName("쿠폰 발급 실패 - Redis 예상치 못한 결과값")
     void issueCoupon_RedisUnexpectedResult() {
         // given
-        given(userService.findById(1L)).willReturn(user);
+        given(userIdCache.exists(1L)).willReturn(true);
         // Redis가 예상치 못한 값(2)을 반환하는 경우
         given(redisService.tryIssueCoupon(1L, 1L)).willReturn(2L);
 
@@ -293,43 +476,47 @@ class CouponServiceTest {
                 .isInstanceOf(InternalServerException.class)
                 .hasMessageContaining("쿠폰 발급 처리 중 오류가 발생했습니다");
                 
-        verify(couponRepository, never()).findByIdWithPessimisticLock(anyLong());
+        verify(couponRepository, never()).decreaseRemainingQuantity(anyLong());
         verify(couponIssueRepository, never()).save(any());
     }
     
     @Test
-    @DisplayName("쿠폰 발급 성공 - Redis-DB 동기화 테스트")
-    void issueCoupon_SuccessWithSynchronization() {
+    @DisplayName("쿠폰 발급 실패 - DB 잔여 수량이 없으면 Redis 발급 기록을 되돌림")
+    void issueCoupon_DbStockExhausted() {
         // given
-        given(userService.findById(1L)).willReturn(user);
+        given(userIdCache.exists(1L)).willReturn(true);
         given(redisService.tryIssueCoupon(1L, 1L)).willReturn(1L);
-        given(couponRepository.findByIdWithPessimisticLock(1L)).willReturn(Optional.of(coupon));
-        given(couponIssueRepository.existsByUserIdAndCouponId(1L, 1L)).willReturn(false);
-        given(couponIssueRepository.existsByUserIdAndCouponIdToday(1L, 1L)).willReturn(false);
-        
-        // CouponIssue 저장 모킹
-        CouponIssue couponIssue = CouponIssue.builder()
-                .user(user)
-                .coupon(coupon)
-                .issuedAt(LocalDateTime.now())
-                .build();
-        ReflectionTestUtils.setField(couponIssue, "id", 1L);
-        given(couponIssueRepository.save(any(CouponIssue.class))).willReturn(couponIssue);
-        
-        // Redis와 DB 재고 불일치 시나리오
-        given(redisService.getRemainingCouponStock(1L)).willReturn(98); // Redis에는 98개
-        // DB에는 99개가 남았을 것으로 가정 (100-1)
+        given(couponMetadataCache.get(1L)).willReturn(CouponMetadata.from(coupon));
+        // 조건부 UPDATE가 아무 행도 바꾸지 못한 경우
+        given(couponRepository.decreaseRemainingQuantity(1L)).willReturn(0);
 
-        // when
-        CouponIssueResponse response = couponService.issueCoupon(1L, 1L);
+        // when & then
+        assertThatThrownBy(() -> couponService.issueCoupon(1L, 1L))
+                .isInstanceOf(CouponExhaustedException.class)
+                .hasMessageContaining("쿠폰이 모두 소진되었습니다");
+        
+        verify(redisService).removeCouponUser(1L, 1L);
+        verify(soldOutRegistry).markSoldOut(1L);
+        verify(couponIssueRepository, never()).save(any());
+    }
+    
+    @Test
+    @DisplayName("쿠폰 발급 실패 - 발급 이력 저장 중 오류가 나면 Redis 발급을 재고까지 되돌림")
+    void issueCoupon_PersistFailure_ReleasesClaim() {
+        // given
+        given(userIdCache.exists(1L)).willReturn(true);
+        given(redisService.tryIssueCoupon(1L, 1L)).willReturn(1L);
+        given(couponRepository.decreaseRemainingQuantity(1L)).willReturn(1);
+        given(couponRepository.getReferenceById(1L)).willReturn(coupon);
+        given(couponIssueRepository.save(any(CouponIssue.class)))
+                .willThrow(new DataIntegrityViolationException("duplicate"));
 
-        // then
-        assertThat(response).isNotNull();
-        assertThat(response.getUserId()).isEqualTo(1L);
-        assertThat(response.getCouponId()).isEqualTo(1L);
+        // when & then
+        assertThatThrownBy(() -> couponService.issueCoupon(1L, 1L))
+                .isInstanceOf(InternalServerException.class);
         
-        // Redis-DB 동기화 확인
-        verify(redisService).initializeCouponStock(eq(1L), eq(99));
+        verify(redisService).releaseCouponClaim(1L, 1L);
+        verify(soldOutRegistry, never()).markSoldOut(anyLong());
     }
     
     @Test
@@ -387,4 +574,21 @@ class CouponServiceTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("존재하지 않는 사용자입니다. id=999");
     }
+
+    @Test
+    @DisplayName("쿠폰 목록은 메타데이터 캐시와 Redis 재고로 만들고 DB를 조회하지 않음")
+    void getAllCoupons_FromCache() {
+        // given
+        given(couponMetadataCache.getAll()).willReturn(List.of(CouponMetadata.from(coupon)));
+        given(redisService.getCouponStockSnapshots(List.of(1L)))
+                .willReturn(List.of(new CouponStockSnapshot(1L, List.of("42"), 0)));
+
+        // when
+        List<CouponResponse> responses = couponService.getAllCoupons();
+
+        // then
+        assertThat(responses).hasSize(1);
+        assertThat(responses.get(0).getRemainingQuantity()).isEqualTo(42);
+        verify(couponRepository, never()).findAll();
+    }
 }
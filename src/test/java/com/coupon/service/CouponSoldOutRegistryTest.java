@@ -0,0 +1,101 @@
+package com.coupon.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CouponSoldOutRegistryTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    private CouponSoldOutRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new CouponSoldOutRegistry(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("소진 표시는 처음 한 번만 다른 노드에 알림")
+    void markSoldOut_PublishesOnce() {
+        // when
+        registry.markSoldOut(1L);
+        registry.markSoldOut(1L);
+
+        // then
+        assertThat(registry.isSoldOut(1L)).isTrue();
+        verify(redisTemplate, times(1)).convertAndSend(CouponSoldOutRegistry.CHANNEL, "EXHAUSTED:1");
+    }
+
+    @Test
+    @DisplayName("소진 표시를 지우면 이 노드가 표시를 가지고 있지 않았어도 다른 노드에 복구를 알림")
+    void clear_PublishesAvailable() {
+        // given
+        registry.markSoldOut(1L);
+
+        // when
+        registry.clear(1L);
+        registry.clear(2L);
+
+        // then
+        assertThat(registry.isSoldOut(1L)).isFalse();
+        verify(redisTemplate).convertAndSend(CouponSoldOutRegistry.CHANNEL, "AVAILABLE:1");
+        verify(redisTemplate).convertAndSend(CouponSoldOutRegistry.CHANNEL, "AVAILABLE:2");
+    }
+
+    @Test
+    @DisplayName("소진 표시는 유지 시간이 지나면 사라지고, 다시 소진을 감지하면 다시 알림")
+    void isSoldOut_FlagExpires() {
+        // given: 유지 시간 0ms로 표시가 즉시 만료
+        ReflectionTestUtils.setField(registry, "flagTtlMillis", 0L);
+        registry.onMessage(message("EXHAUSTED:4"), null);
+
+        // when & then
+        assertThat(registry.isSoldOut(4L)).isFalse();
+
+        // when
+        registry.markSoldOut(4L);
+
+        // then
+        verify(redisTemplate).convertAndSend(CouponSoldOutRegistry.CHANNEL, "EXHAUSTED:4");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 알림을 받으면 다시 알리지 않고 표시만 갱신")
+    void onMessage_UpdatesLocalFlag() {
+        // when
+        registry.onMessage(message("EXHAUSTED:3"), null);
+
+        // then
+        assertThat(registry.isSoldOut(3L)).isTrue();
+
+        // when
+        registry.onMessage(message("AVAILABLE:3"), null);
+
+        // then
+        assertThat(registry.isSoldOut(3L)).isFalse();
+        verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(
+                CouponSoldOutRegistry.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,174 @@
+package com.coupon.service;
+
+import com.coupon.repository.CouponRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CouponStockFlusherTest {
+
+    private static final String NODE_ID = "node-1";
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @TempDir
+    Path tempDir;
+
+    private CouponStockFlusher newFlusher(int maxPending) {
+        CouponStockFlusher flusher = new CouponStockFlusher(
+                couponRepository, true, maxPending, tempDir.toString(), NODE_ID);
+        flusher.start();
+        return flusher;
+    }
+
+    @Test
+    @DisplayName("쿠폰별로 모은 발급 건수를 한 번의 UPDATE로 반영")
+    void flush_AggregatesPerCoupon() {
+        // given
+        CouponStockFlusher flusher = newFlusher(1000);
+        for (int i = 0; i < 5; i++) {
+            flusher.record(1L);
+        }
+        flusher.record(2L);
+
+        // when
+        flusher.flush();
+
+        // then
+        verify(couponRepository).decreaseRemainingQuantityBy(1L, 5);
+        verify(couponRepository).decreaseRemainingQuantityBy(2L, 1);
+        assertThat(flusher.getTotalFlushed()).isEqualTo(6);
+        assertThat(flusher.getFlushedUpdates()).isEqualTo(2);
+        assertThat(flusher.getPendingCount(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("쌓인 건수가 기준에 닿으면 주기를 기다리지 않고 반영")
+    void record_FlushesWhenMaxPendingReached() {
+        // given
+        CouponStockFlusher flusher = newFlusher(3);
+
+        // when
+        flusher.record(1L);
+        flusher.record(1L);
+        flusher.record(1L);
+
+        // then
+        verify(couponRepository).decreaseRemainingQuantityBy(1L, 3);
+    }
+
+    @Test
+    @DisplayName("DB 반영에 실패한 수량은 다음 주기에 다시 반영")
+    void flush_RetriesAfterFailure() {
+        // given
+        CouponStockFlusher flusher = newFlusher(1000);
+        flusher.record(1L);
+        flusher.record(1L);
+        given(couponRepository.decreaseRemainingQuantityBy(1L, 2))
+                .willThrow(new DataAccessResourceFailureException("DB down"))
+                .willReturn(1);
+
+        // when
+        flusher.flush();
+
+        // then
+        assertThat(flusher.getPendingCount(1L)).isEqualTo(2);
+
+        // when
+        flusher.flush();
+
+        // then
+        verify(couponRepository, times(2)).decreaseRemainingQuantityBy(1L, 2);
+        assertThat(flusher.getPendingCount(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("재시작하면 저널에 남은 미반영 수량을 DB에 반영")
+    void start_RecoversUnflushedJournal() throws Exception {
+        // given: 발급 3건 중 2건만 반영된 뒤 비정상 종료된 저널
+        Path journal = tempDir.resolve("coupon-stock-flush-" + NODE_ID + ".journal");
+        Files.write(journal, List.of("C 1", "C 1", "C 1", "A 1 2", "C 2", "A 2 1", "C 3 4", "A 3 1", "C"));
+
+        // when
+        newFlusher(1000);
+
+        // then
+        verify(couponRepository).decreaseRemainingQuantityBy(1L, 1);
+        verify(couponRepository).decreaseRemainingQuantityBy(3L, 3);
+        verify(couponRepository, never()).decreaseRemainingQuantityBy(2L, 0);
+        assertThat(Files.readAllLines(journal)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 기록하면 커밋된 뒤에 저널과 카운터에 반영")
+    void record_InTransaction_DefersUntilCommit() {
+        // given
+        CouponStockFlusher flusher = newFlusher(1000);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            flusher.record(1L);
+
+            // then
+            assertThat(flusher.getPendingCount(1L)).isZero();
+
+            // when
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            // then
+            assertThat(flusher.getPendingCount(1L)).isEqualTo(1);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("여러 건은 저널 한 줄로 기록하고, 저널 파일은 노드 ID로 구분")
+    void record_Count_WritesSingleLinePerNodeJournal() throws Exception {
+        // given
+        CouponStockFlusher flusher = newFlusher(1000);
+
+        // when
+        flusher.record(1L, 3);
+
+        // then
+        assertThat(flusher.getJournalPath()).isEqualTo(tempDir.resolve("coupon-stock-flush-node-1.journal"));
+        assertThat(Files.readAllLines(flusher.getJournalPath())).containsExactly("C 1 3");
+        assertThat(flusher.getPendingCount(1L)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("비활성화되어 있으면 아무것도 반영하지 않음")
+    void flush_Disabled() {
+        // given
+        CouponStockFlusher flusher = new CouponStockFlusher(
+                couponRepository, false, 1000, tempDir.toString(), NODE_ID);
+        flusher.start();
+
+        // when
+        flusher.flush();
+
+        // then
+        verify(couponRepository, never()).decreaseRemainingQuantityBy(anyLong(), anyInt());
+    }
+}
@@ -0,0 +1,171 @@
+package com.coupon.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CouponStockLeaseManagerTest {
+
+    private static final String NODE_ID = "node-1";
+
+    @Mock
+    private RedisService redisService;
+
+    private CouponStockLeaseManager leaseManager;
+
+    @BeforeEach
+    void setUp() {
+        leaseManager = new CouponStockLeaseManager(redisService, true, NODE_ID, 5, 1, 100, 1000, 0, 10000);
+    }
+
+    @Test
+    @DisplayName("한 번 임대한 재고로 여러 건을 Redis 재고 차감 없이 발급")
+    void tryIssueCoupon_UsesLocalLease() {
+        // given
+        given(redisService.leaseCouponStock(eq(1L), eq(5), eq(NODE_ID), anyLong())).willReturn(5);
+        given(redisService.tryRegisterCouponUser(eq(1L), anyLong())).willReturn(1L);
+
+        // when
+        for (long userId = 1; userId <= 5; userId++) {
+            assertThat(leaseManager.tryIssueCoupon(1L, userId)).isEqualTo(1L);
+        }
+
+        // then
+        verify(redisService, times(1)).leaseCouponStock(eq(1L), anyInt(), eq(NODE_ID), anyLong());
+        verify(redisService, never()).tryIssueCoupon(anyLong(), anyLong());
+        assertThat(leaseManager.getLocalRemaining(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("이미 발급된 사용자면 가져온 재고를 임대분에 되돌림")
+    void tryIssueCoupon_Duplicate_GivesBackUnit() {
+        // given
+        given(redisService.leaseCouponStock(eq(1L), eq(5), eq(NODE_ID), anyLong())).willReturn(5);
+        given(redisService.tryRegisterCouponUser(1L, 1L)).willReturn(0L);
+
+        // when
+        Long result = leaseManager.tryIssueCoupon(1L, 1L);
+
+        // then
+        assertThat(result).isZero();
+        assertThat(leaseManager.getLocalRemaining(1L)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("더 이상 임대할 재고가 없으면 재고 부족")
+    void tryIssueCoupon_NoStockToLease() {
+        // given
+        given(redisService.leaseCouponStock(eq(1L), eq(5), eq(NODE_ID), anyLong())).willReturn(0);
+
+        // when
+        Long result = leaseManager.tryIssueCoupon(1L, 1L);
+
+        // then
+        assertThat(result).isEqualTo(-1L);
+        verify(redisService, never()).tryRegisterCouponUser(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("임대 기간이 지나면 남은 재고를 반납")
+    void returnExpiredLeases_ReturnsUnusedUnits() {
+        // given: 임대 기간 0ms로 즉시 만료
+        given(redisService.leaseCouponStock(eq(1L), eq(5), eq(NODE_ID), anyLong())).willReturn(5);
+        given(redisService.tryRegisterCouponUser(1L, 1L)).willReturn(1L);
+        leaseManager.tryIssueCoupon(1L, 1L);
+
+        // when
+        leaseManager.returnExpiredLeases();
+
+        // then
+        verify(redisService).returnCouponStock(1L, 4, NODE_ID);
+        assertThat(leaseManager.getLocalRemaining(1L)).isZero();
+        assertThat(leaseManager.getTotalReturned()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("쿠폰 만료 시 임대분을 반납하지 않고 버림")
+    void releaseLease_Discard() {
+        // given
+        given(redisService.leaseCouponStock(eq(1L), eq(5), eq(NODE_ID), anyLong())).willReturn(5);
+        given(redisService.tryRegisterCouponUser(1L, 1L)).willReturn(1L);
+        leaseManager.tryIssueCoupon(1L, 1L);
+
+        // when
+        leaseManager.releaseLease(1L, false);
+
+        // then: 재고는 반납하지 않고 장부 항목만 지움
+        verify(redisService).returnCouponStock(1L, 0, NODE_ID);
+        verify(redisService, never()).returnCouponStock(eq(1L), eq(4), anyString());
+        assertThat(leaseManager.getLocalRemaining(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("임대분을 모두 사용했어도 임대 기간이 지나면 장부 항목을 지움")
+    void returnExpiredLeases_DrainedToZero_ReleasesLedgerEntry() {
+        // given
+        given(redisService.leaseCouponStock(eq(1L), eq(5), eq(NODE_ID), anyLong())).willReturn(1);
+        given(redisService.tryRegisterCouponUser(1L, 1L)).willReturn(1L);
+        leaseManager.tryIssueCoupon(1L, 1L);
+
+        // when: 두 번째 주기에는 이미 지웠으므로 다시 호출하지 않음
+        leaseManager.returnExpiredLeases();
+        leaseManager.returnExpiredLeases();
+
+        // then
+        verify(redisService, times(1)).returnCouponStock(1L, 0, NODE_ID);
+    }
+
+    @Test
+    @DisplayName("처리 중에 임대분이 반납되었으면 되돌린 재고는 임대분에 더하지 않고 다음 주기에 반납")
+    void tryIssueCoupon_GiveBackAfterReturn_ReturnsOrphanedUnit() {
+        // given: 사용자 확인 중에 반납 주기가 돌아 남은 4개를 반납
+        given(redisService.leaseCouponStock(eq(1L), eq(5), eq(NODE_ID), anyLong())).willReturn(5);
+        given(redisService.tryRegisterCouponUser(1L, 1L)).willAnswer(invocation -> {
+            leaseManager.returnExpiredLeases();
+            return 0L;
+        });
+
+        // when
+        Long result = leaseManager.tryIssueCoupon(1L, 1L);
+        leaseManager.returnExpiredLeases();
+
+        // then
+        assertThat(result).isZero();
+        verify(redisService).returnCouponStock(1L, 4, NODE_ID);
+        verify(redisService).returnCouponStock(1L, 1, NODE_ID);
+        assertThat(leaseManager.getLocalRemaining(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("장부 항목이 만료된 뒤에는 남은 재고를 반납하지 않고 버림")
+    void returnExpiredLeases_LedgerExpired_Discards() {
+        // given: 유예 시간 0ms로 장부 항목도 즉시 만료
+        CouponStockLeaseManager expiringManager =
+                new CouponStockLeaseManager(redisService, true, NODE_ID, 5, 1, 100, 1000, 0, 0);
+        given(redisService.leaseCouponStock(eq(1L), eq(5), eq(NODE_ID), anyLong())).willReturn(5);
+        given(redisService.tryRegisterCouponUser(1L, 1L)).willReturn(1L);
+        expiringManager.tryIssueCoupon(1L, 1L);
+
+        // when
+        expiringManager.returnExpiredLeases();
+
+        // then
+        verify(redisService).returnCouponStock(1L, 0, NODE_ID);
+        verify(redisService, never()).returnCouponStock(eq(1L), eq(4), anyString());
+        assertThat(expiringManager.getLocalRemaining(1L)).isZero();
+    }
+}
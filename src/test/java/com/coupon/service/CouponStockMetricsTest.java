@@ -0,0 +1,81 @@
+package com.coupon.service;
+
+import com.coupon.domain.coupon.ClaimWindow;
+import com.coupon.domain.coupon.CouponMetadata;
+import com.coupon.domain.coupon.CouponStatus;
+import com.coupon.domain.coupon.CouponStockSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class CouponStockMetricsTest {
+
+    @Mock
+    private CouponMetadataCache couponMetadataCache;
+
+    @Mock
+    private RedisService redisService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CouponStockMetrics stockMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        stockMetrics = new CouponStockMetrics(couponMetadataCache, redisService, meterRegistry, true);
+    }
+
+    @Test
+    @DisplayName("활성 쿠폰만 잔여 재고 게이지로 노출")
+    void refresh_ActiveCouponsOnly() {
+        // given
+        given(couponMetadataCache.getAll()).willReturn(List.of(
+                coupon(1L, CouponStatus.ACTIVE), coupon(2L, CouponStatus.EXHAUSTED)));
+        given(redisService.getCouponStockSnapshots(List.of(1L)))
+                .willReturn(List.of(new CouponStockSnapshot(1L, List.of("30", "12"), 0)));
+
+        // when
+        stockMetrics.refresh();
+
+        // then
+        assertThat(meterRegistry.get(CouponStockMetrics.REMAINING_GAUGE).tag("couponId", "1").gauge().value())
+                .isEqualTo(42);
+        assertThat(meterRegistry.find(CouponStockMetrics.REMAINING_GAUGE).tag("couponId", "2").gauge()).isNull();
+    }
+
+    @Test
+    @DisplayName("비활성으로 바뀐 쿠폰의 게이지는 다음 갱신에서 제거")
+    void refresh_RemovesInactiveCoupons() {
+        // given
+        given(couponMetadataCache.getAll())
+                .willReturn(List.of(coupon(1L, CouponStatus.ACTIVE)))
+                .willReturn(List.of(coupon(1L, CouponStatus.EXPIRED)));
+        given(redisService.getCouponStockSnapshots(List.of(1L)))
+                .willReturn(List.of(new CouponStockSnapshot(1L, List.of("5"), 0)));
+        given(redisService.getCouponStockSnapshots(List.of())).willReturn(List.of());
+        stockMetrics.refresh();
+
+        // when
+        stockMetrics.refresh();
+
+        // then
+        assertThat(meterRegistry.find(CouponStockMetrics.REMAINING_GAUGE).tag("couponId", "1").gauge()).isNull();
+    }
+
+    private CouponMetadata coupon(Long id, CouponStatus status) {
+        return new CouponMetadata(id, "테스트 쿠폰", 100,
+                LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1), status,
+                1, LocalDateTime.now().minusDays(2), ClaimWindow.NONE);
+    }
+}
@@ -0,0 +1,193 @@
+package com.coupon.service;
+
+import com.coupon.domain.coupon.Coupon;
+import com.coupon.domain.coupon.CouponStockSnapshot;
+import com.coupon.dto.coupon.StockReconciliationResponse;
+import com.coupon.repository.CouponIssueRepository;
+import com.coupon.repository.CouponRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CouponStockReconcilerTest {
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private CouponIssueRepository couponIssueRepository;
+
+    @Mock
+    private RedisService redisService;
+
+    @Mock
+    private CouponSoldOutRegistry soldOutRegistry;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    private CouponStockReconciler reconciler;
+    private Coupon coupon;
+
+    @BeforeEach
+    void setUp() {
+        reconciler = new CouponStockReconciler(couponRepository, couponIssueRepository, redisService,
+                soldOutRegistry, redisTemplate, true, 60000, 100, 0);
+        coupon = Coupon.builder()
+                .title("테스트 쿠폰")
+                .totalQuantity(100)
+                .validFrom(LocalDateTime.now().minusDays(1))
+                .validTo(LocalDateTime.now().plusDays(1))
+                .build();
+        ReflectionTestUtils.setField(coupon, "id", 1L);
+        given(couponRepository.findById(1L)).willReturn(Optional.of(coupon));
+    }
+
+    @Test
+    @DisplayName("Redis 재고가 발급 이력 기준과 같으면 보정하지 않음")
+    void reconcile_NoDrift() {
+        // given
+        givenIssuedCounts(10L);
+        givenSnapshots(snapshot("90", 0));
+
+        // when
+        StockReconciliationResponse response = reconciler.reconcile(1L);
+
+        // then
+        assertThat(response.getDriftedCoupons()).isZero();
+        verify(redisService, never()).compareAndSetCouponStock(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("다시 읽어도 그대로인 초과 재고는 발급 이력 기준으로 낮춤")
+    void reconcile_StableDrift_Repairs() {
+        // given: 발급 10건인데 Redis 재고가 95
+        givenIssuedCounts(10L, 10L);
+        CouponStockSnapshot snapshot = snapshot("95", 0);
+        givenSnapshots(snapshot, snapshot);
+        given(redisService.compareAndSetCouponStock(snapshot, 90)).willReturn(true);
+
+        // when
+        StockReconciliationResponse response = reconciler.reconcile(1L);
+
+        // then
+        assertThat(response.getRepairedCoupons()).isEqualTo(1);
+        assertThat(response.getDrifts().get(0).getDrift()).isEqualTo(5);
+        assertThat(reconciler.getRepairedUnits()).isEqualTo(5);
+        assertThat(reconciler.getCurrentDrifts()).isEmpty();
+        verify(soldOutRegistry, never()).clear(any());
+    }
+
+    @Test
+    @DisplayName("Redis 재고가 발급 이력 기준보다 적으면 저장 지연일 수 있으므로 올리지 않고 기록만 함")
+    void reconcile_MissingStock_ReportedOnly() {
+        // given: 발급 10건인데 Redis 재고가 85 (아직 저장되지 않은 발급 5건일 수 있음)
+        givenIssuedCounts(10L, 10L);
+        CouponStockSnapshot snapshot = snapshot("85", 0);
+        givenSnapshots(snapshot, snapshot);
+
+        // when
+        StockReconciliationResponse response = reconciler.reconcile(1L);
+
+        // then
+        assertThat(response.getDriftedCoupons()).isEqualTo(1);
+        assertThat(response.getRepairedCoupons()).isZero();
+        assertThat(reconciler.getCurrentDrifts()).containsEntry(1L, -5L);
+        assertThat(reconciler.getSkippedCoupons()).isEqualTo(1);
+        verify(redisService, never()).compareAndSetCouponStock(any(), anyInt());
+        verify(soldOutRegistry, never()).clear(any());
+    }
+
+    @Test
+    @DisplayName("다시 읽었을 때 발급 이력이 따라잡았으면 보정하지 않음")
+    void reconcile_TransientDrift_Ignored() {
+        // given: 아직 저장되지 않은 발급 5건이 잠시 뒤 저장됨
+        givenIssuedCounts(5L, 10L);
+        CouponStockSnapshot snapshot = snapshot("90", 0);
+        givenSnapshots(snapshot, snapshot);
+
+        // when
+        StockReconciliationResponse response = reconciler.reconcile(1L);
+
+        // then
+        assertThat(response.getDriftedCoupons()).isZero();
+        verify(redisService, never()).compareAndSetCouponStock(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("두 번 읽는 사이 발급이 계속되면 차이를 기록만 하고 보정하지 않음")
+    void reconcile_ActiveCoupon_Skipped() {
+        // given
+        givenIssuedCounts(10L, 11L);
+        givenSnapshots(snapshot("95", 0), snapshot("94", 0));
+
+        // when
+        StockReconciliationResponse response = reconciler.reconcile(1L);
+
+        // then
+        assertThat(response.getDriftedCoupons()).isEqualTo(1);
+        assertThat(response.getRepairedCoupons()).isZero();
+        assertThat(reconciler.getCurrentDrifts()).containsEntry(1L, 5L);
+        verify(redisService, never()).compareAndSetCouponStock(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("재고를 임대 중인 쿠폰은 보정하지 않음")
+    void reconcile_ActiveLeases_Skipped() {
+        // given
+        givenIssuedCounts(10L, 10L);
+        CouponStockSnapshot snapshot = snapshot("80", 1);
+        givenSnapshots(snapshot, snapshot);
+
+        // when
+        StockReconciliationResponse response = reconciler.reconcile(1L);
+
+        // then
+        assertThat(response.getRepairedCoupons()).isZero();
+        assertThat(reconciler.getSkippedCoupons()).isEqualTo(1);
+        verify(redisService, never()).compareAndSetCouponStock(any(), anyInt());
+    }
+
+    private void givenIssuedCounts(Long first, Long... rest) {
+        List<Object[]> firstRows = new ArrayList<>();
+        firstRows.add(new Object[] {1L, first});
+        List<Object[]>[] restRows = new List[rest.length];
+        for (int i = 0; i < rest.length; i++) {
+            List<Object[]> rows = new ArrayList<>();
+            rows.add(new Object[] {1L, rest[i]});
+            restRows[i] = rows;
+        }
+        given(couponIssueRepository.countByCouponIds(anyList())).willReturn(firstRows, restRows);
+    }
+
+    private void givenSnapshots(CouponStockSnapshot first, CouponStockSnapshot... rest) {
+        List<CouponStockSnapshot>[] restSnapshots = new List[rest.length];
+        for (int i = 0; i < rest.length; i++) {
+            restSnapshots[i] = List.of(rest[i]);
+        }
+        given(redisService.getCouponStockSnapshots(anyList())).willReturn(List.of(first), restSnapshots);
+    }
+
+    private CouponStockSnapshot snapshot(String stock, long leases) {
+        return new CouponStockSnapshot(1L, List.of(stock), leases);
+    }
+}
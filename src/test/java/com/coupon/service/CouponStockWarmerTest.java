@@ -0,0 +1,145 @@
+package com.coupon.service;
+
+import com.coupon.domain.coupon.Coupon;
+import com.coupon.domain.coupon.CouponStatus;
+import com.coupon.repository.CouponIssueRepository;
+import com.coupon.repository.CouponRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CouponStockWarmerTest {
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private CouponIssueRepository couponIssueRepository;
+
+    @Mock
+    private RedisService redisService;
+
+    @Mock
+    private CouponMetadataCache couponMetadataCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private CouponStockWarmer warmer;
+
+    @BeforeEach
+    void setUp() {
+        warmer = new CouponStockWarmer(couponRepository, couponIssueRepository, redisService,
+                couponMetadataCache, eventPublisher, true, 2, 60000);
+    }
+
+    @Test
+    @DisplayName("활성 쿠폰을 페이지 단위로 읽어 페이지마다 한 번씩 재고를 채움")
+    void warmUpActiveCoupons_Paged() {
+        // given
+        Coupon first = coupon(1L, 100);
+        Coupon second = coupon(2L, 50);
+        Coupon third = coupon(3L, 10);
+        Pageable firstPage = PageRequest.of(0, 2);
+        given(couponRepository.findByStatus(eq(CouponStatus.ACTIVE), any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of(first, second), firstPage, true),
+                        new SliceImpl<>(List.of(third), firstPage.next(), false));
+        given(couponIssueRepository.countByCouponIds(anyList())).willReturn(new ArrayList<>());
+        given(redisService.warmCouponStocks(anyList(), any())).willReturn(List.of(1L, 2L), List.of(3L));
+
+        // when
+        int warmed = warmer.warmUpActiveCoupons();
+
+        // then
+        assertThat(warmed).isEqualTo(3);
+        assertThat(warmer.isWarmedUp()).isTrue();
+        verify(redisService, times(2)).warmCouponStocks(anyList(), any());
+        verify(couponMetadataCache).put(third);
+    }
+
+    @Test
+    @DisplayName("DB 잔여 수량과 발급 이력 중 더 적은 수량으로 채움")
+    void warm_UsesSmallerRemaining() {
+        // given: 잔여 수량은 90으로 기록되어 있지만 발급 이력은 15건
+        Coupon coupon = coupon(1L, 100);
+        ReflectionTestUtils.setField(coupon, "remainingQuantity", 90);
+        List<Object[]> counts = new ArrayList<>();
+        counts.add(new Object[] {1L, 15L});
+        given(couponIssueRepository.countByCouponIds(anyList())).willReturn(counts);
+        given(redisService.warmCouponStocks(anyList(), any())).willReturn(List.of(1L));
+
+        // when
+        warmer.warm(List.of(coupon));
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<Long, Integer>> remaining = ArgumentCaptor.forClass(Map.class);
+        verify(redisService).warmCouponStocks(eq(List.of(coupon)), remaining.capture());
+        assertThat(remaining.getValue()).containsEntry(1L, 85);
+    }
+
+    @Test
+    @DisplayName("시작 시 채우기가 끝나기 전에는 트래픽 수신 상태로 바뀌어도 거부 상태로 돌려 둠")
+    void onReadinessChanged_HoldsUntilWarmedUp() {
+        // when
+        warmer.onReadinessChanged(new AvailabilityChangeEvent<>(this, ReadinessState.ACCEPTING_TRAFFIC));
+
+        // then
+        ArgumentCaptor<AvailabilityChangeEvent> event = ArgumentCaptor.forClass(AvailabilityChangeEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getState()).isEqualTo(ReadinessState.REFUSING_TRAFFIC);
+    }
+
+    @Test
+    @DisplayName("채우기가 끝난 뒤에는 readiness를 바꾸지 않음")
+    void onReadinessChanged_AfterWarmUp() {
+        // given
+        given(couponRepository.findByStatus(eq(CouponStatus.ACTIVE), any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 2), false));
+        warmer.warmUpActiveCoupons();
+
+        // when
+        warmer.onReadinessChanged(new AvailabilityChangeEvent<>(this, ReadinessState.ACCEPTING_TRAFFIC));
+
+        // then
+        verify(eventPublisher, never()).publishEvent(any(ApplicationEvent.class));
+    }
+
+    private Coupon coupon(Long id, int quantity) {
+        Coupon coupon = Coupon.builder()
+                .title("쿠폰" + id)
+                .totalQuantity(quantity)
+                .validFrom(LocalDateTime.now().minusDays(1))
+                .validTo(LocalDateTime.now().plusDays(1))
+                .build();
+        ReflectionTestUtils.setField(coupon, "id", id);
+        return coupon;
+    }
+}
@@ -0,0 +1,239 @@
+package com.coupon.service;
+
+import com.coupon.dto.coupon.WaitingRoomStatusResponse;
+import com.coupon.exception.AdmissionRequiredException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CouponWaitingRoomServiceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private RedisService redisService;
+
+    private CouponWaitingRoomService waitingRoomService;
+
+    @BeforeEach
+    void setUp() {
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(redisTemplate.opsForSet()).willReturn(setOperations);
+        given(redisTemplate.<Object, Object>opsForHash()).willReturn(hashOperations);
+        waitingRoomService = new CouponWaitingRoomService(
+                redisTemplate, redisService, true, 1000, 30, 2, 1, 100);
+    }
+
+    @Test
+    @DisplayName("대기열에 들어가면 도착 순서대로 순번을 받음")
+    void enter_ReturnsPosition() {
+        // given
+        given(zSetOperations.zCard("coupon:1:waiting")).willReturn(5L);
+        given(zSetOperations.rank("coupon:1:waiting", "7")).willReturn(4L);
+
+        // when
+        WaitingRoomStatusResponse status = waitingRoomService.enter(1L, 7L);
+
+        // then
+        verify(zSetOperations).addIfAbsent(eq("coupon:1:waiting"), eq("7"), anyDouble());
+        verify(setOperations).add("coupon:waiting:active", "1");
+        assertThat(status.isAdmitted()).isFalse();
+        assertThat(status.getPosition()).isEqualTo(5L);
+        assertThat(status.getWaitingCount()).isEqualTo(5L);
+        // 한 주기에 2명씩 입장하므로 5번째는 3주기 뒤
+        assertThat(status.getEstimatedWaitSeconds()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("입장이 허용된 사용자는 입장 토큰을 받음")
+    void getStatus_Admitted() {
+        // given
+        given(valueOperations.get("coupon:1:admission:7")).willReturn("token-7");
+
+        // when
+        WaitingRoomStatusResponse status = waitingRoomService.getStatus(1L, 7L);
+
+        // then
+        assertThat(status.isAdmitted()).isTrue();
+        assertThat(status.getAdmissionToken()).isEqualTo("token-7");
+    }
+
+    @Test
+    @DisplayName("대기열 앞에서부터 남은 재고를 넘지 않는 인원만 입장시킴")
+    void admitBatch_CappedByRemainingStock() {
+        // given
+        given(redisService.getRemainingCouponStock(1L)).willReturn(1);
+        Set<TypedTuple<String>> head = new LinkedHashSet<>();
+        head.add(new DefaultTypedTuple<>("7", 1.0));
+        given(zSetOperations.popMin("coupon:1:waiting", 1)).willReturn(head);
+
+        // when
+        int admitted = waitingRoomService.admitBatch(1L);
+
+        // then
+        assertThat(admitted).isEqualTo(1);
+        verify(valueOperations).set(eq("coupon:1:admission:7"), anyString(), eq(Duration.ofSeconds(30)));
+    }
+
+    @Test
+    @DisplayName("재고 키가 비어도 노드가 임대한 재고가 있으면 그만큼 입장시킴")
+    void admitBatch_IncludesLeasedStock() {
+        // given: 재고를 모두 노드가 임대해 간 상태
+        given(redisService.getRemainingCouponStock(1L)).willReturn(0);
+        given(redisService.getActiveLeasedStock(1L)).willReturn(1L);
+        Set<TypedTuple<String>> head = new LinkedHashSet<>();
+        head.add(new DefaultTypedTuple<>("7", 1.0));
+        given(zSetOperations.popMin("coupon:1:waiting", 1)).willReturn(head);
+
+        // when
+        int admitted = waitingRoomService.admitBatch(1L);
+
+        // then
+        assertThat(admitted).isEqualTo(1);
+        verify(valueOperations).set(eq("coupon:1:admission:7"), anyString(), eq(Duration.ofSeconds(30)));
+    }
+
+    @Test
+    @DisplayName("재고가 없으면 입장시키지 않음")
+    void admitBatch_SoldOut() {
+        // given
+        given(redisService.getRemainingCouponStock(1L)).willReturn(0);
+
+        // when
+        int admitted = waitingRoomService.admitBatch(1L);
+
+        // then
+        assertThat(admitted).isZero();
+        verify(zSetOperations, never()).popMin(anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("직전 입장 주기 기록은 Redis에서 읽으므로 다른 노드가 입장시킨 기록으로 인원을 정함")
+    void admitBatch_UsesWindowFromRedis() {
+        // given: 직전 주기에 다른 노드가 4명을 입장시켰고 재고가 100에서 96으로 줄어듦
+        given(hashOperations.multiGet("coupon:1:waiting:window", List.of("remainingStock", "batchSize")))
+                .willReturn(Arrays.asList("100", "4"));
+        given(redisService.getRemainingCouponStock(1L)).willReturn(96);
+
+        // when
+        waitingRoomService.admitBatch(1L);
+
+        // then: 모두 발급했으므로 두 배로 늘림
+        verify(zSetOperations).popMin("coupon:1:waiting", 8);
+        verify(hashOperations).putAll("coupon:1:waiting:window", Map.of("remainingStock", "96", "batchSize", "8"));
+    }
+
+    @Test
+    @DisplayName("입장 주기마다 비어 있는 대기열을 입장 대상 목록에서 뺌")
+    void admitWaitingUsers_PrunesEmptyRooms() {
+        // given
+        given(valueOperations.setIfAbsent(eq("coupon:waiting:admit-lock"), anyString(), any(Duration.class))).willReturn(true);
+        given(setOperations.members("coupon:waiting:active")).willReturn(Set.of("1"));
+        given(redisService.getRemainingCouponStock(1L)).willReturn(0);
+
+        // when
+        waitingRoomService.admitWaitingUsers();
+
+        // then
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("coupon:1:waiting", "coupon:waiting:active")), eq("1"));
+    }
+
+    @Test
+    @DisplayName("입장 토큰은 저장된 토큰과 같을 때만 한 번 사용할 수 있음")
+    void verifyAdmission_ConsumesToken() {
+        // given
+        given(redisTemplate.execute(any(RedisScript.class), eq(List.of("coupon:1:admission:7")), eq("token-7")))
+                .willReturn(1L)
+                .willReturn(0L);
+
+        // when
+        waitingRoomService.verifyAdmission(1L, 7L, "token-7");
+
+        // then
+        assertThatThrownBy(() -> waitingRoomService.verifyAdmission(1L, 7L, "token-7"))
+                .isInstanceOf(AdmissionRequiredException.class);
+    }
+
+    @Test
+    @DisplayName("틀린 입장 토큰이면 거절하고 저장된 토큰을 다시 쓰지 않음")
+    void verifyAdmission_MismatchedToken_KeepsStoredToken() {
+        // given
+        given(redisTemplate.execute(any(RedisScript.class), eq(List.of("coupon:1:admission:7")), eq("wrong")))
+                .willReturn(0L);
+
+        // when & then
+        assertThatThrownBy(() -> waitingRoomService.verifyAdmission(1L, 7L, "wrong"))
+                .isInstanceOf(AdmissionRequiredException.class);
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("입장 토큰 없이 발급을 요청하면 거절")
+    void verifyAdmission_MissingToken() {
+        assertThatThrownBy(() -> waitingRoomService.verifyAdmission(1L, 7L, null))
+                .isInstanceOf(AdmissionRequiredException.class);
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("대기실을 사용하지 않으면 입장 토큰을 확인하지 않음")
+    void verifyAdmission_Disabled() {
+        // given
+        CouponWaitingRoomService disabled = new CouponWaitingRoomService(
+                redisTemplate, redisService, false, 1000, 30, 2, 1, 100);
+
+        // when
+        disabled.verifyAdmission(1L, 7L, null);
+
+        // then
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+}
@@ -0,0 +1,134 @@
+package com.coupon.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyStoreTest {
+
+    private static final String KEY = "idempotency:7:POST:/api/coupons/3/issue:abc";
+    private static final String OWNER = "P|owner-1";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private IdempotencyStore idempotencyStore;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyStore = new IdempotencyStore(redisTemplate, true, 86400, 10000);
+    }
+
+    @Test
+    @DisplayName("저장한 응답을 상태 코드, Content-Type, 본문 그대로 다시 읽음")
+    void complete_ThenFind_ReturnsSameResponse() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        byte[] body = "{\"message\":\"이미 발급받은 쿠폰입니다.\"}".getBytes(StandardCharsets.UTF_8);
+        given(redisTemplate.execute(any(RedisScript.class), eq(List.of(KEY)), eq(OWNER), anyString(), eq("86400000")))
+                .willReturn(1L);
+        boolean stored = idempotencyStore.complete(KEY, OWNER, 400, "application/json", body);
+        ArgumentCaptor<String> value = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEY)), eq(OWNER), value.capture(), eq("86400000"));
+        given(valueOperations.get(KEY)).willReturn(value.getValue());
+
+        // when
+        IdempotencyStore.Entry entry = idempotencyStore.find(KEY);
+
+        // then
+        assertThat(stored).isTrue();
+        assertThat(entry.isCompleted()).isTrue();
+        assertThat(entry.getStatus()).isEqualTo(400);
+        assertThat(entry.getContentType()).isEqualTo("application/json");
+        assertThat(entry.getBody()).isEqualTo(body);
+    }
+
+    @Test
+    @DisplayName("처리 중 표시가 있으면 처리 중 상태를 반환")
+    void find_InFlight() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(eq(KEY), anyString(), eq(Duration.ofMillis(10000)))).willReturn(true);
+        String owner = idempotencyStore.tryAcquire(KEY);
+        ArgumentCaptor<String> value = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations).setIfAbsent(eq(KEY), value.capture(), eq(Duration.ofMillis(10000)));
+        assertThat(owner).isEqualTo(value.getValue());
+        given(valueOperations.get(KEY)).willReturn(value.getValue());
+
+        // when
+        IdempotencyStore.Entry entry = idempotencyStore.find(KEY);
+
+        // then
+        assertThat(entry.isCompleted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("저장된 값이 없으면 null 반환")
+    void find_Missing() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+
+        // when & then
+        assertThat(idempotencyStore.find(KEY)).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 요청이 처리 중 표시를 잡고 있으면 null 반환")
+    void tryAcquire_AlreadyHeld_ReturnsNull() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(eq(KEY), anyString(), eq(Duration.ofMillis(10000)))).willReturn(false);
+
+        // when & then
+        assertThat(idempotencyStore.tryAcquire(KEY)).isNull();
+    }
+
+    @Test
+    @DisplayName("처리 중 표시가 다른 요청의 것이면 응답을 저장하지 않음")
+    void complete_OtherOwner_NotStored() {
+        // given
+        given(redisTemplate.execute(any(RedisScript.class), eq(List.of(KEY)), eq(OWNER), anyString(), eq("86400000")))
+                .willReturn(0L);
+
+        // when
+        boolean stored = idempotencyStore.complete(KEY, OWNER, 200, "application/json", new byte[0]);
+
+        // then
+        assertThat(stored).isFalse();
+        verify(redisTemplate, never()).delete(anyString());
+    }
+
+    @Test
+    @DisplayName("처리 중 표시 해제는 표시 값을 비교하는 스크립트로 처리")
+    void release_ComparesOwner() {
+        // when
+        idempotencyStore.release(KEY, OWNER);
+
+        // then
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEY)), eq(OWNER));
+        verify(redisTemplate, never()).delete(anyString());
+    }
+}
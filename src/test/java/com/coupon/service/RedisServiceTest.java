@@ -1,5 +1,8 @@
 package com.coupon.service;
 
+import com.coupon.domain.coupon.ClaimWindow;
+import com.coupon.domain.coupon.Coupon;
+import com.coupon.exception.RedisOperationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -9,23 +12,40 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
 class RedisServiceTest {
 
+    private static final String USER_COUPON_EXPIRY_SECONDS = String.valueOf(Duration.ofDays(30).toSeconds());
+
     @InjectMocks
     private RedisService redisService;
     
@@ -37,12 +57,20 @@ class RedisServiceTest {
     
     @Mock
     private SetOperations<String, String> setOperations;
+    
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+    
+    @Mock
+    private CouponSoldOutRegistry soldOutRegistry;
 
     @BeforeEach
     void setUp() {
         // Mock Redis operations
         when(redisTemplate.opsForValue()).thenReturn(valueOperations);
         when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        ReflectionTestUtils.setField(redisService, "claimWindowZone", "Asia/Seoul");
     }
 
     @Test
@@ -72,21 +100,11 @@ class RedisServiceTest {
         int initialQuantity = 10;
         String stockKey = "coupon:" + couponId;
         String userKey = "coupon:user:" + userId;
-        String lockKey = "lock:coupon:" + couponId;
-        
-        // Mock lock acquisition and release
-        when(valueOperations.setIfAbsent(eq(lockKey), anyString(), any(Duration.class))).thenReturn(true);
-        when(redisTemplate.delete(lockKey)).thenReturn(true);
         
-        // Mock user set check
-        when(setOperations.isMember(userKey, couponId.toString())).thenReturn(false);
-        
-        // Mock stock check and decrement
-        when(valueOperations.get(stockKey)).thenReturn(String.valueOf(initialQuantity));
-        when(valueOperations.increment(stockKey, -1)).thenReturn((long) (initialQuantity - 1));
-        
-        // Mock user set add
-        when(setOperations.add(userKey, couponId.toString())).thenReturn(1L);
+        // Mock issue script - 성공
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(stockKey, userKey, noWindowKey(couponId, userId))),
+                eq(couponId.toString()), eq(USER_COUPON_EXPIRY_SECONDS), eq(userId.toString()), anyString(),
+                eq("0"), eq("1"), eq("0"))).thenReturn(1L);
 
         // when
         Long result = redisService.tryIssueCoupon(couponId, userId);
@@ -108,14 +126,11 @@ class RedisServiceTest {
         Long userId = 1L;
         String stockKey = "coupon:" + couponId;
         String userKey = "coupon:user:" + userId;
-        String lockKey = "lock:coupon:" + couponId;
         
-        // Mock lock acquisition and release
-        when(valueOperations.setIfAbsent(eq(lockKey), anyString(), any(Duration.class))).thenReturn(true);
-        when(redisTemplate.delete(lockKey)).thenReturn(true);
-        
-        // Mock user set check - 이미 발급됨 상태 모킹
-        when(setOperations.isMember(userKey, couponId.toString())).thenReturn(true);
+        // Mock issue script - 이미 발급됨 상태 모킹
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(stockKey, userKey, noWindowKey(couponId, userId))),
+                eq(couponId.toString()), eq(USER_COUPON_EXPIRY_SECONDS), eq(userId.toString()), anyString(),
+                eq("0"), eq("1"), eq("0"))).thenReturn(0L);
         
         // when: 동일 사용자가 같은 쿠폰을 다시 발급 시도
         Long result = redisService.tryIssueCoupon(couponId, userId);
@@ -132,17 +147,11 @@ class RedisServiceTest {
         Long userId = 2L; // 다른 사용자
         String stockKey = "coupon:" + couponId;
         String userKey = "coupon:user:" + userId;
-        String lockKey = "lock:coupon:" + couponId;
-        
-        // Mock lock acquisition and release
-        when(valueOperations.setIfAbsent(eq(lockKey), anyString(), any(Duration.class))).thenReturn(true);
-        when(redisTemplate.delete(lockKey)).thenReturn(true);
-        
-        // Mock user set check - 사용자는 아직 발급받지 않음
-        when(setOperations.isMember(userKey, couponId.toString())).thenReturn(false);
         
-        // Mock stock check - 재고가 0개
-        when(valueOperations.get(stockKey)).thenReturn("0");
+        // Mock issue script - 재고가 0개
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(stockKey, userKey, noWindowKey(couponId, userId))),
+                eq(couponId.toString()), eq(USER_COUPON_EXPIRY_SECONDS), eq(userId.toString()), anyString(),
+                eq("0"), eq("1"), eq("0"))).thenReturn(-1L);
         
         // when: 재고가 없는 상태에서 발급 시도
         Long result = redisService.tryIssueCoupon(couponId, userId);
@@ -161,39 +170,380 @@ class RedisServiceTest {
         String stockKey = "coupon:" + couponId;
         String userKey1 = "coupon:user:" + userId1;
         String userKey2 = "coupon:user:" + userId2;
-        String lockKey = "lock:coupon:" + couponId;
         
-        // 첫 번째 사용자 - 성공 케이스 모킹
-        // Mock lock acquisition and release
-        when(valueOperations.setIfAbsent(eq(lockKey), anyString(), any(Duration.class)))
-            .thenReturn(true);
-        when(redisTemplate.delete(lockKey)).thenReturn(true);
+        // 첫 번째 사용자 - 마지막 재고를 차지하여 성공
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(stockKey, userKey1, noWindowKey(couponId, userId1))),
+                eq(couponId.toString()), eq(USER_COUPON_EXPIRY_SECONDS), eq(userId1.toString()), anyString(),
+                eq("0"), eq("1"), eq("0"))).thenReturn(1L);
         
-        // Mock user set check - 첫 번째 사용자는 발급받지 않음
-        when(setOperations.isMember(userKey1, couponId.toString())).thenReturn(false);
+        // 두 번째 사용자 - 재고 부족
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(stockKey, userKey2, noWindowKey(couponId, userId2))),
+                eq(couponId.toString()), eq(USER_COUPON_EXPIRY_SECONDS), eq(userId2.toString()), anyString(),
+                eq("0"), eq("1"), eq("0"))).thenReturn(-1L);
         
-        // Mock stock check - 재고가 1개
-        when(valueOperations.get(stockKey)).thenReturn("1");
+        // when
+        Long result1 = redisService.tryIssueCoupon(couponId, userId1);
+        Long result2 = redisService.tryIssueCoupon(couponId, userId2);
         
-        // Mock stock decrement
-        when(valueOperations.increment(stockKey, -1)).thenReturn(0L);
+        // then
+        assertThat(result1).isEqualTo(1L); // 성공
+        assertThat(result2).isEqualTo(-1L); // 재고 부족
+        // 락을 사용하지 않으므로 락 키를 설정하거나 삭제하지 않아야 함
+        verify(valueOperations, never()).setIfAbsent(anyString(), anyString(), any(Duration.class));
+        verify(redisTemplate, never()).delete(anyString());
+    }
+    
+    @Test
+    @DisplayName("발급 스크립트 실행 실패 시 RedisOperationException 발생")
+    void testTryIssueCoupon_ScriptFailure() {
+        // given
+        Long couponId = 6L;
+        Long userId = 1L;
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RuntimeException("connection reset"));
         
-        // Mock user set add
-        when(setOperations.add(userKey1, couponId.toString())).thenReturn(1L);
+        // when & then
+        assertThatThrownBy(() -> redisService.tryIssueCoupon(couponId, userId))
+                .isInstanceOf(RedisOperationException.class)
+                .hasMessage("Failed to issue coupon");
+    }
+    
+    @Test
+    @DisplayName("샤드 재고 초기화 - 수량을 샤드에 고르게 나누어 저장")
+    void testInitializeCouponStock_Sharded() {
+        // given
+        Long couponId = 7L;
         
-        // 첫 번째 사용자 요청 - 성공
-        Long result1 = redisService.tryIssueCoupon(couponId, userId1);
+        // when
+        redisService.initializeCouponStock(couponId, 10, 3);
         
-        // 두 번째 사용자 - 재고 부족 케이스 모킹
-        // 재고가 0개로 변경
-        when(valueOperations.get(stockKey)).thenReturn("0");
-        when(setOperations.isMember(userKey2, couponId.toString())).thenReturn(false);
+        // then
+        verify(valueOperations).set("coupon:7:s0", "4");
+        verify(valueOperations).set("coupon:7:s1", "3");
+        verify(valueOperations).set("coupon:7:s2", "3");
+        verify(hashOperations).put("coupon:7:meta", "shards", "3");
+        assertThat(redisService.getStockShardCount(couponId)).isEqualTo(3);
+    }
+    
+    @Test
+    @DisplayName("샤드 재고 조회 - 모든 샤드의 합을 반환")
+    void testGetRemainingCouponStock_Sharded() {
+        // given
+        Long couponId = 8L;
+        when(hashOperations.get("coupon:8:meta", "shards")).thenReturn("3");
+        when(valueOperations.multiGet(List.of("coupon:8:s0", "coupon:8:s1", "coupon:8:s2")))
+                .thenReturn(Arrays.asList("2", null, "5"));
         
-        // 두 번째 사용자 요청 - 실패 (재고 부족)
-        Long result2 = redisService.tryIssueCoupon(couponId, userId2);
+        // when
+        int remainingStock = redisService.getRemainingCouponStock(couponId);
         
         // then
-        assertThat(result1).isEqualTo(1L); // 성공
-        assertThat(result2).isEqualTo(-1L); // 재고 부족
+        assertThat(remainingStock).isEqualTo(7);
+    }
+    
+    @Test
+    @DisplayName("샤드 재고 발급 - 선택한 샤드가 비어 있으면 다음 샤드에서 발급")
+    void testTryIssueCoupon_ShardFallover() {
+        // given: 사용자 2는 s0 샤드부터 시도
+        Long couponId = 9L;
+        Long userId = 2L;
+        String userKey = "coupon:user:" + userId;
+        when(hashOperations.get("coupon:9:meta", "shards")).thenReturn("2");
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("coupon:9:s0", userKey, noWindowKey(couponId, userId))),
+                eq(couponId.toString()), eq(USER_COUPON_EXPIRY_SECONDS), eq(userId.toString()), anyString(),
+                eq("0"), eq("1"), eq("0"))).thenReturn(-1L);
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("coupon:9:s1", userKey, noWindowKey(couponId, userId))),
+                eq(couponId.toString()), eq(USER_COUPON_EXPIRY_SECONDS), eq(userId.toString()), anyString(),
+                eq("0"), eq("1"), eq("0"))).thenReturn(1L);
+        
+        // when
+        Long result = redisService.tryIssueCoupon(couponId, userId);
+        
+        // then
+        assertThat(result).isEqualTo(1L);
+    }
+    
+    @Test
+    @DisplayName("샤드 재고 발급 - 모든 샤드가 비어 있으면 재고 부족")
+    void testTryIssueCoupon_AllShardsEmpty() {
+        // given
+        Long couponId = 10L;
+        Long userId = 3L;
+        when(hashOperations.get("coupon:10:meta", "shards")).thenReturn("4");
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(-1L);
+        
+        // when
+        Long result = redisService.tryIssueCoupon(couponId, userId);
+        
+        // then
+        assertThat(result).isEqualTo(-1L);
+        verify(redisTemplate, times(4)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+    
+    @Test
+    @DisplayName("샤드 재고 발급 - 다른 노드가 재고를 다시 나눴으면 새 샤드 수를 읽어 다시 시도")
+    void testTryIssueCoupon_ReshardedByOtherNode() {
+        // given: 이 노드는 샤드 2개로 캐시했지만 다른 노드가 단일 키로 다시 나눔
+        Long couponId = 16L;
+        Long userId = 2L;
+        String userKey = "coupon:user:" + userId;
+        when(hashOperations.get("coupon:16:meta", "shards")).thenReturn("2", "1");
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("coupon:16:s0", userKey, noWindowKey(couponId, userId))),
+                eq(couponId.toString()), eq(USER_COUPON_EXPIRY_SECONDS), eq(userId.toString()), anyString(),
+                eq("0"), eq("1"), eq("0"))).thenReturn(-1L);
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("coupon:16:s1", userKey, noWindowKey(couponId, userId))),
+                eq(couponId.toString()), eq(USER_COUPON_EXPIRY_SECONDS), eq(userId.toString()), anyString(),
+                eq("0"), eq("1"), eq("0"))).thenReturn(-1L);
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("coupon:16", userKey, noWindowKey(couponId, userId))),
+                eq(couponId.toString()), eq(USER_COUPON_EXPIRY_SECONDS), eq(userId.toString()), anyString(),
+                eq("0"), eq("1"), eq("0"))).thenReturn(1L);
+        
+        // when
+        Long result = redisService.tryIssueCoupon(couponId, userId);
+        
+        // then
+        assertThat(result).isEqualTo(1L);
+        assertThat(redisService.getStockShardCount(couponId)).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("캐시한 재고 샤드 수는 유지 시간이 지나면 메타데이터에서 다시 읽음")
+    void testGetStockShardCount_CacheExpires() {
+        // given
+        Long couponId = 17L;
+        ReflectionTestUtils.setField(redisService, "stockShardCacheTtlMillis", 0L);
+        when(hashOperations.get("coupon:17:meta", "shards")).thenReturn("4", "2");
+        
+        // when
+        int first = redisService.getStockShardCount(couponId);
+        int second = redisService.getStockShardCount(couponId);
+        
+        // then
+        assertThat(first).isEqualTo(4);
+        assertThat(second).isEqualTo(2);
+    }
+    
+    @Test
+    @DisplayName("임대 장부 - 만료 시각이 지났거나 만료 시각이 없는 항목은 임대 중으로 세지 않음")
+    void testCountActiveLeases() {
+        // given
+        long now = 1_000_000L;
+        List<Object> ledger = List.of("5:" + (now + 1), "3:" + now, "7");
+        
+        // when & then
+        assertThat(RedisService.countActiveLeases(ledger, now)).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("임대 장부 - 만료되지 않은 항목의 임대 수량만 합산")
+    void testSumActiveLeases() {
+        // given
+        long now = 1_000_000L;
+        List<Object> ledger = List.of("5:" + (now + 1), "4:" + (now + 2), "3:" + now, "7");
+        
+        // when & then
+        assertThat(RedisService.sumActiveLeases(ledger, now)).isEqualTo(9);
+    }
+    
+    @Test
+    @DisplayName("재고를 채우면 소진 표시를 지우고, 0으로 설정하면 소진 표시")
+    void testInitializeCouponStock_UpdatesSoldOutFlag() {
+        // when
+        redisService.initializeCouponStock(11L, 10);
+        redisService.initializeCouponStock(12L, 0);
+        
+        // then
+        verify(soldOutRegistry).clear(11L);
+        verify(soldOutRegistry).markSoldOut(12L);
+    }
+    
+    @Test
+    @DisplayName("비트맵 방식 - 사용자 ID 구간별 비트맵 키와 비트 위치로 발급")
+    void testTryIssueCoupon_BitmapLayout() {
+        // given: 사용자 70000은 1번 구간(70000 >> 16)의 4464번 비트(70000 & 0xFFFF)
+        ReflectionTestUtils.setField(redisService, "membershipLayout", CouponMembershipLayout.BITMAP);
+        Long couponId = 13L;
+        Long userId = 70000L;
+        when(hashOperations.get("coupon:13:meta", "expireAt")).thenReturn("1900000000");
+        when(redisTemplate.execute(any(RedisScript.class),
+                eq(List.of("coupon:13", "coupon:13:issued:1", "coupon:user:70000", "coupon:13:claims:70000:n")),
+                eq("13"), eq("4464"), eq("1900000000"), eq("70000"), anyString(),
+                eq("0"), eq("1"), eq("0"))).thenReturn(1L);
+        
+        // when
+        Long result = redisService.tryIssueCoupon(couponId, userId);
+        
+        // then
+        assertThat(result).isEqualTo(1L);
+    }
+    
+    @Test
+    @DisplayName("쿠폰 유효기간 등록 - 유효기간 종료 하루 뒤를 비트맵 만료 시각으로 사용")
+    void testRegisterCouponExpiry() {
+        // given
+        LocalDateTime validTo = LocalDateTime.of(2030, 1, 1, 0, 0);
+        long expected = validTo.atZone(ZoneId.systemDefault()).plusDays(1).toEpochSecond();
+        
+        // when
+        redisService.registerCouponExpiry(14L, validTo);
+        
+        // then
+        verify(hashOperations).put("coupon:14:meta", "expireAt", String.valueOf(expected));
+        assertThat(redisService.getIssuedBitmapExpireAt(14L)).isEqualTo(expected);
+    }
+    
+    @Test
+    @DisplayName("발급 사용자 기록 제거 - 비트맵 방식이면 비트와 이전 방식의 집합을 함께 지움")
+    void testRemoveCouponUser_BitmapLayout() {
+        // given
+        ReflectionTestUtils.setField(redisService, "membershipLayout", CouponMembershipLayout.BITMAP);
+        
+        // when
+        redisService.removeCouponUser(13L, 70000L);
+        
+        // then
+        verify(valueOperations).setBit("coupon:13:issued:1", 4464L, false);
+        verify(setOperations).remove("coupon:user:70000", "13");
+    }
+
+    @Test
+    @DisplayName("여러 사용자 발급 시 스크립트를 파이프라인 한 번으로 실행하고 사용자 순서대로 결과 반환")
+    void testTryIssueCoupons_Pipelined() {
+        // given
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of(1L, 0L, -1L));
+
+        // when
+        List<Long> results = redisService.tryIssueCoupons(5L, List.of(1L, 2L, 3L));
+
+        // then
+        assertThat(results).containsExactly(1L, 0L, -1L);
+        verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("빈 사용자 목록이면 Redis를 호출하지 않음")
+    void testTryIssueCoupons_Empty() {
+        // when
+        List<Long> results = redisService.tryIssueCoupons(5L, List.of());
+
+        // then
+        assertThat(results).isEmpty();
+        verify(redisTemplate, never()).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("재고 키를 새로 채운 쿠폰만 반환하고 소진 표시를 갱신")
+    void testWarmCouponStocks() {
+        // given: 쿠폰 1은 재고 키가 없어 새로 채우고, 쿠폰 2는 이미 재고가 있음
+        Coupon first = warmCoupon(1L, 2);
+        Coupon second = warmCoupon(2L, 1);
+        when(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenReturn(Arrays.asList(true, true, true, true, true, false, false, false, false));
+
+        // when
+        List<Long> warmed = redisService.warmCouponStocks(List.of(first, second), Map.of(1L, 10, 2L, 5));
+
+        // then
+        assertThat(warmed).containsExactly(1L);
+        assertThat(redisService.getStockShardCount(1L)).isEqualTo(2);
+        verify(soldOutRegistry).clear(1L);
+        verify(soldOutRegistry, never()).clear(2L);
+    }
+
+    @Test
+    @DisplayName("하루 단위 기간 제한 - 발급 시각이 속한 날짜의 카운터 키와 자정 만료 시각을 스크립트에 전달")
+    void testTryIssueCoupon_DailyClaimWindow() {
+        // given
+        Long couponId = 15L;
+        Long userId = 1L;
+        ZonedDateTime now = ZonedDateTime.now(ZoneId.of("Asia/Seoul"));
+        String windowKey = "coupon:15:claims:1:" + ClaimWindow.DAY.getBucket(now);
+        String windowEnd = String.valueOf(ClaimWindow.DAY.getWindowEnd(now));
+        when(hashOperations.get("coupon:15:meta", "claimWindow")).thenReturn("DAY:2");
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("coupon:15", "coupon:user:1", windowKey)),
+                eq("15"), eq(USER_COUPON_EXPIRY_SECONDS), eq("1"), anyString(),
+                eq("1"), eq("2"), eq(windowEnd))).thenReturn(1L);
+
+        // when
+        Long result = redisService.tryIssueCoupon(couponId, userId);
+
+        // then
+        assertThat(result).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("기간 내 발급 횟수 초과는 다른 샤드를 다시 시도하지 않음")
+    void testTryIssueCoupon_ClaimLimitExceeded_NoShardFallover() {
+        // given
+        Long couponId = 16L;
+        Long userId = 3L;
+        when(hashOperations.get("coupon:16:meta", "shards")).thenReturn("4");
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(-2L);
+
+        // when
+        Long result = redisService.tryIssueCoupon(couponId, userId);
+
+        // then
+        assertThat(result).isEqualTo(-2L);
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("발급 기간 제한을 메타데이터 해시에 등록하고 이후 조회 없이 사용")
+    void testRegisterCouponClaimWindow() {
+        // when
+        redisService.registerCouponClaimWindow(17L, ClaimWindow.ROLLING_24H, 3);
+        redisService.tryIssueCoupon(17L, 1L);
+
+        // then
+        verify(hashOperations).put("coupon:17:meta", "claimWindow", "ROLLING_24H:3");
+        verify(hashOperations, never()).get("coupon:17:meta", "claimWindow");
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("coupon:17", "coupon:user:1", "coupon:17:claims:1:r")),
+                eq("17"), eq(USER_COUPON_EXPIRY_SECONDS), eq("1"), anyString(),
+                eq("2"), eq("3"), eq(String.valueOf(Duration.ofHours(24).toMillis())));
+    }
+
+    @Test
+    @DisplayName("기간 제한이 있는 쿠폰의 발급 기록을 지우면 기간 내 발급 횟수도 한 건 되돌림")
+    void testRemoveCouponUser_ClaimWindow_ReleasesCount() {
+        // given
+        ZonedDateTime now = ZonedDateTime.now(ZoneId.of("Asia/Seoul"));
+        String windowKey = "coupon:18:claims:1:" + ClaimWindow.WEEK.getBucket(now);
+        when(hashOperations.get("coupon:18:meta", "claimWindow")).thenReturn("WEEK:3");
+
+        // when
+        redisService.removeCouponUser(18L, 1L);
+
+        // then
+        verify(setOperations).remove("coupon:user:1", "18");
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(windowKey)), eq("1"));
+    }
+
+    @Test
+    @DisplayName("기간 제한이 있는 쿠폰은 이전에 발급받았어도 발급 가능으로 판단")
+    void testCanIssueCoupon_ClaimWindow_IgnoresLifetimeMembership() {
+        // given
+        when(hashOperations.get("coupon:19:meta", "claimWindow")).thenReturn("DAY:1");
+        when(setOperations.isMember("coupon:user:1", "19")).thenReturn(true);
+        when(valueOperations.get("coupon:19")).thenReturn("10");
+
+        // when & then
+        assertThat(redisService.canIssueCoupon(19L, 1L)).isTrue();
+    }
+
+    private String noWindowKey(Long couponId, Long userId) {
+        return "coupon:" + couponId + ":claims:" + userId + ":n";
+    }
+
+    private Coupon warmCoupon(Long id, int shards) {
+        Coupon coupon = Coupon.builder()
+                .title("쿠폰" + id)
+                .totalQuantity(10)
+                .validFrom(LocalDateTime.now().minusDays(1))
+                .validTo(LocalDateTime.now().plusDays(1))
+                .stockShards(shards)
+                .build();
+        ReflectionTestUtils.setField(coupon, "id", id);
+        return coupon;
     }
 }
@@ -0,0 +1,99 @@
+package com.coupon.service;
+
+import com.coupon.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class UserIdCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserIdCache userIdCache;
+
+    @BeforeEach
+    void setUp() {
+        userIdCache = new UserIdCache(userRepository, 2);
+    }
+
+    @Test
+    @DisplayName("사용자 ID를 마지막 ID 다음부터 페이지 단위로 모두 읽음")
+    void load_Paging() {
+        // given
+        given(userRepository.findIdsAfter(eq(0L), any(Pageable.class))).willReturn(List.of(1L, 2L));
+        given(userRepository.findIdsAfter(eq(2L), any(Pageable.class))).willReturn(List.of(5L, 7L));
+        given(userRepository.findIdsAfter(eq(7L), any(Pageable.class))).willReturn(List.of(9L));
+
+        // when
+        int loaded = userIdCache.load();
+
+        // then
+        assertThat(loaded).isEqualTo(5);
+        assertThat(userIdCache.size()).isEqualTo(5);
+        assertThat(userIdCache.exists(7L)).isTrue();
+        verify(userRepository, never()).existsById(anyLong());
+    }
+
+    @Test
+    @DisplayName("비트맵에 없는 ID는 DB에서 확인하고, 있으면 이후에는 DB를 조회하지 않음")
+    void exists_FallsBackToDatabase() {
+        // given
+        given(userRepository.existsById(3L)).willReturn(true);
+        given(userRepository.existsById(4L)).willReturn(false);
+
+        // when
+        boolean first = userIdCache.exists(3L);
+        boolean second = userIdCache.exists(3L);
+        boolean missing = userIdCache.exists(4L);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(missing).isFalse();
+        verify(userRepository, times(1)).existsById(3L);
+    }
+
+    @Test
+    @DisplayName("여러 사용자 중 비트맵에 없는 ID만 한 번의 쿼리로 확인")
+    void findExisting_QueriesOnlyUnknownIds() {
+        // given
+        userIdCache.register(1L);
+        given(userRepository.findExistingIds(List.of(2L, 3L))).willReturn(List.of(2L));
+
+        // when
+        Set<Long> existing = userIdCache.findExisting(List.of(1L, 2L, 3L));
+
+        // then
+        assertThat(existing).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(userIdCache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 등록한 사용자는 바로 존재하는 것으로 확인")
+    void register_WithoutTransaction() {
+        // when
+        userIdCache.register(10L);
+
+        // then
+        assertThat(userIdCache.exists(10L)).isTrue();
+        verify(userRepository, never()).existsById(anyLong());
+    }
+}
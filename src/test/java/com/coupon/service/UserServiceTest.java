@@ -34,6 +34,9 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private UserIdCache userIdCache;
+
     @InjectMocks
     private UserService userService;
 
@@ -71,6 +74,7 @@ class UserServiceTest {
         verify(userRepository).existsByEmail(registerRequest.getEmail());
         verify(userRepository).save(any(User.class));
         verify(passwordEncoder).encode(registerRequest.getPassword());
+        verify(userIdCache).register(1L);
     }
 
     @Test